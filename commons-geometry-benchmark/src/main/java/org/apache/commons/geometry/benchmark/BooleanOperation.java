@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+
+/** Boolean operations available in {@link RegionFactory}.
+ */
+public enum BooleanOperation {
+
+    /** Union of two regions. */
+    UNION {
+        /** {@inheritDoc} */
+        @Override
+        public <P extends Point<P>> Region<P> apply(final RegionFactory<P> factory,
+                                                    final Region<P> region1, final Region<P> region2) {
+            return factory.union(region1, region2);
+        }
+    },
+
+    /** Intersection of two regions. */
+    INTERSECTION {
+        /** {@inheritDoc} */
+        @Override
+        public <P extends Point<P>> Region<P> apply(final RegionFactory<P> factory,
+                                                    final Region<P> region1, final Region<P> region2) {
+            return factory.intersection(region1, region2);
+        }
+    },
+
+    /** Difference of two regions. */
+    DIFFERENCE {
+        /** {@inheritDoc} */
+        @Override
+        public <P extends Point<P>> Region<P> apply(final RegionFactory<P> factory,
+                                                    final Region<P> region1, final Region<P> region2) {
+            return factory.difference(region1, region2);
+        }
+    },
+
+    /** Symmetric difference of two regions. */
+    XOR {
+        /** {@inheritDoc} */
+        @Override
+        public <P extends Point<P>> Region<P> apply(final RegionFactory<P> factory,
+                                                    final Region<P> region1, final Region<P> region2) {
+            return factory.xor(region1, region2);
+        }
+    };
+
+    /** Apply the operation.
+     * @param factory factory to use
+     * @param region1 first operand (will be unusable after the operation)
+     * @param region2 second operand (will be unusable after the operation)
+     * @param <P> Point type defining the space
+     * @return result of the operation
+     */
+    public abstract <P extends Point<P>> Region<P> apply(RegionFactory<P> factory,
+                                                         Region<P> region1, Region<P> region2);
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.core.partitioning.CutSelector;
+import org.apache.commons.geometry.core.partitioning.CutSelectors;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.PolygonsSet;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the construction of a {@link PolygonsSet} from its boundary.
+ * <p>
+ * The same star-shaped boundary is turned into a tree using the various
+ * {@link CutSelectors cut selectors}. Both the construction time and the
+ * point location time in the resulting tree are measured, the tree sizes
+ * and depths being reported as secondary results.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Thread)
+public class BoundaryConstruction {
+
+    /** Number of located points. */
+    private static final int POINTS = 1000;
+
+    /** Number of candidates evaluated by the scoring selectors. */
+    private static final int CANDIDATES = 16;
+
+    /** Number of boundary edges. */
+    @Param({"100", "1000"})
+    private int edges;
+
+    /** Cut selector. */
+    @Param({"largestFirst", "random", "leastSplits", "balanced"})
+    private String selector;
+
+    /** Boundary of the polygon. */
+    private List<SubHyperplane<Point2D>> boundary;
+
+    /** Polygon built from the boundary. */
+    private PolygonsSet polygon;
+
+    /** Points to locate. */
+    private Point2D[] points;
+
+    /** Build the boundary, the reference polygon and the points. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        boundary = RegionShapes.starBoundary(edges, 0.0, 0.0, 0x5b3e91c07d2a64f8L);
+        polygon  = new PolygonsSet(boundary, createSelector(), RegionShapes.TOLERANCE);
+        final UniformRandomProvider random = RandomSource.create(RandomSource.XOR_SHIFT_1024_S, 0x1e7ac4d9b0356f28L);
+        points = new Point2D[POINTS];
+        for (int i = 0; i < POINTS; ++i) {
+            points[i] = Point2D.of(3 * random.nextDouble() - 1.5, 3 * random.nextDouble() - 1.5);
+        }
+    }
+
+    /** Build the polygon from its boundary.
+     * @param counter counter for the size of the tree
+     * @return polygon
+     */
+    @Benchmark
+    public PolygonsSet build(final TreeSizeCounter counter) {
+        final PolygonsSet built = new PolygonsSet(boundary, createSelector(), RegionShapes.TOLERANCE);
+        counter.record(built.getTree(false));
+        return built;
+    }
+
+    /** Locate points with respect to the polygon.
+     * @return number of inside points
+     */
+    @Benchmark
+    public int locate() {
+        int inside = 0;
+        for (final Point2D p : points) {
+            if (polygon.checkPoint(p) == Location.INSIDE) {
+                ++inside;
+            }
+        }
+        return inside;
+    }
+
+    /** Create the cut selector.
+     * @return new cut selector
+     */
+    private CutSelector<Point2D> createSelector() {
+        switch (selector) {
+        case "largestFirst":
+            return CutSelectors.largestFirst();
+        case "random":
+            return CutSelectors.random(0x4c0f2e8a97b3d615L);
+        case "leastSplits":
+            return CutSelectors.leastSplits(CANDIDATES);
+        case "balanced":
+            return CutSelectors.balanced(CANDIDATES, 2.0);
+        default:
+            throw new IllegalStateException("Unknown cut selector: " + selector);
+        }
+    }
+
+}
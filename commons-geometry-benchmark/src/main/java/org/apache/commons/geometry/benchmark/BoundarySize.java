@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.geometry.euclidean.threed.PolyhedronsSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the computation of the boundary of a {@link PolyhedronsSet}.
+ * <p>
+ * The region is the union of several overlapping star-shaped prisms, so its
+ * tree cuts are fragmented and their boundary attributes hold many splitters.
+ * Each invocation computes the boundary size of a fresh copy of the region,
+ * which involves building all boundary attributes.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Thread)
+public class BoundarySize {
+
+    /** Number of prisms in the union. */
+    private static final int PRISMS = 8;
+
+    /** Number of boundary facets of each prism (including the prism caps). */
+    @Param({"10", "100", "1000"})
+    private int facets;
+
+    /** Pristine region, whose boundary attributes have never been computed. */
+    private PolyhedronsSet reference;
+
+    /** Region whose boundary is computed. */
+    private PolyhedronsSet region;
+
+    /** Build the reference region. */
+    @Setup(Level.Trial)
+    public void setUpReference() {
+        final List<Region<Point3D>> prisms = new ArrayList<>(PRISMS);
+        for (int i = 0; i < PRISMS; ++i) {
+            final double alpha = 2 * Math.PI * i / PRISMS;
+            prisms.add(RegionShapes.starPrism(facets, 0.4 * Math.cos(alpha), 0.4 * Math.sin(alpha),
+                                              0.1 * i, 1.0 + 0.1 * i, 0x2c7e8a5d13f4b960L + i));
+        }
+        reference = (PolyhedronsSet) new RegionFactory<Point3D>().unionAll(prisms);
+    }
+
+    /** Copy the reference region, as the boundary attributes are cached in the tree. */
+    @Setup(Level.Invocation)
+    public void setUpRegion() {
+        region = (PolyhedronsSet) reference.copySelf();
+    }
+
+    /** Compute the boundary size.
+     * @return boundary size
+     */
+    @Benchmark
+    public double boundarySize() {
+        return region.getBoundarySize();
+    }
+
+}
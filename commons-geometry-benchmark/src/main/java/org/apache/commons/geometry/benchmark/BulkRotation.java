@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.euclidean.threed.Rotation;
+import org.apache.commons.geometry.euclidean.threed.RotationConvention;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for the application of a {@link Rotation} to many vectors.
+ * <p>
+ * The same random vectors are rotated one {@link Vector3D} at a time, one
+ * three elements array at a time, and using the bulk methods on packed
+ * and separate coordinates arrays. Scores are per rotated vector.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class BulkRotation {
+
+    /** Number of vectors rotated per invocation. */
+    private static final int VECTORS = 1 << 20;
+
+    /** Rotation to apply. */
+    private Rotation rotation;
+
+    /** Vectors to rotate. */
+    private Vector3D[] vectors;
+
+    /** Coordinates of the vectors, packed as x, y, z triplets. */
+    private double[] packed;
+
+    /** Abscissas of the vectors. */
+    private double[] x;
+
+    /** Ordinates of the vectors. */
+    private double[] y;
+
+    /** Heights of the vectors. */
+    private double[] z;
+
+    /** Output array for the packed benchmarks. */
+    private double[] out;
+
+    /** Build the rotation and the vectors. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        rotation = new Rotation(Vector3D.of(1, -2, 3), 0.8, RotationConvention.VECTOR_OPERATOR);
+
+        final UniformRandomProvider random = RandomSource.create(RandomSource.XOR_SHIFT_1024_S, 0x2f6b7a03c91e5d48L);
+        vectors = new Vector3D[VECTORS];
+        packed  = new double[3 * VECTORS];
+        out     = new double[3 * VECTORS];
+        x       = new double[VECTORS];
+        y       = new double[VECTORS];
+        z       = new double[VECTORS];
+        for (int i = 0; i < VECTORS; ++i) {
+            x[i] = 2 * random.nextDouble() - 1;
+            y[i] = 2 * random.nextDouble() - 1;
+            z[i] = 2 * random.nextDouble() - 1;
+            vectors[i] = Vector3D.of(x[i], y[i], z[i]);
+            packed[3 * i]     = x[i];
+            packed[3 * i + 1] = y[i];
+            packed[3 * i + 2] = z[i];
+        }
+    }
+
+    /** Rotate vectors one instance at a time.
+     * @param bh sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public void vectors(final Blackhole bh) {
+        for (final Vector3D vector : vectors) {
+            bh.consume(rotation.applyTo(vector));
+        }
+    }
+
+    /** Rotate vectors one three elements array at a time.
+     * @return rotated coordinates
+     */
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double[] singleArrays() {
+        final double[] in  = new double[3];
+        final double[] res = new double[3];
+        for (int i = 0; i < packed.length; i += 3) {
+            System.arraycopy(packed, i, in, 0, 3);
+            rotation.applyTo(in, res);
+            System.arraycopy(res, 0, out, i, 3);
+        }
+        return out;
+    }
+
+    /** Rotate packed coordinates in bulk.
+     * @return rotated coordinates
+     */
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double[] packedBulk() {
+        rotation.applyTo(packed, 0, out, 0, VECTORS);
+        return out;
+    }
+
+    /** Rotate separate coordinates arrays in bulk, back and forth.
+     * @return rotated abscissas
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * VECTORS)
+    public double[] separateBulk() {
+        rotation.applyTo(x, y, z, 0, VECTORS);
+        rotation.applyInverseTo(x, y, z, 0, VECTORS);
+        return x;
+    }
+
+}
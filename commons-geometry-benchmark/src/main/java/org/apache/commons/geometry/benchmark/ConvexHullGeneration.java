@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.hull.ChanAlgorithm;
+import org.apache.commons.geometry.euclidean.twod.hull.ConvexHull2D;
+import org.apache.commons.geometry.euclidean.twod.hull.MonotoneChain;
+import org.apache.commons.geometry.euclidean.twod.hull.ParallelMonotoneChain;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for two-dimensional convex hull generators.
+ * <p>
+ * The hull of the same random points is computed with the various generators.
+ * Points are drawn either uniformly in a unit disk, where the hull has only
+ * a few vertices, or on a unit circle, where all points are hull vertices.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class ConvexHullGeneration {
+
+    /** Number of points. */
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    /** Points distribution. */
+    @Param({"disk", "circle"})
+    private String distribution;
+
+    /** Points to hull. */
+    private List<Point2D> points;
+
+    /** Build the points. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.XOR_SHIFT_1024_S, 0x4c1d7e3a95b0f268L);
+        points = new ArrayList<>(size);
+        while (points.size() < size) {
+            if ("circle".equals(distribution)) {
+                final double theta = 2 * Math.PI * random.nextDouble();
+                points.add(Point2D.of(Math.cos(theta), Math.sin(theta)));
+            } else {
+                final double x = 2 * random.nextDouble() - 1;
+                final double y = 2 * random.nextDouble() - 1;
+                if (x * x + y * y <= 1) {
+                    points.add(Point2D.of(x, y));
+                }
+            }
+        }
+    }
+
+    /** Compute the hull with the sequential monotone chain.
+     * @return hull
+     */
+    @Benchmark
+    public ConvexHull2D monotoneChain() {
+        return new MonotoneChain().generate(points);
+    }
+
+    /** Compute the hull with Chan's algorithm.
+     * @return hull
+     */
+    @Benchmark
+    public ConvexHull2D chan() {
+        return new ChanAlgorithm().generate(points);
+    }
+
+    /** Compute the hull with the parallel monotone chain.
+     * @return hull
+     */
+    @Benchmark
+    public ConvexHull2D parallelMonotoneChain() {
+        return new ParallelMonotoneChain().generate(points);
+    }
+
+}
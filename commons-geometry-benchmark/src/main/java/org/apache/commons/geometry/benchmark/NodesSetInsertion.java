@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.NodesSet;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the insertion of splitters in a {@link NodesSet}.
+ * <p>
+ * Each invocation inserts all nodes twice, as boundary attributes
+ * building does when the same splitter is found along several paths.
+ * The linear identity scan formerly used by {@link NodesSet} is
+ * measured as a reference.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class NodesSetInsertion {
+
+    /** Number of distinct nodes. */
+    @Param({"4", "16", "256", "4096"})
+    private int size;
+
+    /** Nodes to insert. */
+    private List<BSPTree<Point3D>> nodes;
+
+    /** Build the nodes. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            nodes.add(new BSPTree<Point3D>(Boolean.TRUE));
+        }
+    }
+
+    /** Insert the nodes in a {@link NodesSet}.
+     * @return populated set
+     */
+    @Benchmark
+    public NodesSet<Point3D> nodesSet() {
+        final NodesSet<Point3D> set = new NodesSet<>();
+        set.addAll(nodes);
+        set.addAll(nodes);
+        return set;
+    }
+
+    /** Insert the nodes in a list, using a linear identity scan.
+     * @return populated list
+     */
+    @Benchmark
+    public List<BSPTree<Point3D>> linearScan() {
+        final List<BSPTree<Point3D>> list = new ArrayList<>();
+        for (int pass = 0; pass < 2; ++pass) {
+            for (final BSPTree<Point3D> node : nodes) {
+                boolean known = false;
+                for (final BSPTree<Point3D> existing : list) {
+                    if (node == existing) {
+                        known = true;
+                        break;
+                    }
+                }
+                if (!known) {
+                    list.add(node);
+                }
+            }
+        }
+        return list;
+    }
+
+}
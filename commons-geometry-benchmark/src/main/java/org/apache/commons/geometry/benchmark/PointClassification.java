@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.geometry.euclidean.threed.PolyhedronsSet;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for point classification against a {@link PolyhedronsSet}.
+ * <p>
+ * The same random points are classified using the linked BSP tree of the
+ * region, using its {@link CompactBSPTree frozen} form one point at a time,
+ * and using the batch API sequentially and in the common fork/join pool.
+ * Scores are per classified point.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class PointClassification {
+
+    /** Number of points classified per invocation. */
+    private static final int POINTS = 65536;
+
+    /** Number of boundary facets of the region. */
+    @Param({"10", "100", "1000", "10000"})
+    private int facets;
+
+    /** Region to check points against. */
+    private PolyhedronsSet region;
+
+    /** Frozen form of the region tree. */
+    private CompactBSPTree<Point3D> frozen;
+
+    /** Points to classify. */
+    private Point3D[] points;
+
+    /** Coordinates of the points to classify, packed as x, y, z triplets. */
+    private double[] coordinates;
+
+    /** Locations of the points, for the batch benchmarks. */
+    private Location[] locations;
+
+    /** Build the region and the points. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        region = RegionShapes.starPrism(facets, 0.0, 0.0, 0.0, 1.0, 0x3a8c4e21b5d97f06L);
+        frozen = region.freeze();
+
+        final UniformRandomProvider random = RandomSource.create(RandomSource.XOR_SHIFT_1024_S, 0x51c4be05d2a7e963L);
+        points      = new Point3D[POINTS];
+        coordinates = new double[3 * POINTS];
+        locations   = new Location[POINTS];
+        for (int i = 0; i < POINTS; ++i) {
+            points[i] = Point3D.of(4 * random.nextDouble() - 2,
+                                   4 * random.nextDouble() - 2,
+                                   2 * random.nextDouble() - 0.5);
+            System.arraycopy(points[i].toArray(), 0, coordinates, 3 * i, 3);
+        }
+    }
+
+    /** Classify points using the linked tree.
+     * @param bh sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void linkedTree(final Blackhole bh) {
+        for (final Point3D point : points) {
+            bh.consume(region.checkPoint(point));
+        }
+    }
+
+    /** Classify points using the frozen tree.
+     * @param bh sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void frozenTree(final Blackhole bh) {
+        for (int i = 0; i < coordinates.length; i += 3) {
+            bh.consume(frozen.checkPoint(coordinates, i));
+        }
+    }
+
+    /** Classify points using the batch API.
+     * @return points locations
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public Location[] batch() {
+        region.checkPoints(coordinates, locations);
+        return locations;
+    }
+
+    /** Classify points using the batch API in the common pool.
+     * @return points locations
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public Location[] parallelBatch() {
+        region.checkPoints(coordinates, locations, ForkJoinPool.commonPool());
+        return locations;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.PolygonsSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the boolean operations on {@link PolygonsSet}.
+ * <p>
+ * Each invocation merges two overlapping star-shaped polygons having
+ * the specified number of boundary edges each.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Thread)
+public class PolygonsSetBooleanOperations {
+
+    /** Number of boundary edges of each operand. */
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int facets;
+
+    /** Operation to perform. */
+    @Param({"UNION", "INTERSECTION", "DIFFERENCE", "XOR"})
+    private BooleanOperation operation;
+
+    /** Number of nodes below which sub-trees are merged sequentially
+     * in the common pool (0 for a fully sequential merge). */
+    @Param({"0", "512"})
+    private int parallelThreshold;
+
+    /** Factory performing the operations. */
+    private RegionFactory<Point2D> factory;
+
+    /** Pristine first operand. */
+    private PolygonsSet reference1;
+
+    /** Pristine second operand. */
+    private PolygonsSet reference2;
+
+    /** First operand, consumed by the operation. */
+    private Region<Point2D> operand1;
+
+    /** Second operand, consumed by the operation. */
+    private Region<Point2D> operand2;
+
+    /** Build the reference operands. */
+    @Setup(Level.Trial)
+    public void setUpReferences() {
+        factory    = (parallelThreshold == 0) ?
+                     new RegionFactory<>() :
+                     new RegionFactory<>(ForkJoinPool.commonPool(), parallelThreshold);
+        reference1 = RegionShapes.starPolygon(facets, 0.0, 0.0, 0x3a8c4e21b5d97f06L);
+        reference2 = RegionShapes.starPolygon(facets, 0.3, 0.2, 0x6f1d0b9e4c72a853L);
+    }
+
+    /** Copy the operands, as the operations reuse the trees of their arguments. */
+    @Setup(Level.Invocation)
+    public void setUpOperands() {
+        operand1 = reference1.copySelf();
+        operand2 = reference2.copySelf();
+    }
+
+    /** Perform the boolean operation.
+     * @param counter counter for the size of the result tree
+     * @return result region
+     */
+    @Benchmark
+    public Region<Point2D> merge(final TreeSizeCounter counter) {
+        final Region<Point2D> result = operation.apply(factory, operand1, operand2);
+        counter.record(result.getTree(false));
+        return result;
+    }
+
+}
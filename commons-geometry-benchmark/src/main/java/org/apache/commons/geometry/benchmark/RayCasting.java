@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.euclidean.threed.FacetsHierarchy;
+import org.apache.commons.geometry.euclidean.threed.Line;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.geometry.euclidean.threed.PolyhedronsSet;
+import org.apache.commons.geometry.euclidean.threed.SubPlane;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmarks for ray casting against the boundary of a {@link PolyhedronsSet}.
+ * <p>
+ * The same random rays are cast using the BSP tree of the region and using
+ * its {@link FacetsHierarchy facets hierarchy}, one ray at a time and as a
+ * batch. Scores are per cast ray.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G"})
+@State(Scope.Benchmark)
+public class RayCasting {
+
+    /** Number of rays cast per invocation. */
+    private static final int RAYS = 4096;
+
+    /** Number of boundary facets of the region. */
+    @Param({"10", "100", "1000", "10000"})
+    private int facets;
+
+    /** Region to cast rays against. */
+    private PolyhedronsSet region;
+
+    /** Facets hierarchy of the region. */
+    private FacetsHierarchy hierarchy;
+
+    /** Rays origins. */
+    private Point3D[] points;
+
+    /** Rays lines. */
+    private Line[] lines;
+
+    /** Rays origins, packed as x, y, z triplets. */
+    private double[] origins;
+
+    /** Rays directions, packed as x, y, z triplets. */
+    private double[] directions;
+
+    /** First facets hit, for the batch benchmark. */
+    private SubPlane[] hits;
+
+    /** Distances to the first facets hit, for the batch benchmark. */
+    private double[] distances;
+
+    /** Build the region, its hierarchy and the rays. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        region    = RegionShapes.starPrism(facets, 0.0, 0.0, 0.0, 1.0, 0x3a8c4e21b5d97f06L);
+        hierarchy = region.getFacetsHierarchy();
+
+        final UniformRandomProvider random = RandomSource.create(RandomSource.XOR_SHIFT_1024_S, 0x0d4f6b2e97a3c158L);
+        points     = new Point3D[RAYS];
+        lines      = new Line[RAYS];
+        origins    = new double[3 * RAYS];
+        directions = new double[3 * RAYS];
+        hits       = new SubPlane[RAYS];
+        distances  = new double[RAYS];
+        for (int i = 0; i < RAYS; ++i) {
+            points[i] = Point3D.of(4 * random.nextDouble() - 2,
+                                   4 * random.nextDouble() - 2,
+                                   2 * random.nextDouble() - 0.5);
+            final Point3D target = Point3D.of(2 * random.nextDouble() - 1,
+                                              2 * random.nextDouble() - 1,
+                                              random.nextDouble());
+            lines[i] = new Line(points[i], target, RegionShapes.TOLERANCE);
+            System.arraycopy(points[i].toArray(), 0, origins, 3 * i, 3);
+            System.arraycopy(lines[i].getDirection().toArray(), 0, directions, 3 * i, 3);
+        }
+    }
+
+    /** Cast rays using the BSP tree.
+     * @param bh sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(RAYS)
+    public void bspTree(final Blackhole bh) {
+        for (int i = 0; i < RAYS; ++i) {
+            bh.consume(region.firstIntersection(points[i], lines[i]));
+        }
+    }
+
+    /** Cast rays using the facets hierarchy.
+     * @param bh sink for the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(RAYS)
+    public void hierarchy(final Blackhole bh) {
+        for (int i = 0; i < RAYS; ++i) {
+            bh.consume(hierarchy.firstIntersection(points[i], lines[i]));
+        }
+    }
+
+    /** Cast rays using the batch API.
+     * @return distances to the first facets hit
+     */
+    @Benchmark
+    @OperationsPerInvocation(RAYS)
+    public double[] batch() {
+        hierarchy.firstIntersections(origins, directions, hits, distances);
+        return distances;
+    }
+
+}
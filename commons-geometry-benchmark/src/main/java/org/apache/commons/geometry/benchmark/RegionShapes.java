@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.threed.Plane;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.geometry.euclidean.threed.PolyhedronsSet;
+import org.apache.commons.geometry.euclidean.threed.SubPlane;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.PolygonsSet;
+import org.apache.commons.geometry.euclidean.twod.SubLine;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+/** Generators for the regions used as benchmark inputs.
+ * <p>
+ * All shapes are derived from star-shaped polygons whose vertices are evenly
+ * spaced in angle around a center and have random radii. Such polygons are
+ * never self-intersecting, have exactly as many edges as vertices and, unlike
+ * convex polygons, do not degenerate into linear BSP trees.
+ * </p>
+ */
+public final class RegionShapes {
+
+    /** Tolerance used for all shapes. */
+    public static final double TOLERANCE = 1.0e-10;
+
+    /** Private constructor for a utility class. */
+    private RegionShapes() {
+    }
+
+    /** Build the vertices of a star-shaped polygon.
+     * @param nbVertices number of vertices
+     * @param cx abscissa of the center
+     * @param cy ordinate of the center
+     * @param seed seed for the random radii
+     * @return polygon vertices, in counterclockwise order
+     */
+    public static Point2D[] starVertices(final int nbVertices, final double cx, final double cy,
+                                         final long seed) {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.XOR_SHIFT_1024_S, seed);
+        final double phase = 2 * Math.PI * random.nextDouble() / nbVertices;
+        final Point2D[] vertices = new Point2D[nbVertices];
+        for (int i = 0; i < nbVertices; ++i) {
+            final double alpha  = phase + 2 * Math.PI * i / nbVertices;
+            final double radius = 1.0 + 0.5 * random.nextDouble();
+            vertices[i] = Point2D.of(cx + radius * Math.cos(alpha), cy + radius * Math.sin(alpha));
+        }
+        return vertices;
+    }
+
+    /** Build a star-shaped polygon.
+     * @param nbEdges number of boundary edges
+     * @param cx abscissa of the center
+     * @param cy ordinate of the center
+     * @param seed seed for the random radii
+     * @return polygon with the specified number of edges
+     */
+    public static PolygonsSet starPolygon(final int nbEdges, final double cx, final double cy,
+                                          final long seed) {
+        return polygon(starVertices(nbEdges, cx, cy, seed));
+    }
+
+    /** Build the boundary of a star-shaped polygon.
+     * @param nbEdges number of boundary edges
+     * @param cx abscissa of the center
+     * @param cy ordinate of the center
+     * @param seed seed for the random radii
+     * @return boundary edges, in counterclockwise order
+     */
+    public static List<SubHyperplane<Point2D>> starBoundary(final int nbEdges, final double cx, final double cy,
+                                                            final long seed) {
+        return boundary(starVertices(nbEdges, cx, cy, seed));
+    }
+
+    /** Build a prism extruded from a star-shaped polygon.
+     * @param nbFacets number of boundary facets (including the two caps)
+     * @param cx abscissa of the center
+     * @param cy ordinate of the center
+     * @param zMin bottom cap height
+     * @param zMax top cap height
+     * @param seed seed for the random radii
+     * @return prism with the specified number of facets
+     */
+    public static PolyhedronsSet starPrism(final int nbFacets, final double cx, final double cy,
+                                           final double zMin, final double zMax, final long seed) {
+
+        final Point2D[] base = starVertices(Math.max(3, nbFacets - 2), cx, cy, seed);
+        final int n = base.length;
+
+        final List<SubHyperplane<Point3D>> boundary = new ArrayList<>(n + 2);
+        final List<Point3D> bottom = new ArrayList<>(n);
+        final List<Point3D> top    = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            // the bottom cap is oriented clockwise as its outward normal is -z
+            bottom.add(Point3D.of(base[n - 1 - i].getX(), base[n - 1 - i].getY(), zMin));
+            top.add(Point3D.of(base[i].getX(), base[i].getY(), zMax));
+        }
+        boundary.add(facet(new Plane(bottom.get(0), Vector3D.MINUS_Z, TOLERANCE), bottom));
+        boundary.add(facet(new Plane(top.get(0), Vector3D.PLUS_Z, TOLERANCE), top));
+
+        for (int i = 0; i < n; ++i) {
+            final Point2D start = base[i];
+            final Point2D end   = base[(i + 1) % n];
+            final Vector3D normal = Vector3D.normalize(end.getY() - start.getY(), start.getX() - end.getX(), 0);
+            final List<Point3D> side = new ArrayList<>(4);
+            side.add(Point3D.of(start.getX(), start.getY(), zMin));
+            side.add(Point3D.of(end.getX(),   end.getY(),   zMin));
+            side.add(Point3D.of(end.getX(),   end.getY(),   zMax));
+            side.add(Point3D.of(start.getX(), start.getY(), zMax));
+            boundary.add(facet(new Plane(side.get(0), normal, TOLERANCE), side));
+        }
+
+        return new PolyhedronsSet(boundary, TOLERANCE);
+
+    }
+
+    /** Build a polygon from its boundary loop.
+     * <p>
+     * The general boundary constructor is used rather than the vertices
+     * constructor as the latter checks all vertices against all edges.
+     * </p>
+     * @param vertices vertices of the loop, in counterclockwise order
+     * @return polygon
+     */
+    private static PolygonsSet polygon(final Point2D[] vertices) {
+        return new PolygonsSet(boundary(vertices), TOLERANCE);
+    }
+
+    /** Build the edges of a boundary loop.
+     * @param vertices vertices of the loop, in counterclockwise order
+     * @return boundary edges
+     */
+    private static List<SubHyperplane<Point2D>> boundary(final Point2D[] vertices) {
+        final List<SubHyperplane<Point2D>> boundary = new ArrayList<>(vertices.length);
+        for (int i = 0; i < vertices.length; ++i) {
+            boundary.add(new SubLine(vertices[i], vertices[(i + 1) % vertices.length], TOLERANCE));
+        }
+        return boundary;
+    }
+
+    /** Build a planar facet.
+     * @param plane plane containing the facet, with its normal pointing outward
+     * @param loop facet vertices, in counterclockwise order with respect to the plane normal
+     * @return facet
+     */
+    private static SubPlane facet(final Plane plane, final List<Point3D> loop) {
+        final Point2D[] inPlane = new Point2D[loop.size()];
+        for (int i = 0; i < inPlane.length; ++i) {
+            inPlane[i] = plane.toSubSpace(loop.get(i));
+        }
+        return new SubPlane(plane, polygon(inPlane));
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.TreeStatistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Secondary benchmark results holding the size of the BSP trees produced.
+ * <p>
+ * The fields are overwritten (not accumulated) after each invocation, so the
+ * values reported by JMH are the sizes of the last tree built.
+ * </p>
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class TreeSizeCounter {
+
+    /** Total number of nodes in the resulting tree. */
+    public long nodes;
+
+    /** Number of leaf nodes in the resulting tree. */
+    public long leaves;
+
+    /** Depth of the resulting tree. */
+    public long depth;
+
+    /** Reset the counters before each iteration. */
+    @Setup(Level.Iteration)
+    public void reset() {
+        nodes  = 0;
+        leaves = 0;
+        depth  = 0;
+    }
+
+    /** Record the size of a tree.
+     * @param tree tree to measure
+     * @param <P> Point type defining the space
+     */
+    public <P extends Point<P>> void record(final BSPTree<P> tree) {
+        final TreeStatistics statistics = TreeStatistics.of(tree);
+        nodes  = statistics.getFragmentCount() + statistics.getLeafCount();
+        leaves = statistics.getLeafCount();
+        depth  = statistics.getDepth();
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.oned.OrientedPoint;
+import org.apache.commons.geometry.euclidean.oned.Point1D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks for the traversal of deep {@link BSPTree BSP trees}.
+ * <p>
+ * The tree is a one-dimensional chain of cuts, which is the worst case
+ * for the tree depth. The iterative traversals of {@link BSPTree} are compared
+ * with straightforward recursive traversals built on the public accessors,
+ * which is how the tree used to be walked. The recursive references need a
+ * large thread stack for the deepest trees, hence the {@code -Xss} setting.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx4G", "-Xss256M"})
+@State(Scope.Thread)
+public class TreeTraversal {
+
+    /** Tolerance. */
+    private static final double TOLERANCE = 1.0e-10;
+
+    /** Depth of the tree. */
+    @Param({"1000", "10000", "100000"})
+    private int depth;
+
+    /** Tree to traverse. */
+    private BSPTree<Point1D> tree;
+
+    /** Points to locate. */
+    private Point1D[] points;
+
+    /** Build the tree and the points to locate. */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BSPTree<Point1D> node = new BSPTree<>(Boolean.FALSE);
+        for (int k = depth - 1; k >= 0; --k) {
+            final OrientedPoint op = new OrientedPoint(Point1D.of(k), true, TOLERANCE);
+            node = new BSPTree<>(op.wholeHyperplane(), node, new BSPTree<Point1D>(k % 2 == 1), null);
+        }
+        tree = node;
+
+        points = new Point1D[16];
+        for (int i = 0; i < points.length; ++i) {
+            points[i] = Point1D.of((i + 0.5) * depth / points.length);
+        }
+    }
+
+    /** Count the leaf nodes with the iterative visit.
+     * @return number of leaf nodes
+     */
+    @Benchmark
+    public int visitIterative() {
+        final LeafCounter counter = new LeafCounter();
+        tree.visit(counter);
+        return counter.count;
+    }
+
+    /** Count the leaf nodes with a recursive reference traversal.
+     * @return number of leaf nodes
+     */
+    @Benchmark
+    public int visitRecursive() {
+        final LeafCounter counter = new LeafCounter();
+        recurseVisit(tree, counter);
+        return counter.count;
+    }
+
+    /** Locate points with the iterative cell search.
+     * @return number of points in inside cells
+     */
+    @Benchmark
+    public int getCellIterative() {
+        int inside = 0;
+        for (final Point1D p : points) {
+            if ((Boolean) tree.getCell(p, TOLERANCE).getAttribute()) {
+                ++inside;
+            }
+        }
+        return inside;
+    }
+
+    /** Locate points with a recursive reference cell search.
+     * @return number of points in inside cells
+     */
+    @Benchmark
+    public int getCellRecursive() {
+        int inside = 0;
+        for (final Point1D p : points) {
+            if ((Boolean) recurseGetCell(tree, p).getAttribute()) {
+                ++inside;
+            }
+        }
+        return inside;
+    }
+
+    /** Copy the tree.
+     * @return copied tree
+     */
+    @Benchmark
+    public BSPTree<Point1D> copySelf() {
+        return tree.copySelf();
+    }
+
+    /** Reference recursive visit, in the same order as {@link BSPTree#visit(BSPTreeVisitor)}.
+     * @param node current node
+     * @param visitor visitor to use
+     */
+    private static void recurseVisit(final BSPTree<Point1D> node, final BSPTreeVisitor<Point1D> visitor) {
+        if (node.getCut() == null) {
+            visitor.visitLeafNode(node);
+        } else {
+            switch (visitor.visitOrder(node)) {
+                case PLUS_MINUS_SUB:
+                    recurseVisit(node.getPlus(), visitor);
+                    recurseVisit(node.getMinus(), visitor);
+                    visitor.visitInternalNode(node);
+                    break;
+                case PLUS_SUB_MINUS:
+                    recurseVisit(node.getPlus(), visitor);
+                    visitor.visitInternalNode(node);
+                    recurseVisit(node.getMinus(), visitor);
+                    break;
+                case MINUS_PLUS_SUB:
+                    recurseVisit(node.getMinus(), visitor);
+                    recurseVisit(node.getPlus(), visitor);
+                    visitor.visitInternalNode(node);
+                    break;
+                case MINUS_SUB_PLUS:
+                    recurseVisit(node.getMinus(), visitor);
+                    visitor.visitInternalNode(node);
+                    recurseVisit(node.getPlus(), visitor);
+                    break;
+                case SUB_PLUS_MINUS:
+                    visitor.visitInternalNode(node);
+                    recurseVisit(node.getPlus(), visitor);
+                    recurseVisit(node.getMinus(), visitor);
+                    break;
+                case SUB_MINUS_PLUS:
+                    visitor.visitInternalNode(node);
+                    recurseVisit(node.getMinus(), visitor);
+                    recurseVisit(node.getPlus(), visitor);
+                    break;
+                default:
+                    throw new IllegalStateException("unknown visit order");
+            }
+        }
+    }
+
+    /** Reference recursive cell search, as {@link BSPTree#getCell(org.apache.commons.geometry.core.Point, double)}.
+     * @param node current node
+     * @param point point to locate
+     * @return cell containing the point
+     */
+    private static BSPTree<Point1D> recurseGetCell(final BSPTree<Point1D> node, final Point1D point) {
+        final SubHyperplane<Point1D> cut = node.getCut();
+        if (cut == null) {
+            return node;
+        }
+        final double offset = cut.getHyperplane().getOffset(point);
+        if (Math.abs(offset) < TOLERANCE) {
+            return node;
+        } else if (offset <= 0) {
+            return recurseGetCell(node.getMinus(), point);
+        } else {
+            return recurseGetCell(node.getPlus(), point);
+        }
+    }
+
+    /** Visitor counting leaf nodes. */
+    private static class LeafCounter implements BSPTreeVisitor<Point1D> {
+
+        /** Number of visited leaf nodes. */
+        private int count;
+
+        /** {@inheritDoc} */
+        @Override
+        public Order visitOrder(final BSPTree<Point1D> node) {
+            return Order.MINUS_SUB_PLUS;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitInternalNode(final BSPTree<Point1D> node) {
+            // nothing to do
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitLeafNode(final BSPTree<Point1D> node) {
+            ++count;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ *
+ * <p>
+ * This package contains <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH</a>
+ * benchmarks for the geometric algorithms, so that performance changes can be
+ * assessed against a reproducible baseline.
+ * </p>
+ *
+ * <p>
+ * The benchmarks are packaged in an executable jar:
+ * </p>
+ * <pre>
+ * mvn package -P benchmark
+ * java -jar commons-geometry-benchmark/target/benchmarks.jar BooleanOperations -prof gc
+ * </pre>
+ * <p>
+ * The {@code -prof gc} option enables the GC profiler which reports the allocation
+ * rate along with the throughput; the benchmarks also report the number of nodes of
+ * the BSP trees they produce as secondary results.
+ * </p>
+ *
+ */
+package org.apache.commons.geometry.benchmark;
@@ -16,13 +16,16 @@
  */
 package org.apache.commons.geometry.core.partitioning;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.Point;
 
@@ -33,6 +36,12 @@ import org.apache.commons.geometry.core.Point;
  */
 public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> implements Region<P> {
 
+    /** Number of tree nodes above which the geometrical properties are computed in parallel
+     * when a pool is provided.
+     * @see BSPTree#visit(java.util.function.Supplier, java.util.function.BinaryOperator, ForkJoinPool, int)
+     */
+    protected static final int PARALLEL_VISIT_THRESHOLD = 1 << 10;
+
     /** Inside/Outside BSP tree. */
     private BSPTree<P> tree;
 
@@ -45,6 +54,9 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
     /** Barycenter. */
     private P barycenter;
 
+    /** Frozen form of the tree, built on first use. */
+    private CompactBSPTree<P> frozen;
+
     /** Build a region representing the whole space.
      * @param tolerance tolerance below which points are considered identical.
      */
@@ -92,6 +104,23 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
      * @param tolerance tolerance below which points are considered identical.
      */
     protected AbstractRegion(final Collection<SubHyperplane<P>> boundary, final double tolerance) {
+        this(boundary, CutSelectors.<P>largestFirst(), tolerance);
+    }
+
+    /** Build a Region from a Boundary REPresentation (B-rep), using a specific cut selector.
+     * <p>The boundary is interpreted as in the {@link #AbstractRegion(Collection,
+     * double) default B-rep constructor}, which uses the {@link
+     * CutSelectors#largestFirst() largest first} selector. Other selectors
+     * build different trees for the same region, with different depths and
+     * numbers of fragments (see {@link TreeStatistics}).</p>
+     * @param boundary collection of boundary elements, as a
+     * collection of {@link SubHyperplane SubHyperplane} objects
+     * @param selector selector for the boundary element used to cut each cell
+     * @param tolerance tolerance below which points are considered identical.
+     * @see CutSelectors
+     */
+    protected AbstractRegion(final Collection<SubHyperplane<P>> boundary, final CutSelector<P> selector,
+                             final double tolerance) {
 
         this.tolerance = tolerance;
 
@@ -118,7 +147,7 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
 
             // build the tree top-down
             tree = new BSPTree<>();
-            insertCuts(tree, ordered);
+            insertCuts(tree, new ArrayList<>(ordered), selector);
 
             // set up the inside/outside flags
             tree.visit(new BSPTreeVisitor<P>() {
@@ -190,55 +219,69 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
         return tolerance;
     }
 
-    /** Recursively build a tree by inserting cut sub-hyperplanes.
-     * @param node current tree node (it is a leaf node at the beginning
+    /** Build a tree by inserting cut sub-hyperplanes.
+     * @param root root tree node (it is a leaf node at the beginning
      * of the call)
-     * @param boundary collection of edges belonging to the cell defined
-     * by the node
+     * @param boundary list of edges belonging to the cell defined
+     * by the root node
+     * @param selector selector for the boundary element used to cut each cell
      */
-    private void insertCuts(final BSPTree<P> node, final Collection<SubHyperplane<P>> boundary) {
+    private void insertCuts(final BSPTree<P> root, final List<SubHyperplane<P>> boundary,
+                            final CutSelector<P> selector) {
+
+        // pending cells, with the edges belonging to them
+        final ArrayDeque<BSPTree<P>> nodes = new ArrayDeque<>();
+        final ArrayDeque<List<SubHyperplane<P>>> edges = new ArrayDeque<>();
+        nodes.push(root);
+        edges.push(boundary);
+
+        while (!nodes.isEmpty()) {
+
+            final BSPTree<P> node = nodes.pop();
+            final List<SubHyperplane<P>> remaining = edges.pop();
+
+            // build the current level
+            Hyperplane<P> inserted = null;
+            while ((inserted == null) && !remaining.isEmpty()) {
+                inserted = remaining.remove(selector.select(Collections.unmodifiableList(remaining))).getHyperplane();
+                if (!node.insertCut(inserted.copySelf())) {
+                    inserted = null;
+                }
+            }
 
-        final Iterator<SubHyperplane<P>> iterator = boundary.iterator();
+            if (remaining.isEmpty()) {
+                continue;
+            }
 
-        // build the current level
-        Hyperplane<P> inserted = null;
-        while ((inserted == null) && iterator.hasNext()) {
-            inserted = iterator.next().getHyperplane();
-            if (!node.insertCut(inserted.copySelf())) {
-                inserted = null;
+            // distribute the remaining edges in the two sub-trees
+            final ArrayList<SubHyperplane<P>> plusList  = new ArrayList<>();
+            final ArrayList<SubHyperplane<P>> minusList = new ArrayList<>();
+            for (final SubHyperplane<P> other : remaining) {
+                final SubHyperplane.SplitSubHyperplane<P> split = other.split(inserted);
+                switch (split.getSide()) {
+                case PLUS:
+                    plusList.add(other);
+                    break;
+                case MINUS:
+                    minusList.add(other);
+                    break;
+                case BOTH:
+                    plusList.add(split.getPlus());
+                    minusList.add(split.getMinus());
+                    break;
+                default:
+                    // ignore the sub-hyperplanes belonging to the cut hyperplane
+                }
             }
-        }
 
-        if (!iterator.hasNext()) {
-            return;
-        }
+            // process the lower levels, plus side first
+            nodes.push(node.getMinus());
+            edges.push(minusList);
+            nodes.push(node.getPlus());
+            edges.push(plusList);
 
-        // distribute the remaining edges in the two sub-trees
-        final ArrayList<SubHyperplane<P>> plusList  = new ArrayList<>();
-        final ArrayList<SubHyperplane<P>> minusList = new ArrayList<>();
-        while (iterator.hasNext()) {
-            final SubHyperplane<P> other = iterator.next();
-            final SubHyperplane.SplitSubHyperplane<P> split = other.split(inserted);
-            switch (split.getSide()) {
-            case PLUS:
-                plusList.add(other);
-                break;
-            case MINUS:
-                minusList.add(other);
-                break;
-            case BOTH:
-                plusList.add(split.getPlus());
-                minusList.add(split.getMinus());
-                break;
-            default:
-                // ignore the sub-hyperplanes belonging to the cut hyperplane
-            }
         }
 
-        // recurse through lower levels
-        insertCuts(node.getPlus(),  plusList);
-        insertCuts(node.getMinus(), minusList);
-
     }
 
     /** {@inheritDoc} */
@@ -337,6 +380,60 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
 
     }
 
+    /** Check a batch of points with respect to the region.
+     * <p>The points are given by their packed coordinates, so no point
+     * instance is created. The check is done on the {@link #freeze() frozen}
+     * form of the region tree.</p>
+     * @param coordinates array containing the packed points coordinates
+     * (n elements per point, where n is the space dimension)
+     * @param locations array where to store the points status, its length
+     * defines the number of points to check
+     * @exception IllegalArgumentException if some cut hyperplane is not
+     * an {@link AffineHyperplane} or if the number of coordinates does
+     * not match the number of points
+     * @see CompactBSPTree#checkPoints(double[], Location[])
+     */
+    public void checkPoints(final double[] coordinates, final Location[] locations) {
+        freeze().checkPoints(coordinates, locations);
+    }
+
+    /** Check a batch of points with respect to the region, in parallel.
+     * @param coordinates array containing the packed points coordinates
+     * (n elements per point, where n is the space dimension)
+     * @param locations array where to store the points status, its length
+     * defines the number of points to check
+     * @param pool pool in which to split the batch
+     * @exception IllegalArgumentException if some cut hyperplane is not
+     * an {@link AffineHyperplane} or if the number of coordinates does
+     * not match the number of points
+     * @see CompactBSPTree#checkPoints(double[], Location[], ForkJoinPool)
+     */
+    public void checkPoints(final double[] coordinates, final Location[] locations, final ForkJoinPool pool) {
+        freeze().checkPoints(coordinates, locations, pool);
+    }
+
+    /** Freeze the region tree into a compact read-only form.
+     * <p>The compact tree classifies points given by their coordinates
+     * using the same cuts and the same tolerance as {@link #checkPoint(Point)}.
+     * The offsets with respect to the cuts are however computed as plain
+     * sums of products of the {@link AffineHyperplane#getOffsetCoefficients()
+     * offset coefficients}, so points lying at about the tolerance from a cut
+     * may be classified differently when hyperplanes use more accurate offset
+     * computations (see {@link CompactBSPTree}). It is built on first call and
+     * reused afterwards, so the region tree should not be modified once it has
+     * been frozen.</p>
+     * @return a compact snapshot of the region tree
+     * @exception IllegalArgumentException if some cut hyperplane is not
+     * an {@link AffineHyperplane}
+     * @see BSPTree#freeze(double)
+     */
+    public CompactBSPTree<P> freeze() {
+        if (frozen == null) {
+            frozen = tree.freeze(tolerance);
+        }
+        return frozen;
+    }
+
     /** {@inheritDoc} */
     @Override
     public BSPTree<P> getTree(final boolean includeBoundaryAttributes) {
@@ -355,6 +452,20 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
         return visitor.getSize();
     }
 
+    /** Get the size of the boundary, visiting large trees in parallel.
+     * <p>Trees with more than {@link #PARALLEL_VISIT_THRESHOLD} nodes are split
+     * into parts visited by the tasks of the pool, smaller trees are visited
+     * sequentially as in {@link #getBoundarySize()}.</p>
+     * @param pool pool in which to run the visiting tasks
+     * @return the size of the boundary (this is 0 in 1D, a length in 2D,
+     * an area in 3D ...)
+     * @see BSPTree#visit(java.util.function.Supplier, java.util.function.BinaryOperator, ForkJoinPool, int)
+     */
+    public double getBoundarySize(final ForkJoinPool pool) {
+        return getTree(true).visit(BoundarySizeVisitor<P>::new, BoundarySizeVisitor::combine,
+                                   pool, PARALLEL_VISIT_THRESHOLD).getSize();
+    }
+
     /** {@inheritDoc} */
     @Override
     public double getSize() {
@@ -364,6 +475,19 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
         return size;
     }
 
+    /** Get the size of the instance, computing it in parallel if needed.
+     * @param pool pool in which to run the computation tasks
+     * @return the size of the instance (this is a length in 1D, an area
+     * in 2D, a volume in 3D ...)
+     * @see #computeGeometricalProperties(ForkJoinPool)
+     */
+    public double getSize(final ForkJoinPool pool) {
+        if (barycenter == null) {
+            computeGeometricalProperties(pool);
+        }
+        return size;
+    }
+
     /** Set the size of the instance.
      * @param size size of the instance
      */
@@ -380,6 +504,18 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
         return barycenter;
     }
 
+    /** Get the barycenter of the instance, computing it in parallel if needed.
+     * @param pool pool in which to run the computation tasks
+     * @return an object representing the barycenter
+     * @see #computeGeometricalProperties(ForkJoinPool)
+     */
+    public P getBarycenter(final ForkJoinPool pool) {
+        if (barycenter == null) {
+            computeGeometricalProperties(pool);
+        }
+        return barycenter;
+    }
+
     /** Set the barycenter of the instance.
      * @param barycenter barycenter of the instance
      */
@@ -392,6 +528,18 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
      */
     protected abstract void computeGeometricalProperties();
 
+    /** Compute some geometrical properties, possibly in parallel.
+     * <p>The properties to compute are the barycenter and the size. This
+     * default implementation ignores the pool and simply calls {@link
+     * #computeGeometricalProperties()}, regions for which the properties are
+     * accumulated by an associative visitor should override it and visit
+     * large trees in the pool.</p>
+     * @param pool pool in which to run the computation tasks
+     */
+    protected void computeGeometricalProperties(final ForkJoinPool pool) {
+        computeGeometricalProperties();
+    }
+
     /** {@inheritDoc} */
     @Override
     public SubHyperplane<P> intersection(final SubHyperplane<P> sub) {
@@ -453,7 +601,7 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
 
         // transform the tree, except for boundary attribute splitters
         final Map<BSPTree<P>, BSPTree<P>> map = new HashMap<>();
-        final BSPTree<P> transformedTree = recurseTransform(getTree(false), transform, map);
+        final BSPTree<P> transformedTree = transformTree(getTree(false), transform, map);
 
         // set up the boundary attributes splitters
         for (final Map.Entry<BSPTree<P>, BSPTree<P>> entry : map.entrySet()) {
@@ -466,6 +614,7 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
                     for (final BSPTree<P> splitter : original.getSplitters()) {
                         transformed.getSplitters().add(map.get(splitter));
                     }
+                    transformed.getSplitters().compact();
                 }
             }
         }
@@ -474,41 +623,50 @@ public abstract class AbstractRegion<P extends Point<P>, S extends Point<S>> imp
 
     }
 
-    /** Recursively transform an inside/outside BSP-tree.
-     * @param node current BSP tree node
+    /** Transform an inside/outside BSP-tree.
+     * <p>The tree is traversed in post-order using an explicit stack, so
+     * arbitrarily deep trees can be transformed.</p>
+     * @param root root of the BSP tree
      * @param transform transform to apply
      * @param map transformed nodes map
      * @return a new tree
      */
     @SuppressWarnings("unchecked")
-    private BSPTree<P> recurseTransform(final BSPTree<P> node, final Transform<P, S> transform,
-                                        final Map<BSPTree<P>, BSPTree<P>> map) {
+    private BSPTree<P> transformTree(final BSPTree<P> root, final Transform<P, S> transform,
+                                     final Map<BSPTree<P>, BSPTree<P>> map) {
+
+        final ArrayDeque<BSPTree<P>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final BSPTree<P> node = stack.peek();
+            if (node.getCut() == null) {
+                map.put(node, new BSPTree<>(node.getAttribute()));
+                stack.pop();
+            } else if (!map.containsKey(node.getPlus())) {
+                // transform the sub-trees first
+                stack.push(node.getMinus());
+                stack.push(node.getPlus());
+            } else {
 
-        final BSPTree<P> transformedNode;
-        if (node.getCut() == null) {
-            transformedNode = new BSPTree<>(node.getAttribute());
-        } else {
+                final SubHyperplane<P>  sub = node.getCut();
+                final SubHyperplane<P> tSub = ((AbstractSubHyperplane<P, S>) sub).applyTransform(transform);
+                BoundaryAttribute<P> attribute = (BoundaryAttribute<P>) node.getAttribute();
+                if (attribute != null) {
+                    final SubHyperplane<P> tPO = (attribute.getPlusOutside() == null) ?
+                        null : ((AbstractSubHyperplane<P, S>) attribute.getPlusOutside()).applyTransform(transform);
+                    final SubHyperplane<P> tPI = (attribute.getPlusInside()  == null) ?
+                        null  : ((AbstractSubHyperplane<P, S>) attribute.getPlusInside()).applyTransform(transform);
+                    // we start with an empty list of splitters, it will be filled in out of traversal
+                    attribute = new BoundaryAttribute<>(tPO, tPI, new NodesSet<P>());
+                }
 
-            final SubHyperplane<P>  sub = node.getCut();
-            final SubHyperplane<P> tSub = ((AbstractSubHyperplane<P, S>) sub).applyTransform(transform);
-            BoundaryAttribute<P> attribute = (BoundaryAttribute<P>) node.getAttribute();
-            if (attribute != null) {
-                final SubHyperplane<P> tPO = (attribute.getPlusOutside() == null) ?
-                    null : ((AbstractSubHyperplane<P, S>) attribute.getPlusOutside()).applyTransform(transform);
-                final SubHyperplane<P> tPI = (attribute.getPlusInside()  == null) ?
-                    null  : ((AbstractSubHyperplane<P, S>) attribute.getPlusInside()).applyTransform(transform);
-                // we start with an empty list of splitters, it will be filled in out of recursion
-                attribute = new BoundaryAttribute<>(tPO, tPI, new NodesSet<P>());
-            }
+                map.put(node, new BSPTree<>(tSub, map.get(node.getPlus()), map.get(node.getMinus()), attribute));
+                stack.pop();
 
-            transformedNode = new BSPTree<>(tSub,
-                                             recurseTransform(node.getPlus(),  transform, map),
-                                             recurseTransform(node.getMinus(), transform, map),
-                                             attribute);
+            }
         }
 
-        map.put(node, transformedNode);
-        return transformedNode;
+        return map.get(root);
 
     }
 
@@ -129,6 +129,7 @@ public abstract class AbstractSubHyperplane<P extends Point<P>, S extends Point<
                     for (final BSPTree<S> splitter : original.getSplitters()) {
                         transformed.getSplitters().add(map.get(splitter));
                     }
+                    transformed.getSplitters().compact();
                 }
             }
         }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import org.apache.commons.geometry.core.Point;
+
+/** This interface represents an hyperplane whose offset is an affine
+ * function of the point coordinates.
+
+ * <p>This is the case for all hyperplanes of Euclidean spaces, where the
+ * offset of a point x is a<sub>0</sub>x<sub>0</sub> + ... +
+ * a<sub>n-1</sub>x<sub>n-1</sub> + a<sub>n</sub>. Exposing the coefficients
+ * allows the hyperplane to be flattened into primitive arrays, as done by
+ * {@link CompactBSPTree}.</p>
+
+ * <p>
+ * Note that this interface is <em>not</em> intended to be implemented
+ * by Apache Commons Geometry users, it is only intended to be implemented
+ * within the library itself. New methods may be added even for minor
+ * versions, which breaks compatibility for external implementations.
+ * </p>
+
+ * @param <P> Point type defining the space
+ */
+public interface AffineHyperplane<P extends Point<P>> extends Hyperplane<P> {
+
+    /** Get the coefficients of the offset function.
+     * <p>For an hyperplane of an n-dimensions space, the returned array
+     * has n+1 elements: the n first ones are the coefficients of the point
+     * coordinates and the last one is the constant term.</p>
+     * @return a new array containing the coefficients of the offset function
+     * @see #getOffset(Point)
+     */
+    double[] getOffsetCoefficients();
+
+}
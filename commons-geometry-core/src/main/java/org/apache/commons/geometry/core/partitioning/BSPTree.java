@@ -16,8 +16,15 @@
  */
 package org.apache.commons.geometry.core.partitioning;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
 
 import org.apache.commons.geometry.core.Point;
 import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor.Order;
@@ -60,6 +67,12 @@ import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor.Order;
  */
 public class BSPTree<P extends Point<P>> {
 
+    /** Flag for a small plus child in parallel visits. */
+    private static final int SMALL_PLUS = 0x1;
+
+    /** Flag for a small minus child in parallel visits. */
+    private static final int SMALL_MINUS = 0x2;
+
     /** Cut sub-hyperplane. */
     private SubHyperplane<P> cut;
 
@@ -176,12 +189,29 @@ public class BSPTree<P extends Point<P>> {
      */
     public BSPTree<P> copySelf() {
 
-        if (cut == null) {
-            return new BSPTree<>(attribute);
+        final BSPTree<P> copy = new BSPTree<>(attribute);
+
+        // pairs of original nodes and their copies, whose children remain to be copied
+        final NodeStack<P> stack = new NodeStack<>();
+        stack.push(this, false);
+        stack.push(copy, false);
+        while (!stack.isEmpty()) {
+            final BSPTree<P> target = stack.pop();
+            final BSPTree<P> source = stack.pop();
+            if (source.cut != null) {
+                target.cut          = source.cut.copySelf();
+                target.plus         = new BSPTree<>(source.plus.attribute);
+                target.plus.parent  = target;
+                target.minus        = new BSPTree<>(source.minus.attribute);
+                target.minus.parent = target;
+                stack.push(source.minus, false);
+                stack.push(target.minus, false);
+                stack.push(source.plus, false);
+                stack.push(target.plus, false);
+            }
         }
 
-        return new BSPTree<>(cut.copySelf(), plus.copySelf(), minus.copySelf(),
-                           attribute);
+        return copy;
 
     }
 
@@ -234,50 +264,104 @@ public class BSPTree<P extends Point<P>> {
     }
 
     /** Visit the BSP tree nodes.
+     * <p>The traversal uses an explicit stack rather than recursion, so
+     * arbitrarily deep trees can be visited. The nodes are visited in
+     * the order requested by {@link BSPTreeVisitor#visitOrder(BSPTree)},
+     * which is called for each internal node before any of its sub-trees
+     * is visited.</p>
      * @param visitor object visiting the tree nodes
      */
     public void visit(final BSPTreeVisitor<P> visitor) {
-        if (cut == null) {
-            visitor.visitLeafNode(this);
-        } else {
-            Order order = visitor.visitOrder(this);
-            switch (order) {
-            case PLUS_MINUS_SUB:
-                plus.visit(visitor);
-                minus.visit(visitor);
-                visitor.visitInternalNode(this);
-                break;
-            case PLUS_SUB_MINUS:
-                plus.visit(visitor);
-                visitor.visitInternalNode(this);
-                minus.visit(visitor);
-                break;
-            case MINUS_PLUS_SUB:
-                minus.visit(visitor);
-                plus.visit(visitor);
-                visitor.visitInternalNode(this);
-                break;
-            case MINUS_SUB_PLUS:
-                minus.visit(visitor);
-                visitor.visitInternalNode(this);
-                plus.visit(visitor);
-                break;
-            case SUB_PLUS_MINUS:
-                visitor.visitInternalNode(this);
-                plus.visit(visitor);
-                minus.visit(visitor);
-                break;
-            case SUB_MINUS_PLUS:
-                visitor.visitInternalNode(this);
-                minus.visit(visitor);
-                plus.visit(visitor);
-                break;
-            default:
-                // we shouldn't end up here since all possibilities are
-                // covered above
-                throw new IllegalStateException("Invalid node visit order: " + order);
+
+        // pending actions: visiting a sub-tree, or visiting an internal node itself
+        final NodeStack<P> stack = new NodeStack<>();
+        stack.push(this, false);
+
+        while (!stack.isEmpty()) {
+            final boolean nodeOnly = stack.topFlag();
+            final BSPTree<P> node  = stack.pop();
+            if (nodeOnly) {
+                visitor.visitInternalNode(node);
+            } else if (node.cut == null) {
+                visitor.visitLeafNode(node);
+            } else {
+                // actions are pushed in reverse order
+                final Order order = visitor.visitOrder(node);
+                switch (order) {
+                case PLUS_MINUS_SUB:
+                    stack.push(node, true);
+                    stack.push(node.minus, false);
+                    stack.push(node.plus, false);
+                    break;
+                case PLUS_SUB_MINUS:
+                    stack.push(node.minus, false);
+                    stack.push(node, true);
+                    stack.push(node.plus, false);
+                    break;
+                case MINUS_PLUS_SUB:
+                    stack.push(node, true);
+                    stack.push(node.plus, false);
+                    stack.push(node.minus, false);
+                    break;
+                case MINUS_SUB_PLUS:
+                    stack.push(node.plus, false);
+                    stack.push(node, true);
+                    stack.push(node.minus, false);
+                    break;
+                case SUB_PLUS_MINUS:
+                    visitor.visitInternalNode(node);
+                    stack.push(node.minus, false);
+                    stack.push(node.plus, false);
+                    break;
+                case SUB_MINUS_PLUS:
+                    visitor.visitInternalNode(node);
+                    stack.push(node.plus, false);
+                    stack.push(node.minus, false);
+                    break;
+                default:
+                    // we shouldn't end up here since all possibilities are
+                    // covered above
+                    throw new IllegalStateException("Invalid node visit order: " + order);
+                }
             }
         }
+
+    }
+
+    /** Visit the BSP tree nodes, in parallel.
+     * <p>The tree is split into disjoint parts which are visited by different
+     * visitors, possibly in different threads of the pool, and the partial
+     * results are then reduced using the combiner. Each visitor sees its nodes
+     * in the order requested by {@link BSPTreeVisitor#visitOrder(BSPTree)}, and
+     * the partial results are combined following this order, so the combiner
+     * needs to be associative but not commutative. A sub-tree is split only
+     * if both its children have more than {@code threshold} nodes, so deep
+     * unbalanced trees are still visited without exhausting the thread stack.
+     * Trees with less than {@code threshold} nodes are visited sequentially.</p>
+     * <p>The visitors may be called concurrently from several threads, on
+     * disjoint parts of the tree, so they should not modify the tree nor share
+     * any mutable state.</p>
+     * @param factory factory for the visitors of the tree parts
+     * @param combiner combiner for the partial results, {@code combiner.apply(a, b)}
+     * must return a visitor equivalent to one that would have visited the nodes
+     * of {@code a} and then the nodes of {@code b} (it can update and return
+     * {@code a})
+     * @param pool pool in which to run the visiting tasks
+     * @param threshold number of nodes below which sub-trees are visited
+     * sequentially
+     * @param <V> type of the visitors
+     * @return visitor holding the combined result for the whole tree
+     */
+    public <V extends BSPTreeVisitor<P>> V visit(final Supplier<V> factory, final BinaryOperator<V> combiner,
+                                                 final ForkJoinPool pool, final int threshold) {
+        if (countNodes(threshold) < threshold) {
+            // small tree, no need to fork anything
+            final V visitor = factory.get();
+            visit(visitor);
+            return visitor;
+        }
+        final VisitTask<P, V> task = new VisitTask<>(this, factory, combiner, threshold);
+        return (ForkJoinTask.getPool() == pool) ? task.invoke() : pool.invoke(task);
     }
 
     /** Fit a sub-hyperplane inside the cell defined by the instance.
@@ -311,23 +395,23 @@ public class BSPTree<P extends Point<P>> {
      */
     public BSPTree<P> getCell(final P point, final double tolerance) {
 
-        if (cut == null) {
-            return this;
-        }
+        BSPTree<P> node = this;
+        while (node.cut != null) {
+
+            // position of the point with respect to the cut hyperplane
+            final double offset = node.cut.getHyperplane().getOffset(point);
 
-        // position of the point with respect to the cut hyperplane
-        final double offset = cut.getHyperplane().getOffset(point);
+            if (Math.abs(offset) < tolerance) {
+                return node;
+            }
+
+            // go down on the side of the cut hyperplane the point belongs to
+            node = (offset <= 0) ? node.minus : node.plus;
 
-        if (Math.abs(offset) < tolerance) {
-            return this;
-        } else if (offset <= 0) {
-            // point is on the minus side of the cut hyperplane
-            return minus.getCell(point, tolerance);
-        } else {
-            // point is on the plus side of the cut hyperplane
-            return plus.getCell(point, tolerance);
         }
 
+        return node;
+
     }
 
     /** Get the cells whose cut sub-hyperplanes are close to the point.
@@ -338,38 +422,52 @@ public class BSPTree<P extends Point<P>> {
      * than maxOffset from the point)
      */
     public List<BSPTree<P>> getCloseCuts(final P point, final double maxOffset) {
+
         final List<BSPTree<P>> close = new ArrayList<>();
-        recurseCloseCuts(point, maxOffset, close);
-        return close;
-    }
 
-    /** Get the cells whose cut sub-hyperplanes are close to the point.
-     * @param point point to check
-     * @param maxOffset offset below which a cut sub-hyperplane is considered
-     * close to the point (in absolute value)
-     * @param close list to fill
-     */
-    private void recurseCloseCuts(final P point, final double maxOffset,
-                                  final List<BSPTree<P>> close) {
-        if (cut != null) {
+        // close cells are listed in pre-order, minus sub-trees first
+        final NodeStack<P> stack = new NodeStack<>();
+        stack.push(this, false);
+        while (!stack.isEmpty()) {
+            final BSPTree<P> node = stack.pop();
+            if (node.cut != null) {
+
+                // position of the point with respect to the cut hyperplane
+                final double offset = node.cut.getHyperplane().getOffset(point);
+
+                if (offset < -maxOffset) {
+                    // point is on the minus side of the cut hyperplane
+                    stack.push(node.minus, false);
+                } else if (offset > maxOffset) {
+                    // point is on the plus side of the cut hyperplane
+                    stack.push(node.plus, false);
+                } else {
+                    // point is close to the cut hyperplane
+                    close.add(node);
+                    stack.push(node.plus, false);
+                    stack.push(node.minus, false);
+                }
 
-            // position of the point with respect to the cut hyperplane
-            final double offset = cut.getHyperplane().getOffset(point);
-
-            if (offset < -maxOffset) {
-                // point is on the minus side of the cut hyperplane
-                minus.recurseCloseCuts(point, maxOffset, close);
-            } else if (offset > maxOffset) {
-                // point is on the plus side of the cut hyperplane
-                plus.recurseCloseCuts(point, maxOffset, close);
-            } else {
-                // point is close to the cut hyperplane
-                close.add(this);
-                minus.recurseCloseCuts(point, maxOffset, close);
-                plus.recurseCloseCuts(point, maxOffset, close);
             }
-
         }
+
+        return close;
+
+    }
+
+    /** Freeze the tree into a compact read-only form.
+     * <p>The tree must be a region tree, i.e. its leaf nodes attributes
+     * must be {@code Boolean} inside/outside flags, and all its cut
+     * sub-hyperplanes must lie in {@link AffineHyperplane affine hyperplanes}.
+     * The returned tree is independent of the instance.</p>
+     * @param tolerance tolerance below which points close to a cut hyperplane
+     * are considered to belong to the hyperplane itself
+     * @return a compact snapshot of the tree
+     * @exception IllegalArgumentException if some cut hyperplane is not affine
+     * @see AbstractRegion#freeze()
+     */
+    public CompactBSPTree<P> freeze(final double tolerance) {
+        return new CompactBSPTree<>(this, tolerance);
     }
 
     /** Perform condensation on a tree.
@@ -409,6 +507,203 @@ public class BSPTree<P extends Point<P>> {
         return merge(tree, leafMerger, null, false);
     }
 
+    /** Merge a BSP tree with the instance, in parallel.
+     * <p>This method performs the same operation as {@link #merge(BSPTree,
+     * LeafMerger)}, but once a sub-tree has been split, the merging of its
+     * plus part is forked as a separate task in the pool while the minus part
+     * is merged in the current thread. Sub-trees merges involving less than
+     * {@code threshold} nodes are performed sequentially.</p>
+     * <p>The leaf merger and the vanishing cut handlers it uses may be called
+     * concurrently from several threads, on disjoint parts of the trees.</p>
+     * @param tree other tree to merge with the instance (will be
+     * <em>unusable</em> after the operation, as well as the
+     * instance itself)
+     * @param leafMerger object implementing the final merging phase
+     * (this is where the semantic of the operation occurs, generally
+     * depending on the attribute of the leaf node)
+     * @param pool pool in which to run the merging tasks
+     * @param threshold number of nodes below which sub-trees are merged
+     * sequentially
+     * @return a new tree, result of <code>instance &lt;op&gt;
+     * tree</code>
+     */
+    public BSPTree<P> merge(final BSPTree<P> tree, final LeafMerger<P> leafMerger,
+                            final ForkJoinPool pool, final int threshold) {
+        final MergeTask<P> task = new MergeTask<>(this, tree, leafMerger, null, false, threshold);
+        return (ForkJoinTask.getPool() == pool) ? task.invoke() : pool.invoke(task);
+    }
+
+    /** Merge a BSP tree with the instance, forking tasks for large sub-trees.
+     * @param tree other tree to merge with the instance (will be
+     * <em>unusable</em> after the operation, as well as the
+     * instance itself)
+     * @param leafMerger object implementing the final merging phase
+     * (this is where the semantic of the operation occurs, generally
+     * depending on the attribute of the leaf node)
+     * @param parentTree parent tree to connect to (may be null)
+     * @param isPlusChild if true and if parentTree is not null, the
+     * resulting tree should be the plus child of its parent, ignored if
+     * parentTree is null
+     * @param threshold number of nodes below which sub-trees are merged
+     * sequentially
+     * @return a new tree, result of <code>instance &lt;op&gt;
+     * tree</code>, this value can be ignored if parentTree is not null
+     * since all connections have already been established
+     */
+    private BSPTree<P> merge(final BSPTree<P> tree, final LeafMerger<P> leafMerger,
+                             final BSPTree<P> parentTree, final boolean isPlusChild,
+                             final int threshold) {
+
+        // sizes of the sub-trees along the minus side of the instance, counted once
+        final int[] instanceCounts = minusSideCounts(threshold);
+
+        // the parts of a split tree are not larger than the tree itself,
+        // so the size of the other tree is an upper bound for all its parts
+        final int otherCount = tree.countNodes(threshold);
+
+        // walk down the minus side in the current thread, forking tasks for the plus sides
+        final List<BSPTree<P>> spine = new ArrayList<>();
+        final List<ForkJoinTask<BSPTree<P>>> plusTasks = new ArrayList<>();
+        BSPTree<P> instance = this;
+        BSPTree<P> other    = tree;
+        BSPTree<P> parent   = parentTree;
+        boolean plusChild   = isPlusChild;
+        BSPTree<P> result   = null;
+        while (true) {
+
+            if (instance.cut == null || other.cut == null ||
+                instanceCounts[spine.size()] + otherCount < threshold) {
+                // leaf operation or small trees, no need to fork anything
+                final BSPTree<P> merged = instance.merge(other, leafMerger, parent, plusChild);
+                if (result == null) {
+                    result = merged;
+                }
+                break;
+            }
+
+            // tree/tree operation
+            final BSPTree<P> merged = other.split(instance.cut);
+            if (parent != null) {
+                merged.parent = parent;
+                if (plusChild) {
+                    parent.plus = merged;
+                } else {
+                    parent.minus = merged;
+                }
+            }
+            if (result == null) {
+                result = merged;
+            }
+
+            // merging phase, the two sub-trees are independent from each other
+            plusTasks.add(new MergeTask<>(instance.plus, merged.plus, leafMerger, merged, true, threshold).fork());
+            spine.add(merged);
+            instance  = instance.minus;
+            other     = merged.minus;
+            parent    = merged;
+            plusChild = false;
+
+        }
+
+        // finish the nodes along the minus side, from bottom to top
+        for (int i = spine.size() - 1; i >= 0; --i) {
+            plusTasks.get(i).join();
+            spine.get(i).finishMerge();
+        }
+
+        return result;
+
+    }
+
+    /** Count the nodes of the sub-trees along the minus side of the tree, up to some limit.
+     * <p>The sub-trees are counted from the bottom of the minus side, so
+     * each node is counted at most once and the counting stops as soon as
+     * the limit is reached.</p>
+     * @param max maximal number of nodes to count
+     * @return number of nodes in the instance and in each of its descendants
+     * along the minus side (from top to bottom), or max if some sub-tree has
+     * more nodes than max
+     */
+    private int[] minusSideCounts(final int max) {
+
+        final List<BSPTree<P>> side = new ArrayList<>();
+        for (BSPTree<P> node = this; node.cut != null; node = node.minus) {
+            side.add(node);
+        }
+
+        final int[] counts = new int[side.size() + 1];
+        counts[side.size()] = 1;
+        for (int i = side.size() - 1; i >= 0; --i) {
+            final int below = counts[i + 1];
+            counts[i] = (below >= max) ? max : Math.min(max, 1 + below + side.get(i).plus.countNodes(max - 1 - below));
+        }
+
+        return counts;
+
+    }
+
+    /** Count the nodes of the tree, up to some limit.
+     * @param max maximal number of nodes to count
+     * @return number of nodes in the tree, or max if the tree has more
+     * nodes than max
+     */
+    private int countNodes(final int max) {
+        int count = 0;
+        final NodeStack<P> stack = new NodeStack<>();
+        stack.push(this, false);
+        while (!stack.isEmpty() && count < max) {
+            final BSPTree<P> node = stack.pop();
+            ++count;
+            if (node.cut != null) {
+                stack.push(node.minus, false);
+                stack.push(node.plus, false);
+            }
+        }
+        return Math.max(count, 1);
+    }
+
+    /** Identify the children of an internal node that have few nodes.
+     * <p>Both sub-trees are counted in lockstep, so the cost is bounded
+     * by the size of the smallest one.</p>
+     * @param node internal node
+     * @param max maximal number of nodes of a small child
+     * @param <S> Type of the space.
+     * @return a combination of {@link #SMALL_PLUS} and {@link #SMALL_MINUS}
+     */
+    private static <S extends Point<S>> int smallChildren(final BSPTree<S> node, final int max) {
+        final NodeStack<S> plusStack  = new NodeStack<>();
+        final NodeStack<S> minusStack = new NodeStack<>();
+        plusStack.push(node.plus, false);
+        minusStack.push(node.minus, false);
+        int plusCount  = 0;
+        int minusCount = 0;
+        while (true) {
+            if (plusStack.isEmpty()) {
+                return minusStack.isEmpty() ? SMALL_PLUS | SMALL_MINUS : SMALL_PLUS;
+            } else if (minusStack.isEmpty()) {
+                return SMALL_MINUS;
+            } else if (plusCount >= max && minusCount >= max) {
+                return 0;
+            }
+            if (plusCount < max) {
+                final BSPTree<S> n = plusStack.pop();
+                ++plusCount;
+                if (n.cut != null) {
+                    plusStack.push(n.minus, false);
+                    plusStack.push(n.plus, false);
+                }
+            }
+            if (minusCount < max) {
+                final BSPTree<S> n = minusStack.pop();
+                ++minusCount;
+                if (n.cut != null) {
+                    minusStack.push(n.minus, false);
+                    minusStack.push(n.plus, false);
+                }
+            }
+        }
+    }
+
     /** Merge a BSP tree with the instance.
      * @param tree other tree to merge with the instance (will be
      * <em>unusable</em> after the operation, as well as the
@@ -426,35 +721,333 @@ public class BSPTree<P extends Point<P>> {
      */
     private BSPTree<P> merge(final BSPTree<P> tree, final LeafMerger<P> leafMerger,
                              final BSPTree<P> parentTree, final boolean isPlusChild) {
-        if (cut == null) {
-            // cell/tree operation
-            return leafMerger.merge(this, tree, parentTree, isPlusChild, true);
-        } else if (tree.cut == null) {
-            // tree/cell operation
-            return leafMerger.merge(tree, this, parentTree, isPlusChild, false);
-        } else {
-            // tree/tree operation
-            final BSPTree<P> merged = tree.split(cut);
-            if (parentTree != null) {
-                merged.parent = parentTree;
-                if (isPlusChild) {
-                    parentTree.plus = merged;
+
+        // the merge is performed using an explicit stack of pending merges
+        final ArrayDeque<MergeFrame<P>> stack = new ArrayDeque<>();
+        stack.push(new MergeFrame<>(this, tree, parentTree, isPlusChild));
+        BSPTree<P> result = null;
+
+        while (!stack.isEmpty()) {
+            final MergeFrame<P> frame = stack.peek();
+            if (frame.merged == null) {
+                if (frame.instance.cut == null) {
+                    // cell/tree operation
+                    result = leafMerger.merge(frame.instance, frame.tree,
+                                              frame.parentTree, frame.isPlusChild, true);
+                    stack.pop();
+                } else if (frame.tree.cut == null) {
+                    // tree/cell operation
+                    result = leafMerger.merge(frame.tree, frame.instance,
+                                              frame.parentTree, frame.isPlusChild, false);
+                    stack.pop();
                 } else {
-                    parentTree.minus = merged;
+                    // tree/tree operation
+                    final BSPTree<P> merged = frame.tree.split(frame.instance.cut);
+                    if (frame.parentTree != null) {
+                        merged.parent = frame.parentTree;
+                        if (frame.isPlusChild) {
+                            frame.parentTree.plus = merged;
+                        } else {
+                            frame.parentTree.minus = merged;
+                        }
+                    }
+                    frame.merged = merged;
+
+                    // merging phase, starting with the plus side
+                    stack.push(new MergeFrame<>(frame.instance.plus, merged.plus, merged, true));
                 }
+            } else if (!frame.minusStarted) {
+                // the plus side has been merged, now merge the minus side
+                frame.minusStarted = true;
+                stack.push(new MergeFrame<>(frame.instance.minus, frame.merged.minus, frame.merged, false));
+            } else {
+                // both sides have been merged
+                frame.merged.finishMerge();
+                result = frame.merged;
+                stack.pop();
             }
+        }
 
-            // merging phase
-            plus.merge(merged.plus, leafMerger, merged, true);
-            minus.merge(merged.minus, leafMerger, merged, false);
-            merged.condense();
-            if (merged.cut != null) {
-                merged.cut = merged.fitToCell(merged.cut.getHyperplane().wholeHyperplane());
+        return result;
+
+    }
+
+    /** Finish merging a node once both its sub-trees have been merged.
+     */
+    private void finishMerge() {
+        condense();
+        if (cut != null) {
+            cut = fitToCell(cut.getHyperplane().wholeHyperplane());
+        }
+    }
+
+    /** Pending merge of two trees.
+     * @param <S> Type of the space.
+     */
+    private static final class MergeFrame<S extends Point<S>> {
+
+        /** Instance tree. */
+        private final BSPTree<S> instance;
+
+        /** Other tree to merge with the instance. */
+        private final BSPTree<S> tree;
+
+        /** Parent tree to connect to (may be null). */
+        private final BSPTree<S> parentTree;
+
+        /** Indicator for plus child. */
+        private final boolean isPlusChild;
+
+        /** Split tree, once the tree/tree operation has started. */
+        private BSPTree<S> merged;
+
+        /** Indicator for the merging of the minus side being started. */
+        private boolean minusStarted;
+
+        /** Simple constructor.
+         * @param instance instance tree
+         * @param tree other tree to merge with the instance
+         * @param parentTree parent tree to connect to (may be null)
+         * @param isPlusChild if true and if parentTree is not null, the
+         * resulting tree should be the plus child of its parent
+         */
+        MergeFrame(final BSPTree<S> instance, final BSPTree<S> tree,
+                   final BSPTree<S> parentTree, final boolean isPlusChild) {
+            this.instance    = instance;
+            this.tree        = tree;
+            this.parentTree  = parentTree;
+            this.isPlusChild = isPlusChild;
+        }
+
+    }
+
+    /** Task merging two trees.
+     * @param <S> Type of the space.
+     */
+    private static class MergeTask<S extends Point<S>> extends RecursiveTask<BSPTree<S>> {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20181016L;
+
+        /** Instance tree. */
+        private final BSPTree<S> instance;
+
+        /** Other tree to merge with the instance. */
+        private final BSPTree<S> tree;
+
+        /** Object implementing the final merging phase. */
+        private final LeafMerger<S> leafMerger;
+
+        /** Parent tree to connect to (may be null). */
+        private final BSPTree<S> parentTree;
+
+        /** Indicator for plus child. */
+        private final boolean isPlusChild;
+
+        /** Number of nodes below which sub-trees are merged sequentially. */
+        private final int threshold;
+
+        /** Simple constructor.
+         * @param instance instance tree
+         * @param tree other tree to merge with the instance
+         * @param leafMerger object implementing the final merging phase
+         * @param parentTree parent tree to connect to (may be null)
+         * @param isPlusChild if true and if parentTree is not null, the
+         * resulting tree should be the plus child of its parent
+         * @param threshold number of nodes below which sub-trees are merged
+         * sequentially
+         */
+        MergeTask(final BSPTree<S> instance, final BSPTree<S> tree, final LeafMerger<S> leafMerger,
+                  final BSPTree<S> parentTree, final boolean isPlusChild, final int threshold) {
+            this.instance    = instance;
+            this.tree        = tree;
+            this.leafMerger  = leafMerger;
+            this.parentTree  = parentTree;
+            this.isPlusChild = isPlusChild;
+            this.threshold   = threshold;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected BSPTree<S> compute() {
+            return instance.merge(tree, leafMerger, parentTree, isPlusChild, threshold);
+        }
+
+    }
+
+    /** Task visiting a tree in parallel.
+     * @param <S> Type of the space.
+     * @param <V> Type of the visitors.
+     */
+    private static class VisitTask<S extends Point<S>, V extends BSPTreeVisitor<S>> extends RecursiveTask<V> {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20181020L;
+
+        /** Root of the visited tree. */
+        private final BSPTree<S> root;
+
+        /** Factory for the visitors of the tree parts. */
+        private final Supplier<V> factory;
+
+        /** Combiner for the partial results. */
+        private final BinaryOperator<V> combiner;
+
+        /** Number of nodes below which sub-trees are visited sequentially. */
+        private final int threshold;
+
+        /** Simple constructor.
+         * @param root root of the visited tree
+         * @param factory factory for the visitors of the tree parts
+         * @param combiner combiner for the partial results
+         * @param threshold number of nodes below which sub-trees are visited
+         * sequentially
+         */
+        VisitTask(final BSPTree<S> root, final Supplier<V> factory,
+                  final BinaryOperator<V> combiner, final int threshold) {
+            this.root      = root;
+            this.factory   = factory;
+            this.combiner  = combiner;
+            this.threshold = threshold;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected V compute() {
+
+            // partial results before and after the node currently walked, in visit order
+            final List<Supplier<V>> before = new ArrayList<>();
+            final ArrayDeque<Supplier<V>> after = new ArrayDeque<>();
+
+            // walk down the tree in the current thread, along the large children,
+            // visiting the small children directly and forking tasks for the
+            // large children we cannot walk down ourselves
+            V current = null;
+            BSPTree<S> node = root;
+            while (node != null) {
+
+                if (current == null) {
+                    current = newPart(before);
+                }
+                if (node.cut == null) {
+                    current.visitLeafNode(node);
+                    break;
+                }
+
+                final int small = smallChildren(node, threshold);
+                final BSPTree<S> walked;
+                final BSPTree<S> forked;
+                if (small == 0) {
+                    walked = node.minus;
+                    forked = node.plus;
+                } else if ((small & SMALL_PLUS) == 0) {
+                    walked = node.plus;
+                    forked = null;
+                } else if ((small & SMALL_MINUS) == 0) {
+                    walked = node.minus;
+                    forked = null;
+                } else {
+                    walked = null;
+                    forked = null;
+                }
+
+                // handle the node parts, on both sides of the walked child
+                final List<Supplier<V>> nodeAfter = new ArrayList<>();
+                V tail = null;
+                boolean passed = false;
+                for (final BSPTree<S> part : parts(node, current.visitOrder(node))) {
+                    if (part == walked) {
+                        passed = true;
+                    } else if (part == forked) {
+                        final ForkJoinTask<V> task = new VisitTask<>(part, factory, combiner, threshold).fork();
+                        if (passed) {
+                            nodeAfter.add(task::join);
+                            tail = null;
+                        } else {
+                            before.add(task::join);
+                            current = null;
+                        }
+                    } else if (passed) {
+                        if (tail == null) {
+                            tail = newPart(nodeAfter);
+                        }
+                        visitPart(node, part, tail);
+                    } else {
+                        if (current == null) {
+                            current = newPart(before);
+                        }
+                        visitPart(node, part, current);
+                    }
+                }
+                for (int i = nodeAfter.size() - 1; i >= 0; --i) {
+                    after.addFirst(nodeAfter.get(i));
+                }
+
+                node = walked;
+
+            }
+
+            // reduce the partial results
+            V result = null;
+            for (final Supplier<V> part : before) {
+                result = (result == null) ? part.get() : combiner.apply(result, part.get());
+            }
+            for (final Supplier<V> part : after) {
+                result = combiner.apply(result, part.get());
             }
+            return result;
 
-            return merged;
+        }
+
+        /** Create a new visitor for a part of the tree.
+         * @param parts list of partial results where to append the new visitor
+         * @return new visitor
+         */
+        private V newPart(final List<Supplier<V>> parts) {
+            final V visitor = factory.get();
+            parts.add(() -> visitor);
+            return visitor;
+        }
+
+        /** Get the parts of an internal node, in visit order.
+         * @param node internal node
+         * @param order visit order
+         * @return node parts, the node itself standing for its cut
+         */
+        private List<BSPTree<S>> parts(final BSPTree<S> node, final Order order) {
+            switch (order) {
+            case PLUS_MINUS_SUB:
+                return Arrays.asList(node.plus, node.minus, node);
+            case PLUS_SUB_MINUS:
+                return Arrays.asList(node.plus, node, node.minus);
+            case MINUS_PLUS_SUB:
+                return Arrays.asList(node.minus, node.plus, node);
+            case MINUS_SUB_PLUS:
+                return Arrays.asList(node.minus, node, node.plus);
+            case SUB_PLUS_MINUS:
+                return Arrays.asList(node, node.plus, node.minus);
+            case SUB_MINUS_PLUS:
+                return Arrays.asList(node, node.minus, node.plus);
+            default:
+                // we shouldn't end up here since all possibilities are
+                // covered above
+                throw new IllegalStateException("Invalid node visit order: " + order);
+            }
+        }
 
+        /** Visit one part of an internal node.
+         * @param node internal node
+         * @param part node part, either the node itself standing for its cut, or one of its children
+         * @param visitor visitor to use
+         */
+        private void visitPart(final BSPTree<S> node, final BSPTree<S> part, final V visitor) {
+            if (part == node) {
+                visitor.visitInternalNode(node);
+            } else {
+                part.visit(visitor);
+            }
         }
+
     }
 
     /** This interface gather the merging operations between a BSP tree
@@ -550,17 +1143,69 @@ public class BSPTree<P extends Point<P>> {
      */
     public BSPTree<P> split(final SubHyperplane<P> sub) {
 
-        if (cut == null) {
-            return new BSPTree<>(sub, copySelf(), new BSPTree<P>(attribute), null);
+        // pending splits, and results of the completed ones
+        final ArrayDeque<SplitFrame<P>> stack   = new ArrayDeque<>();
+        final ArrayDeque<BSPTree<P>>    results = new ArrayDeque<>();
+        stack.push(new SplitFrame<>(this, sub));
+
+        while (!stack.isEmpty()) {
+            final SplitFrame<P> frame = stack.peek();
+            final BSPTree<P>    node  = frame.node;
+            if (node.cut == null) {
+                stack.pop();
+                results.push(new BSPTree<>(frame.sub, node.copySelf(), new BSPTree<P>(node.attribute), null));
+            } else if (frame.subParts == null) {
+                frame.subParts = frame.sub.split(node.cut.getHyperplane());
+                switch (frame.subParts.getSide()) {
+                case PLUS :
+                    // the partitioning sub-hyperplane is entirely in the plus sub-tree
+                    stack.push(new SplitFrame<>(node.plus, frame.sub));
+                    break;
+                case MINUS :
+                    // the partitioning sub-hyperplane is entirely in the minus sub-tree
+                    stack.push(new SplitFrame<>(node.minus, frame.sub));
+                    break;
+                case BOTH :
+                    // the plus sub-tree is split first, its result will be deeper in the results stack
+                    stack.push(new SplitFrame<>(node.minus, frame.subParts.getMinus()));
+                    stack.push(new SplitFrame<>(node.plus,  frame.subParts.getPlus()));
+                    break;
+                default :
+                    // the partitioning sub-hyperplane lies in the cut hyperplane
+                    stack.pop();
+                    final BSPTree<P> plusCopy  = node.plus.copySelf();
+                    final BSPTree<P> minusCopy = node.minus.copySelf();
+                    results.push(node.cut.getHyperplane().sameOrientationAs(frame.sub.getHyperplane()) ?
+                                 new BSPTree<>(frame.sub, plusCopy,  minusCopy, node.attribute) :
+                                 new BSPTree<>(frame.sub, minusCopy, plusCopy,  node.attribute));
+                }
+            } else {
+                stack.pop();
+                results.push(node.finishSplit(frame.sub, frame.subParts.getSide(), results));
+            }
         }
 
-        final Hyperplane<P> cHyperplane = cut.getHyperplane();
+        return results.pop();
+
+    }
+
+    /** Finish splitting a node once its relevant sub-trees have been split.
+     * @param sub partitioning sub-hyperplane
+     * @param side side of the partitioning sub-hyperplane with respect
+     * to the instance cut hyperplane
+     * @param results stack containing the results of the sub-trees splits
+     * @return a tree having the specified sub-hyperplane as its cut
+     * sub-hyperplane and the two parts of the split instance as its two
+     * sub-trees
+     */
+    private BSPTree<P> finishSplit(final SubHyperplane<P> sub, final Side side,
+                                   final ArrayDeque<BSPTree<P>> results) {
+
         final Hyperplane<P> sHyperplane = sub.getHyperplane();
-        final SubHyperplane.SplitSubHyperplane<P> subParts = sub.split(cHyperplane);
-        switch (subParts.getSide()) {
+        switch (side) {
         case PLUS :
-        { // the partitioning sub-hyperplane is entirely in the plus sub-tree
-            final BSPTree<P> split = plus.split(sub);
+        {
+            final BSPTree<P> split = results.pop();
             if (cut.split(sHyperplane).getSide() == Side.PLUS) {
                 split.plus =
                     new BSPTree<>(cut.copySelf(), split.plus, minus.copySelf(), attribute);
@@ -575,8 +1220,8 @@ public class BSPTree<P extends Point<P>> {
             return split;
         }
         case MINUS :
-        { // the partitioning sub-hyperplane is entirely in the minus sub-tree
-            final BSPTree<P> split = minus.split(sub);
+        {
+            final BSPTree<P> split = results.pop();
             if (cut.split(sHyperplane).getSide() == Side.PLUS) {
                 split.plus =
                     new BSPTree<>(cut.copySelf(), plus.copySelf(), split.plus, attribute);
@@ -590,12 +1235,12 @@ public class BSPTree<P extends Point<P>> {
             }
             return split;
         }
-        case BOTH :
+        default :
         {
+            final BSPTree<P> minusSplit = results.pop();
+            final BSPTree<P> plusSplit  = results.pop();
             final SubHyperplane.SplitSubHyperplane<P> cutParts = cut.split(sHyperplane);
-            final BSPTree<P> split =
-                new BSPTree<>(sub, plus.split(subParts.getPlus()), minus.split(subParts.getMinus()),
-                               null);
+            final BSPTree<P> split = new BSPTree<>(sub, plusSplit, minusSplit, null);
             split.plus.cut          = cutParts.getPlus();
             split.minus.cut         = cutParts.getMinus();
             final BSPTree<P> tmp    = split.plus.minus;
@@ -607,10 +1252,31 @@ public class BSPTree<P extends Point<P>> {
             split.minus.condense();
             return split;
         }
-        default :
-            return cHyperplane.sameOrientationAs(sHyperplane) ?
-                   new BSPTree<>(sub, plus.copySelf(),  minus.copySelf(), attribute) :
-                   new BSPTree<>(sub, minus.copySelf(), plus.copySelf(),  attribute);
+        }
+
+    }
+
+    /** Pending split of a tree.
+     * @param <S> Type of the space.
+     */
+    private static final class SplitFrame<S extends Point<S>> {
+
+        /** Node to split. */
+        private final BSPTree<S> node;
+
+        /** Partitioning sub-hyperplane. */
+        private final SubHyperplane<S> sub;
+
+        /** Parts of the partitioning sub-hyperplane, once computed. */
+        private SubHyperplane.SplitSubHyperplane<S> subParts;
+
+        /** Simple constructor.
+         * @param node node to split
+         * @param sub partitioning sub-hyperplane
+         */
+        SplitFrame(final BSPTree<S> node, final SubHyperplane<S> sub) {
+            this.node = node;
+            this.sub  = sub;
         }
 
     }
@@ -652,12 +1318,12 @@ public class BSPTree<P extends Point<P>> {
                 // on the wrong side of this parent hyperplane
                 if (tree == tree.parent.plus) {
                     cut = cut.split(hyperplane).getPlus();
-                    plus.chopOffMinus(hyperplane, vanishingHandler);
-                    minus.chopOffMinus(hyperplane, vanishingHandler);
+                    plus.chopOff(hyperplane, true, vanishingHandler);
+                    minus.chopOff(hyperplane, true, vanishingHandler);
                 } else {
                     cut = cut.split(hyperplane).getMinus();
-                    plus.chopOffPlus(hyperplane, vanishingHandler);
-                    minus.chopOffPlus(hyperplane, vanishingHandler);
+                    plus.chopOff(hyperplane, false, vanishingHandler);
+                    minus.chopOff(hyperplane, false, vanishingHandler);
                 }
 
                 if (cut == null) {
@@ -724,56 +1390,104 @@ public class BSPTree<P extends Point<P>> {
 
     /** Chop off parts of the tree.
      * <p>The instance is modified in place, all the parts that are on
-     * the minus side of the chopping hyperplane are discarded, only the
-     * parts on the plus side remain.</p>
+     * the discarded side of the chopping hyperplane are removed.</p>
      * @param hyperplane chopping hyperplane
+     * @param keepPlus if true, the parts on the plus side of the chopping
+     * hyperplane remain, otherwise the parts on the minus side remain
      * @param vanishingHandler handler to use for handling very rare corner
      * cases of vanishing cut sub-hyperplanes in internal nodes during merging
      */
-    private void chopOffMinus(final Hyperplane<P> hyperplane, final VanishingCutHandler<P> vanishingHandler) {
-        if (cut != null) {
-
-            cut = cut.split(hyperplane).getPlus();
-            plus.chopOffMinus(hyperplane, vanishingHandler);
-            minus.chopOffMinus(hyperplane, vanishingHandler);
-
-            if (cut == null) {
-                // the cut sub-hyperplane has vanished
-                final BSPTree<P> fixed = vanishingHandler.fixNode(this);
-                cut       = fixed.cut;
-                plus      = fixed.plus;
-                minus     = fixed.minus;
-                attribute = fixed.attribute;
+    private void chopOff(final Hyperplane<P> hyperplane, final boolean keepPlus,
+                         final VanishingCutHandler<P> vanishingHandler) {
+
+        // nodes are pushed twice: first for chopping their cut, then for fixing them
+        final NodeStack<P> stack = new NodeStack<>();
+        stack.push(this, false);
+        while (!stack.isEmpty()) {
+            final boolean fix     = stack.topFlag();
+            final BSPTree<P> node = stack.pop();
+            if (fix) {
+                if (node.cut == null) {
+                    // the cut sub-hyperplane has vanished
+                    final BSPTree<P> fixed = vanishingHandler.fixNode(node);
+                    node.cut       = fixed.cut;
+                    node.plus      = fixed.plus;
+                    node.minus     = fixed.minus;
+                    node.attribute = fixed.attribute;
+                }
+            } else if (node.cut != null) {
+                final SubHyperplane.SplitSubHyperplane<P> parts = node.cut.split(hyperplane);
+                node.cut = keepPlus ? parts.getPlus() : parts.getMinus();
+                stack.push(node, true);
+                stack.push(node.minus, false);
+                stack.push(node.plus, false);
             }
-
         }
+
     }
 
-    /** Chop off parts of the tree.
-     * <p>The instance is modified in place, all the parts that are on
-     * the plus side of the chopping hyperplane are discarded, only the
-     * parts on the minus side remain.</p>
-     * @param hyperplane chopping hyperplane
-     * @param vanishingHandler handler to use for handling very rare corner
-     * cases of vanishing cut sub-hyperplanes in internal nodes during merging
+    /** Array-based stack of nodes, each one associated with a flag.
+     * @param <S> Type of the space.
      */
-    private void chopOffPlus(final Hyperplane<P> hyperplane, final VanishingCutHandler<P> vanishingHandler) {
-        if (cut != null) {
+    private static final class NodeStack<S extends Point<S>> {
 
-            cut = cut.split(hyperplane).getMinus();
-            plus.chopOffPlus(hyperplane, vanishingHandler);
-            minus.chopOffPlus(hyperplane, vanishingHandler);
-
-            if (cut == null) {
-                // the cut sub-hyperplane has vanished
-                final BSPTree<P> fixed = vanishingHandler.fixNode(this);
-                cut       = fixed.cut;
-                plus      = fixed.plus;
-                minus     = fixed.minus;
-                attribute = fixed.attribute;
+        /** Initial capacity. */
+        private static final int INITIAL_CAPACITY = 32;
+
+        /** Stacked nodes. */
+        private BSPTree<S>[] nodes;
+
+        /** Flags associated with the stacked nodes. */
+        private boolean[] flags;
+
+        /** Number of stacked nodes. */
+        private int size;
+
+        /** Simple constructor.
+         */
+        @SuppressWarnings("unchecked")
+        NodeStack() {
+            nodes = (BSPTree<S>[]) new BSPTree<?>[INITIAL_CAPACITY];
+            flags = new boolean[INITIAL_CAPACITY];
+        }
+
+        /** Check if the stack is empty.
+         * @return true if the stack is empty
+         */
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /** Push a node.
+         * @param node node to push
+         * @param flag flag associated with the node
+         */
+        void push(final BSPTree<S> node, final boolean flag) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, 2 * size);
+                flags = Arrays.copyOf(flags, 2 * size);
             }
+            nodes[size] = node;
+            flags[size] = flag;
+            ++size;
+        }
+
+        /** Get the flag associated with the top node.
+         * @return flag associated with the top node
+         */
+        boolean topFlag() {
+            return flags[size - 1];
+        }
 
+        /** Pop the top node.
+         * @return top node
+         */
+        BSPTree<S> pop() {
+            final BSPTree<S> node = nodes[--size];
+            nodes[size] = null;
+            return node;
         }
+
     }
 
 }
@@ -84,6 +84,7 @@ class BoundaryBuilder<P extends Point<P>> implements BSPTreeVisitor<P> {
             for (BSPTree<P> up = node.getParent(); up != null; up = up.getParent()) {
                 splitters.add(up);
             }
+            splitters.compact();
         }
 
         // set the boundary attribute at non-leaf nodes
@@ -57,6 +57,15 @@ class BoundarySizeVisitor<P extends Point<P>> implements BSPTreeVisitor<P> {
     public void visitLeafNode(final BSPTree<P> node) {
     }
 
+    /** Combine with the boundary size computed by another visitor.
+     * @param other visitor that computed the size of another part of the boundary
+     * @return the instance, updated
+     */
+    public BoundarySizeVisitor<P> combine(final BoundarySizeVisitor<P> other) {
+        boundarySize += other.boundarySize;
+        return this;
+    }
+
     /** Get the size of the boundary.
      * @return size of the boundary
      */
@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+
+/** Frozen, array-backed form of a region BSP tree.
+
+ * <p>This class is a read-only snapshot of a {@link BSPTree} whose leaf
+ * nodes attributes are {@code Boolean} inside/outside flags, as in the
+ * trees underlying {@link AbstractRegion regions}. Only the internal nodes
+ * are stored, in depth-first order, each one as the coefficients of its
+ * {@link AffineHyperplane affine} cut hyperplane and the references to its
+ * two children. Leaf nodes are not stored at all, they are encoded directly
+ * in the children references of their parent. Point classification is then
+ * a loop over primitive arrays instead of a walk through linked nodes.</p>
+
+ * <p>The offset of a point with respect to a cut hyperplane is evaluated
+ * as a plain sum of products of the point coordinates by the hyperplane
+ * {@link AffineHyperplane#getOffsetCoefficients() offset coefficients}.
+ * Some hyperplanes compute their own {@link Hyperplane#getOffset(Point)
+ * offsets} with more accurate (and slower) algorithms, so points whose
+ * offset is close to the tolerance may be classified differently by
+ * the snapshot and by the original tree.</p>
+
+ * <p>The snapshot is completely independent of the original tree, which
+ * can be modified or discarded afterwards. Instances are immutable and
+ * can be shared between threads.</p>
+
+ * @param <P> Point type defining the space
+ * @see BSPTree#freeze(double)
+ */
+public final class CompactBSPTree<P extends Point<P>> {
+
+    /** Reference to an inside leaf. */
+    static final int INSIDE = -1;
+
+    /** Reference to an outside leaf. */
+    static final int OUTSIDE = -2;
+
+    /** Size of the buffer used for writing the binary layout. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /** Number of points below which batches are not split any further. */
+    private static final int BATCH_THRESHOLD = 4096;
+
+    /** Tolerance below which points are considered to belong to a cut hyperplane. */
+    private final double tolerance;
+
+    /** Number of coefficients per cut hyperplane. */
+    private final int stride;
+
+    /** Reference to the root node. */
+    private final int root;
+
+    /** References to the plus and minus children of each internal node. */
+    private final int[] children;
+
+    /** Offset function coefficients of each internal node cut hyperplane. */
+    private final double[] coefficients;
+
+    /** Build a compact tree from a region BSP tree.
+     * @param tree region tree to flatten
+     * @param tolerance tolerance below which points are considered to
+     * belong to a cut hyperplane
+     * @exception IllegalArgumentException if some cut hyperplane is not
+     * an {@link AffineHyperplane}
+     */
+    CompactBSPTree(final BSPTree<P> tree, final double tolerance) {
+        final int cuts = countCuts(tree);
+        this.tolerance    = tolerance;
+        this.stride       = cuts == 0 ? 0 : coefficients(tree).length;
+        this.children     = new int[2 * cuts];
+        this.coefficients = new double[stride * cuts];
+        this.root         = flatten(tree);
+    }
+
+    /** Get the tolerance below which points are considered to belong to a cut hyperplane.
+     * @return tolerance below which points are considered to belong to a cut hyperplane
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /** Get the number of internal nodes.
+     * @return number of internal nodes (the number of leaf nodes is one more)
+     */
+    public int getCutCount() {
+        return children.length / 2;
+    }
+
+    /** Check a point with respect to the region.
+     * @param coordinates point coordinates
+     * @return a code representing the point status: either {@link
+     * Location#INSIDE}, {@link Location#OUTSIDE} or {@link Location#BOUNDARY}
+     * @see Region#checkPoint(Point)
+     */
+    public Location checkPoint(final double... coordinates) {
+        return checkPoint(coordinates, 0);
+    }
+
+    /** Check a point with respect to the region.
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return a code representing the point status: either {@link
+     * Location#INSIDE}, {@link Location#OUTSIDE} or {@link Location#BOUNDARY}
+     * @see Region#checkPoint(Point)
+     */
+    public Location checkPoint(final double[] coordinates, final int offset) {
+        return checkPoint(root, coordinates, offset);
+    }
+
+    /** Check a batch of points with respect to the region.
+     * <p>The coordinates of all points are packed in a single array, point
+     * i occupying the n elements starting at index n*i, where n is the
+     * space dimension.</p>
+     * @param coordinates array containing the packed points coordinates
+     * @param locations array where to store the points status, its length
+     * defines the number of points to check
+     * @exception IllegalArgumentException if the number of coordinates does
+     * not match the number of points
+     * @see #checkPoint(double[], int)
+     */
+    public void checkPoints(final double[] coordinates, final Location[] locations) {
+        checkBatchSize(coordinates, locations);
+        checkPoints(coordinates, locations, 0, locations.length);
+    }
+
+    /** Check a batch of points with respect to the region, in parallel.
+     * <p>The batch is recursively split in halves down to a few thousands
+     * points and the parts are checked as independent tasks in the pool.</p>
+     * @param coordinates array containing the packed points coordinates
+     * @param locations array where to store the points status, its length
+     * defines the number of points to check
+     * @param pool pool in which to run the tasks
+     * @exception IllegalArgumentException if the number of coordinates does
+     * not match the number of points
+     * @see #checkPoints(double[], Location[])
+     */
+    public void checkPoints(final double[] coordinates, final Location[] locations, final ForkJoinPool pool) {
+        checkBatchSize(coordinates, locations);
+        pool.invoke(new BatchChecker(coordinates, locations, 0, locations.length));
+    }
+
+    /** Write the binary layout of the tree in the native byte order.
+     * @param channel channel to write to (it is not closed by this method)
+     * @exception IOException if the channel cannot be written
+     * @see #write(WritableByteChannel, ByteOrder)
+     */
+    public void write(final WritableByteChannel channel) throws IOException {
+        write(channel, ByteOrder.nativeOrder());
+    }
+
+    /** Write the binary layout of the tree.
+     * <p>The layout is a direct dump of the internal arrays of the instance,
+     * preceded by a small header. It can be used in place, without being
+     * deserialized, by a {@link MappedBSPTree}, for example on a memory-mapped
+     * file. Using the native byte order of the hosts that will read the
+     * layout avoids byte swapping during queries.</p>
+     * @param channel channel to write to (it is not closed by this method)
+     * @param order byte order to use
+     * @exception IOException if the channel cannot be written
+     * @see MappedBSPTree
+     */
+    public void write(final WritableByteChannel channel, final ByteOrder order) throws IOException {
+
+        final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(order);
+        buffer.putInt(MappedBSPTree.MAGIC);
+        buffer.putInt(MappedBSPTree.VERSION);
+        buffer.putInt(stride);
+        buffer.putInt(root);
+        buffer.putInt(getCutCount());
+        buffer.putInt(0);
+        buffer.putDouble(tolerance);
+
+        for (final double c : coefficients) {
+            if (buffer.remaining() < Double.BYTES) {
+                drain(buffer, channel);
+            }
+            buffer.putDouble(c);
+        }
+        for (final int c : children) {
+            if (buffer.remaining() < Integer.BYTES) {
+                drain(buffer, channel);
+            }
+            buffer.putInt(c);
+        }
+        drain(buffer, channel);
+
+    }
+
+    /** Write the content of a buffer to a channel and clear it.
+     * @param buffer buffer to write
+     * @param channel channel to write to
+     * @exception IOException if the channel cannot be written
+     */
+    private static void drain(final ByteBuffer buffer, final WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Check that a batch contains consistent numbers of coordinates and points.
+     * @param coordinates array containing the packed points coordinates
+     * @param locations array where to store the points status
+     * @exception IllegalArgumentException if the number of coordinates does
+     * not match the number of points
+     */
+    private void checkBatchSize(final double[] coordinates, final Location[] locations) {
+        if (stride > 0 && coordinates.length != (stride - 1) * locations.length) {
+            throw new IllegalArgumentException("Expected " + (stride - 1) * locations.length +
+                                               " coordinates for " + locations.length +
+                                               " points, got " + coordinates.length);
+        }
+    }
+
+    /** Check a range of points from a batch with respect to the region.
+     * @param coordinates array containing the packed points coordinates
+     * @param locations array where to store the points status
+     * @param from index of the first point to check
+     * @param to index after the last point to check
+     */
+    private void checkPoints(final double[] coordinates, final Location[] locations,
+                             final int from, final int to) {
+        final int dimension = Math.max(0, stride - 1);
+        for (int i = from; i < to; ++i) {
+            locations[i] = checkPoint(root, coordinates, i * dimension);
+        }
+    }
+
+    /** Check a point with respect to a sub-tree.
+     * @param node reference to the sub-tree root
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return a code representing the point status
+     */
+    private Location checkPoint(final int node, final double[] coordinates, final int offset) {
+
+        int current = node;
+        while (current >= 0) {
+            final double pointOffset = getOffset(current, coordinates, offset);
+            if (Math.abs(pointOffset) < tolerance) {
+                // the point is on a cut-sub-hyperplane, is it on a boundary ?
+                final Location minusCode = checkPoint(children[2 * current + 1], coordinates, offset);
+                final Location plusCode  = checkPoint(children[2 * current],     coordinates, offset);
+                return (minusCode == plusCode) ? minusCode : Location.BOUNDARY;
+            }
+            current = children[pointOffset <= 0 ? 2 * current + 1 : 2 * current];
+        }
+
+        // the point is in the interior of a cell
+        return (current == INSIDE) ? Location.INSIDE : Location.OUTSIDE;
+
+    }
+
+    /** Get the offset of a point with respect to an internal node cut hyperplane.
+     * @param node internal node index
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return offset of the point
+     */
+    private double getOffset(final int node, final double[] coordinates, final int offset) {
+        final int base = node * stride;
+        final int last = base + stride - 1;
+        double sum = coefficients[last];
+        for (int i = base, j = offset; i < last; ++i, ++j) {
+            sum += coefficients[i] * coordinates[j];
+        }
+        return sum;
+    }
+
+    /** Flatten a tree.
+     * <p>Internal nodes are numbered in depth-first order, plus side first,
+     * so each node index is smaller than the indices of its children. The
+     * traversal uses an explicit stack, so arbitrarily deep trees can be
+     * flattened.</p>
+     * @param tree tree root
+     * @return reference to the flattened root
+     */
+    private int flatten(final BSPTree<P> tree) {
+
+        // pending nodes, with the slot where to store their reference (-1 for the root)
+        final ArrayDeque<BSPTree<P>> nodes = new ArrayDeque<>();
+        final ArrayDeque<Integer>    slots = new ArrayDeque<>();
+        nodes.push(tree);
+        slots.push(-1);
+
+        int rootReference = OUTSIDE;
+        int next = 0;
+        while (!nodes.isEmpty()) {
+
+            final BSPTree<P> node = nodes.pop();
+            final int slot        = slots.pop();
+
+            final int reference;
+            if (node.getCut() == null) {
+                reference = ((Boolean) node.getAttribute()) ? INSIDE : OUTSIDE;
+            } else {
+                reference = next++;
+                final double[] c = coefficients(node);
+                if (c.length != stride) {
+                    throw new IllegalArgumentException("Inconsistent cut hyperplanes dimensions: " +
+                                                       (c.length - 1) + " != " + (stride - 1));
+                }
+                System.arraycopy(c, 0, coefficients, reference * stride, stride);
+
+                // the plus child is pushed last so it is numbered first
+                nodes.push(node.getMinus());
+                slots.push(2 * reference + 1);
+                nodes.push(node.getPlus());
+                slots.push(2 * reference);
+            }
+
+            if (slot < 0) {
+                rootReference = reference;
+            } else {
+                children[slot] = reference;
+            }
+
+        }
+
+        return rootReference;
+
+    }
+
+    /** Get the offset function coefficients of an internal node cut hyperplane.
+     * @param node internal node
+     * @param <S> Point type defining the space
+     * @return coefficients of the cut hyperplane offset function
+     * @exception IllegalArgumentException if the cut hyperplane is not
+     * an {@link AffineHyperplane}
+     */
+    private static <S extends Point<S>> double[] coefficients(final BSPTree<S> node) {
+        final Hyperplane<S> hyperplane = node.getCut().getHyperplane();
+        if (!(hyperplane instanceof AffineHyperplane)) {
+            throw new IllegalArgumentException("Cut hyperplane is not affine: " + hyperplane);
+        }
+        return ((AffineHyperplane<S>) hyperplane).getOffsetCoefficients();
+    }
+
+    /** Task checking a range of points from a batch. */
+    private class BatchChecker extends RecursiveAction {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20181016L;
+
+        /** Array containing the packed points coordinates. */
+        private final double[] coordinates;
+
+        /** Array where to store the points status. */
+        private final Location[] locations;
+
+        /** Index of the first point to check. */
+        private final int from;
+
+        /** Index after the last point to check. */
+        private final int to;
+
+        /** Simple constructor.
+         * @param coordinates array containing the packed points coordinates
+         * @param locations array where to store the points status
+         * @param from index of the first point to check
+         * @param to index after the last point to check
+         */
+        BatchChecker(final double[] coordinates, final Location[] locations,
+                     final int from, final int to) {
+            this.coordinates = coordinates;
+            this.locations   = locations;
+            this.from        = from;
+            this.to          = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_THRESHOLD) {
+                checkPoints(coordinates, locations, from, to);
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new BatchChecker(coordinates, locations, from, middle),
+                          new BatchChecker(coordinates, locations, middle, to));
+            }
+        }
+
+    }
+
+    /** Count the internal nodes of a tree.
+     * @param tree tree root
+     * @param <S> Point type defining the space
+     * @return number of internal nodes
+     */
+    private static <S extends Point<S>> int countCuts(final BSPTree<S> tree) {
+        int count = 0;
+        final ArrayDeque<BSPTree<S>> nodes = new ArrayDeque<>();
+        nodes.push(tree);
+        while (!nodes.isEmpty()) {
+            final BSPTree<S> node = nodes.pop();
+            if (node.getCut() != null) {
+                ++count;
+                nodes.push(node.getMinus());
+                nodes.push(node.getPlus());
+            }
+        }
+        return count;
+    }
+
+}
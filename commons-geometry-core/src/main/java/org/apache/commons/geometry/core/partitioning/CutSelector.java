@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.util.List;
+
+import org.apache.commons.geometry.core.Point;
+
+/** Interface selecting the cut hyperplanes when a BSP tree is built from a boundary.
+ *
+ * <p>When a region is built from a Boundary REPresentation, each cell of
+ * the tree is cut by the hyperplane of one of the boundary elements lying
+ * in the cell, and the remaining elements are distributed (and split if
+ * needed) in the two sub-cells. The selected elements control both the
+ * depth of the tree and the number of boundary fragments created by splits.</p>
+ *
+ * <p>Some predefined selectors are provided by {@link CutSelectors}.</p>
+ *
+ * @param <P> Point type defining the space
+ * @see AbstractRegion#AbstractRegion(java.util.Collection, CutSelector, double)
+ * @see TreeStatistics
+ */
+public interface CutSelector<P extends Point<P>> {
+
+    /** Select the boundary element whose hyperplane will cut a cell.
+     * @param boundary boundary elements lying in the cell, sorted in
+     * decreasing size order when the tree construction started (split
+     * parts stay at the position of the element they come from), the
+     * list is never empty and must not be modified
+     * @return index of the selected element in the list
+     */
+    int select(List<SubHyperplane<P>> boundary);
+
+}
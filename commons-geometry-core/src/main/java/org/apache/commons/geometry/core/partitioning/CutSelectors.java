@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.geometry.core.Point;
+
+/** Predefined {@link CutSelector cut selectors}.
+ *
+ * <p>The {@link #largestFirst() largest first} selector reproduces the
+ * historical behavior. It is cheap, but it often builds deep unbalanced
+ * trees. The {@link #random(long) random} selector builds trees with an
+ * expected logarithmic depth in many practical cases, also at no cost.
+ * The {@link #leastSplits(int) least splits} and {@link #balanced(int, double)
+ * balanced} selectors evaluate some candidates against all the elements
+ * lying in the cell, which makes the construction slower but reduces
+ * the number of fragments and the depth of the tree, hence the cost of
+ * all subsequent point queries and boolean operations.</p>
+ *
+ * @see TreeStatistics
+ */
+public final class CutSelectors {
+
+    /** Private constructor for a utility class.
+     */
+    private CutSelectors() {
+    }
+
+    /** Get a selector choosing the largest element in each cell.
+     * <p>This is the selector used by default.</p>
+     * @param <P> Point type defining the space
+     * @return selector choosing the largest element in each cell
+     */
+    public static <P extends Point<P>> CutSelector<P> largestFirst() {
+        return boundary -> 0;
+    }
+
+    /** Get a selector choosing a random element in each cell.
+     * <p>This is equivalent to inserting the boundary elements in the order
+     * of a random permutation. The selector holds its random generator, so
+     * it builds the same tree each time it is used anew on the same boundary,
+     * but a selector used for several constructions does not.</p>
+     * @param seed seed of the random generator
+     * @param <P> Point type defining the space
+     * @return selector choosing a random element in each cell
+     */
+    public static <P extends Point<P>> CutSelector<P> random(final long seed) {
+        final Random random = new Random(seed);
+        return boundary -> random.nextInt(boundary.size());
+    }
+
+    /** Get a selector choosing the element whose hyperplane splits the fewest other elements.
+     * <p>Only the first {@code candidates} elements (i.e. the largest ones) are
+     * evaluated in each cell, ties are resolved in favor of the largest element.</p>
+     * @param candidates maximal number of candidates evaluated in each cell
+     * @param <P> Point type defining the space
+     * @return selector minimizing the number of splits
+     * @exception IllegalArgumentException if candidates is not strictly positive
+     */
+    public static <P extends Point<P>> CutSelector<P> leastSplits(final int candidates) {
+        return new ScoringSelector<>(candidates, 1.0, 0.0);
+    }
+
+    /** Get a selector balancing the number of splits and the balance of the sub-cells.
+     * <p>Each candidate is scored as {@code splitWeight * splits + |plus - minus|},
+     * where {@code splits} is the number of elements its hyperplane splits, and
+     * {@code plus} and {@code minus} are the numbers of elements that would be
+     * distributed in the plus and minus sub-cells. The candidate with the lowest
+     * score is selected. Only the first {@code candidates} elements (i.e. the
+     * largest ones) are evaluated in each cell, ties are resolved in favor of
+     * the largest element.</p>
+     * @param candidates maximal number of candidates evaluated in each cell
+     * @param splitWeight weight of the number of splits with respect to the
+     * imbalance between sub-cells
+     * @param <P> Point type defining the space
+     * @return selector balancing splits and sub-cells sizes
+     * @exception IllegalArgumentException if candidates is not strictly positive
+     * or if splitWeight is negative
+     */
+    public static <P extends Point<P>> CutSelector<P> balanced(final int candidates, final double splitWeight) {
+        if (!(splitWeight >= 0)) {
+            throw new IllegalArgumentException("Split weight must be non-negative, got " + splitWeight);
+        }
+        return new ScoringSelector<>(candidates, splitWeight, 1.0);
+    }
+
+    /** Selector scoring candidates against all the elements of the cell.
+     * @param <P> Point type defining the space
+     */
+    private static class ScoringSelector<P extends Point<P>> implements CutSelector<P> {
+
+        /** Maximal number of candidates evaluated in each cell. */
+        private final int candidates;
+
+        /** Weight of the number of splits. */
+        private final double splitWeight;
+
+        /** Weight of the imbalance between sub-cells. */
+        private final double balanceWeight;
+
+        /** Simple constructor.
+         * @param candidates maximal number of candidates evaluated in each cell
+         * @param splitWeight weight of the number of splits
+         * @param balanceWeight weight of the imbalance between sub-cells
+         * @exception IllegalArgumentException if candidates is not strictly positive
+         */
+        ScoringSelector(final int candidates, final double splitWeight, final double balanceWeight) {
+            if (candidates < 1) {
+                throw new IllegalArgumentException("Number of candidates must be at least 1, got " + candidates);
+            }
+            this.candidates    = candidates;
+            this.splitWeight   = splitWeight;
+            this.balanceWeight = balanceWeight;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int select(final List<SubHyperplane<P>> boundary) {
+
+            final int n = Math.min(candidates, boundary.size());
+            if (n == 1) {
+                return 0;
+            }
+
+            int best = 0;
+            double bestScore = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < n; ++i) {
+
+                // count the elements on each side of the candidate hyperplane
+                final Hyperplane<P> hyperplane = boundary.get(i).getHyperplane();
+                int plus   = 0;
+                int minus  = 0;
+                int splits = 0;
+                for (int j = 0; j < boundary.size(); ++j) {
+                    if (j != i) {
+                        switch (boundary.get(j).split(hyperplane).getSide()) {
+                        case PLUS:
+                            ++plus;
+                            break;
+                        case MINUS:
+                            ++minus;
+                            break;
+                        case BOTH:
+                            ++splits;
+                            break;
+                        default:
+                            // elements belonging to the candidate hyperplane disappear
+                        }
+                    }
+                }
+
+                final double score = splitWeight * splits + balanceWeight * Math.abs(plus - minus);
+                if (score < bestScore) {
+                    best      = i;
+                    bestScore = score;
+                }
+
+            }
+
+            return best;
+
+        }
+
+    }
+
+}
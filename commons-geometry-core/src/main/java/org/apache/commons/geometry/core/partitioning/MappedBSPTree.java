@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+
+/** Read-only region tree working directly on the binary layout of a {@link CompactBSPTree}.
+
+ * <p>The layout is written by {@link CompactBSPTree#write(java.nio.channels.WritableByteChannel,
+ * ByteOrder)}. It starts with a 32 bytes header (magic number, format version,
+ * number of coefficients per cut hyperplane, reference to the root node, number
+ * of internal nodes and tolerance), followed by the offset function coefficients
+ * of all internal nodes cut hyperplanes and by the references to their plus and
+ * minus children. All values are stored in the byte order chosen by the writer,
+ * which is detected when the layout is opened.</p>
+
+ * <p>Instances of this class do not copy the layout, they only hold views
+ * on the underlying buffers. When these buffers are {@link #map(FileChannel)
+ * memory-mapped} files, no heap memory at all is used per node, and several
+ * processes on the same host share the page-cached copy of the file. Points
+ * are classified exactly as by the {@link CompactBSPTree} the layout was
+ * written from, computing the offsets as the same plain sums of products of
+ * the coefficients (which may differ slightly from the offsets computed by
+ * the original {@link Hyperplane#getOffset(Point) hyperplanes}).</p>
+
+ * <p>Only the header and the sizes are validated when the layout is opened, so
+ * opening a mapped file does not read its nodes. Children references are
+ * validated as they are followed: each one must be either a leaf or an internal
+ * node with a larger index than its parent, so corrupted layouts cannot make
+ * point classification loop.</p>
+
+ * <p>Instances are immutable as long as the underlying buffers are not
+ * modified, and can be shared between threads.</p>
+
+ * @param <P> Point type defining the space
+ * @see CompactBSPTree
+ */
+public final class MappedBSPTree<P extends Point<P>> {
+
+    /** Magic number at the start of the layout ("CGFT"). */
+    static final int MAGIC = 0x43474654;
+
+    /** Version of the layout. */
+    static final int VERSION = 1;
+
+    /** Size of the header in bytes (a multiple of 8, to keep coefficients aligned). */
+    static final int HEADER_SIZE = 32;
+
+    /** Base 2 logarithm of the number of internal nodes per buffer chunk. */
+    private static final int CHUNK_SHIFT = 22;
+
+    /** Mask for the index of an internal node within its chunk. */
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    /** Tolerance below which points are considered to belong to a cut hyperplane. */
+    private final double tolerance;
+
+    /** Number of coefficients per cut hyperplane. */
+    private final int stride;
+
+    /** Reference to the root node. */
+    private final int root;
+
+    /** Number of internal nodes. */
+    private final int cuts;
+
+    /** Chunks of the offset function coefficients of the internal nodes cut hyperplanes. */
+    private final DoubleBuffer[] coefficients;
+
+    /** Chunks of the references to the plus and minus children of the internal nodes. */
+    private final IntBuffer[] children;
+
+    /** Build a tree from its layout.
+     * @param mapper mapper for the regions of the layout
+     * @exception IOException if the layout cannot be mapped
+     * @exception IllegalArgumentException if the layout is invalid or truncated
+     */
+    private MappedBSPTree(final Mapper mapper) throws IOException {
+
+        if (mapper.size() < HEADER_SIZE) {
+            throw new IllegalArgumentException("Truncated frozen tree header");
+        }
+        final ByteBuffer header = mapper.map(0, HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        final ByteOrder order;
+        if (header.getInt(0) == MAGIC) {
+            order = ByteOrder.BIG_ENDIAN;
+        } else if (header.getInt(0) == Integer.reverseBytes(MAGIC)) {
+            order = ByteOrder.LITTLE_ENDIAN;
+            header.order(order);
+        } else {
+            throw new IllegalArgumentException("Data is not a frozen tree");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported frozen tree version " + header.getInt(4) +
+                                               ", expected " + VERSION);
+        }
+        this.stride    = header.getInt(8);
+        this.root      = header.getInt(12);
+        this.cuts      = header.getInt(16);
+        this.tolerance = header.getDouble(24);
+        if (stride < 0 || cuts < 0 ||
+            (cuts == 0 && root != CompactBSPTree.INSIDE && root != CompactBSPTree.OUTSIDE) ||
+            (cuts > 0 && (stride == 0 || root < 0 || root >= cuts ||
+                          ((long) stride << CHUNK_SHIFT) * Double.BYTES > Integer.MAX_VALUE))) {
+            throw new IllegalArgumentException("Inconsistent frozen tree header");
+        }
+
+        final long childrenStart = HEADER_SIZE + (long) cuts * stride * Double.BYTES;
+        if (mapper.size() < childrenStart + (long) cuts * 2 * Integer.BYTES) {
+            throw new IllegalArgumentException("Truncated frozen tree data");
+        }
+
+        final int chunks = (cuts + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.coefficients = new DoubleBuffer[chunks];
+        this.children     = new IntBuffer[chunks];
+        for (int i = 0; i < chunks; ++i) {
+            final long first = (long) i << CHUNK_SHIFT;
+            final int  count = (int) Math.min(cuts - first, 1 << CHUNK_SHIFT);
+            coefficients[i] = mapper.map(HEADER_SIZE + first * stride * Double.BYTES,
+                                         count * stride * Double.BYTES).order(order).asDoubleBuffer();
+            children[i]     = mapper.map(childrenStart + first * 2 * Integer.BYTES,
+                                         count * 2 * Integer.BYTES).order(order).asIntBuffer();
+        }
+
+    }
+
+    /** Build a tree working directly on a buffer containing its layout.
+     * <p>The layout starts at the buffer position. The buffer content is
+     * not copied, so it must not be modified as long as the tree is used.</p>
+     * @param buffer buffer containing the layout
+     * @param <P> Point type defining the space
+     * @return a tree working directly on the buffer
+     * @exception IllegalArgumentException if the buffer does not contain
+     * a complete layout
+     */
+    public static <P extends Point<P>> MappedBSPTree<P> wrap(final ByteBuffer buffer) {
+        try {
+            return new MappedBSPTree<>(new Mapper() {
+                /** {@inheritDoc} */
+                @Override
+                public long size() {
+                    return buffer.remaining();
+                }
+                /** {@inheritDoc} */
+                @Override
+                public ByteBuffer map(final long offset, final int size) {
+                    final ByteBuffer view = buffer.duplicate();
+                    view.position(buffer.position() + (int) offset);
+                    view.limit(buffer.position() + (int) offset + size);
+                    return view.slice();
+                }
+            });
+        } catch (IOException ioe) {
+            // this should never happen as buffers regions are mapped without I/O
+            throw new IllegalStateException(ioe);
+        }
+    }
+
+    /** Map a file containing the layout of a tree.
+     * <p>The whole file is mapped read-only, in several regions if it is
+     * too large for a single buffer. The mapping remains valid after the
+     * channel is closed.</p>
+     * @param channel channel to the file
+     * @param <P> Point type defining the space
+     * @return a tree working directly on the mapped file
+     * @exception IOException if the file cannot be mapped
+     * @exception IllegalArgumentException if the file does not contain
+     * a complete layout
+     */
+    public static <P extends Point<P>> MappedBSPTree<P> map(final FileChannel channel) throws IOException {
+        final long fileSize = channel.size();
+        return new MappedBSPTree<>(new Mapper() {
+            /** {@inheritDoc} */
+            @Override
+            public long size() {
+                return fileSize;
+            }
+            /** {@inheritDoc} */
+            @Override
+            public ByteBuffer map(final long offset, final int size) throws IOException {
+                return channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            }
+        });
+    }
+
+    /** Get the tolerance below which points are considered to belong to a cut hyperplane.
+     * @return tolerance below which points are considered to belong to a cut hyperplane
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /** Get the number of internal nodes.
+     * @return number of internal nodes (the number of leaf nodes is one more)
+     */
+    public int getCutCount() {
+        return cuts;
+    }
+
+    /** Check a point with respect to the region.
+     * @param coordinates point coordinates
+     * @return a code representing the point status: either {@link
+     * Location#INSIDE}, {@link Location#OUTSIDE} or {@link Location#BOUNDARY}
+     * @exception IllegalStateException if an invalid child reference is met
+     * @see CompactBSPTree#checkPoint(double...)
+     */
+    public Location checkPoint(final double... coordinates) {
+        return checkPoint(coordinates, 0);
+    }
+
+    /** Check a point with respect to the region.
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return a code representing the point status: either {@link
+     * Location#INSIDE}, {@link Location#OUTSIDE} or {@link Location#BOUNDARY}
+     * @exception IllegalStateException if an invalid child reference is met
+     * @see CompactBSPTree#checkPoint(double[], int)
+     */
+    public Location checkPoint(final double[] coordinates, final int offset) {
+        return checkPoint(root, coordinates, offset);
+    }
+
+    /** Check a batch of points with respect to the region.
+     * @param coordinates array containing the packed points coordinates
+     * (n elements per point, where n is the space dimension)
+     * @param locations array where to store the points status, its length
+     * defines the number of points to check
+     * @exception IllegalArgumentException if the number of coordinates does
+     * not match the number of points
+     * @exception IllegalStateException if an invalid child reference is met
+     * @see CompactBSPTree#checkPoints(double[], Location[])
+     */
+    public void checkPoints(final double[] coordinates, final Location[] locations) {
+        if (stride > 0 && coordinates.length != (stride - 1) * locations.length) {
+            throw new IllegalArgumentException("Expected " + (stride - 1) * locations.length +
+                                               " coordinates for " + locations.length +
+                                               " points, got " + coordinates.length);
+        }
+        final int dimension = Math.max(0, stride - 1);
+        for (int i = 0; i < locations.length; ++i) {
+            locations[i] = checkPoint(coordinates, i * dimension);
+        }
+    }
+
+    /** Get the cell to which a point belongs.
+     * <p>Leaf cells are identified by their position in the tree: the plus
+     * child of the internal node with index n (internal nodes are numbered
+     * in pre-order from 0) is identified by 2n, its minus child by 2n+1
+     * and the leaf of a tree without any internal node by 0. If the point
+     * lies on the cut hyperplane of an internal node with index n, the
+     * negative identifier -(n+1) of this internal node is returned instead,
+     * as {@link BSPTree#getCell(Point, double)} does.</p>
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return identifier of the cell containing the point
+     * @exception IllegalStateException if an invalid child reference is met
+     */
+    public int getCell(final double[] coordinates, final int offset) {
+        if (cuts == 0) {
+            return 0;
+        }
+        int current = root;
+        while (true) {
+            final double pointOffset = getOffset(current, coordinates, offset);
+            if (Math.abs(pointOffset) < tolerance) {
+                return -(current + 1);
+            }
+            final boolean minus = pointOffset <= 0;
+            final int next = getChild(current, minus);
+            if (next < 0) {
+                return minus ? 2 * current + 1 : 2 * current;
+            }
+            current = next;
+        }
+    }
+
+    /** Check a point with respect to a sub-tree.
+     * @param node reference to the sub-tree root
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return a code representing the point status
+     */
+    private Location checkPoint(final int node, final double[] coordinates, final int offset) {
+
+        int current = node;
+        while (current >= 0) {
+            final double pointOffset = getOffset(current, coordinates, offset);
+            if (Math.abs(pointOffset) < tolerance) {
+                // the point is on a cut-sub-hyperplane, is it on a boundary ?
+                final Location minusCode = checkPoint(getChild(current, true),  coordinates, offset);
+                final Location plusCode  = checkPoint(getChild(current, false), coordinates, offset);
+                return (minusCode == plusCode) ? minusCode : Location.BOUNDARY;
+            }
+            current = getChild(current, pointOffset <= 0);
+        }
+
+        // the point is in the interior of a cell
+        return (current == CompactBSPTree.INSIDE) ? Location.INSIDE : Location.OUTSIDE;
+
+    }
+
+    /** Get the offset of a point with respect to an internal node cut hyperplane.
+     * @param node internal node index
+     * @param coordinates array containing the point coordinates
+     * @param offset index of the first point coordinate in the array
+     * @return offset of the point
+     */
+    private double getOffset(final int node, final double[] coordinates, final int offset) {
+        final DoubleBuffer chunk = coefficients[node >>> CHUNK_SHIFT];
+        final int base = (node & CHUNK_MASK) * stride;
+        final int last = base + stride - 1;
+        double sum = chunk.get(last);
+        for (int i = base, j = offset; i < last; ++i, ++j) {
+            sum += chunk.get(i) * coordinates[j];
+        }
+        return sum;
+    }
+
+    /** Get a reference to a child of an internal node.
+     * <p>Internal nodes are numbered in pre-order, so a valid child is either
+     * a leaf or an internal node with a larger index than its parent.</p>
+     * @param node internal node index
+     * @param minus if true, get the minus child, otherwise get the plus child
+     * @return reference to the child
+     * @exception IllegalStateException if the reference is invalid
+     */
+    private int getChild(final int node, final boolean minus) {
+        final int child = children[node >>> CHUNK_SHIFT].get(2 * (node & CHUNK_MASK) + (minus ? 1 : 0));
+        if (child != CompactBSPTree.INSIDE && child != CompactBSPTree.OUTSIDE &&
+            (child <= node || child >= cuts)) {
+            throw new IllegalStateException("Invalid child reference " + child +
+                                            " for frozen tree node " + node);
+        }
+        return child;
+    }
+
+    /** Mapper for the regions of a layout. */
+    private interface Mapper {
+
+        /** Get the size of the layout.
+         * @return size of the layout in bytes
+         */
+        long size();
+
+        /** Map a region of the layout.
+         * @param offset offset of the region start
+         * @param size size of the region in bytes
+         * @return buffer for the region, with position 0 at the region start
+         * @exception IOException if the region cannot be mapped
+         */
+        ByteBuffer map(long offset, int size) throws IOException;
+
+    }
+
+}
@@ -17,24 +17,39 @@
 package org.apache.commons.geometry.core.partitioning;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.geometry.core.Point;
 
 /** Set of {@link BSPTree BSP tree} nodes.
+ * <p>Nodes are compared by identity and iterated in insertion order.
+ * Small sets are searched linearly, larger ones are indexed by an
+ * identity hash set so that adding nodes remains cheap. The index is
+ * only needed while the set is being built, it is dropped once the set
+ * is complete (see {@link #compact()}) and rebuilt only if more nodes
+ * are added afterwards.</p>
  * @see BoundaryAttribute
  * @param <P> Point type defining the space
  */
 public class NodesSet<P extends Point<P>> implements Iterable<BSPTree<P>> {
 
+    /** Number of nodes above which the identity index is used. */
+    private static final int INDEX_THRESHOLD = 8;
+
     /** List of sub-hyperplanes. */
-    private final List<BSPTree<P>> list;
+    private final ArrayList<BSPTree<P>> list;
+
+    /** Identity index of the nodes (null as long as the set is small). */
+    private Set<BSPTree<P>> index;
 
     /** Simple constructor.
      */
     public NodesSet() {
-        list = new ArrayList<>();
+        list  = new ArrayList<>();
+        index = null;
     }
 
     /** Add a node if not already known.
@@ -42,11 +57,22 @@ public class NodesSet<P extends Point<P>> implements Iterable<BSPTree<P>> {
      */
     public void add(final BSPTree<P> node) {
 
-        for (final BSPTree<P> existing : list) {
-            if (node == existing) {
-                // the node is already known, don't add it
-                return;
+        if (index == null) {
+            for (final BSPTree<P> existing : list) {
+                if (node == existing) {
+                    // the node is already known, don't add it
+                    return;
+                }
             }
+            if (list.size() >= INDEX_THRESHOLD) {
+                // the set has grown large, switch to the identity index
+                index = Collections.newSetFromMap(new IdentityHashMap<BSPTree<P>, Boolean>());
+                index.addAll(list);
+                index.add(node);
+            }
+        } else if (!index.add(node)) {
+            // the node is already known, don't add it
+            return;
         }
 
         // the node was not known, add it
@@ -63,10 +89,22 @@ public class NodesSet<P extends Point<P>> implements Iterable<BSPTree<P>> {
         }
     }
 
-    /** {@inheritDoc} */
+    /** Release the memory used only while building the set.
+     * <p>This method drops the identity index and trims the list of nodes.
+     * It should be called once no more nodes are expected to be added,
+     * typically when the set is stored in a {@link BoundaryAttribute}.</p>
+     */
+    void compact() {
+        index = null;
+        list.trimToSize();
+    }
+
+    /** {@inheritDoc}
+     * <p>The returned iterator does not support removal.</p>
+     */
     @Override
     public Iterator<BSPTree<P>> iterator() {
-        return list.iterator();
+        return Collections.unmodifiableList(list).iterator();
     }
 
 }
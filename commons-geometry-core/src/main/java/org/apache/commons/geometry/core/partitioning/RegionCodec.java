@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+
+import org.apache.commons.geometry.core.Point;
+
+/** Versioned binary codec for regions and their BSP trees.
+
+ * <p>The encoded form starts with a header holding a magic number, the
+ * format {@link #VERSION version}, an identifier of the space and the kind
+ * of content (a bare tree or a region). Regions then hold their tolerance.
+ * The tree follows, written in one pre-order pass: each node is a tag byte
+ * identifying either a leaf (with a {@code null}, {@code Boolean.FALSE} or
+ * {@code Boolean.TRUE} attribute) or an internal node. Internal nodes are
+ * followed by the parameters of their cut hyperplane, by the tree of the
+ * remaining region of the cut sub-hyperplane (encoded by the codec of the
+ * sub-space) and finally by their plus and minus children.</p>
+
+ * <p>Decoding rebuilds the nodes directly from these elements, no split is
+ * recomputed. Internal nodes attributes (i.e. the boundary attributes of
+ * region trees) are not encoded, they are rebuilt lazily by the decoded
+ * region when they are first needed.</p>
+
+ * <p>This class handles the dimension-independent parts of the format,
+ * the encoding of the cut hyperplanes is delegated to the sub-classes.
+ * Instances are stateless and can be shared between threads.</p>
+
+ * @param <P> Point type defining the space
+ * @param <S> Point type defining the sub-space
+ * @param <R> Type of the regions
+ */
+public abstract class RegionCodec<P extends Point<P>, S extends Point<S>, R extends AbstractRegion<P, S>> {
+
+    /** Version of the format written by this class. */
+    public static final int VERSION = 1;
+
+    /** Magic number at the start of encoded data ("CGRT"). */
+    private static final int MAGIC = 0x43475254;
+
+    /** Content kind for bare trees. */
+    private static final byte KIND_TREE = 0;
+
+    /** Content kind for regions. */
+    private static final byte KIND_REGION = 1;
+
+    /** Tag for leaf nodes with a null attribute. */
+    private static final byte LEAF_NULL = 0;
+
+    /** Tag for leaf nodes with a {@code Boolean.FALSE} attribute. */
+    private static final byte LEAF_FALSE = 1;
+
+    /** Tag for leaf nodes with a {@code Boolean.TRUE} attribute. */
+    private static final byte LEAF_TRUE = 2;
+
+    /** Tag for internal nodes. */
+    private static final byte INTERNAL = 3;
+
+    /** Size of the buffers used for channels. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Identifier of the space. */
+    private final byte space;
+
+    /** Codec for the remaining regions of cut sub-hyperplanes (may be null). */
+    private final RegionCodec<S, ?, ?> subCodec;
+
+    /** Simple constructor.
+     * @param space identifier of the space, written in the header to
+     * reject data encoded for other spaces
+     * @param subCodec codec for the remaining regions of cut sub-hyperplanes,
+     * null if sub-hyperplanes have no remaining region (i.e. in dimension 1)
+     */
+    protected RegionCodec(final int space, final RegionCodec<S, ?, ?> subCodec) {
+        this.space    = (byte) space;
+        this.subCodec = subCodec;
+    }
+
+    /** Write a region to a channel.
+     * @param region region to write
+     * @param channel channel to write to (it is not closed by this method)
+     * @exception IOException if the channel cannot be written
+     * @exception IllegalArgumentException if some leaf attribute is neither
+     * null nor a {@code Boolean}
+     */
+    public void write(final R region, final WritableByteChannel channel) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel),
+                                                                                   BUFFER_SIZE));
+        writeRegion(region, out);
+        out.flush();
+    }
+
+    /** Encode a region in a buffer.
+     * @param region region to encode
+     * @return a buffer containing the encoded region, ready to be read
+     * @exception IllegalArgumentException if some leaf attribute is neither
+     * null nor a {@code Boolean}
+     */
+    public ByteBuffer encode(final R region) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeRegion(region, new DataOutputStream(bytes));
+        } catch (IOException ioe) {
+            // this should never happen with an in-memory stream
+            throw new IllegalStateException(ioe);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    /** Read a region from a channel.
+     * <p>The channel is read through a buffer, so bytes following the
+     * encoded region may be consumed too.</p>
+     * @param channel channel to read from (it is not closed by this method)
+     * @return decoded region
+     * @exception IOException if the channel cannot be read or ends
+     * before the end of the encoded region
+     * @exception IllegalArgumentException if the data is not a region
+     * encoded by this codec
+     */
+    public R read(final ReadableByteChannel channel) throws IOException {
+        return readRegion(new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel),
+                                                                      BUFFER_SIZE)));
+    }
+
+    /** Decode a region from a buffer.
+     * <p>The buffer position is advanced to the end of the encoded region.</p>
+     * @param buffer buffer to decode
+     * @return decoded region
+     * @exception IllegalArgumentException if the buffer does not contain
+     * a complete region encoded by this codec
+     */
+    public R decode(final ByteBuffer buffer) {
+        try {
+            return readRegion(new DataInputStream(new ByteBufferInputStream(buffer)));
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Truncated region data", ioe);
+        }
+    }
+
+    /** Write a bare tree to a channel.
+     * <p>Internal nodes attributes are ignored, leaf nodes attributes
+     * must be either null or {@code Boolean} instances.</p>
+     * @param tree tree to write
+     * @param channel channel to write to (it is not closed by this method)
+     * @exception IOException if the channel cannot be written
+     * @exception IllegalArgumentException if some leaf attribute is neither
+     * null nor a {@code Boolean}
+     */
+    public void writeTree(final BSPTree<P> tree, final WritableByteChannel channel) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel),
+                                                                                   BUFFER_SIZE));
+        writeHeader(KIND_TREE, out);
+        writeNode(tree, out);
+        out.flush();
+    }
+
+    /** Encode a bare tree in a buffer.
+     * <p>Internal nodes attributes are ignored, leaf nodes attributes
+     * must be either null or {@code Boolean} instances.</p>
+     * @param tree tree to encode
+     * @return a buffer containing the encoded tree, ready to be read
+     * @exception IllegalArgumentException if some leaf attribute is neither
+     * null nor a {@code Boolean}
+     */
+    public ByteBuffer encodeTree(final BSPTree<P> tree) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            final DataOutputStream out = new DataOutputStream(bytes);
+            writeHeader(KIND_TREE, out);
+            writeNode(tree, out);
+        } catch (IOException ioe) {
+            // this should never happen with an in-memory stream
+            throw new IllegalStateException(ioe);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    /** Read a bare tree from a channel.
+     * <p>The channel is read through a buffer, so bytes following the
+     * encoded tree may be consumed too.</p>
+     * @param channel channel to read from (it is not closed by this method)
+     * @return decoded tree
+     * @exception IOException if the channel cannot be read or ends
+     * before the end of the encoded tree
+     * @exception IllegalArgumentException if the data is not a tree
+     * encoded by this codec
+     */
+    public BSPTree<P> readTree(final ReadableByteChannel channel) throws IOException {
+        final DataInput in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel),
+                                                                         BUFFER_SIZE));
+        readHeader(KIND_TREE, in);
+        return readNode(in);
+    }
+
+    /** Decode a bare tree from a buffer.
+     * <p>The buffer position is advanced to the end of the encoded tree.</p>
+     * @param buffer buffer to decode
+     * @return decoded tree
+     * @exception IllegalArgumentException if the buffer does not contain
+     * a complete tree encoded by this codec
+     */
+    public BSPTree<P> decodeTree(final ByteBuffer buffer) {
+        try {
+            final DataInput in = new DataInputStream(new ByteBufferInputStream(buffer));
+            readHeader(KIND_TREE, in);
+            return readNode(in);
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Truncated tree data", ioe);
+        }
+    }
+
+    /** Write the parameters of a cut hyperplane.
+     * @param hyperplane hyperplane to write
+     * @param out output to write to
+     * @exception IOException if the output cannot be written
+     */
+    protected abstract void writeHyperplane(Hyperplane<P> hyperplane, DataOutput out) throws IOException;
+
+    /** Read the parameters of a cut hyperplane.
+     * @param in input to read from
+     * @return decoded hyperplane
+     * @exception IOException if the input cannot be read
+     */
+    protected abstract Hyperplane<P> readHyperplane(DataInput in) throws IOException;
+
+    /** Build a sub-hyperplane.
+     * @param hyperplane underlying hyperplane
+     * @param remainingRegion remaining region of the hyperplane (null if
+     * there is no sub-space codec)
+     * @return a new sub-hyperplane
+     */
+    protected abstract SubHyperplane<P> buildSubHyperplane(Hyperplane<P> hyperplane, Region<S> remainingRegion);
+
+    /** Build a region from its tree.
+     * @param tree region tree
+     * @param tolerance tolerance below which points are considered identical
+     * @return a new region
+     */
+    protected abstract R buildRegion(BSPTree<P> tree, double tolerance);
+
+    /** Write a complete region, with its header.
+     * @param region region to write
+     * @param out output to write to
+     * @exception IOException if the output cannot be written
+     */
+    private void writeRegion(final R region, final DataOutput out) throws IOException {
+        writeHeader(KIND_REGION, out);
+        out.writeDouble(region.getTolerance());
+        writeNode(region.getTree(false), out);
+    }
+
+    /** Read a complete region, with its header.
+     * @param in input to read from
+     * @return decoded region
+     * @exception IOException if the input cannot be read
+     */
+    private R readRegion(final DataInput in) throws IOException {
+        readHeader(KIND_REGION, in);
+        final double tolerance = in.readDouble();
+        return buildRegion(readNode(in), tolerance);
+    }
+
+    /** Write the header.
+     * @param kind content kind
+     * @param out output to write to
+     * @exception IOException if the output cannot be written
+     */
+    private void writeHeader(final byte kind, final DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(space);
+        out.writeByte(kind);
+    }
+
+    /** Read and check the header.
+     * @param kind expected content kind
+     * @param in input to read from
+     * @exception IOException if the input cannot be read
+     * @exception IllegalArgumentException if the header does not match
+     */
+    private void readHeader(final byte kind, final DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Data is not an encoded region or tree");
+        }
+        final int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported format version " + version +
+                                               ", expected " + VERSION);
+        }
+        final byte readSpace = in.readByte();
+        if (readSpace != space) {
+            throw new IllegalArgumentException("Data encoded for space " + readSpace +
+                                               ", expected " + space);
+        }
+        if (in.readByte() != kind) {
+            throw new IllegalArgumentException(kind == KIND_REGION ?
+                                               "Data is a bare tree, not a region" :
+                                               "Data is a region, not a bare tree");
+        }
+    }
+
+    /** Write a sub-tree in pre-order.
+     * <p>The tree is traversed using an explicit stack, so arbitrarily
+     * deep trees can be written.</p>
+     * @param root root of the sub-tree
+     * @param out output to write to
+     * @exception IOException if the output cannot be written
+     */
+    @SuppressWarnings("unchecked")
+    private void writeNode(final BSPTree<P> root, final DataOutput out) throws IOException {
+        final ArrayDeque<BSPTree<P>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final BSPTree<P> node = stack.pop();
+            final SubHyperplane<P> cut = node.getCut();
+            if (cut == null) {
+                final Object attribute = node.getAttribute();
+                if (attribute == null) {
+                    out.writeByte(LEAF_NULL);
+                } else if (attribute instanceof Boolean) {
+                    out.writeByte((Boolean) attribute ? LEAF_TRUE : LEAF_FALSE);
+                } else {
+                    throw new IllegalArgumentException("Cannot encode leaf attribute " + attribute);
+                }
+            } else {
+                out.writeByte(INTERNAL);
+                writeHyperplane(cut.getHyperplane(), out);
+                if (subCodec != null) {
+                    final Region<S> remaining = ((AbstractSubHyperplane<P, S>) cut).getRemainingRegion();
+                    subCodec.writeNode(remaining.getTree(false), out);
+                }
+                // the plus child is pushed last so it is written first
+                stack.push(node.getMinus());
+                stack.push(node.getPlus());
+            }
+        }
+    }
+
+    /** Read a sub-tree in pre-order.
+     * <p>The internal nodes whose children are not complete yet are kept
+     * in an explicit stack, so arbitrarily deep trees can be read.</p>
+     * @param in input to read from
+     * @return decoded sub-tree
+     * @exception IOException if the input cannot be read
+     */
+    private BSPTree<P> readNode(final DataInput in) throws IOException {
+        final ArrayDeque<PendingNode<P>> pending = new ArrayDeque<>();
+        while (true) {
+
+            final byte tag = in.readByte();
+            BSPTree<P> node;
+            switch (tag) {
+                case LEAF_NULL :
+                    node = new BSPTree<>();
+                    break;
+                case LEAF_FALSE :
+                    node = new BSPTree<>(Boolean.FALSE);
+                    break;
+                case LEAF_TRUE :
+                    node = new BSPTree<>(Boolean.TRUE);
+                    break;
+                case INTERNAL : {
+                    final Hyperplane<P> hyperplane = readHyperplane(in);
+                    final Region<S> remaining = (subCodec == null) ?
+                                                null :
+                                                subCodec.readSubRegion(in, hyperplane.getTolerance());
+                    pending.push(new PendingNode<>(buildSubHyperplane(hyperplane, remaining)));
+                    continue;
+                }
+                default :
+                    throw new IllegalArgumentException("Unknown node tag " + tag);
+            }
+
+            // attach the complete sub-tree to its parent, completing
+            // the parents whose minus child has just been read
+            while (true) {
+                if (pending.isEmpty()) {
+                    return node;
+                }
+                final PendingNode<P> parent = pending.peek();
+                if (parent.plus == null) {
+                    // the minus child of the parent comes next
+                    parent.plus = node;
+                    break;
+                }
+                pending.pop();
+                node = new BSPTree<>(parent.cut, parent.plus, node, null);
+            }
+
+        }
+    }
+
+    /** Read the remaining region of a sub-hyperplane.
+     * @param in input to read from
+     * @param tolerance tolerance of the underlying hyperplane
+     * @return decoded region
+     * @exception IOException if the input cannot be read
+     */
+    private R readSubRegion(final DataInput in, final double tolerance) throws IOException {
+        return buildRegion(readNode(in), tolerance);
+    }
+
+    /** Internal node being read, waiting for its children.
+     * @param <T> Point type defining the space
+     */
+    private static class PendingNode<T extends Point<T>> {
+
+        /** Cut sub-hyperplane of the node. */
+        private final SubHyperplane<T> cut;
+
+        /** Plus child of the node (null until it has been read). */
+        private BSPTree<T> plus;
+
+        /** Simple constructor.
+         * @param cut cut sub-hyperplane of the node
+         */
+        PendingNode(final SubHyperplane<T> cut) {
+            this.cut = cut;
+        }
+
+    }
+
+    /** Input stream reading from a byte buffer. */
+    private static class ByteBufferInputStream extends InputStream {
+
+        /** Underlying buffer. */
+        private final ByteBuffer buffer;
+
+        /** Simple constructor.
+         * @param buffer underlying buffer
+         */
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+    }
+
+}
@@ -16,10 +16,17 @@
  */
 package org.apache.commons.geometry.core.partitioning;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.core.partitioning.BSPTree.LeafMerger;
 import org.apache.commons.geometry.core.partitioning.BSPTree.VanishingCutHandler;
 import org.apache.commons.geometry.core.partitioning.Region.Location;
 import org.apache.commons.geometry.core.partitioning.SubHyperplane.SplitSubHyperplane;
@@ -33,10 +40,32 @@ public class RegionFactory<P extends Point<P>> {
     /** Visitor removing internal nodes attributes. */
     private final NodesCleaner nodeCleaner;
 
+    /** Pool in which to merge trees (null for sequential merging). */
+    private final ForkJoinPool pool;
+
+    /** Number of nodes below which sub-trees are merged sequentially. */
+    private final int threshold;
+
     /** Simple constructor.
      */
     public RegionFactory() {
-        nodeCleaner = new NodesCleaner();
+        this(null, 0);
+    }
+
+    /** Build a factory performing the boolean operations in parallel.
+     * <p>The underlying trees are merged using {@link BSPTree#merge(BSPTree,
+     * LeafMerger, ForkJoinPool, int)}. The threshold should be large enough
+     * for the forked tasks to outweigh their scheduling overhead, typically
+     * a few hundreds nodes.</p>
+     * @param pool pool in which to merge trees (if null, trees are merged
+     * sequentially)
+     * @param threshold number of nodes below which sub-trees are merged
+     * sequentially
+     */
+    public RegionFactory(final ForkJoinPool pool, final int threshold) {
+        this.nodeCleaner = new NodesCleaner();
+        this.pool        = pool;
+        this.threshold   = threshold;
     }
 
     /** Build a convex region from a collection of bounding hyperplanes.
@@ -102,12 +131,79 @@ public class RegionFactory<P extends Point<P>> {
      * @return a new region, result of {@code region1 union region2}
      */
     public Region<P> union(final Region<P> region1, final Region<P> region2) {
-        final BSPTree<P> tree =
-            region1.getTree(false).merge(region2.getTree(false), new UnionMerger());
+        final BSPTree<P> tree = merge(region1, region2, new UnionMerger());
         tree.visit(nodeCleaner);
         return region1.buildNew(tree);
     }
 
+    /** Compute the union of several regions.
+     * <p>The regions are combined pairwise in a balanced tournament order
+     * rather than accumulated one at a time, so intermediate trees stay
+     * as small as possible. If the factory has been built with a pool,
+     * independent pairs are combined in parallel. Empty regions are
+     * ignored and a full region is returned as soon as one is found.</p>
+     * @param regions regions to combine (will be unusable after the
+     * operation as parts of them will be reused in the new region)
+     * @return a new region, union of all regions, or null if the
+     * collection is empty
+     */
+    public Region<P> unionAll(final Collection<? extends Region<P>> regions) {
+        final List<Region<P>> operands = new ArrayList<>();
+        Region<P> first = null;
+        for (final Region<P> region : regions) {
+            if (region.isFull()) {
+                return region;
+            }
+            if (first == null) {
+                first = region;
+            }
+            if (!region.isEmpty()) {
+                operands.add(region);
+            }
+        }
+        return operands.isEmpty() ? first : combineAll(operands, true);
+    }
+
+    /** Compute the intersection of several regions.
+     * <p>The regions are combined pairwise in a balanced tournament order
+     * rather than accumulated one at a time, so intermediate trees stay
+     * as small as possible. If the factory has been built with a pool,
+     * independent pairs are combined in parallel. Full regions are
+     * ignored and an empty region is returned as soon as one is found,
+     * either among the operands or as an intermediate result.</p>
+     * @param regions regions to combine (will be unusable after the
+     * operation as parts of them will be reused in the new region)
+     * @return a new region, intersection of all regions, or null if the
+     * collection is empty
+     */
+    public Region<P> intersectionAll(final Collection<? extends Region<P>> regions) {
+        final List<Region<P>> operands = new ArrayList<>();
+        Region<P> first = null;
+        for (final Region<P> region : regions) {
+            if (region.isEmpty()) {
+                return region;
+            }
+            if (first == null) {
+                first = region;
+            }
+            if (!region.isFull()) {
+                operands.add(region);
+            }
+        }
+        return operands.isEmpty() ? first : combineAll(operands, false);
+    }
+
+    /** Combine several non-trivial regions in a balanced order.
+     * @param operands regions to combine
+     * @param union if true, compute the union of the regions, otherwise
+     * compute their intersection
+     * @return combined region
+     */
+    private Region<P> combineAll(final List<Region<P>> operands, final boolean union) {
+        final Tournament tournament = new Tournament(operands, 0, operands.size(), union);
+        return (pool == null) ? tournament.compute() : pool.invoke(tournament);
+    }
+
     /** Compute the intersection of two regions.
      * @param region1 first region (will be unusable after the operation as
      * parts of it will be reused in the new region)
@@ -116,8 +212,7 @@ public class RegionFactory<P extends Point<P>> {
      * @return a new region, result of {@code region1 intersection region2}
      */
     public Region<P> intersection(final Region<P> region1, final Region<P> region2) {
-        final BSPTree<P> tree =
-            region1.getTree(false).merge(region2.getTree(false), new IntersectionMerger());
+        final BSPTree<P> tree = merge(region1, region2, new IntersectionMerger());
         tree.visit(nodeCleaner);
         return region1.buildNew(tree);
     }
@@ -130,8 +225,7 @@ public class RegionFactory<P extends Point<P>> {
      * @return a new region, result of {@code region1 xor region2}
      */
     public Region<P> xor(final Region<P> region1, final Region<P> region2) {
-        final BSPTree<P> tree =
-            region1.getTree(false).merge(region2.getTree(false), new XorMerger());
+        final BSPTree<P> tree = merge(region1, region2, new XorMerger());
         tree.visit(nodeCleaner);
         return region1.buildNew(tree);
     }
@@ -144,12 +238,26 @@ public class RegionFactory<P extends Point<P>> {
      * @return a new region, result of {@code region1 minus region2}
      */
     public Region<P> difference(final Region<P> region1, final Region<P> region2) {
-        final BSPTree<P> tree =
-            region1.getTree(false).merge(region2.getTree(false), new DifferenceMerger(region1, region2));
+        final BSPTree<P> tree = merge(region1, region2, new DifferenceMerger(region1, region2));
         tree.visit(nodeCleaner);
         return region1.buildNew(tree);
     }
 
+    /** Merge the trees of two regions.
+     * @param region1 first region
+     * @param region2 second region
+     * @param leafMerger object implementing the final merging phase
+     * @return merged tree
+     */
+    private BSPTree<P> merge(final Region<P> region1, final Region<P> region2,
+                             final LeafMerger<P> leafMerger) {
+        final BSPTree<P> tree1 = region1.getTree(false);
+        final BSPTree<P> tree2 = region2.getTree(false);
+        return (pool == null) ?
+               tree1.merge(tree2, leafMerger) :
+               tree1.merge(tree2, leafMerger, pool, threshold);
+    }
+
     /** Get the complement of the region (exchanged interior/exterior).
      * @param region region to complement, it will not modified, a new
      * region independent region will be built
@@ -185,6 +293,7 @@ public class RegionFactory<P extends Point<P>> {
                     for (final BSPTree<P> splitter : original.getSplitters()) {
                         transformed.getSplitters().add(map.get(splitter));
                     }
+                    transformed.getSplitters().compact();
                 }
             }
         }
@@ -331,6 +440,76 @@ public class RegionFactory<P extends Point<P>> {
 
     }
 
+    /** Task combining a range of regions in a balanced order. */
+    private class Tournament extends RecursiveTask<Region<P>> {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20181016L;
+
+        /** Regions to combine. */
+        private final List<Region<P>> operands;
+
+        /** Index of the first region to combine. */
+        private final int from;
+
+        /** Index after the last region to combine. */
+        private final int to;
+
+        /** Indicator for union (true) or intersection (false). */
+        private final boolean union;
+
+        /** Simple constructor.
+         * @param operands regions to combine
+         * @param from index of the first region to combine
+         * @param to index after the last region to combine
+         * @param union if true, compute the union of the regions,
+         * otherwise compute their intersection
+         */
+        Tournament(final List<Region<P>> operands, final int from, final int to, final boolean union) {
+            this.operands = operands;
+            this.from     = from;
+            this.to       = to;
+            this.union    = union;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Region<P> compute() {
+
+            if (to - from == 1) {
+                return operands.get(from);
+            }
+
+            // combine each half separately
+            final int middle = (from + to) >>> 1;
+            final Tournament lower = new Tournament(operands, from, middle, union);
+            final Tournament upper = new Tournament(operands, middle, to, union);
+            final Region<P> lowerResult;
+            final Region<P> upperResult;
+            if (pool == null) {
+                lowerResult = lower.compute();
+                upperResult = (union || !lowerResult.isEmpty()) ? upper.compute() : null;
+            } else {
+                final ForkJoinTask<Region<P>> forked = lower.fork();
+                upperResult = upper.compute();
+                lowerResult = forked.join();
+            }
+
+            // combine the two halves
+            if (union) {
+                return union(lowerResult, upperResult);
+            } else if (lowerResult.isEmpty()) {
+                return lowerResult;
+            } else if (upperResult.isEmpty()) {
+                return upperResult;
+            } else {
+                return intersection(lowerResult, upperResult);
+            }
+
+        }
+
+    }
+
     /** Visitor removing internal nodes attributes. */
     private class NodesCleaner implements  BSPTreeVisitor<P> {
 
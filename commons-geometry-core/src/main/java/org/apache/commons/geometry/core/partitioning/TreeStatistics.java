@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.util.ArrayDeque;
+
+import org.apache.commons.geometry.core.Point;
+
+/** Class holding shape statistics of a BSP tree.
+ *
+ * <p>The cost of point location and of boolean operations on a region
+ * is driven by the depth of its tree and by the number of boundary
+ * fragments held in its internal nodes. These statistics allow comparing
+ * the trees built using different {@link CutSelector cut selectors}.</p>
+ *
+ * <p>Instances of this class are guaranteed to be immutable</p>
+ *
+ * @see CutSelector
+ */
+public final class TreeStatistics {
+
+    /** Number of internal nodes. */
+    private final int fragments;
+
+    /** Number of leaf nodes. */
+    private final int leaves;
+
+    /** Maximal depth of leaf nodes. */
+    private final int depth;
+
+    /** Mean depth of leaf nodes. */
+    private final double meanDepth;
+
+    /** Simple constructor.
+     * @param fragments number of internal nodes
+     * @param leaves number of leaf nodes
+     * @param depth maximal depth of leaf nodes
+     * @param meanDepth mean depth of leaf nodes
+     */
+    private TreeStatistics(final int fragments, final int leaves, final int depth, final double meanDepth) {
+        this.fragments = fragments;
+        this.leaves    = leaves;
+        this.depth     = depth;
+        this.meanDepth = meanDepth;
+    }
+
+    /** Compute the statistics of a tree.
+     * @param tree tree to analyze
+     * @param <P> Point type defining the space
+     * @return statistics of the tree
+     */
+    public static <P extends Point<P>> TreeStatistics of(final BSPTree<P> tree) {
+
+        int fragments = 0;
+        int leaves    = 0;
+        int depth     = 0;
+        long sum      = 0;
+
+        // nodes and depths are pushed in parallel
+        final ArrayDeque<BSPTree<P>> nodes  = new ArrayDeque<>();
+        final ArrayDeque<Integer>    depths = new ArrayDeque<>();
+        nodes.push(tree);
+        depths.push(0);
+        while (!nodes.isEmpty()) {
+            final BSPTree<P> node = nodes.pop();
+            final int d           = depths.pop();
+            if (node.getCut() == null) {
+                ++leaves;
+                depth = Math.max(depth, d);
+                sum  += d;
+            } else {
+                ++fragments;
+                nodes.push(node.getMinus());
+                depths.push(d + 1);
+                nodes.push(node.getPlus());
+                depths.push(d + 1);
+            }
+        }
+
+        return new TreeStatistics(fragments, leaves, depth, ((double) sum) / leaves);
+
+    }
+
+    /** Get the number of boundary fragments.
+     * <p>This is the number of internal nodes, each one holding
+     * a fragment of a cut hyperplane.</p>
+     * @return number of boundary fragments
+     */
+    public int getFragmentCount() {
+        return fragments;
+    }
+
+    /** Get the number of leaf nodes.
+     * @return number of leaf nodes
+     */
+    public int getLeafCount() {
+        return leaves;
+    }
+
+    /** Get the depth of the tree.
+     * @return maximal depth of the leaf nodes (0 for a single leaf tree)
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /** Get the mean depth of leaf nodes.
+     * @return mean depth of leaf nodes
+     */
+    public double getMeanDepth() {
+        return meanDepth;
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.enclosing;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.apache.commons.geometry.euclidean.EuclideanPoint;
+
+/** Class computing an approximate enclosing ball in one pass over the points.
+ * <p>
+ * Contrary to {@link WelzlEncloser} which iterates several times over the points,
+ * this class looks at each point only once and does not retain it, so it can enclose
+ * point streams that are too large to be held in memory, or that are produced
+ * incrementally. Each time a point outside of the current ball is encountered,
+ * the ball is replaced by the smallest ball enclosing both the current ball and the
+ * point. As shown by Zarrabi-Zadeh and Chan in <a
+ * href="http://www.cccg.ca/proceedings/2006/cccg06.pdf">A Simple Streaming Algorithm
+ * for Minimum Enclosing Balls</a> (CCCG 2006), the radius of the ball is at most 3/2
+ * times the radius of the smallest enclosing ball, in any dimension. In practice,
+ * it is usually within a few percents of the optimal radius.
+ * </p>
+ * <p>
+ * The points can be fed either all at once, using {@link #enclose(Iterable)} or
+ * {@link #enclose(Spliterator)}, or incrementally, using an {@link Accumulator}.
+ * As accumulators can be {@link Accumulator#combine(Accumulator) combined}, they
+ * can also be used to enclose parallel streams.
+ * </p>
+ * <p>
+ * The support of the balls built by this class contains a single point on the ball
+ * boundary. It is the last point that enlarged the ball, or, when the ball results from
+ * {@link Accumulator#combine(Accumulator) combined} accumulators, the point of the combined
+ * ball boundary that is also on the boundary of one of the original balls, which is not
+ * necessarily one of the enclosed points.
+ * </p>
+ * @param <P> Point type.
+ */
+public class StreamingEncloser<P extends EuclideanPoint<P, ?>> implements Encloser<P> {
+
+    /** Tolerance below which points are consider to be identical. */
+    private final double tolerance;
+
+    /** Generator for balls on support. */
+    private final SupportBallGenerator<P> generator;
+
+    /** Simple constructor.
+     * @param tolerance below which points are consider to be identical
+     * @param generator generator for balls on support, used only for empty balls
+     */
+    public StreamingEncloser(final double tolerance, final SupportBallGenerator<P> generator) {
+        this.tolerance = tolerance;
+        this.generator = generator;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The points are iterated over only once.
+     * </p>
+     */
+    @Override
+    public EnclosingBall<P> enclose(final Iterable<P> points) {
+        final Accumulator accumulator = new Accumulator();
+        if (points != null) {
+            final Iterator<P> iterator = points.iterator();
+            while (iterator.hasNext()) {
+                accumulator.accept(iterator.next());
+            }
+        }
+        return accumulator.getBall();
+    }
+
+    /** Find a ball enclosing the remaining points of a spliterator.
+     * <p>
+     * The points are traversed only once.
+     * </p>
+     * @param points points to enclose
+     * @return enclosing ball
+     */
+    public EnclosingBall<P> enclose(final Spliterator<P> points) {
+        final Accumulator accumulator = new Accumulator();
+        points.forEachRemaining(accumulator);
+        return accumulator.getBall();
+    }
+
+    /** Create a new empty accumulator.
+     * @return new empty accumulator
+     */
+    public Accumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    /** Accumulator for points fed incrementally.
+     * <p>
+     * Instances of this class are not thread-safe. Parallel streams can be
+     * enclosed using one accumulator per thread, for example with {@code
+     * stream.collect(encloser::newAccumulator, Accumulator::accept, Accumulator::combine)}.
+     * </p>
+     */
+    public class Accumulator implements Consumer<P> {
+
+        /** Center of the current ball (null as long as no points have been accepted). */
+        private P center;
+
+        /** Radius of the current ball. */
+        private double radius;
+
+        /** Point on the ball boundary. */
+        private P last;
+
+        /** Simple constructor.
+         */
+        Accumulator() {
+            this.center = null;
+            this.radius = Double.NEGATIVE_INFINITY;
+            this.last   = null;
+        }
+
+        /** Add a point to the enclosed set.
+         * @param point point to enclose
+         */
+        @Override
+        public void accept(final P point) {
+            if (center == null) {
+                center = point;
+                radius = 0;
+                last   = point;
+            } else {
+                final double d = point.distance(center);
+                if (d > radius + tolerance) {
+                    // smallest ball enclosing both the current ball and the point
+                    center = center.lerp(point, 0.5 * (d - radius) / d);
+                    radius = 0.5 * (d + radius);
+                    last   = point;
+                }
+            }
+        }
+
+        /** Merge the points enclosed by another accumulator into this one.
+         * <p>
+         * The ball of this accumulator is replaced by the smallest ball
+         * enclosing both balls. This ball touches the other ball at the point
+         * opposite to the center of this ball, which becomes the support point.
+         * </p>
+         * @param other other accumulator
+         */
+        public void combine(final Accumulator other) {
+            if (other.center == null) {
+                return;
+            }
+            if (center == null) {
+                center = other.center;
+                radius = other.radius;
+                last   = other.last;
+                return;
+            }
+            final double d = other.center.distance(center);
+            if (d + other.radius <= radius + tolerance) {
+                // the other ball is already enclosed
+                return;
+            }
+            if (d + radius <= other.radius + tolerance) {
+                // the other ball already encloses this one
+                center = other.center;
+                radius = other.radius;
+                last   = other.last;
+                return;
+            }
+            final double r = 0.5 * (d + radius + other.radius);
+            last   = center.lerp(other.center, (d + other.radius) / d);
+            center = center.lerp(other.center, (r - radius) / d);
+            radius = r;
+        }
+
+        /** Get the current enclosing ball.
+         * @return ball enclosing all points accepted so far
+         */
+        public EnclosingBall<P> getBall() {
+            if (center == null) {
+                // return an empty ball
+                return generator.ballOnSupport(new ArrayList<P>());
+            }
+            // the support array must have the runtime type of the points
+            @SuppressWarnings("unchecked")
+            final P[] support = (P[]) Array.newInstance(last.getClass(), 1);
+            support[0] = last;
+            return new EnclosingBall<>(center, radius, support);
+        }
+
+    }
+
+}
@@ -16,11 +16,20 @@
  */
 package org.apache.commons.geometry.enclosing;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
 
 import org.apache.commons.geometry.core.Point;
 import org.apache.commons.geometry.core.internal.GeometryInternalError;
+import org.apache.commons.geometry.euclidean.EuclideanPoint;
 
 /** Class implementing Emo Welzl algorithm to find the smallest enclosing ball in linear time.
  * <p>
@@ -35,23 +44,59 @@ import org.apache.commons.geometry.core.internal.GeometryInternalError;
  * Efficient Computation of Smallest Enclosing Balls in Three Dimensions</a> by Linus Källberg
  * to avoid performing local copies of data have been included.
  * </p>
+ * <p>
+ * Each pivoting step selects the point farthest to the current ball, which is a
+ * full scan over the points. If a {@link ForkJoinPool} is provided at construction,
+ * this scan is split among the pool threads when the points are given as a
+ * {@link RandomAccess random access} list (arrays can be wrapped using {@link
+ * java.util.Arrays#asList(Object...) Arrays.asList}) larger than a threshold, or
+ * as packed coordinates.
+ * </p>
  * @param <P> Point type.
  */
 public class WelzlEncloser<P extends Point<P>> implements Encloser<P> {
 
+    /** Default number of points below which farthest point selection is not split anymore. */
+    private static final int DEFAULT_THRESHOLD = 1 << 16;
+
     /** Tolerance below which points are consider to be identical. */
     private final double tolerance;
 
     /** Generator for balls on support. */
     private final SupportBallGenerator<P> generator;
 
+    /** Pool in which to run farthest point selection (may be null). */
+    private final ForkJoinPool pool;
+
+    /** Number of points below which farthest point selection is not split anymore. */
+    private final int threshold;
+
     /** Simple constructor.
      * @param tolerance below which points are consider to be identical
      * @param generator generator for balls on support
      */
     public WelzlEncloser(final double tolerance, final SupportBallGenerator<P> generator) {
+        this(tolerance, generator, null, DEFAULT_THRESHOLD);
+    }
+
+    /** Constructor for parallel farthest point selection.
+     * @param tolerance below which points are consider to be identical
+     * @param generator generator for balls on support
+     * @param pool pool in which to run farthest point selection (if null,
+     * selection is performed sequentially)
+     * @param threshold number of points below which farthest point selection
+     * is not split anymore
+     * @exception IllegalArgumentException if threshold is not strictly positive
+     */
+    public WelzlEncloser(final double tolerance, final SupportBallGenerator<P> generator,
+                         final ForkJoinPool pool, final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be at least 1, got " + threshold);
+        }
         this.tolerance = tolerance;
         this.generator = generator;
+        this.pool      = pool;
+        this.threshold = threshold;
     }
 
     /** {@inheritDoc} */
@@ -64,28 +109,144 @@ public class WelzlEncloser<P extends Point<P>> implements Encloser<P> {
         }
 
         // Emo Welzl algorithm with Bernd Gärtner and Linus Källberg improvements
-        return pivotingBall(points);
+        return pivotingBall(Collections.singletonList(points.iterator().next()),
+                            ball -> selectFarthest(points, ball));
+
+    }
+
+    /** Extend an enclosing ball with new points.
+     * <p>
+     * The former points are not needed: the support of the current ball is used
+     * as the initial pivot set, and only the new points and this support are
+     * scanned. If the smallest ball enclosing both the current support and the
+     * new points contains the whole current ball, it is also the smallest ball
+     * enclosing all the former points and the new points, and it is returned.
+     * Otherwise, the new points pulled the ball away from some part of the current
+     * ball, where former points that are not in the current support may lie. The
+     * returned ball is then the smallest ball enclosing both the current ball and
+     * this new ball. It encloses all points, but it may be larger than the smallest
+     * enclosing ball, which can only be computed again from all the points. Its
+     * support contains the two diametrically opposite points where it touches the
+     * current ball and the new ball, which are not necessarily enclosed points.
+     * </p>
+     * <p>
+     * Merging balls requires moving the center along a line, so this method is
+     * available only for Euclidean points.
+     * </p>
+     * @param encloser encloser to use
+     * @param current current ball (may be empty)
+     * @param newPoints points to add
+     * @param <Q> Euclidean point type
+     * @return ball enclosing the current ball and the new points
+     */
+    public static <Q extends EuclideanPoint<Q, ?>> EnclosingBall<Q> extend(final WelzlEncloser<Q> encloser,
+                                                                         final EnclosingBall<Q> current,
+                                                                         final Iterable<Q> newPoints) {
+
+        if (newPoints == null || !newPoints.iterator().hasNext()) {
+            return current;
+        }
+
+        final List<Q> support = Arrays.asList(current.getSupport());
+        if (support.isEmpty()) {
+            return encloser.enclose(newPoints);
+        }
+
+        final EnclosingBall<Q> ball = encloser.pivotingBall(support, b -> {
+            final Q fromNew     = encloser.selectFarthest(newPoints, b);
+            final Q fromSupport = encloser.selectFarthest(support, b);
+            return fromSupport.distance(b.getCenter()) > fromNew.distance(b.getCenter()) ?
+                   fromSupport : fromNew;
+        });
+
+        final Q      c = current.getCenter();
+        final double d = ball.getCenter().distance(c);
+        if (d + current.getRadius() <= ball.getRadius() + encloser.tolerance) {
+            // the ball already contains the current ball
+            return ball;
+        }
+
+        // smallest ball enclosing both the current ball and the new ball
+        final double radius = 0.5 * (d + current.getRadius() + ball.getRadius());
+        @SuppressWarnings("unchecked")
+        final Q[] merged = (Q[]) Array.newInstance(c.getClass(), 2);
+        merged[0] = c.lerp(ball.getCenter(), -current.getRadius() / d);
+        merged[1] = c.lerp(ball.getCenter(), (d + ball.getRadius()) / d);
+        return new EnclosingBall<>(c.lerp(ball.getCenter(), (radius - current.getRadius()) / d), radius, merged);
+
+    }
+
+    /** Find a ball enclosing points given by their packed coordinates.
+     * <p>
+     * The coordinates of all points are packed in a single array, point i
+     * occupying the n elements starting at index n*i, where n is the space
+     * dimension. Farthest point selection works directly on the array, so
+     * point instances are created only for the few points that are
+     * selected as candidate support points. For 3D points, this method can
+     * be called as {@code enclose(coordinates, 3, Point3D::ofArray, Point3D::toArray)}.
+     * </p>
+     * @param coordinates array containing the packed points coordinates
+     * @param dimension space dimension
+     * @param toPoint converter from coordinates to point
+     * @param toCoordinates converter from point to coordinates
+     * @return enclosing ball
+     * @exception IllegalArgumentException if the number of coordinates is
+     * not a multiple of the dimension
+     */
+    public EnclosingBall<P> enclose(final double[] coordinates, final int dimension,
+                                    final Function<double[], P> toPoint,
+                                    final Function<P, double[]> toCoordinates) {
+
+        if (coordinates.length % dimension != 0) {
+            throw new IllegalArgumentException("Number of coordinates " + coordinates.length +
+                                               " is not a multiple of dimension " + dimension);
+        }
+
+        if (coordinates.length == 0) {
+            // return an empty ball
+            return generator.ballOnSupport(new ArrayList<P>());
+        }
+
+        final Function<Integer, P> point = i -> {
+            final double[] c = new double[dimension];
+            System.arraycopy(coordinates, i * dimension, c, 0, dimension);
+            return toPoint.apply(c);
+        };
+
+        return pivotingBall(Collections.singletonList(point.apply(0)), ball -> {
+            final double[] center = toCoordinates.apply(ball.getCenter());
+            return point.apply(selectFarthest(coordinates.length / dimension, i -> {
+                double d2 = 0;
+                for (int k = 0; k < dimension; ++k) {
+                    final double delta = coordinates[i * dimension + k] - center[k];
+                    d2 += delta * delta;
+                }
+                return d2;
+            }));
+        });
 
     }
 
     /** Compute enclosing ball using Gärtner's pivoting heuristic.
-     * @param points points to be enclosed
+     * @param pivots initial points selected as candidate support (at least one point)
+     * @param farthestSelector selector for the point farthest to a ball
      * @return enclosing ball
      */
-    private EnclosingBall<P> pivotingBall(final Iterable<P> points) {
+    private EnclosingBall<P> pivotingBall(final List<P> pivots,
+                                          final Function<EnclosingBall<P>, P> farthestSelector) {
 
-        final P first = points.iterator().next();
-        final List<P> extreme = new ArrayList<>(first.getDimension() + 1);
-        final List<P> support = new ArrayList<>(first.getDimension() + 1);
+        final int capacity = pivots.get(0).getDimension() + 1;
+        final List<P> extreme = new ArrayList<>(Math.max(capacity, pivots.size()));
+        final List<P> support = new ArrayList<>(capacity);
 
-        // start with only first point selected as a candidate support
-        extreme.add(first);
+        // start with only the initial pivots selected as candidate support
+        extreme.addAll(pivots);
         EnclosingBall<P> ball = moveToFrontBall(extreme, extreme.size(), support);
 
         while (true) {
 
             // select the point farthest to current ball
-            final P farthest = selectFarthest(points, ball);
+            final P farthest = farthestSelector.apply(ball);
 
             if (ball.contains(farthest, tolerance)) {
                 // we have found a ball containing all points
@@ -154,6 +315,10 @@ public class WelzlEncloser<P extends Point<P>> implements Encloser<P> {
     }
 
     /** Select the point farthest to the current ball.
+     * <p>
+     * If the encloser has a pool and the points are a large random access list,
+     * the selection is performed in parallel.
+     * </p>
      * @param points points to be enclosed
      * @param ball current ball
      * @return farthest point
@@ -161,6 +326,12 @@ public class WelzlEncloser<P extends Point<P>> implements Encloser<P> {
     public P selectFarthest(final Iterable<P> points, final EnclosingBall<P> ball) {
 
         final P center = ball.getCenter();
+
+        if (points instanceof List && points instanceof RandomAccess) {
+            final List<P> list = (List<P>) points;
+            return list.get(selectFarthest(list.size(), i -> list.get(i).distance(center)));
+        }
+
         P farthest   = null;
         double dMax  = -1.0;
 
@@ -176,4 +347,81 @@ public class WelzlEncloser<P extends Point<P>> implements Encloser<P> {
 
     }
 
+    /** Select the index of the farthest point.
+     * @param size number of points
+     * @param distance function computing the distance (or any increasing
+     * function of the distance) of point i to the ball center
+     * @return index of the farthest point (the first one in case of ties)
+     */
+    private int selectFarthest(final int size, final IntToDoubleFunction distance) {
+        if (pool == null || size <= threshold) {
+            return selectFarthest(distance, 0, size);
+        } else {
+            return pool.invoke(new FarthestSelection(distance, 0, size));
+        }
+    }
+
+    /** Select the index of the farthest point in a range.
+     * @param distance function computing the distance (or any increasing
+     * function of the distance) of point i to the ball center
+     * @param from start of the range (inclusive)
+     * @param to end of the range (exclusive)
+     * @return index of the farthest point in the range (the first one in case of ties)
+     */
+    private static int selectFarthest(final IntToDoubleFunction distance, final int from, final int to) {
+        int farthest = from;
+        double dMax  = -1.0;
+        for (int i = from; i < to; ++i) {
+            final double d = distance.applyAsDouble(i);
+            if (d > dMax) {
+                farthest = i;
+                dMax     = d;
+            }
+        }
+        return farthest;
+    }
+
+    /** Task selecting the farthest point in a range. */
+    private class FarthestSelection extends RecursiveTask<Integer> {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20181016L;
+
+        /** Function computing the distance of point i to the ball center. */
+        private final IntToDoubleFunction distance;
+
+        /** Start of the range (inclusive). */
+        private final int from;
+
+        /** End of the range (exclusive). */
+        private final int to;
+
+        /** Simple constructor.
+         * @param distance function computing the distance of point i to the ball center
+         * @param from start of the range (inclusive)
+         * @param to end of the range (exclusive)
+         */
+        FarthestSelection(final IntToDoubleFunction distance, final int from, final int to) {
+            this.distance = distance;
+            this.from     = from;
+            this.to       = to;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Integer compute() {
+            if (to - from <= threshold) {
+                return selectFarthest(distance, from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final FarthestSelection left  = new FarthestSelection(distance, from, middle);
+            final FarthestSelection right = new FarthestSelection(distance, middle, to);
+            left.fork();
+            final int r = right.compute();
+            final int l = left.join();
+            return distance.applyAsDouble(r) > distance.applyAsDouble(l) ? r : l;
+        }
+
+    }
+
 }
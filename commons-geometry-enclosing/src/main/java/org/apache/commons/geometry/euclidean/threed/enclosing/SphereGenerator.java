@@ -29,9 +29,42 @@ import org.apache.commons.geometry.euclidean.twod.enclosing.DiskGenerator;
 import org.apache.commons.numbers.fraction.BigFraction;
 
 /** Class generating an enclosing ball from its support points.
+ * <p>
+ * By default, the sphere on four support points is computed using exact
+ * arithmetic with fractions, which is accurate but slow. Generators can also be
+ * built to compute it first using floating point arithmetic, together with a bound
+ * on its error. In this case, exact computation is used only if the support points
+ * are so close to coplanar that this bound is too large. The center is then
+ * accurate to about 2<sup>-40</sup> times the radius, but is not always
+ * the correctly rounded exact center.
+ * </p>
  */
 public class SphereGenerator implements SupportBallGenerator<Point3D> {
 
+    /** Factor for the floating point errors bounds. */
+    private static final double ERROR_FACTOR = 32 * Math.ulp(1.0);
+
+    /** Maximum error on the floating point center, relative to the radius. */
+    private static final double MAX_RELATIVE_ERROR = 0x1.0p-40;
+
+    /** Indicator for floating point computation with exact fallback. */
+    private final boolean floatingPoint;
+
+    /** Simple constructor, using exact arithmetic.
+     */
+    public SphereGenerator() {
+        this(false);
+    }
+
+    /** Simple constructor.
+     * @param floatingPoint if true, floating point arithmetic is used, with
+     * fallback to exact arithmetic only for ill-conditioned supports, otherwise
+     * exact arithmetic is always used
+     */
+    public SphereGenerator(final boolean floatingPoint) {
+        this.floatingPoint = floatingPoint;
+    }
+
     /** {@inheritDoc} */
     @Override
     public EnclosingBall<Point3D> ballOnSupport(final List<Point3D> support) {
@@ -56,7 +89,7 @@ public class SphereGenerator implements SupportBallGenerator<Point3D> {
                         final Plane p = new Plane(vA, vB, vC,
                                                   1.0e-10 * (norm1(vA) + norm1(vB) + norm1(vC)));
                         final EnclosingBall<Point2D> disk =
-                                new DiskGenerator().ballOnSupport(Arrays.asList(p.toSubSpace(vA),
+                                new DiskGenerator(floatingPoint).ballOnSupport(Arrays.asList(p.toSubSpace(vA),
                                                                                 p.toSubSpace(vB),
                                                                                 p.toSubSpace(vC)));
 
@@ -66,6 +99,14 @@ public class SphereGenerator implements SupportBallGenerator<Point3D> {
 
                     } else {
                         final Point3D vD = support.get(3);
+                        if (floatingPoint) {
+                            final EnclosingBall<Point3D> fast = floatingPointBall(vA, vB, vC, vD);
+                            if (fast != null) {
+                                return fast;
+                            }
+                            // the support points are almost coplanar, use exact arithmetic
+                        }
+
                         // a sphere is 3D can be defined as:
                         // (1)   (x - x_0)^2 + (y - y_0)^2 + (z - z_0)^2 = r^2
                         // which can be written:
@@ -129,6 +170,88 @@ public class SphereGenerator implements SupportBallGenerator<Point3D> {
         }
     }
 
+    /** Compute the sphere on four support points using floating point arithmetic.
+     * <p>
+     * The center is computed relative to the first point, as the solution of
+     * the linear system expressing it is equidistant to all points, using
+     * Cramer's rule. The errors on the determinant and on the numerators are
+     * bounded using the sums of the absolute values of their terms.
+     * </p>
+     * @param vA first support point
+     * @param vB second support point
+     * @param vC third support point
+     * @param vD fourth support point
+     * @return sphere on the support points, or null if the error bound is too large
+     */
+    private EnclosingBall<Point3D> floatingPointBall(final Point3D vA, final Point3D vB,
+                                                     final Point3D vC, final Point3D vD) {
+
+        final double bx = vB.getX() - vA.getX();
+        final double by = vB.getY() - vA.getY();
+        final double bz = vB.getZ() - vA.getZ();
+        final double cx = vC.getX() - vA.getX();
+        final double cy = vC.getY() - vA.getY();
+        final double cz = vC.getZ() - vA.getZ();
+        final double dx = vD.getX() - vA.getX();
+        final double dy = vD.getY() - vA.getY();
+        final double dz = vD.getZ() - vA.getZ();
+        final double b2 = bx * bx + by * by + bz * bz;
+        final double c2 = cx * cx + cy * cy + cz * cz;
+        final double d2 = dx * dx + dy * dy + dz * dz;
+
+        // cross products c x d, d x b and b x c, with the sums of absolute values of their terms
+        final double cdx = cy * dz - cz * dy;
+        final double cdy = cz * dx - cx * dz;
+        final double cdz = cx * dy - cy * dx;
+        final double dbx = dy * bz - dz * by;
+        final double dby = dz * bx - dx * bz;
+        final double dbz = dx * by - dy * bx;
+        final double bcx = by * cz - bz * cy;
+        final double bcy = bz * cx - bx * cz;
+        final double bcz = bx * cy - by * cx;
+        final double cdxPerm = Math.abs(cy * dz) + Math.abs(cz * dy);
+        final double cdyPerm = Math.abs(cz * dx) + Math.abs(cx * dz);
+        final double cdzPerm = Math.abs(cx * dy) + Math.abs(cy * dx);
+        final double dbxPerm = Math.abs(dy * bz) + Math.abs(dz * by);
+        final double dbyPerm = Math.abs(dz * bx) + Math.abs(dx * bz);
+        final double dbzPerm = Math.abs(dx * by) + Math.abs(dy * bx);
+        final double bcxPerm = Math.abs(by * cz) + Math.abs(bz * cy);
+        final double bcyPerm = Math.abs(bz * cx) + Math.abs(bx * cz);
+        final double bczPerm = Math.abs(bx * cy) + Math.abs(by * cx);
+
+        final double det     = 2 * (bx * cdx + by * cdy + bz * cdz);
+        final double detPerm = 2 * (Math.abs(bx) * cdxPerm + Math.abs(by) * cdyPerm + Math.abs(bz) * cdzPerm);
+        final double nx      = b2 * cdx + c2 * dbx + d2 * bcx;
+        final double nxPerm  = b2 * cdxPerm + c2 * dbxPerm + d2 * bcxPerm;
+        final double ny      = b2 * cdy + c2 * dby + d2 * bcy;
+        final double nyPerm  = b2 * cdyPerm + c2 * dbyPerm + d2 * bcyPerm;
+        final double nz      = b2 * cdz + c2 * dbz + d2 * bcz;
+        final double nzPerm  = b2 * cdzPerm + c2 * dbzPerm + d2 * bczPerm;
+
+        final double absDet = Math.abs(det);
+        if (absDet <= ERROR_FACTOR * detPerm) {
+            // even the sign of the determinant is not reliable
+            return null;
+        }
+
+        final double ux = nx / det;
+        final double uy = ny / det;
+        final double uz = nz / det;
+        final double r  = Math.sqrt(ux * ux + uy * uy + uz * uz);
+
+        // first order bound on the error of the center
+        final double detError = ERROR_FACTOR * detPerm / absDet;
+        final double error    = ERROR_FACTOR * (nxPerm + nyPerm + nzPerm) / absDet +
+                                (Math.abs(ux) + Math.abs(uy) + Math.abs(uz)) * detError;
+        if (error > MAX_RELATIVE_ERROR * r) {
+            return null;
+        }
+
+        return new EnclosingBall<>(Point3D.of(vA.getX() + ux, vA.getY() + uy, vA.getZ() + uz), r,
+                                   vA, vB, vC, vD);
+
+    }
+
     /** Compute a dimension 4 minor, when 4<sup>th</sup> column is known to be filled with 1.0.
      * @param c1 first column
      * @param c2 second column
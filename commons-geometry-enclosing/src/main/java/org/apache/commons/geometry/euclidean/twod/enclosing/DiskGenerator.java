@@ -24,9 +24,42 @@ import org.apache.commons.geometry.euclidean.twod.Point2D;
 import org.apache.commons.numbers.fraction.BigFraction;
 
 /** Class generating an enclosing ball from its support points.
+ * <p>
+ * By default, the disk on three support points is computed using exact
+ * arithmetic with fractions, which is accurate but slow. Generators can also be
+ * built to compute it first using floating point arithmetic, together with a bound
+ * on its error. In this case, exact computation is used only if the support points
+ * are so close to collinear that this bound is too large. The center is then
+ * accurate to about 2<sup>-40</sup> times the radius, but is not always
+ * the correctly rounded exact center.
+ * </p>
  */
 public class DiskGenerator implements SupportBallGenerator<Point2D> {
 
+    /** Factor for the floating point errors bounds. */
+    private static final double ERROR_FACTOR = 16 * Math.ulp(1.0);
+
+    /** Maximum error on the floating point center, relative to the radius. */
+    private static final double MAX_RELATIVE_ERROR = 0x1.0p-40;
+
+    /** Indicator for floating point computation with exact fallback. */
+    private final boolean floatingPoint;
+
+    /** Simple constructor, using exact arithmetic.
+     */
+    public DiskGenerator() {
+        this(false);
+    }
+
+    /** Simple constructor.
+     * @param floatingPoint if true, floating point arithmetic is used, with
+     * fallback to exact arithmetic only for ill-conditioned supports, otherwise
+     * exact arithmetic is always used
+     */
+    public DiskGenerator(final boolean floatingPoint) {
+        this.floatingPoint = floatingPoint;
+    }
+
     /** {@inheritDoc} */
     @Override
     public EnclosingBall<Point2D> ballOnSupport(final List<Point2D> support) {
@@ -45,6 +78,14 @@ public class DiskGenerator implements SupportBallGenerator<Point2D> {
                                                                     vA, vB);
                 } else {
                     final Point2D vC = support.get(2);
+                    if (floatingPoint) {
+                        final EnclosingBall<Point2D> fast = floatingPointBall(vA, vB, vC);
+                        if (fast != null) {
+                            return fast;
+                        }
+                        // the support points are almost collinear, use exact arithmetic
+                    }
+
                     // a disk is 2D can be defined as:
                     // (1)   (x - x_0)^2 + (y - y_0)^2 = r^2
                     // which can be written:
@@ -94,6 +135,55 @@ public class DiskGenerator implements SupportBallGenerator<Point2D> {
         }
     }
 
+    /** Compute the disk on three support points using floating point arithmetic.
+     * <p>
+     * The center is computed relative to the first point, as the solution of
+     * the linear system expressing it is equidistant to all points, using
+     * Cramer's rule. The errors on the determinant and on the numerators are
+     * bounded using the sums of the absolute values of their terms.
+     * </p>
+     * @param vA first support point
+     * @param vB second support point
+     * @param vC third support point
+     * @return disk on the support points, or null if the error bound is too large
+     */
+    private EnclosingBall<Point2D> floatingPointBall(final Point2D vA, final Point2D vB, final Point2D vC) {
+
+        final double bx = vB.getX() - vA.getX();
+        final double by = vB.getY() - vA.getY();
+        final double cx = vC.getX() - vA.getX();
+        final double cy = vC.getY() - vA.getY();
+        final double b2 = bx * bx + by * by;
+        final double c2 = cx * cx + cy * cy;
+
+        final double d     = 2 * (bx * cy - by * cx);
+        final double dPerm = 2 * (Math.abs(bx * cy) + Math.abs(by * cx));
+        final double nx    = cy * b2 - by * c2;
+        final double nxPerm = Math.abs(cy) * b2 + Math.abs(by) * c2;
+        final double ny    = bx * c2 - cx * b2;
+        final double nyPerm = Math.abs(bx) * c2 + Math.abs(cx) * b2;
+
+        final double absD = Math.abs(d);
+        if (absD <= ERROR_FACTOR * dPerm) {
+            // even the sign of the determinant is not reliable
+            return null;
+        }
+
+        final double ux = nx / d;
+        final double uy = ny / d;
+        final double r  = Math.sqrt(ux * ux + uy * uy);
+
+        // first order bound on the error of the center
+        final double dError = ERROR_FACTOR * dPerm / absD;
+        final double error  = ERROR_FACTOR * (nxPerm + nyPerm) / absD + (Math.abs(ux) + Math.abs(uy)) * dError;
+        if (error > MAX_RELATIVE_ERROR * r) {
+            return null;
+        }
+
+        return new EnclosingBall<>(Point2D.of(vA.getX() + ux, vA.getY() + uy), r, vA, vB, vC);
+
+    }
+
     /** Compute a dimension 3 minor, when 3<sup>d</sup> column is known to be filled with 1.0.
      * @param c1 first column
      * @param c2 second column
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.enclosing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.geometry.core.Point;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.geometry.euclidean.threed.enclosing.SphereGenerator;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.enclosing.DiskGenerator;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class StreamingEncloserTest {
+
+    @Test
+    public void testNullList() {
+        StreamingEncloser<Point3D> encloser = new StreamingEncloser<>(1.0e-10, new SphereGenerator());
+        EnclosingBall<Point3D> ball = encloser.enclose((Iterable<Point3D>) null);
+        Assert.assertTrue(ball.getRadius() < 0);
+    }
+
+    @Test
+    public void testNoPoints() {
+        StreamingEncloser<Point3D> encloser = new StreamingEncloser<>(1.0e-10, new SphereGenerator());
+        EnclosingBall<Point3D> ball = encloser.enclose(new ArrayList<Point3D>());
+        Assert.assertTrue(ball.getRadius() < 0);
+        Assert.assertTrue(encloser.newAccumulator().getBall().getRadius() < 0);
+    }
+
+    @Test
+    public void testSinglePoint() {
+        StreamingEncloser<Point2D> encloser = new StreamingEncloser<>(1.0e-10, new DiskGenerator());
+        EnclosingBall<Point2D> ball = encloser.enclose(Collections.nCopies(3, Point2D.of(1, 2)));
+        Assert.assertEquals(0.0, ball.getRadius(), 0.0);
+        Assert.assertEquals(0.0, ball.getCenter().distance(Point2D.of(1, 2)), 0.0);
+        Assert.assertEquals(1, ball.getSupportSize());
+    }
+
+    @Test
+    public void testTwoPoints() {
+        StreamingEncloser<Point2D> encloser = new StreamingEncloser<>(1.0e-10, new DiskGenerator());
+        List<Point2D> list = new ArrayList<>();
+        list.add(Point2D.of(1, 1));
+        list.add(Point2D.of(5, 4));
+        EnclosingBall<Point2D> ball = encloser.enclose(list);
+        Assert.assertEquals(2.5, ball.getRadius(), 1.0e-15);
+        Assert.assertEquals(0.0, ball.getCenter().distance(Point2D.of(3, 2.5)), 1.0e-15);
+        Assert.assertSame(list.get(1), ball.getSupport()[0]);
+    }
+
+    @Test
+    public void testRandomPoints3D() {
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x2f21af1d5e6dbc01L);
+        StreamingEncloser<Point3D> streaming = new StreamingEncloser<>(1.0e-10, new SphereGenerator());
+        WelzlEncloser<Point3D> welzl = new WelzlEncloser<>(1.0e-10, new SphereGenerator());
+        for (int k = 0; k < 50; ++k) {
+
+            // define the reference sphere we want to compute
+            double refRadius = 10 * random.nextDouble();
+            Point3D refCenter = Point3D.of(10 * random.nextDouble(),
+                                           10 * random.nextDouble(),
+                                           10 * random.nextDouble());
+
+            // set up a large sample inside the reference sphere
+            int nbPoints = random.nextInt(1000);
+            List<Point3D> points = new ArrayList<>();
+            while (points.size() < nbPoints) {
+                double x = 2 * random.nextDouble() - 1;
+                double y = 2 * random.nextDouble() - 1;
+                double z = 2 * random.nextDouble() - 1;
+                if (x * x + y * y + z * z <= 1) {
+                    points.add(Point3D.vectorCombination(1.0, refCenter, refRadius, Point3D.of(x, y, z)));
+                }
+            }
+
+            // test streaming against Welzl
+            EnclosingBall<Point3D> ball = streaming.enclose(points.spliterator());
+            checkBall(ball, points);
+            if (nbPoints > 0) {
+                Assert.assertTrue(ball.getRadius() <= 1.5 * welzl.enclose(points).getRadius() + 1.0e-10);
+            }
+
+        }
+    }
+
+    @Test
+    public void testParallelStream() {
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x12faa818373ffe90L);
+        List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i < 100000; ++i) {
+            points.add(Point3D.of(random.nextDouble(), 2 * random.nextDouble(), 3 * random.nextDouble()));
+        }
+        StreamingEncloser<Point3D> encloser = new StreamingEncloser<>(1.0e-10, new SphereGenerator());
+
+        StreamingEncloser<Point3D>.Accumulator accumulator =
+                points.parallelStream().collect(encloser::newAccumulator,
+                                                StreamingEncloser.Accumulator::accept,
+                                                StreamingEncloser.Accumulator::combine);
+
+        EnclosingBall<Point3D> ball = accumulator.getBall();
+        checkBall(ball, points);
+        Assert.assertTrue(ball.getRadius() <=
+                          1.5 * new WelzlEncloser<>(1.0e-10, new SphereGenerator()).enclose(points).getRadius());
+    }
+
+    @Test
+    public void testCombine() {
+        StreamingEncloser<Point2D> encloser = new StreamingEncloser<>(1.0e-10, new DiskGenerator());
+        StreamingEncloser<Point2D>.Accumulator a1 = encloser.newAccumulator();
+        StreamingEncloser<Point2D>.Accumulator a2 = encloser.newAccumulator();
+        StreamingEncloser<Point2D>.Accumulator a3 = encloser.newAccumulator();
+        a1.accept(Point2D.of(-1, 0));
+        a1.accept(Point2D.of(1, 0));
+        a2.accept(Point2D.of(3, 0));
+        a2.accept(Point2D.of(5, 0));
+
+        // combining with an empty accumulator is a no-op
+        a1.combine(a3);
+        Assert.assertEquals(1.0, a1.getBall().getRadius(), 1.0e-15);
+
+        a1.combine(a2);
+        Assert.assertEquals(3.0, a1.getBall().getRadius(), 1.0e-15);
+        Assert.assertEquals(0.0, a1.getBall().getCenter().distance(Point2D.of(2, 0)), 1.0e-15);
+
+        // the larger ball already encloses the smaller one
+        a2.combine(a1);
+        Assert.assertEquals(3.0, a2.getBall().getRadius(), 1.0e-15);
+        a3.combine(a1);
+        Assert.assertEquals(3.0, a3.getBall().getRadius(), 1.0e-15);
+    }
+
+    @Test
+    public void testCombineSupportOnBoundary() {
+        // arrange
+        StreamingEncloser<Point2D> encloser = new StreamingEncloser<>(1.0e-10, new DiskGenerator());
+        StreamingEncloser<Point2D>.Accumulator a1 = encloser.newAccumulator();
+        StreamingEncloser<Point2D>.Accumulator a2 = encloser.newAccumulator();
+        a1.accept(Point2D.of(-1, 0));
+        a1.accept(Point2D.of(1, 0));
+        a2.accept(Point2D.of(3, 0));
+        a2.accept(Point2D.of(3, 2));
+
+        // act
+        a1.combine(a2);
+        EnclosingBall<Point2D> ball = a1.getBall();
+
+        // assert
+        Assert.assertEquals(1, ball.getSupportSize());
+        Assert.assertEquals(ball.getRadius(), ball.getSupport()[0].distance(ball.getCenter()), 1.0e-15);
+        Assert.assertEquals(1.0, ball.getSupport()[0].distance(Point2D.of(3, 1)), 1.0e-15);
+        checkBall(ball, Arrays.asList(Point2D.of(-1, 0), Point2D.of(1, 0), Point2D.of(3, 0), Point2D.of(3, 2)));
+    }
+
+    private <P extends Point<P>> void checkBall(EnclosingBall<P> ball, List<P> points) {
+        for (P point : points) {
+            Assert.assertTrue(ball.contains(point, 1.0e-10));
+        }
+    }
+
+}
@@ -94,6 +94,61 @@ public class WelzlEncloser2DTest {
         }
     }
 
+    @Test
+    public void testExtend() {
+        WelzlEncloser<Point2D> encloser = new WelzlEncloser<>(1.0e-10, new DiskGenerator());
+        EnclosingBall<Point2D> ball = encloser.enclose(buildList(-1, 0, 1, 0, 0, 0.5));
+        Assert.assertEquals(1.0, ball.getRadius(), 1.0e-10);
+
+        // extending with nothing or with inside points does not change the ball
+        Assert.assertSame(ball, WelzlEncloser.extend(encloser, ball, null));
+        Assert.assertSame(ball, WelzlEncloser.extend(encloser, ball, new ArrayList<Point2D>()));
+        EnclosingBall<Point2D> same = WelzlEncloser.extend(encloser, ball, buildList(0, 0.3, 0.2, -0.4));
+        Assert.assertEquals(ball.getCenter(), same.getCenter());
+        Assert.assertEquals(ball.getRadius(), same.getRadius(), 1.0e-10);
+
+        // extending an empty ball is the same as enclosing
+        EnclosingBall<Point2D> empty = encloser.enclose(null);
+        EnclosingBall<Point2D> fromEmpty = WelzlEncloser.extend(encloser, empty, buildList(-1, 0, 1, 0));
+        Assert.assertEquals(1.0, fromEmpty.getRadius(), 1.0e-10);
+
+        // extending with an outside point, the smallest ball on support is merged
+        // with the initial ball
+        EnclosingBall<Point2D> extended = WelzlEncloser.extend(encloser, ball, buildList(0, 3));
+        Assert.assertEquals(2.0, extended.getRadius(), 1.0e-10);
+        Assert.assertEquals(0.0, extended.getCenter().distance(Point2D.of(0, 1)), 1.0e-10);
+        Assert.assertEquals(2, extended.getSupportSize());
+        Assert.assertEquals(0.0, extended.getSupport()[0].distance(Point2D.of(0, -1)), 1.0e-10);
+        Assert.assertEquals(0.0, extended.getSupport()[1].distance(Point2D.of(0, 3)), 1.0e-10);
+
+        // the merged ball can be extended again
+        EnclosingBall<Point2D> again = WelzlEncloser.extend(encloser, extended, buildList(0, 1.5));
+        Assert.assertEquals(extended.getRadius(), again.getRadius(), 1.0e-10);
+
+        // extending with an outside point that leaves the initial ball inside
+        EnclosingBall<Point2D> grown = WelzlEncloser.extend(encloser, ball, buildList(0, 3, 0, -3));
+        Assert.assertEquals(3.0, grown.getRadius(), 1.0e-10);
+        Assert.assertEquals(0.0, grown.getCenter().distance(Point2D.ZERO), 1.0e-10);
+    }
+
+    @Test
+    public void testExtendKeepsInteriorPoint() {
+        // (0, 0.9) is inside the initial ball but not in its support, and
+        // the new point pulls the smallest ball on support away from it
+        WelzlEncloser<Point2D> encloser = new WelzlEncloser<>(1.0e-10, new DiskGenerator());
+        EnclosingBall<Point2D> ball = encloser.enclose(buildList(-1, 0, 1, 0, 0, 0.9));
+        EnclosingBall<Point2D> extended = WelzlEncloser.extend(encloser, ball, buildList(0, -5));
+        Assert.assertEquals(3.0, extended.getRadius(), 1.0e-10);
+        Assert.assertEquals(0.0, extended.getCenter().distance(Point2D.of(0, -2)), 1.0e-10);
+        Assert.assertEquals(2, extended.getSupportSize());
+        for (final Point2D p : extended.getSupport()) {
+            Assert.assertEquals(extended.getRadius(), p.distance(extended.getCenter()), 1.0e-10);
+        }
+        Assert.assertTrue(extended.contains(Point2D.of(0, 0.9), 1.0e-10));
+        Assert.assertTrue(extended.getCenter().distance(ball.getCenter()) + ball.getRadius() <=
+                          extended.getRadius() + 1.0e-10);
+    }
+
     private List<Point2D> buildList(final double ... coordinates) {
         List<Point2D> list = new ArrayList<>(coordinates.length / 2);
         for (int i = 0; i < coordinates.length; i += 2) {
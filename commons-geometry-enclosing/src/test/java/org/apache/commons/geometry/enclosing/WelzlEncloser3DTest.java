@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.euclidean.threed.Point3D;
 import org.apache.commons.geometry.euclidean.threed.enclosing.SphereGenerator;
@@ -124,6 +125,119 @@ public class WelzlEncloser3DTest {
         }
     }
 
+    @Test
+    public void testExtendByBatches() {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A,
+                                                                 0x51c3b7e9a20d4f68l);
+        final UnitSphereSampler sr = new UnitSphereSampler(3, random);
+        final WelzlEncloser<Point3D> encloser = new WelzlEncloser<>(1.0e-10, new SphereGenerator());
+        final List<Point3D> all = new ArrayList<>();
+        EnclosingBall<Point3D> ball = encloser.enclose(null);
+        for (int k = 0; k < 20; ++k) {
+
+            // each batch is drawn in a larger ball, so the ball keeps growing
+            final List<Point3D> batch = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                batch.add(Point3D.vectorCombination((k + 1) * random.nextDouble(), Point3D.ofArray(sr.nextVector())));
+            }
+            final EnclosingBall<Point3D> previous = ball;
+            ball = WelzlEncloser.extend(encloser, ball, batch);
+            all.addAll(batch);
+
+            // the extended ball encloses the new points and the whole former ball
+            for (final Point3D p : batch) {
+                Assert.assertTrue(ball.contains(p, 1.0e-10));
+            }
+            Assert.assertTrue(ball.getCenter().distance(previous.getCenter()) + previous.getRadius() <=
+                              ball.getRadius() + 1.0e-10);
+            for (final Point3D p : all) {
+                Assert.assertTrue(ball.contains(p, 1.0e-10));
+            }
+
+            // the support lies on the boundary, and the ball is never smaller than the smallest one
+            for (final Point3D s : ball.getSupport()) {
+                Assert.assertEquals(ball.getRadius(), s.distance(ball.getCenter()), 1.0e-10);
+            }
+            Assert.assertTrue(encloser.enclose(all).getRadius() <= ball.getRadius() + 1.0e-10);
+
+        }
+    }
+
+    @Test
+    public void testParallelSameAsSequential() {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A,
+                                                                 0x6d4a8d1f0e2b3c5al);
+        final UnitSphereSampler sr = new UnitSphereSampler(3, random);
+        final List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i < 50000; ++i) {
+            points.add(Point3D.vectorCombination(random.nextDouble(), Point3D.ofArray(sr.nextVector())));
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // act
+            final EnclosingBall<Point3D> expected =
+                    new WelzlEncloser<>(1.0e-10, new SphereGenerator()).enclose(points);
+            final EnclosingBall<Point3D> actual =
+                    new WelzlEncloser<>(1.0e-10, new SphereGenerator(), pool, 1000).enclose(points);
+
+            // assert
+            Assert.assertEquals(expected.getCenter(), actual.getCenter());
+            Assert.assertEquals(expected.getRadius(), actual.getRadius(), 0.0);
+            Assert.assertArrayEquals(expected.getSupport(), actual.getSupport());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPackedCoordinates() {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A,
+                                                                 0x1c2b3a4d5e6f7081l);
+        final UnitSphereSampler sr = new UnitSphereSampler(3, random);
+        final List<Point3D> points = new ArrayList<>();
+        final double[] coordinates = new double[3 * 20000];
+        for (int i = 0; i < coordinates.length / 3; ++i) {
+            final Point3D p = Point3D.vectorCombination(random.nextDouble(), Point3D.ofArray(sr.nextVector()));
+            points.add(p);
+            System.arraycopy(p.toArray(), 0, coordinates, 3 * i, 3);
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // act
+            final EnclosingBall<Point3D> expected =
+                    new WelzlEncloser<>(1.0e-10, new SphereGenerator()).enclose(points);
+            final EnclosingBall<Point3D> sequential =
+                    new WelzlEncloser<>(1.0e-10, new SphereGenerator()).
+                    enclose(coordinates, 3, Point3D::ofArray, Point3D::toArray);
+            final EnclosingBall<Point3D> parallel =
+                    new WelzlEncloser<>(1.0e-10, new SphereGenerator(), pool, 1000).
+                    enclose(coordinates, 3, Point3D::ofArray, Point3D::toArray);
+
+            // assert
+            Assert.assertEquals(expected.getCenter(), sequential.getCenter());
+            Assert.assertEquals(expected.getRadius(), sequential.getRadius(), 0.0);
+            Assert.assertEquals(expected.getCenter(), parallel.getCenter());
+            Assert.assertEquals(expected.getRadius(), parallel.getRadius(), 0.0);
+            Assert.assertTrue(new WelzlEncloser<>(1.0e-10, new SphereGenerator()).
+                              enclose(new double[0], 3, Point3D::ofArray, Point3D::toArray).getRadius() < 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackedCoordinatesWrongSize() {
+        new WelzlEncloser<>(1.0e-10, new SphereGenerator()).
+        enclose(new double[7], 3, Point3D::ofArray, Point3D::toArray);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new WelzlEncloser<>(1.0e-10, new SphereGenerator(), null, 0);
+    }
+
     private void checkSphere(List<Point3D> points, double refRadius) {
 
         EnclosingBall<Point3D> sphere = checkSphere(points);
@@ -150,6 +150,41 @@ public class SphereGeneratorTest {
         }
     }
 
+    @Test
+    public void testFloatingPointSameAsExact() {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A,
+                                                                 0x4b8e1d03fa27c659l);
+        final UnitSphereSampler sr = new UnitSphereSampler(3, random);
+        for (int i = 0; i < 1000; ++i) {
+            double d = 25 * random.nextDouble();
+            double refRadius = 10 * random.nextDouble();
+            Point3D refCenter = Point3D.vectorCombination(d, Point3D.ofArray(sr.nextVector()));
+            List<Point3D> support = new ArrayList<>();
+            for (int j = 0; j < 4; ++j) {
+                support.add(Point3D.vectorCombination(1.0, refCenter, refRadius, Point3D.ofArray(sr.nextVector())));
+            }
+            EnclosingBall<Point3D> exact = new SphereGenerator().ballOnSupport(support);
+            EnclosingBall<Point3D> fast  = new SphereGenerator(true).ballOnSupport(support);
+            Assert.assertEquals(0.0, exact.getCenter().distance(fast.getCenter()), 1e-12 * exact.getRadius());
+            Assert.assertEquals(exact.getRadius(), fast.getRadius(), 1e-12 * exact.getRadius());
+            Assert.assertArrayEquals(exact.getSupport(), fast.getSupport());
+        }
+    }
+
+    @Test
+    public void testFloatingPointNearlyCoplanar() {
+        // the fourth point is almost in the plane of the first three ones,
+        // so the floating point computation is ill-conditioned and exact arithmetic is used
+        List<Point3D> support = Arrays.asList(Point3D.of(1, 0, 0),
+                                              Point3D.of(0, 1, 0),
+                                              Point3D.of(-1, 0, 0),
+                                              Point3D.of(0, -1, 1.0e-14));
+        EnclosingBall<Point3D> exact = new SphereGenerator().ballOnSupport(support);
+        EnclosingBall<Point3D> fast  = new SphereGenerator(true).ballOnSupport(support);
+        Assert.assertEquals(exact.getCenter(), fast.getCenter());
+        Assert.assertEquals(exact.getRadius(), fast.getRadius(), 0.0);
+    }
+
     @Test
     public void testDegeneratedCase() {
        final List<Point3D> support =
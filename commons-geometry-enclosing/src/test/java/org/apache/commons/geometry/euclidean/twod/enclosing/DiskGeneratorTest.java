@@ -117,4 +117,39 @@ public class DiskGeneratorTest {
         }
 
     }
+
+    @Test
+    public void testFloatingPointSameAsExact() {
+        final UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A,
+                                                                 0x2a9e4c7b31d05f86l);
+        final UnitSphereSampler sr = new UnitSphereSampler(2, random);
+        for (int i = 0; i < 1000; ++i) {
+            double d = 25 * random.nextDouble();
+            double refRadius = 10 * random.nextDouble();
+            Point2D refCenter = Point2D.vectorCombination(d, Point2D.ofArray(sr.nextVector()));
+            List<Point2D> support = new ArrayList<>();
+            for (int j = 0; j < 3; ++j) {
+                support.add(Point2D.vectorCombination(1.0, refCenter, refRadius, Point2D.ofArray(sr.nextVector())));
+            }
+            EnclosingBall<Point2D> exact = new DiskGenerator().ballOnSupport(support);
+            EnclosingBall<Point2D> fast  = new DiskGenerator(true).ballOnSupport(support);
+            Assert.assertEquals(0.0, exact.getCenter().distance(fast.getCenter()), 1e-12 * exact.getRadius());
+            Assert.assertEquals(exact.getRadius(), fast.getRadius(), 1e-12 * exact.getRadius());
+            Assert.assertArrayEquals(exact.getSupport(), fast.getSupport());
+        }
+    }
+
+    @Test
+    public void testFloatingPointNearlyCollinear() {
+        // the third point is almost aligned with the first two ones,
+        // so the floating point computation is ill-conditioned and exact arithmetic is used
+        List<Point2D> support = Arrays.asList(Point2D.of(-1, 0),
+                                              Point2D.of(1, 0),
+                                              Point2D.of(0.5, 1.0e-14));
+        EnclosingBall<Point2D> exact = new DiskGenerator().ballOnSupport(support);
+        EnclosingBall<Point2D> fast  = new DiskGenerator(true).ballOnSupport(support);
+        Assert.assertEquals(exact.getCenter(), fast.getCenter());
+        Assert.assertEquals(exact.getRadius(), fast.getRadius(), 0.0);
+    }
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.oned;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.Hyperplane;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionCodec;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+
+/** Binary codec for {@link IntervalsSet intervals sets}.
+ * <p>Each {@link OrientedPoint oriented point} is encoded as its location,
+ * its orientation and its tolerance.</p>
+ * @see RegionCodec
+ */
+public class IntervalsSetCodec extends RegionCodec<Point1D, Point1D, IntervalsSet> {
+
+    /** Identifier of the space. */
+    private static final int SPACE = 1;
+
+    /** Simple constructor.
+     */
+    public IntervalsSetCodec() {
+        super(SPACE, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeHyperplane(final Hyperplane<Point1D> hyperplane, final DataOutput out)
+        throws IOException {
+        final OrientedPoint op = (OrientedPoint) hyperplane;
+        out.writeDouble(op.getLocation().getX());
+        out.writeBoolean(op.isDirect());
+        out.writeDouble(op.getTolerance());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected OrientedPoint readHyperplane(final DataInput in) throws IOException {
+        final double x         = in.readDouble();
+        final boolean direct   = in.readBoolean();
+        final double tolerance = in.readDouble();
+        return new OrientedPoint(Point1D.of(x), direct, tolerance);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected SubHyperplane<Point1D> buildSubHyperplane(final Hyperplane<Point1D> hyperplane,
+                                                        final Region<Point1D> remainingRegion) {
+        return new SubOrientedPoint(hyperplane, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected IntervalsSet buildRegion(final BSPTree<Point1D> tree, final double tolerance) {
+        return new IntervalsSet(tree, tolerance);
+    }
+
+}
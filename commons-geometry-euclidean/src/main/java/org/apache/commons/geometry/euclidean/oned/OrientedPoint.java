@@ -16,6 +16,7 @@
  */
 package org.apache.commons.geometry.euclidean.oned;
 
+import org.apache.commons.geometry.core.partitioning.AffineHyperplane;
 import org.apache.commons.geometry.core.partitioning.Hyperplane;
 
 /** This class represents a 1D oriented hyperplane.
@@ -23,7 +24,7 @@ import org.apache.commons.geometry.core.partitioning.Hyperplane;
  * boolean.</p>
  * <p>Instances of this class are guaranteed to be immutable.</p>
  */
-public class OrientedPoint implements Hyperplane<Point1D> {
+public class OrientedPoint implements AffineHyperplane<Point1D> {
 
     /** Point location. */
     private final Point1D location;
@@ -63,6 +64,14 @@ public class OrientedPoint implements Hyperplane<Point1D> {
         return direct ? delta : -delta;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public double[] getOffsetCoefficients() {
+        return direct ?
+               new double[] { 1.0, -location.getX() } :
+               new double[] { -1.0, location.getX() };
+    }
+
     /** Build a region covering the whole hyperplane.
      * <p>Since this class represent zero dimension spaces which does
      * not have lower dimension sub-spaces, this method returns a dummy
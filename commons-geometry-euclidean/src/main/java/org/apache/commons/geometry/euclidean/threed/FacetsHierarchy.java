@@ -0,0 +1,575 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
+import org.apache.commons.geometry.core.partitioning.BoundaryAttribute;
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.PolygonsSet;
+
+/** Bounding volume hierarchy over the boundary facets of a {@link PolyhedronsSet}.
+
+ * <p>This class is an acceleration structure for ray casting. The boundary
+ * facets of the polyhedrons set are enclosed in axis-aligned boxes, which are
+ * recursively grouped in a binary tree of larger boxes. A ray only tests the
+ * facets whose boxes it crosses, nearest boxes first, and stops as soon as no
+ * remaining box can hold a closer hit. Facets planes, in-plane frames and
+ * {@link CompactBSPTree frozen} polygons are stored in primitive arrays, so
+ * casting rays given by packed coordinates does not create any object.</p>
+
+ * <p>Instances are immutable snapshots of the boundary of the polyhedrons set
+ * at construction time. They can be shared between threads.</p>
+
+ * @see PolyhedronsSet#getFacetsHierarchy()
+ */
+public final class FacetsHierarchy {
+
+    /** Maximal number of facets in a leaf box. */
+    private static final int LEAF_SIZE = 4;
+
+    /** Number of plane parameters per facet (normal, offset, u and v vectors). */
+    private static final int PLANE_STRIDE = 10;
+
+    /** Threshold below which rays are considered parallel to planes. */
+    private static final double PARALLEL_THRESHOLD = 1.0e-10;
+
+    /** Tolerance below which points are considered to belong to a plane. */
+    private final double tolerance;
+
+    /** Boundary facets. */
+    private final SubPlane[] facets;
+
+    /** Frozen facets polygons, in the facets planes. */
+    private final List<CompactBSPTree<Point2D>> polygons;
+
+    /** Facets planes parameters. */
+    private final double[] planes;
+
+    /** Bounds of each box, as xMin, yMin, zMin, xMax, yMax, zMax. */
+    private final double[] bounds;
+
+    /** Index of the second child of each box (the first child is the next box), or -1 for leaf boxes. */
+    private final int[] second;
+
+    /** Index of the first facet of each leaf box in the {@link #order} array. */
+    private final int[] start;
+
+    /** Index after the last facet of each leaf box in the {@link #order} array. */
+    private final int[] end;
+
+    /** Facets indices, grouped by leaf box. */
+    private final int[] order;
+
+    /** Depth of the hierarchy. */
+    private final int depth;
+
+    /** Build the hierarchy of the boundary facets of a polyhedrons set.
+     * @param polyhedronsSet polyhedrons set whose boundary should be indexed
+     */
+    FacetsHierarchy(final PolyhedronsSet polyhedronsSet) {
+
+        this.tolerance = polyhedronsSet.getTolerance();
+
+        // gather the boundary facets
+        final FacetsCollector collector = new FacetsCollector();
+        polyhedronsSet.getTree(true).visit(collector);
+        final int n = collector.facets.size();
+        this.facets   = collector.facets.toArray(new SubPlane[n]);
+        this.polygons = new ArrayList<>(n);
+        this.planes   = new double[PLANE_STRIDE * n];
+
+        // set up the facets planes and bounds
+        final double[] facetsBounds = new double[6 * n];
+        final double[] centers      = new double[3 * n];
+        this.order = new int[n];
+        for (int f = 0; f < n; ++f) {
+            final Plane plane = (Plane) facets[f].getHyperplane();
+            final PolygonsSet polygon = (PolygonsSet) facets[f].getRemainingRegion();
+            polygons.add(polygon.freeze());
+            final double[] c = plane.getOffsetCoefficients();
+            System.arraycopy(c, 0, planes, PLANE_STRIDE * f, c.length);
+            System.arraycopy(plane.getU().toArray(), 0, planes, PLANE_STRIDE * f + 4, 3);
+            System.arraycopy(plane.getV().toArray(), 0, planes, PLANE_STRIDE * f + 7, 3);
+            facetBounds(plane, polygon, facetsBounds, 6 * f);
+            for (int k = 0; k < 3; ++k) {
+                centers[3 * f + k] = center(facetsBounds[6 * f + k], facetsBounds[6 * f + k + 3]);
+            }
+            order[f] = f;
+        }
+
+        // build the boxes hierarchy
+        final int maxBoxes = Math.max(1, 2 * n - 1);
+        this.bounds  = new double[6 * maxBoxes];
+        this.second  = new int[maxBoxes];
+        this.start   = new int[maxBoxes];
+        this.end     = new int[maxBoxes];
+        this.depth   = depth(n);
+        build(facetsBounds, centers, 0, n, 0);
+
+    }
+
+    /** Get the number of indexed boundary facets.
+     * @return number of indexed boundary facets
+     */
+    public int getFacetsCount() {
+        return facets.length;
+    }
+
+    /** Get the first boundary facet crossed by a semi-infinite line.
+     * @param point start point of the part of the line considered
+     * @param line line to consider (contains point)
+     * @return the first boundary facet crossed by the line after the
+     * given point, or null if the line does not intersect any facet
+     * @see PolyhedronsSet#firstIntersection(Point3D, Line)
+     */
+    public SubPlane firstIntersection(final Point3D point, final Line line) {
+        final Vector3D direction = line.getDirection();
+        final double[] ray = new double[] {
+            point.getX(), point.getY(), point.getZ(),
+            direction.getX(), direction.getY(), direction.getZ()
+        };
+        final int facet = cast(ray, 0, ray, 3, new int[depth + 1], new double[3]);
+        return (facet < 0) ? null : facets[facet];
+    }
+
+    /** Get the first boundary facets crossed by a batch of rays.
+     * <p>The origins and directions of all rays are packed in two arrays,
+     * ray i starting at (o[3i], o[3i+1], o[3i+2]) and going in direction
+     * (d[3i], d[3i+1], d[3i+2]). Directions do not need to be normalized,
+     * but they must not be zero.</p>
+     * @param origins array containing the packed rays origins
+     * @param directions array containing the packed rays directions
+     * @param hits array where to store the first facet crossed by each ray
+     * (null for rays that do not cross any facet), its length defines the
+     * number of rays
+     * @param distances array where to store the distance between each ray
+     * origin and its first crossed facet ({@code Double.POSITIVE_INFINITY}
+     * for rays that do not cross any facet)
+     * @exception IllegalArgumentException if the arrays sizes are not
+     * consistent with the number of rays
+     * @see #firstIntersection(Point3D, Line)
+     */
+    public void firstIntersections(final double[] origins, final double[] directions,
+                                   final SubPlane[] hits, final double[] distances) {
+
+        if (origins.length != 3 * hits.length || directions.length != 3 * hits.length ||
+            distances.length != hits.length) {
+            throw new IllegalArgumentException("Expected " + 3 * hits.length + " coordinates and " +
+                                               hits.length + " distances for " + hits.length +
+                                               " rays, got " + origins.length + " origins coordinates, " +
+                                               directions.length + " directions coordinates and " +
+                                               distances.length + " distances");
+        }
+
+        final int[]    stack   = new int[depth + 1];
+        final double[] scratch = new double[3];
+        for (int i = 0; i < hits.length; ++i) {
+            final int facet = cast(origins, 3 * i, directions, 3 * i, stack, scratch);
+            if (facet < 0) {
+                hits[i]      = null;
+                distances[i] = Double.POSITIVE_INFINITY;
+            } else {
+                final double dx = directions[3 * i];
+                final double dy = directions[3 * i + 1];
+                final double dz = directions[3 * i + 2];
+                hits[i]      = facets[facet];
+                distances[i] = scratch[2] * Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+        }
+
+    }
+
+    /** Cast one ray through the hierarchy.
+     * @param origins array containing the ray origin
+     * @param o index of the ray origin in the origins array
+     * @param directions array containing the ray direction
+     * @param d index of the ray direction in the directions array
+     * @param stack stack of boxes to visit (only used as a work array)
+     * @param scratch work array, containing at least 3 elements (the parameter
+     * of the hit along the ray direction is stored at index 2 on return)
+     * @return index of the first facet crossed, or -1 if no facet is crossed
+     */
+    private int cast(final double[] origins, final int o, final double[] directions, final int d,
+                     final int[] stack, final double[] scratch) {
+
+        final double ox = origins[o];
+        final double oy = origins[o + 1];
+        final double oz = origins[o + 2];
+        final double dx = directions[d];
+        final double dy = directions[d + 1];
+        final double dz = directions[d + 2];
+
+        int    best  = -1;
+        double tBest = Double.POSITIVE_INFINITY;
+        int    top   = 0;
+        if (facets.length > 0 && entry(0, ox, oy, oz, dx, dy, dz) <= tBest) {
+            stack[top++] = 0;
+        }
+
+        while (top > 0) {
+            final int box = stack[--top];
+            if (entry(box, ox, oy, oz, dx, dy, dz) > tBest) {
+                // a closer hit has been found since this box was pushed
+                continue;
+            }
+
+            if (second[box] < 0) {
+                // leaf box, check its facets
+                for (int i = start[box]; i < end[box]; ++i) {
+                    final int f = order[i];
+                    final double t = hit(f, ox, oy, oz, dx, dy, dz, scratch);
+                    if (t < tBest) {
+                        tBest = t;
+                        best  = f;
+                    }
+                }
+            } else {
+                // push the farthest child first, so the nearest one is visited first
+                final int    first  = box + 1;
+                final double tFirst  = entry(first, ox, oy, oz, dx, dy, dz);
+                final double tSecond = entry(second[box], ox, oy, oz, dx, dy, dz);
+                if (tFirst <= tSecond) {
+                    top = push(stack, top, second[box], tSecond, tBest);
+                    top = push(stack, top, first, tFirst, tBest);
+                } else {
+                    top = push(stack, top, first, tFirst, tBest);
+                    top = push(stack, top, second[box], tSecond, tBest);
+                }
+            }
+        }
+
+        scratch[2] = tBest;
+        return best;
+
+    }
+
+    /** Push a box on the stack if it may contain a hit closer than the best one.
+     * @param stack stack of boxes to visit
+     * @param top number of boxes in the stack
+     * @param box box to push
+     * @param tEntry entry parameter of the ray in the box
+     * @param tBest parameter of the best hit found so far
+     * @return new number of boxes in the stack
+     */
+    private static int push(final int[] stack, final int top, final int box,
+                            final double tEntry, final double tBest) {
+        if (tEntry <= tBest) {
+            stack[top] = box;
+            return top + 1;
+        }
+        return top;
+    }
+
+    /** Compute the parameter at which a ray enters a box.
+     * @param box box index
+     * @param ox abscissa of the ray origin
+     * @param oy ordinate of the ray origin
+     * @param oz height of the ray origin
+     * @param dx abscissa of the ray direction
+     * @param dy ordinate of the ray direction
+     * @param dz height of the ray direction
+     * @return parameter at which the ray enters the box (0 if the origin
+     * is already inside) or {@code Double.POSITIVE_INFINITY} if the ray
+     * misses the box
+     */
+    private double entry(final int box,
+                         final double ox, final double oy, final double oz,
+                         final double dx, final double dy, final double dz) {
+
+        final int b = 6 * box;
+        double tMin = 0;
+        double tMax = Double.POSITIVE_INFINITY;
+
+        // slabs tests, undefined values (NaN) put no constraint
+        for (int k = 0; k < 3; ++k) {
+            final double o = (k == 0) ? ox : ((k == 1) ? oy : oz);
+            final double d = (k == 0) ? dx : ((k == 1) ? dy : dz);
+            if (d == 0) {
+                if (o < bounds[b + k] || o > bounds[b + k + 3]) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            } else {
+                final double t1 = (bounds[b + k]     - o) / d;
+                final double t2 = (bounds[b + k + 3] - o) / d;
+                final double tLow  = (d > 0) ? t1 : t2;
+                final double tHigh = (d > 0) ? t2 : t1;
+                if (tLow > tMin) {
+                    tMin = tLow;
+                }
+                if (tHigh < tMax) {
+                    tMax = tHigh;
+                }
+            }
+        }
+
+        return (tMin <= tMax) ? tMin : Double.POSITIVE_INFINITY;
+
+    }
+
+    /** Compute the parameter at which a ray crosses a facet.
+     * @param f facet index
+     * @param ox abscissa of the ray origin
+     * @param oy ordinate of the ray origin
+     * @param oz height of the ray origin
+     * @param dx abscissa of the ray direction
+     * @param dy ordinate of the ray direction
+     * @param dz height of the ray direction
+     * @param scratch work array, containing at least 2 elements
+     * @return parameter at which the ray crosses the facet (0 if the origin
+     * belongs to the facet) or {@code Double.POSITIVE_INFINITY} if the ray
+     * misses the facet
+     */
+    private double hit(final int f,
+                       final double ox, final double oy, final double oz,
+                       final double dx, final double dy, final double dz,
+                       final double[] scratch) {
+
+        final int p = PLANE_STRIDE * f;
+        final double offset = planes[p] * ox + planes[p + 1] * oy + planes[p + 2] * oz + planes[p + 3];
+
+        final double t;
+        if (Math.abs(offset) < tolerance) {
+            // the origin is in the facet plane
+            t = 0;
+        } else {
+            final double norm = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            final double dot  = planes[p] * dx + planes[p + 1] * dy + planes[p + 2] * dz;
+            if (Math.abs(dot) < PARALLEL_THRESHOLD * norm) {
+                return Double.POSITIVE_INFINITY;
+            }
+            t = -offset / dot;
+            if (!(t > 0)) {
+                return Double.POSITIVE_INFINITY;
+            }
+        }
+
+        // check the crossing point against the facet polygon
+        final double x = ox + t * dx;
+        final double y = oy + t * dy;
+        final double z = oz + t * dz;
+        scratch[0] = planes[p + 4] * x + planes[p + 5] * y + planes[p + 6] * z;
+        scratch[1] = planes[p + 7] * x + planes[p + 8] * y + planes[p + 9] * z;
+        return (polygons.get(f).checkPoint(scratch, 0) == Location.INSIDE) ? t : Double.POSITIVE_INFINITY;
+
+    }
+
+    /** Build the hierarchy for a range of facets.
+     * @param facetsBounds bounds of all facets
+     * @param centers centers of the bounds of all facets
+     * @param from index of the first facet of the range in the {@link #order} array
+     * @param to index after the last facet of the range in the {@link #order} array
+     * @param box index of the box to build
+     * @return index of the first box after the ones built for the range
+     */
+    private int build(final double[] facetsBounds, final double[] centers,
+                      final int from, final int to, final int box) {
+
+        // compute the box bounds
+        final int b = 6 * box;
+        for (int k = 0; k < 3; ++k) {
+            bounds[b + k]     = Double.POSITIVE_INFINITY;
+            bounds[b + k + 3] = Double.NEGATIVE_INFINITY;
+        }
+        for (int i = from; i < to; ++i) {
+            final int f = 6 * order[i];
+            for (int k = 0; k < 3; ++k) {
+                bounds[b + k]     = Math.min(bounds[b + k],     facetsBounds[f + k]);
+                bounds[b + k + 3] = Math.max(bounds[b + k + 3], facetsBounds[f + k + 3]);
+            }
+        }
+
+        if (to - from <= LEAF_SIZE) {
+            second[box] = -1;
+            start[box]  = from;
+            end[box]    = to;
+            return box + 1;
+        }
+
+        // split the range at the median of the facets centers,
+        // along the axis where the centers are most spread
+        int    axis   = 0;
+        double spread = -1;
+        for (int k = 0; k < 3; ++k) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; ++i) {
+                min = Math.min(min, centers[3 * order[i] + k]);
+                max = Math.max(max, centers[3 * order[i] + k]);
+            }
+            if (max - min > spread) {
+                axis   = k;
+                spread = max - min;
+            }
+        }
+        final int middle = (from + to) >>> 1;
+        select(centers, axis, from, to, middle);
+
+        second[box] = build(facetsBounds, centers, from, middle, box + 1);
+        return build(facetsBounds, centers, middle, to, second[box]);
+
+    }
+
+    /** Compute the depth of the hierarchy built for some facets.
+     * <p>Ranges are split at their middle, so the deepest boxes are
+     * the ones along the upper half of each range.</p>
+     * @param n number of facets
+     * @return depth of the hierarchy
+     */
+    private static int depth(final int n) {
+        int d = 1;
+        for (int size = n; size > LEAF_SIZE; size -= size >>> 1) {
+            ++d;
+        }
+        return d;
+    }
+
+    /** Partially sort a range of facets around its k<sup>th</sup> element.
+     * <p>After the call, the facets before index k have centers below
+     * the center of facet k along the axis, and the facets after index k
+     * have centers above it.</p>
+     * @param centers centers of the bounds of all facets
+     * @param axis index of the coordinate to consider
+     * @param from index of the first facet of the range in the {@link #order} array
+     * @param to index after the last facet of the range in the {@link #order} array
+     * @param k index of the element to put in place
+     */
+    private void select(final double[] centers, final int axis, final int from, final int to, final int k) {
+        int low  = from;
+        int high = to - 1;
+        while (low < high) {
+            final double pivot = centers[3 * order[(low + high) >>> 1] + axis];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (centers[3 * order[i] + axis] < pivot) {
+                    ++i;
+                }
+                while (centers[3 * order[j] + axis] > pivot) {
+                    --j;
+                }
+                if (i <= j) {
+                    final int tmp = order[i];
+                    order[i++] = order[j];
+                    order[j--] = tmp;
+                }
+            }
+            if (k <= j) {
+                high = j;
+            } else if (k >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /** Compute the bounds of a facet.
+     * @param plane facet plane
+     * @param polygon facet polygon, in the plane
+     * @param facetsBounds array where to store the bounds
+     * @param index index of the first bound in the array
+     */
+    private void facetBounds(final Plane plane, final PolygonsSet polygon,
+                             final double[] facetsBounds, final int index) {
+
+        for (int k = 0; k < 3; ++k) {
+            facetsBounds[index + k]     = Double.POSITIVE_INFINITY;
+            facetsBounds[index + k + 3] = Double.NEGATIVE_INFINITY;
+        }
+
+        final Point2D[][] loops = polygon.getVertices();
+        boolean bounded = loops.length > 0 || polygon.isEmpty();
+        for (final Point2D[] loop : loops) {
+            for (final Point2D vertex : loop) {
+                if (vertex == null) {
+                    // open loop, the facet is unbounded
+                    bounded = false;
+                } else {
+                    final double[] v = plane.toSpace(vertex).toArray();
+                    for (int k = 0; k < 3; ++k) {
+                        facetsBounds[index + k]     = Math.min(facetsBounds[index + k],     v[k] - tolerance);
+                        facetsBounds[index + k + 3] = Math.max(facetsBounds[index + k + 3], v[k] + tolerance);
+                    }
+                }
+            }
+        }
+
+        if (!bounded) {
+            for (int k = 0; k < 3; ++k) {
+                facetsBounds[index + k]     = Double.NEGATIVE_INFINITY;
+                facetsBounds[index + k + 3] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+    }
+
+    /** Compute the center of an interval.
+     * @param min lower bound of the interval
+     * @param max upper bound of the interval
+     * @return center of the interval (0 for unbounded intervals)
+     */
+    private static double center(final double min, final double max) {
+        final double c = 0.5 * (min + max);
+        return Double.isNaN(c) || Double.isInfinite(c) ? 0 : c;
+    }
+
+    /** Visitor collecting boundary facets. */
+    private static class FacetsCollector implements BSPTreeVisitor<Point3D> {
+
+        /** Collected facets. */
+        private final List<SubPlane> facets = new ArrayList<>();
+
+        /** {@inheritDoc} */
+        @Override
+        public Order visitOrder(final BSPTree<Point3D> node) {
+            return Order.MINUS_SUB_PLUS;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitInternalNode(final BSPTree<Point3D> node) {
+            @SuppressWarnings("unchecked")
+            final BoundaryAttribute<Point3D> attribute =
+                (BoundaryAttribute<Point3D>) node.getAttribute();
+            add(attribute.getPlusOutside());
+            add(attribute.getPlusInside());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void visitLeafNode(final BSPTree<Point3D> node) {
+        }
+
+        /** Add a facet if it is not empty.
+         * @param facet facet to add (may be null)
+         */
+        private void add(final SubHyperplane<Point3D> facet) {
+            if (facet != null && !facet.isEmpty()) {
+                facets.add((SubPlane) facet);
+            }
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.geometry.euclidean.threed;
 
 import org.apache.commons.geometry.core.exception.IllegalNormException;
+import org.apache.commons.geometry.core.partitioning.AffineHyperplane;
 import org.apache.commons.geometry.core.partitioning.Embedding;
 import org.apache.commons.geometry.core.partitioning.Hyperplane;
 import org.apache.commons.geometry.euclidean.internal.Vectors;
@@ -26,7 +27,7 @@ import org.apache.commons.geometry.euclidean.twod.PolygonsSet;
 
 /** The class represent planes in a three dimensional space.
  */
-public class Plane implements Hyperplane<Point3D>, Embedding<Point3D, Point2D> {
+public class Plane implements AffineHyperplane<Point3D>, Embedding<Point3D, Point2D> {
 
     /** Offset of the origin with respect to the plane. */
     private double originOffset;
@@ -87,6 +88,27 @@ public class Plane implements Hyperplane<Point3D>, Embedding<Point3D, Point2D> {
         this(p1, p2.subtract(p1).crossProduct(p3.subtract(p1)), tolerance);
     }
 
+    /** Build a plane from its internal components.
+     * <p>This constructor does <em>not</em> check consistency of its
+     * arguments, it is intended for restoring a previously built plane.</p>
+     * @param originOffset offset of the origin with respect to the plane
+     * @param origin origin of the plane frame
+     * @param u first vector of the plane frame (in plane)
+     * @param v second vector of the plane frame (in plane)
+     * @param w third vector of the plane frame (plane normal)
+     * @param tolerance tolerance below which points are considered identical
+     */
+    Plane(final double originOffset, final Point3D origin,
+          final Vector3D u, final Vector3D v, final Vector3D w,
+          final double tolerance) {
+        this.originOffset = originOffset;
+        this.origin       = origin;
+        this.u            = u;
+        this.v            = v;
+        this.w            = w;
+        this.tolerance    = tolerance;
+    }
+
     /** Copy constructor.
      * <p>The instance created is completely independent of the original
      * one. A deep copy is used, none of the underlying object are
@@ -439,6 +461,12 @@ public class Plane implements Hyperplane<Point3D>, Embedding<Point3D, Point2D> {
         return point.asVector().dotProduct(w) + originOffset;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public double[] getOffsetCoefficients() {
+        return new double[] { w.getX(), w.getY(), w.getZ(), originOffset };
+    }
+
     /** Check if the instance has the same orientation as another hyperplane.
      * @param other other hyperplane to check against the instance
      * @return true if the instance and the other hyperplane have
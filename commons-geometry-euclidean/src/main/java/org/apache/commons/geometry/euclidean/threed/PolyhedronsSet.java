@@ -18,15 +18,21 @@ package org.apache.commons.geometry.euclidean.threed;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.Point;
 import org.apache.commons.geometry.core.partitioning.AbstractRegion;
 import org.apache.commons.geometry.core.partitioning.BSPTree;
 import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
 import org.apache.commons.geometry.core.partitioning.BoundaryAttribute;
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
+import org.apache.commons.geometry.core.partitioning.CutSelector;
 import org.apache.commons.geometry.core.partitioning.Hyperplane;
 import org.apache.commons.geometry.core.partitioning.Region;
 import org.apache.commons.geometry.core.partitioning.RegionFactory;
@@ -41,6 +47,9 @@ import org.apache.commons.geometry.euclidean.twod.SubLine;
  */
 public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
 
+    /** Bounding volume hierarchy of the boundary facets (built on demand). */
+    private FacetsHierarchy facetsHierarchy;
+
     /** Build a polyhedrons set representing the whole real line.
      * @param tolerance tolerance below which points are considered identical
      */
@@ -97,6 +106,21 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
         super(boundary, tolerance);
     }
 
+    /** Build a polyhedrons set from a Boundary REPresentation (B-rep), using a specific cut selector.
+     * <p>The boundary is interpreted as in the {@link #PolyhedronsSet(Collection, double)
+     * default B-rep constructor}, only the tree structure depends on the selector.</p>
+     * @param boundary collection of boundary elements, as a
+     * collection of {@link SubHyperplane SubHyperplane} objects
+     * @param selector selector for the boundary element used to cut each cell
+     * @param tolerance tolerance below which points are considered identical
+     * @see org.apache.commons.geometry.core.partitioning.CutSelectors
+     */
+    public PolyhedronsSet(final Collection<SubHyperplane<Point3D>> boundary,
+                          final CutSelector<Point3D> selector,
+                          final double tolerance) {
+        super(boundary, selector, tolerance);
+    }
+
     /** Build a polyhedrons set from a Boundary REPresentation (B-rep) specified by connected vertices.
      * <p>
      * The boundary is provided as a list of vertices and a list of facets.
@@ -176,40 +200,17 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
                                                                   final double tolerance) {
 
         // check vertices distances
-        for (int i = 0; i < vertices.size() - 1; ++i) {
-            final Point3D vi = vertices.get(i);
-            for (int j = i + 1; j < vertices.size(); ++j) {
-                if (vi.distance(vertices.get(j)) <= tolerance) {
-                    throw new IllegalArgumentException("Vertices are too close near point " + vi);
-                }
+        checkVerticesDistances(vertices, tolerance);
+
+        // check facets sizes
+        for (final int[] facet : facets) {
+            if (facet.length < 3) {
+                throw new IllegalArgumentException("3 points are required, got only " + facet.length);
             }
         }
 
-        // find how vertices are referenced by facets
-        final int[][] references = findReferences(vertices, facets);
-
-        // find how vertices are linked together by edges along the facets they belong to
-        final int[][] successors = successors(vertices, facets, references);
-
         // check edges orientations
-        for (int vA = 0; vA < vertices.size(); ++vA) {
-            for (final int vB : successors[vA]) {
-
-                if (vB >= 0) {
-                    // when facets are properly oriented, if vB is the successor of vA on facet f1,
-                    // then there must be an adjacent facet f2 where vA is the successor of vB
-                    boolean found = false;
-                    for (final int v : successors[vB]) {
-                        found = found || (v == vA);
-                    }
-                    if (!found) {
-                        final Point3D start = vertices.get(vA);
-                        final Point3D end   = vertices.get(vB);
-                        throw new IllegalArgumentException(MessageFormat.format("Edge joining points {0} and {1} is connected to one facet only", start, end));
-                    }
-                }
-            }
-        }
+        checkEdges(vertices, facets);
 
         final List<SubHyperplane<Point3D>> boundary = new ArrayList<>();
 
@@ -238,90 +239,121 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
 
     }
 
-    /** Find the facets that reference each edges.
+    /** Check no vertices are closer to each other than the tolerance.
+     * <p>
+     * Vertices are distributed in a grid of cubic cells with edges twice the
+     * tolerance (to be safe with respect to rounding in cells computation), so
+     * each vertex is only compared with the vertices of the 27 cells around it.
+     * </p>
      * @param vertices list of polyhedrons set vertices
-     * @param facets list of facets, as vertices indices in the vertices list
-     * @return references array such that r[v][k] = f for some k if facet f contains vertex v
-     * @exception IllegalArgumentException if some facets have fewer than 3 vertices
+     * @param tolerance tolerance below which points are considered identical
+     * @exception IllegalArgumentException if some vertices are too close
      */
-    private static int[][] findReferences(final List<Point3D> vertices, final List<int[]> facets) {
-
-        // find the maximum number of facets a vertex belongs to
-        final int[] nbFacets = new int[vertices.size()];
-        int maxFacets  = 0;
-        for (final int[] facet : facets) {
-            if (facet.length < 3) {
-                throw new IllegalArgumentException("3 points are required, got only " + facet.length);
-            }
-            for (final int index : facet) {
-                maxFacets = Math.max(maxFacets, ++nbFacets[index]);
+    private static void checkVerticesDistances(final List<Point3D> vertices, final double tolerance) {
+
+        // with a zero tolerance, only identical vertices are too close, any cell size works
+        final double cellSize = (tolerance > 0) ? 2 * tolerance : 1.0;
+
+        // cells content, as linked lists of vertices indices
+        final Map<Long, Integer> first = new HashMap<>();
+        final int[] next = new int[vertices.size()];
+
+        int closest = -1;
+        for (int j = 0; j < vertices.size(); ++j) {
+
+            final Point3D vj = vertices.get(j);
+            final long cx = (long) Math.floor(vj.getX() / cellSize);
+            final long cy = (long) Math.floor(vj.getY() / cellSize);
+            final long cz = (long) Math.floor(vj.getZ() / cellSize);
+
+            // compare with the vertices already stored in the neighboring cells
+            for (long dx = -1; dx <= 1; ++dx) {
+                for (long dy = -1; dy <= 1; ++dy) {
+                    for (long dz = -1; dz <= 1; ++dz) {
+                        final Integer head = first.get(cellKey(cx + dx, cy + dy, cz + dz));
+                        for (int i = (head == null) ? -1 : head; i >= 0; i = next[i]) {
+                            if ((closest < 0 || i < closest) && vertices.get(i).distance(vj) <= tolerance) {
+                                closest = i;
+                            }
+                        }
+                    }
+                }
             }
-        }
 
-        // set up the references array
-        final int[][] references = new int[vertices.size()][maxFacets];
-        for (int[] r : references) {
-            Arrays.fill(r, -1);
+            // store the vertex in its own cell
+            final Integer head = first.put(cellKey(cx, cy, cz), j);
+            next[j] = (head == null) ? -1 : head;
+
         }
-        for (int f = 0; f < facets.size(); ++f) {
-            for (final int v : facets.get(f)) {
-                // vertex v is referenced by facet f
-                int k = 0;
-                while (k < maxFacets && references[v][k] >= 0) {
-                    ++k;
-                }
-                references[v][k] = f;
-            }
+
+        if (closest >= 0) {
+            throw new IllegalArgumentException("Vertices are too close near point " + vertices.get(closest));
         }
 
-        return references;
+    }
 
+    /** Compute the key of a grid cell.
+     * <p>
+     * Different cells may share the same key, which only implies useless
+     * distance checks.
+     * </p>
+     * @param cx index of the cell along x
+     * @param cy index of the cell along y
+     * @param cz index of the cell along z
+     * @return key of the cell
+     */
+    private static Long cellKey(final long cx, final long cy, final long cz) {
+        return (cx * 0x9E3779B97F4A7C15L) ^ (cy * 0xC2B2AE3D27D4EB4FL) ^ (cz * 0x165667B19E3779F9L);
     }
 
-    /** Find the successors of all vertices among all facets they belong to.
+    /** Check facets orientations are consistent along edges.
+     * <p>
+     * When facets are properly oriented, each edge is traversed exactly once
+     * in each direction by the facets it belongs to.
+     * </p>
      * @param vertices list of polyhedrons set vertices
      * @param facets list of facets, as vertices indices in the vertices list
-     * @param references facets references array
-     * @return indices of vertices that follow vertex v in some facet (the array
-     * may contain extra entries at the end, set to negative indices)
-     * @exception IllegalArgumentException if the same vertex appears more than
-     * once in the successors list (which means one facet orientation is wrong)
-
+     * @exception IllegalArgumentException if some edge is traversed twice in the
+     * same direction (which means one facet orientation is wrong) or in only one
+     * direction (which means the edge is connected to one facet only)
      */
-    private static int[][] successors(final List<Point3D> vertices, final List<int[]> facets,
-                                      final int[][] references) {
-
-        // create an array large enough
-        final int[][] successors = new int[vertices.size()][references[0].length];
-        for (final int[] s : successors) {
-            Arrays.fill(s, -1);
-        }
+    private static void checkEdges(final List<Point3D> vertices, final List<int[]> facets) {
 
-        for (int v = 0; v < vertices.size(); ++v) {
-            for (int k = 0; k < successors[v].length && references[v][k] >= 0; ++k) {
-
-                // look for vertex v
-                final int[] facet = facets.get(references[v][k]);
-                int i = 0;
-                while (i < facet.length && facet[i] != v) {
-                    ++i;
+        // directed edges, with start vertex in the high bits and end vertex in the low bits
+        final Set<Long> edges = new HashSet<>();
+        for (final int[] facet : facets) {
+            for (int i = 0; i < facet.length; ++i) {
+                final int start = facet[i];
+                final int end   = facet[(i + 1) % facet.length];
+                if (!edges.add(edgeKey(start, end))) {
+                    throw new IllegalArgumentException(MessageFormat.format("Facet orientation mismatch around edge joining points {0} and {1}",
+                                                                            vertices.get(start), vertices.get(end)));
                 }
+            }
+        }
 
-                // we have found vertex v, we deduce its successor on current facet
-                successors[v][k] = facet[(i + 1) % facet.length];
-                for (int l = 0; l < k; ++l) {
-                    if (successors[v][l] == successors[v][k]) {
-                        final Point3D start = vertices.get(v);
-                        final Point3D end   = vertices.get(successors[v][k]);
-                        throw new IllegalArgumentException(MessageFormat.format("Facet orientation mismatch around edge joining points {0} and {1}", start, end));
-                    }
+        // if vB is the successor of vA on facet f1,
+        // then there must be an adjacent facet f2 where vA is the successor of vB
+        for (final int[] facet : facets) {
+            for (int i = 0; i < facet.length; ++i) {
+                final int start = facet[i];
+                final int end   = facet[(i + 1) % facet.length];
+                if (!edges.contains(edgeKey(end, start))) {
+                    throw new IllegalArgumentException(MessageFormat.format("Edge joining points {0} and {1} is connected to one facet only",
+                                                                            vertices.get(start), vertices.get(end)));
                 }
-
             }
         }
 
-        return successors;
+    }
 
+    /** Compute the key of a directed edge.
+     * @param start index of the start vertex
+     * @param end index of the end vertex
+     * @return key of the directed edge
+     */
+    private static Long edgeKey(final int start, final int end) {
+        return (((long) start) << 32) | (end & 0xFFFFFFFFL);
     }
 
     /** {@inheritDoc} */
@@ -333,6 +365,15 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
     /** {@inheritDoc} */
     @Override
     protected void computeGeometricalProperties() {
+        computeGeometricalProperties(null);
+    }
+
+    /** {@inheritDoc}
+     * <p>The facets contributions are accumulated in parallel for trees with
+     * more than {@link #PARALLEL_VISIT_THRESHOLD} nodes.</p>
+     */
+    @Override
+    protected void computeGeometricalProperties(final ForkJoinPool pool) {
         // check simple cases first
         if (isEmpty()) {
             setSize(0.0);
@@ -344,8 +385,15 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
         }
         else {
             // not empty or full; compute the contribution of all boundary facets
-            final FacetsContributionVisitor contributionVisitor = new FacetsContributionVisitor();
-            getTree(true).visit(contributionVisitor);
+            final FacetsContributionVisitor contributionVisitor;
+            if (pool == null) {
+                contributionVisitor = new FacetsContributionVisitor();
+                getTree(true).visit(contributionVisitor);
+            } else {
+                contributionVisitor = getTree(true).visit(FacetsContributionVisitor::new,
+                                                          FacetsContributionVisitor::combine,
+                                                          pool, PARALLEL_VISIT_THRESHOLD);
+            }
 
             final double size = contributionVisitor.getSize();
             final Point3D barycenter = contributionVisitor.getBarycenter();
@@ -406,6 +454,16 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
             return Point3D.vectorCombination(1.0 / (4 * getSize()), barycenterSum);
         }
 
+        /** Combine with the contributions accumulated by another visitor.
+         * @param other visitor that accumulated the contributions of other facets
+         * @return the instance, updated
+         */
+        public FacetsContributionVisitor combine(final FacetsContributionVisitor other) {
+            volumeSum    += other.volumeSum;
+            barycenterSum = Point3D.vectorCombination(1.0, barycenterSum, 1.0, other.barycenterSum);
+            return this;
+        }
+
         /** {@inheritDoc} */
         @Override
         public Order visitOrder(final BSPTree<Point3D> node) {
@@ -471,6 +529,59 @@ public class PolyhedronsSet extends AbstractRegion<Point3D, Point2D> {
         return recurseFirstIntersection(getTree(true), point, line);
     }
 
+    /** Get the first boundary facets crossed by a batch of rays.
+     * <p>The rays are given by their packed origins and directions, and cast
+     * through the {@link #getFacetsHierarchy() facets hierarchy}, so no
+     * object is created per ray.</p>
+     * @param origins array containing the packed rays origins
+     * @param directions array containing the packed rays directions
+     * @param hits array where to store the first facet crossed by each ray
+     * (null for rays that do not cross any facet), its length defines the
+     * number of rays
+     * @param distances array where to store the distance between each ray
+     * origin and its first crossed facet ({@code Double.POSITIVE_INFINITY}
+     * for rays that do not cross any facet)
+     * @exception IllegalArgumentException if the arrays sizes are not
+     * consistent with the number of rays
+     * @see FacetsHierarchy#firstIntersections(double[], double[], SubPlane[], double[])
+     */
+    public void firstIntersections(final double[] origins, final double[] directions,
+                                   final SubPlane[] hits, final double[] distances) {
+        getFacetsHierarchy().firstIntersections(origins, directions, hits, distances);
+    }
+
+    /** Check all the points of a cloud with respect to the region.
+     * <p>The points are checked against the {@link #freeze() frozen} tree,
+     * directly from the packed coordinates of the cloud.</p>
+     * @param cloud points to check
+     * @param locations array where to store the points status, its length
+     * must be at least the number of points in the cloud
+     * @see #checkPoint(Point)
+     */
+    public void checkPoints(final PointCloud3D cloud, final Location[] locations) {
+        final CompactBSPTree<Point3D> frozen = freeze();
+        final double[] coordinates = new double[3];
+        for (int i = 0; i < cloud.size(); ++i) {
+            coordinates[0] = cloud.getX(i);
+            coordinates[1] = cloud.getY(i);
+            coordinates[2] = cloud.getZ(i);
+            locations[i] = frozen.checkPoint(coordinates, 0);
+        }
+    }
+
+    /** Get the bounding volume hierarchy of the boundary facets.
+     * <p>The hierarchy accelerates ray casting against the region boundary.
+     * It is built on first call and reused afterwards, so the region tree
+     * should not be modified once the hierarchy has been built.</p>
+     * @return bounding volume hierarchy of the boundary facets
+     */
+    public FacetsHierarchy getFacetsHierarchy() {
+        if (facetsHierarchy == null) {
+            facetsHierarchy = new FacetsHierarchy(this);
+        }
+        return facetsHierarchy;
+    }
+
     /** Get the first sub-hyperplane crossed by a semi-infinite line.
      * @param node current node
      * @param point start point of the part of the line considered
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.Hyperplane;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionCodec;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.geometry.euclidean.twod.PolygonsSetCodec;
+
+/** Binary codec for {@link PolyhedronsSet polyhedrons sets}.
+ * <p>Each {@link Plane plane} is encoded as its complete frame (origin
+ * and the three axes), its origin offset and its tolerance, so decoded
+ * planes are identical to the original ones.</p>
+ * @see RegionCodec
+ */
+public class PolyhedronsSetCodec extends RegionCodec<Point3D, Point2D, PolyhedronsSet> {
+
+    /** Identifier of the space. */
+    private static final int SPACE = 3;
+
+    /** Simple constructor.
+     */
+    public PolyhedronsSetCodec() {
+        super(SPACE, new PolygonsSetCodec());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeHyperplane(final Hyperplane<Point3D> hyperplane, final DataOutput out)
+        throws IOException {
+        final Plane plane = (Plane) hyperplane;
+        final Point3D origin = plane.getOrigin();
+        out.writeDouble(origin.getX());
+        out.writeDouble(origin.getY());
+        out.writeDouble(origin.getZ());
+        writeVector(plane.getU(), out);
+        writeVector(plane.getV(), out);
+        writeVector(plane.getNormal(), out);
+        out.writeDouble(plane.getOffsetCoefficients()[3]);
+        out.writeDouble(plane.getTolerance());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Plane readHyperplane(final DataInput in) throws IOException {
+        final Point3D origin      = Point3D.of(in.readDouble(), in.readDouble(), in.readDouble());
+        final Vector3D u          = readVector(in);
+        final Vector3D v          = readVector(in);
+        final Vector3D w          = readVector(in);
+        final double originOffset = in.readDouble();
+        final double tolerance    = in.readDouble();
+        return new Plane(originOffset, origin, u, v, w, tolerance);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected SubHyperplane<Point3D> buildSubHyperplane(final Hyperplane<Point3D> hyperplane,
+                                                        final Region<Point2D> remainingRegion) {
+        return new SubPlane(hyperplane, remainingRegion);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PolyhedronsSet buildRegion(final BSPTree<Point3D> tree, final double tolerance) {
+        return new PolyhedronsSet(tree, tolerance);
+    }
+
+    /** Write a vector.
+     * @param vector vector to write
+     * @param out output to write to
+     * @exception IOException if the output cannot be written
+     */
+    private static void writeVector(final Vector3D vector, final DataOutput out) throws IOException {
+        out.writeDouble(vector.getX());
+        out.writeDouble(vector.getY());
+        out.writeDouble(vector.getZ());
+    }
+
+    /** Read a vector.
+     * @param in input to read from
+     * @return decoded vector
+     * @exception IOException if the input cannot be read
+     */
+    private static Vector3D readVector(final DataInput in) throws IOException {
+        final double x = in.readDouble();
+        final double y = in.readDouble();
+        final double z = in.readDouble();
+        return Vector3D.of(x, y, z);
+    }
+
+}
@@ -1162,6 +1162,144 @@ public class Rotation implements Serializable {
 
   }
 
+  /** Apply the rotation to a batch of vectors stored in an array.
+   * <p>
+   * The vectors are packed as x, y, z triplets. The rotation matrix is
+   * computed once for the whole batch, so this is much faster than
+   * rotating the vectors one at a time for large batches.
+   * </p>
+   * @param in array which stores the vectors to rotate
+   * @param inOffset index of the first coordinate of the first vector in {@code in}
+   * @param out array to put results to (it can be the same array as in,
+   * provided the offsets are also the same)
+   * @param outOffset index of the first coordinate of the first vector in {@code out}
+   * @param count number of vectors to rotate
+   */
+  public void applyTo(final double[] in, final int inOffset,
+                      final double[] out, final int outOffset, final int count) {
+      applyMatrix(getMatrix(), false, in, inOffset, out, outOffset, count);
+  }
+
+  /** Apply the inverse of the rotation to a batch of vectors stored in an array.
+   * <p>
+   * The vectors are packed as x, y, z triplets. The rotation matrix is
+   * computed once for the whole batch, so this is much faster than
+   * rotating the vectors one at a time for large batches.
+   * </p>
+   * @param in array which stores the vectors to rotate
+   * @param inOffset index of the first coordinate of the first vector in {@code in}
+   * @param out array to put results to (it can be the same array as in,
+   * provided the offsets are also the same)
+   * @param outOffset index of the first coordinate of the first vector in {@code out}
+   * @param count number of vectors to rotate
+   */
+  public void applyInverseTo(final double[] in, final int inOffset,
+                             final double[] out, final int outOffset, final int count) {
+      applyMatrix(getMatrix(), true, in, inOffset, out, outOffset, count);
+  }
+
+  /** Apply the rotation in place to a batch of vectors stored in separate coordinates arrays.
+   * <p>
+   * The rotation matrix is computed once for the whole batch, so this is
+   * much faster than rotating the vectors one at a time for large batches.
+   * </p>
+   * @param x array which stores the abscissas of the vectors to rotate
+   * @param y array which stores the ordinates of the vectors to rotate
+   * @param z array which stores the heights of the vectors to rotate
+   * @param offset index of the first vector to rotate
+   * @param count number of vectors to rotate
+   */
+  public void applyTo(final double[] x, final double[] y, final double[] z,
+                      final int offset, final int count) {
+      applyMatrix(getMatrix(), false, x, y, z, offset, count);
+  }
+
+  /** Apply the inverse of the rotation in place to a batch of vectors stored in separate coordinates arrays.
+   * <p>
+   * The rotation matrix is computed once for the whole batch, so this is
+   * much faster than rotating the vectors one at a time for large batches.
+   * </p>
+   * @param x array which stores the abscissas of the vectors to rotate
+   * @param y array which stores the ordinates of the vectors to rotate
+   * @param z array which stores the heights of the vectors to rotate
+   * @param offset index of the first vector to rotate
+   * @param count number of vectors to rotate
+   */
+  public void applyInverseTo(final double[] x, final double[] y, final double[] z,
+                             final int offset, final int count) {
+      applyMatrix(getMatrix(), true, x, y, z, offset, count);
+  }
+
+  /** Multiply a batch of packed vectors by a matrix.
+   * @param m matrix to apply
+   * @param transpose if true, the transpose of the matrix is applied
+   * @param in array which stores the vectors to multiply
+   * @param inOffset index of the first coordinate of the first vector in {@code in}
+   * @param out array to put results to
+   * @param outOffset index of the first coordinate of the first vector in {@code out}
+   * @param count number of vectors to multiply
+   */
+  private static void applyMatrix(final double[][] m, final boolean transpose,
+                                  final double[] in, final int inOffset,
+                                  final double[] out, final int outOffset, final int count) {
+
+      final double m00 = m[0][0];
+      final double m01 = transpose ? m[1][0] : m[0][1];
+      final double m02 = transpose ? m[2][0] : m[0][2];
+      final double m10 = transpose ? m[0][1] : m[1][0];
+      final double m11 = m[1][1];
+      final double m12 = transpose ? m[2][1] : m[1][2];
+      final double m20 = transpose ? m[0][2] : m[2][0];
+      final double m21 = transpose ? m[1][2] : m[2][1];
+      final double m22 = m[2][2];
+
+      for (int i = 0; i < count; ++i) {
+          final int    k = inOffset  + 3 * i;
+          final int    l = outOffset + 3 * i;
+          final double x = in[k];
+          final double y = in[k + 1];
+          final double z = in[k + 2];
+          out[l]     = m00 * x + m01 * y + m02 * z;
+          out[l + 1] = m10 * x + m11 * y + m12 * z;
+          out[l + 2] = m20 * x + m21 * y + m22 * z;
+      }
+
+  }
+
+  /** Multiply in place a batch of vectors stored in separate coordinates arrays by a matrix.
+   * @param m matrix to apply
+   * @param transpose if true, the transpose of the matrix is applied
+   * @param x array which stores the abscissas of the vectors to multiply
+   * @param y array which stores the ordinates of the vectors to multiply
+   * @param z array which stores the heights of the vectors to multiply
+   * @param offset index of the first vector to multiply
+   * @param count number of vectors to multiply
+   */
+  private static void applyMatrix(final double[][] m, final boolean transpose,
+                                  final double[] x, final double[] y, final double[] z,
+                                  final int offset, final int count) {
+
+      final double m00 = m[0][0];
+      final double m01 = transpose ? m[1][0] : m[0][1];
+      final double m02 = transpose ? m[2][0] : m[0][2];
+      final double m10 = transpose ? m[0][1] : m[1][0];
+      final double m11 = m[1][1];
+      final double m12 = transpose ? m[2][1] : m[1][2];
+      final double m20 = transpose ? m[0][2] : m[2][0];
+      final double m21 = transpose ? m[1][2] : m[2][1];
+      final double m22 = m[2][2];
+
+      for (int i = offset; i < offset + count; ++i) {
+          final double xi = x[i];
+          final double yi = y[i];
+          final double zi = z[i];
+          x[i] = m00 * xi + m01 * yi + m02 * zi;
+          y[i] = m10 * xi + m11 * yi + m12 * zi;
+          z[i] = m20 * xi + m21 * yi + m22 * zi;
+      }
+
+  }
+
   /** Apply the instance to another rotation.
    * <p>
    * Calling this method is equivalent to call
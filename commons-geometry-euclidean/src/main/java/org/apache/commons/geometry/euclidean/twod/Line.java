@@ -16,6 +16,7 @@
  */
 package org.apache.commons.geometry.euclidean.twod;
 
+import org.apache.commons.geometry.core.partitioning.AffineHyperplane;
 import org.apache.commons.geometry.core.partitioning.Embedding;
 import org.apache.commons.geometry.core.partitioning.Hyperplane;
 import org.apache.commons.geometry.core.partitioning.SubHyperplane;
@@ -50,7 +51,7 @@ import org.apache.commons.numbers.arrays.LinearCombination;
  * left half plane is the set of points with negative offsets and the
  * right half plane is the set of points with positive offsets.</p>
  */
-public class Line implements Hyperplane<Point2D>, Embedding<Point2D, Point1D> {
+public class Line implements AffineHyperplane<Point2D>, Embedding<Point2D, Point1D> {
     /** Angle with respect to the abscissa axis. */
     private double angle;
 
@@ -97,8 +98,8 @@ public class Line implements Hyperplane<Point2D>, Embedding<Point2D, Point1D> {
      * @param originOffset offset of the origin
      * @param tolerance tolerance below which points are considered identical
      */
-    private Line(final double angle, final double cos, final double sin,
-                 final double originOffset, final double tolerance) {
+    Line(final double angle, final double cos, final double sin,
+         final double originOffset, final double tolerance) {
         this.angle        = angle;
         this.cos          = cos;
         this.sin          = sin;
@@ -285,6 +286,12 @@ public class Line implements Hyperplane<Point2D>, Embedding<Point2D, Point1D> {
         return LinearCombination.value(sin, point.getX(), -cos, point.getY(), 1.0, originOffset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public double[] getOffsetCoefficients() {
+        return new double[] { sin, -cos, originOffset };
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean sameOrientationAs(final Hyperplane<Point2D> other) {
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/** Packed set of points in two-dimensional Euclidean space.
+ * <p>The coordinates are stored in two primitive arrays (structure of
+ * arrays form), so a cloud of n points costs 16n bytes instead of the
+ * object headers and references of n {@link Point2D} instances. Bulk
+ * operations work directly on the arrays.</p>
+ * <p>The cloud is also a {@link java.util.List list} of points, so it can be
+ * given directly to the APIs consuming collections or iterables of points,
+ * like convex hull generators or enclosing balls computations. In this
+ * case, the {@link Point2D} instances are created on the fly as elements
+ * are retrieved. Points can be added and replaced, but not removed.</p>
+ * <p>Instances of this class are not thread-safe.</p>
+ */
+public class PointCloud2D extends AbstractList<Point2D> implements RandomAccess {
+
+    /** Default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Abscissas of the points. */
+    private double[] x;
+
+    /** Ordinates of the points. */
+    private double[] y;
+
+    /** Number of points. */
+    private int size;
+
+    /** Build an empty cloud.
+     */
+    public PointCloud2D() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** Build an empty cloud with a specified initial capacity.
+     * @param capacity initial capacity, in number of points
+     */
+    public PointCloud2D(final int capacity) {
+        this.x    = new double[capacity];
+        this.y    = new double[capacity];
+        this.size = 0;
+    }
+
+    /** Build a cloud containing the specified points.
+     * @param points points to put in the cloud
+     */
+    public PointCloud2D(final Collection<Point2D> points) {
+        this(points.size());
+        for (final Point2D point : points) {
+            add(point.getX(), point.getY());
+        }
+    }
+
+    /** Build a cloud from packed coordinates.
+     * @param coordinates array containing the packed points coordinates,
+     * point i being (c[2i], c[2i+1])
+     * @return a new cloud containing the points
+     * @exception IllegalArgumentException if the number of coordinates
+     * is not a multiple of 2
+     */
+    public static PointCloud2D ofPacked(final double[] coordinates) {
+        if (coordinates.length % 2 != 0) {
+            throw new IllegalArgumentException("Expected a multiple of 2 coordinates, got " +
+                                               coordinates.length);
+        }
+        final PointCloud2D cloud = new PointCloud2D(coordinates.length / 2);
+        for (int i = 0; i < coordinates.length; i += 2) {
+            cloud.add(coordinates[i], coordinates[i + 1]);
+        }
+        return cloud;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Point2D get(final int index) {
+        checkIndex(index);
+        return Point2D.of(x[index], y[index]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Point2D set(final int index, final Point2D point) {
+        final Point2D previous = get(index);
+        x[index] = point.getX();
+        y[index] = point.getY();
+        return previous;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean add(final Point2D point) {
+        add(point.getX(), point.getY());
+        return true;
+    }
+
+    /** Add a point to the cloud.
+     * @param px abscissa of the point
+     * @param py ordinate of the point
+     */
+    public void add(final double px, final double py) {
+        if (size == x.length) {
+            final int capacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+        }
+        x[size] = px;
+        y[size] = py;
+        ++size;
+        ++modCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        size = 0;
+        ++modCount;
+    }
+
+    /** Get the abscissa of a point.
+     * @param index index of the point
+     * @return abscissa of the point
+     */
+    public double getX(final int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    /** Get the ordinate of a point.
+     * @param index index of the point
+     * @return ordinate of the point
+     */
+    public double getY(final int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    /** Get the packed coordinates of the points.
+     * <p>This is the layout expected by the batch methods of regions,
+     * like {@link PolygonsSet#checkPoints(double[],
+     * org.apache.commons.geometry.core.partitioning.Region.Location[])}.</p>
+     * @return a new array containing the packed points coordinates,
+     * point i being (c[2i], c[2i+1])
+     */
+    public double[] toPackedArray() {
+        final double[] coordinates = new double[2 * size];
+        for (int i = 0; i < size; ++i) {
+            coordinates[2 * i]     = x[i];
+            coordinates[2 * i + 1] = y[i];
+        }
+        return coordinates;
+    }
+
+    /** Translate all points in place.
+     * @param translation translation to apply
+     */
+    public void translate(final Vector2D translation) {
+        final double tx = translation.getX();
+        final double ty = translation.getY();
+        for (int i = 0; i < size; ++i) {
+            x[i] += tx;
+            y[i] += ty;
+        }
+    }
+
+    /** Rotate all points in place around a center.
+     * <p>The sine and cosine of the angle are computed once for all points.</p>
+     * @param center rotation center
+     * @param angle rotation angle, positive angles rotating counterclockwise
+     */
+    public void rotate(final Point2D center, final double angle) {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        final double cx  = center.getX();
+        final double cy  = center.getY();
+        for (int i = 0; i < size; ++i) {
+            final double dx = x[i] - cx;
+            final double dy = y[i] - cy;
+            x[i] = cx + cos * dx - sin * dy;
+            y[i] = cy + sin * dx + cos * dy;
+        }
+    }
+
+    /** Get the centroid of the points.
+     * @return centroid of the points ({@link Point2D#NaN} if the cloud is empty)
+     */
+    public Point2D getCentroid() {
+        if (size == 0) {
+            return Point2D.NaN;
+        }
+        double sx = 0;
+        double sy = 0;
+        for (int i = 0; i < size; ++i) {
+            sx += x[i];
+            sy += y[i];
+        }
+        return Point2D.of(sx / size, sy / size);
+    }
+
+    /** Get the lower corner of the axis-aligned bounding box of the points.
+     * @return lower corner of the bounding box ({@link Point2D#POSITIVE_INFINITY}
+     * if the cloud is empty)
+     */
+    public Point2D getMin() {
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; ++i) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+        }
+        return Point2D.of(minX, minY);
+    }
+
+    /** Get the upper corner of the axis-aligned bounding box of the points.
+     * @return upper corner of the bounding box ({@link Point2D#NEGATIVE_INFINITY}
+     * if the cloud is empty)
+     */
+    public Point2D getMax() {
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; ++i) {
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        return Point2D.of(maxX, maxY);
+    }
+
+    /** Compute the distances between all points and a reference point.
+     * @param point reference point
+     * @param distances array where to store the distances, its length
+     * must be at least the number of points in the cloud
+     */
+    public void distances(final Point2D point, final double[] distances) {
+        final double px = point.getX();
+        final double py = point.getY();
+        for (int i = 0; i < size; ++i) {
+            final double dx = x[i] - px;
+            final double dy = y[i] - py;
+            distances[i] = Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+
+    /** Find the point closest to a reference point.
+     * @param point reference point
+     * @return index of the closest point, or -1 if the cloud is empty
+     */
+    public int nearest(final Point2D point) {
+        return extremum(point, -1.0);
+    }
+
+    /** Find the point farthest from a reference point.
+     * @param point reference point
+     * @return index of the farthest point, or -1 if the cloud is empty
+     */
+    public int farthest(final Point2D point) {
+        return extremum(point, 1.0);
+    }
+
+    /** Find the point with extremal distance to a reference point.
+     * @param point reference point
+     * @param sign sign to apply to squared distances before maximizing them
+     * @return index of the extremal point, or -1 if the cloud is empty
+     */
+    private int extremum(final Point2D point, final double sign) {
+        final double px = point.getX();
+        final double py = point.getY();
+        int    best  = -1;
+        double score = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; ++i) {
+            final double dx = x[i] - px;
+            final double dy = y[i] - py;
+            final double s  = sign * (dx * dx + dy * dy);
+            if (s > score) {
+                best  = i;
+                score = s;
+            }
+        }
+        return best;
+    }
+
+    /** Check an index.
+     * @param index index to check
+     * @exception IndexOutOfBoundsException if the index is not
+     * between 0 (included) and the number of points (excluded)
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+}
@@ -25,6 +25,8 @@ import org.apache.commons.geometry.core.partitioning.AbstractSubHyperplane;
 import org.apache.commons.geometry.core.partitioning.BSPTree;
 import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
 import org.apache.commons.geometry.core.partitioning.BoundaryAttribute;
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
+import org.apache.commons.geometry.core.partitioning.CutSelector;
 import org.apache.commons.geometry.core.partitioning.Hyperplane;
 import org.apache.commons.geometry.core.partitioning.Side;
 import org.apache.commons.geometry.core.partitioning.SubHyperplane;
@@ -96,6 +98,20 @@ public class PolygonsSet extends AbstractRegion<Point2D, Point1D> {
         super(boundary, tolerance);
     }
 
+    /** Build a polygons set from a Boundary REPresentation (B-rep), using a specific cut selector.
+     * <p>The boundary is interpreted as in the {@link #PolygonsSet(Collection, double)
+     * default B-rep constructor}, only the tree structure depends on the selector.</p>
+     * @param boundary collection of boundary elements, as a
+     * collection of {@link SubHyperplane SubHyperplane} objects
+     * @param selector selector for the boundary element used to cut each cell
+     * @param tolerance tolerance below which points are considered identical
+     * @see org.apache.commons.geometry.core.partitioning.CutSelectors
+     */
+    public PolygonsSet(final Collection<SubHyperplane<Point2D>> boundary, final CutSelector<Point2D> selector,
+                       final double tolerance) {
+        super(boundary, selector, tolerance);
+    }
+
     /** Build a parallellepipedic box.
      * @param xMin low bound along the x direction
      * @param xMax high bound along the x direction
@@ -531,6 +547,24 @@ public class PolygonsSet extends AbstractRegion<Point2D, Point1D> {
         return new PolygonsSet(tree, getTolerance());
     }
 
+    /** Check all the points of a cloud with respect to the region.
+     * <p>The points are checked against the {@link #freeze() frozen} tree,
+     * directly from the packed coordinates of the cloud.</p>
+     * @param cloud points to check
+     * @param locations array where to store the points status, its length
+     * must be at least the number of points in the cloud
+     * @see #checkPoint(org.apache.commons.geometry.core.Point)
+     */
+    public void checkPoints(final PointCloud2D cloud, final Location[] locations) {
+        final CompactBSPTree<Point2D> frozen = freeze();
+        final double[] coordinates = new double[2];
+        for (int i = 0; i < cloud.size(); ++i) {
+            coordinates[0] = cloud.getX(i);
+            coordinates[1] = cloud.getY(i);
+            locations[i] = frozen.checkPoint(coordinates, 0);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void computeGeometricalProperties() {
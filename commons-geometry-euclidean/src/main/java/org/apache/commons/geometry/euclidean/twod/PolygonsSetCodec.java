@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.Hyperplane;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionCodec;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.oned.IntervalsSetCodec;
+import org.apache.commons.geometry.euclidean.oned.Point1D;
+
+/** Binary codec for {@link PolygonsSet polygons sets}.
+ * <p>Each {@link Line line} is encoded as its angle, the cosine and sine
+ * of this angle, its origin offset and its tolerance, so decoded lines
+ * are identical to the original ones.</p>
+ * @see RegionCodec
+ */
+public class PolygonsSetCodec extends RegionCodec<Point2D, Point1D, PolygonsSet> {
+
+    /** Identifier of the space. */
+    private static final int SPACE = 2;
+
+    /** Simple constructor.
+     */
+    public PolygonsSetCodec() {
+        super(SPACE, new IntervalsSetCodec());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeHyperplane(final Hyperplane<Point2D> hyperplane, final DataOutput out)
+        throws IOException {
+        final Line line = (Line) hyperplane;
+        final double[] coefficients = line.getOffsetCoefficients();
+        out.writeDouble(line.getAngle());
+        out.writeDouble(-coefficients[1]);
+        out.writeDouble(coefficients[0]);
+        out.writeDouble(coefficients[2]);
+        out.writeDouble(line.getTolerance());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Line readHyperplane(final DataInput in) throws IOException {
+        final double angle        = in.readDouble();
+        final double cos          = in.readDouble();
+        final double sin          = in.readDouble();
+        final double originOffset = in.readDouble();
+        final double tolerance    = in.readDouble();
+        return new Line(angle, cos, sin, originOffset, tolerance);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected SubHyperplane<Point2D> buildSubHyperplane(final Hyperplane<Point2D> hyperplane,
+                                                        final Region<Point1D> remainingRegion) {
+        return new SubLine(hyperplane, remainingRegion);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PolygonsSet buildRegion(final BSPTree<Point2D> tree, final double tolerance) {
+        return new PolygonsSet(tree, tolerance);
+    }
+
+}
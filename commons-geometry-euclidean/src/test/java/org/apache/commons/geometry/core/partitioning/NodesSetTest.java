@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.core.partitioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.junit.Assert;
+import org.junit.Test;
+
+/** Tests for {@link NodesSet}. This is designed to test code in
+ * commons-geometry-core but is placed here to allow access to the euclidean
+ * spatial primitives.
+ */
+public class NodesSetTest {
+
+    @Test
+    public void testAdd_small() {
+        // arrange
+        NodesSet<Point2D> set = new NodesSet<>();
+        BSPTree<Point2D> a = new BSPTree<>(Boolean.TRUE);
+        BSPTree<Point2D> b = new BSPTree<>(Boolean.TRUE);
+
+        // act
+        set.add(a);
+        set.add(b);
+        set.add(a);
+
+        // assert
+        checkContent(set, Arrays.asList(a, b));
+    }
+
+    @Test
+    public void testAdd_large() {
+        // arrange
+        NodesSet<Point2D> set = new NodesSet<>();
+        List<BSPTree<Point2D>> nodes = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            nodes.add(new BSPTree<Point2D>(Boolean.FALSE));
+        }
+
+        // act
+        for (int i = 0; i < nodes.size(); ++i) {
+            set.add(nodes.get(i));
+            set.add(nodes.get(i / 2));
+        }
+        set.addAll(nodes);
+
+        // assert
+        checkContent(set, nodes);
+    }
+
+    @Test
+    public void testAdd_identity() {
+        // arrange
+        NodesSet<Point2D> set = new NodesSet<>();
+        List<BSPTree<Point2D>> nodes = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            // all nodes are equal with respect to content, but are still distinct
+            nodes.add(new BSPTree<Point2D>(Boolean.TRUE));
+        }
+
+        // act
+        set.addAll(nodes);
+
+        // assert
+        checkContent(set, nodes);
+    }
+
+    @Test
+    public void testAdd_afterCompact() {
+        // arrange
+        NodesSet<Point2D> set = new NodesSet<>();
+        List<BSPTree<Point2D>> nodes = new ArrayList<>();
+        for (int i = 0; i < 40; ++i) {
+            nodes.add(new BSPTree<Point2D>(Boolean.FALSE));
+        }
+        set.addAll(nodes.subList(0, 20));
+
+        // act
+        set.compact();
+        set.addAll(nodes.subList(10, 30));
+        set.compact();
+        set.addAll(nodes);
+
+        // assert
+        checkContent(set, nodes);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIterator_removeNotSupported() {
+        // arrange
+        NodesSet<Point2D> set = new NodesSet<>();
+        set.add(new BSPTree<Point2D>(Boolean.TRUE));
+        Iterator<BSPTree<Point2D>> it = set.iterator();
+        it.next();
+
+        // act
+        it.remove();
+    }
+
+    private void checkContent(NodesSet<Point2D> set, List<BSPTree<Point2D>> expected) {
+        Iterator<BSPTree<Point2D>> it = set.iterator();
+        for (BSPTree<Point2D> node : expected) {
+            Assert.assertTrue(it.hasNext());
+            Assert.assertSame(node, it.next());
+        }
+        Assert.assertFalse(it.hasNext());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.oned;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for IntervalsSetCodec.
+ */
+public class IntervalsSetCodecTest {
+
+    private static final double TOLERANCE = 1.0e-10;
+
+    @Test
+    public void testRoundTrip() {
+        // arrange
+        final IntervalsSetCodec codec = new IntervalsSetCodec();
+        final IntervalsSet region = (IntervalsSet) new RegionFactory<Point1D>().union(
+                new IntervalsSet(Double.NEGATIVE_INFINITY, -3, TOLERANCE),
+                new IntervalsSet(0.1, 0.7, TOLERANCE));
+
+        // act
+        final IntervalsSet decoded = codec.decode(codec.encode(region));
+
+        // assert
+        Assert.assertEquals(TOLERANCE, decoded.getTolerance(), 0.0);
+        final List<Interval> intervals = decoded.asList();
+        Assert.assertEquals(2, intervals.size());
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, intervals.get(0).getInf(), 0.0);
+        Assert.assertEquals(-3, intervals.get(0).getSup(), 0.0);
+        Assert.assertEquals(0.1, intervals.get(1).getInf(), 0.0);
+        Assert.assertEquals(0.7, intervals.get(1).getSup(), 0.0);
+    }
+
+    @Test
+    public void testDeepTreeRoundTrip() {
+        // arrange
+        final int n = 100000;
+        final IntervalsSetCodec codec = new IntervalsSetCodec();
+        BSPTree<Point1D> tree = new BSPTree<>(Boolean.FALSE);
+        for (int k = n - 1; k >= 0; --k) {
+            final OrientedPoint op = new OrientedPoint(Point1D.of(k), true, TOLERANCE);
+            tree = new BSPTree<>(op.wholeHyperplane(), tree, new BSPTree<Point1D>(k % 2 == 1), null);
+        }
+        final IntervalsSet region = new IntervalsSet(tree, TOLERANCE);
+
+        // act
+        final IntervalsSet decoded = codec.decode(codec.encode(region));
+
+        // assert
+        final ArrayDeque<BSPTree<Point1D>> expected = new ArrayDeque<>();
+        final ArrayDeque<BSPTree<Point1D>> actual   = new ArrayDeque<>();
+        expected.push(region.getTree(false));
+        actual.push(decoded.getTree(false));
+        int count = 0;
+        while (!expected.isEmpty()) {
+            final BSPTree<Point1D> e = expected.pop();
+            final BSPTree<Point1D> a = actual.pop();
+            ++count;
+            if (e.getCut() == null) {
+                Assert.assertNull(a.getCut());
+                Assert.assertEquals(e.getAttribute(), a.getAttribute());
+            } else {
+                Assert.assertEquals(((OrientedPoint) e.getCut().getHyperplane()).getLocation().getX(),
+                                    ((OrientedPoint) a.getCut().getHyperplane()).getLocation().getX(),
+                                    0.0);
+                expected.push(e.getMinus());
+                expected.push(e.getPlus());
+                actual.push(a.getMinus());
+                actual.push(a.getPlus());
+            }
+        }
+        Assert.assertTrue(actual.isEmpty());
+        Assert.assertEquals(2 * n + 1, count);
+    }
+
+}
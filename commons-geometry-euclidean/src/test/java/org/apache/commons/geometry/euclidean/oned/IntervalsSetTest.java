@@ -18,9 +18,12 @@ package org.apache.commons.geometry.euclidean.oned;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
 import org.apache.commons.geometry.core.partitioning.BoundaryProjection;
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
 import org.apache.commons.geometry.core.partitioning.Region;
 import org.apache.commons.geometry.core.partitioning.RegionFactory;
 import org.apache.commons.geometry.core.partitioning.SubHyperplane;
@@ -557,6 +560,131 @@ public class IntervalsSetTest {
         assertInterval(9.0, 11.0, list.get(2), TEST_TOLERANCE);
     }
 
+    @Test
+    public void testDeepTree() {
+        // arrange
+        final int n = 100000;
+        final BSPTree<Point1D> tree = buildStaircase(n);
+
+        // act
+        final BSPTree<Point1D> copy = tree.copySelf();
+        final List<Double> locations = new ArrayList<>();
+        final int[] leaves = new int[1];
+        copy.visit(new BSPTreeVisitor<Point1D>() {
+            @Override
+            public Order visitOrder(BSPTree<Point1D> node) {
+                return Order.MINUS_SUB_PLUS;
+            }
+
+            @Override
+            public void visitInternalNode(BSPTree<Point1D> node) {
+                locations.add(((OrientedPoint) node.getCut().getHyperplane()).getLocation().getX());
+            }
+
+            @Override
+            public void visitLeafNode(BSPTree<Point1D> node) {
+                ++leaves[0];
+            }
+        });
+        final List<BSPTree<Point1D>> closeCuts = copy.getCloseCuts(Point1D.of(50000.5), 1.0);
+
+        // assert
+        Assert.assertEquals(n, locations.size());
+        Assert.assertEquals(n + 1, leaves[0]);
+        for (int k = 0; k < n; ++k) {
+            Assert.assertEquals(k, locations.get(k), TEST_TOLERANCE);
+        }
+
+        Assert.assertEquals(Boolean.TRUE, copy.getCell(Point1D.of(2.5), TEST_TOLERANCE).getAttribute());
+        Assert.assertEquals(Boolean.FALSE, copy.getCell(Point1D.of(3.5), TEST_TOLERANCE).getAttribute());
+        Assert.assertEquals(Boolean.FALSE, copy.getCell(Point1D.of(n + 0.5), TEST_TOLERANCE).getAttribute());
+        Assert.assertNotNull(copy.getCell(Point1D.of(7), TEST_TOLERANCE).getCut());
+
+        Assert.assertEquals(2, closeCuts.size());
+        for (BSPTree<Point1D> node : closeCuts) {
+            final double x = ((OrientedPoint) node.getCut().getHyperplane()).getLocation().getX();
+            Assert.assertTrue(x == 50000.0 || x == 50001.0);
+        }
+    }
+
+    @Test
+    public void testDeepTreeParallelVisit() {
+        // arrange
+        final BSPTree<Point1D> tree = buildStaircase(100000);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (final BSPTreeVisitor.Order order : BSPTreeVisitor.Order.values()) {
+
+                // act
+                final NodesRecorder sequential = new NodesRecorder(order);
+                tree.visit(sequential);
+                final NodesRecorder parallel =
+                        tree.visit(() -> new NodesRecorder(order), NodesRecorder::append, pool, 16);
+
+                // assert
+                Assert.assertEquals(sequential.nodes.size(), parallel.nodes.size());
+                for (int i = 0; i < sequential.nodes.size(); ++i) {
+                    Assert.assertSame(sequential.nodes.get(i), parallel.nodes.get(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeepTreeFreeze() {
+        // arrange
+        final int n = 100000;
+        final int step = 97;
+        final IntervalsSet set = new IntervalsSet(buildStaircase(n), TEST_TOLERANCE);
+        final double[] coordinates = new double[n / step + 1];
+        for (int i = 0; i < coordinates.length; ++i) {
+            coordinates[i] = i * step + 0.5;
+        }
+        final Region.Location[] locations = new Region.Location[coordinates.length];
+
+        // act
+        final CompactBSPTree<Point1D> frozen = set.freeze();
+        set.checkPoints(coordinates, locations);
+
+        // assert
+        Assert.assertEquals(n, frozen.getCutCount());
+        for (int i = 0; i < coordinates.length; ++i) {
+            Assert.assertEquals((i * step) % 2 == 0 ? Region.Location.INSIDE : Region.Location.OUTSIDE,
+                                locations[i]);
+        }
+        Assert.assertEquals(Region.Location.OUTSIDE, frozen.checkPoint(n + 0.5));
+        Assert.assertEquals(Region.Location.BOUNDARY, frozen.checkPoint(n / 2));
+    }
+
+    @Test
+    public void testDeepTreeBooleanOperations() {
+        // arrange
+        final int n = 10000;
+        final RegionFactory<Point1D> factory = new RegionFactory<>();
+        final IntervalsSet interval = new IntervalsSet(10.5, 13.5, TEST_TOLERANCE);
+
+        // act
+        final Region<Point1D> union =
+                factory.union(new IntervalsSet(buildStaircase(n), TEST_TOLERANCE), interval);
+        final Region<Point1D> intersection =
+                factory.intersection(new IntervalsSet(buildStaircase(n), TEST_TOLERANCE), interval);
+
+        // assert
+        Assert.assertEquals(Region.Location.INSIDE, union.checkPoint(Point1D.of(10.25)));
+        Assert.assertEquals(Region.Location.INSIDE, union.checkPoint(Point1D.of(11.75)));
+        Assert.assertEquals(Region.Location.OUTSIDE, union.checkPoint(Point1D.of(13.75)));
+        Assert.assertEquals(Region.Location.INSIDE, union.checkPoint(Point1D.of(n - 1.5)));
+        Assert.assertEquals(Region.Location.OUTSIDE, union.checkPoint(Point1D.of(n - 0.5)));
+
+        Assert.assertEquals(Region.Location.INSIDE, intersection.checkPoint(Point1D.of(12.5)));
+        Assert.assertEquals(Region.Location.OUTSIDE, intersection.checkPoint(Point1D.of(11.5)));
+        Assert.assertEquals(Region.Location.OUTSIDE, intersection.checkPoint(Point1D.of(20.5)));
+        Assert.assertEquals(1.5, intersection.getSize(), TEST_TOLERANCE);
+    }
+
     private void assertLocation(Region.Location location, IntervalsSet set, double pt) {
         Assert.assertEquals(location, set.checkPoint(Point1D.of(pt)));
     }
@@ -583,4 +711,48 @@ public class IntervalsSetTest {
         // the remaining region isn't necessary for creating 1D boundaries so we can set it to null here
         return new SubOrientedPoint(new OrientedPoint(Point1D.of(location), direct, tolerance), null);
     }
+
+    /** Build a chain tree with n cuts at 0, 1, ..., n - 1, where the cell (k - 1, k) is inside for odd k.
+     * @param n number of cuts
+     * @return root of the chain tree
+     */
+    private static BSPTree<Point1D> buildStaircase(final int n) {
+        BSPTree<Point1D> node = new BSPTree<>(Boolean.FALSE);
+        for (int k = n - 1; k >= 0; --k) {
+            final OrientedPoint op = new OrientedPoint(Point1D.of(k), true, TEST_TOLERANCE);
+            node = new BSPTree<>(op.wholeHyperplane(), node, new BSPTree<Point1D>(k % 2 == 1), null);
+        }
+        return node;
+    }
+
+    private static class NodesRecorder implements BSPTreeVisitor<Point1D> {
+
+        private final Order order;
+
+        private final List<BSPTree<Point1D>> nodes = new ArrayList<>();
+
+        NodesRecorder(Order order) {
+            this.order = order;
+        }
+
+        NodesRecorder append(NodesRecorder other) {
+            nodes.addAll(other.nodes);
+            return this;
+        }
+
+        @Override
+        public Order visitOrder(BSPTree<Point1D> node) {
+            return order;
+        }
+
+        @Override
+        public void visitInternalNode(BSPTree<Point1D> node) {
+            nodes.add(node);
+        }
+
+        @Override
+        public void visitLeafNode(BSPTree<Point1D> node) {
+            nodes.add(node);
+        }
+    }
 }
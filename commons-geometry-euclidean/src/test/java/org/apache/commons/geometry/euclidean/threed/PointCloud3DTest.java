@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PointCloud3DTest {
+
+    private static final double EPS = 1.0e-12;
+
+    @Test
+    public void testEmpty() {
+        // act
+        PointCloud3D cloud = new PointCloud3D();
+
+        // assert
+        Assert.assertEquals(0, cloud.size());
+        Assert.assertTrue(cloud.isEmpty());
+        Assert.assertEquals(0, cloud.toPackedArray().length);
+        Assert.assertTrue(cloud.getCentroid().isNaN());
+        Assert.assertEquals(Point3D.POSITIVE_INFINITY, cloud.getMin());
+        Assert.assertEquals(Point3D.NEGATIVE_INFINITY, cloud.getMax());
+        Assert.assertEquals(-1, cloud.nearest(Point3D.ZERO));
+        Assert.assertEquals(-1, cloud.farthest(Point3D.ZERO));
+    }
+
+    @Test
+    public void testAddAndGet() {
+        // arrange
+        PointCloud3D cloud = new PointCloud3D(1);
+
+        // act
+        for (int i = 0; i < 100; ++i) {
+            if (i % 2 == 0) {
+                cloud.add(i, -i, 2 * i);
+            } else {
+                cloud.add(Point3D.of(i, -i, 2 * i));
+            }
+        }
+
+        // assert
+        Assert.assertEquals(100, cloud.size());
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(i, cloud.getX(i), 0.0);
+            Assert.assertEquals(-i, cloud.getY(i), 0.0);
+            Assert.assertEquals(2 * i, cloud.getZ(i), 0.0);
+            Assert.assertEquals(Point3D.of(i, -i, 2 * i), cloud.get(i));
+        }
+    }
+
+    @Test
+    public void testListView() {
+        // arrange
+        List<Point3D> points = Arrays.asList(Point3D.of(1, 2, 3), Point3D.of(4, 5, 6), Point3D.of(7, 8, 9));
+
+        // act
+        PointCloud3D cloud = new PointCloud3D(points);
+        Point3D previous = cloud.set(1, Point3D.of(-4, -5, -6));
+
+        // assert
+        Assert.assertEquals(Point3D.of(4, 5, 6), previous);
+        Assert.assertEquals(Arrays.asList(Point3D.of(1, 2, 3), Point3D.of(-4, -5, -6), Point3D.of(7, 8, 9)),
+                            new ArrayList<>(cloud));
+        Assert.assertEquals(1, cloud.indexOf(Point3D.of(-4, -5, -6)));
+        cloud.clear();
+        Assert.assertTrue(cloud.isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        // arrange
+        PointCloud3D cloud = new PointCloud3D();
+        cloud.add(1, 2, 3);
+
+        // act
+        cloud.getZ(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemoveUnsupported() {
+        // arrange
+        PointCloud3D cloud = new PointCloud3D();
+        cloud.add(1, 2, 3);
+
+        // act
+        cloud.remove(0);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testConcurrentModification() {
+        // arrange
+        PointCloud3D cloud = new PointCloud3D();
+        cloud.add(1, 2, 3);
+        Iterator<Point3D> iterator = cloud.iterator();
+
+        // act
+        cloud.add(4, 5, 6);
+        iterator.next();
+    }
+
+    @Test
+    public void testPacked() {
+        // arrange
+        double[] packed = { 1, 2, 3, 4, 5, 6 };
+
+        // act
+        PointCloud3D cloud = PointCloud3D.ofPacked(packed);
+
+        // assert
+        Assert.assertEquals(2, cloud.size());
+        Assert.assertEquals(Point3D.of(4, 5, 6), cloud.get(1));
+        Assert.assertArrayEquals(packed, cloud.toPackedArray(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackedWrongLength() {
+        // act
+        PointCloud3D.ofPacked(new double[4]);
+    }
+
+    @Test
+    public void testTranslate() {
+        // arrange
+        PointCloud3D cloud = PointCloud3D.ofPacked(new double[] { 1, 2, 3, -1, -2, -3 });
+
+        // act
+        cloud.translate(Vector3D.of(10, 20, 30));
+
+        // assert
+        Assert.assertEquals(Point3D.of(11, 22, 33), cloud.get(0));
+        Assert.assertEquals(Point3D.of(9, 18, 27), cloud.get(1));
+    }
+
+    @Test
+    public void testRotate() {
+        // arrange
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x5d2c3a6bc2f3a1e0L);
+        Rotation r = new Rotation(Vector3D.of(1, -2, 0.5), 0.7, RotationConvention.VECTOR_OPERATOR);
+        Point3D center = Point3D.of(0.5, 1.5, -2.5);
+        PointCloud3D cloud = new PointCloud3D();
+        for (int i = 0; i < 50; ++i) {
+            cloud.add(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        }
+        List<Point3D> original = new ArrayList<>(cloud);
+        PointCloud3D aroundCenter = new PointCloud3D(original);
+
+        // act
+        cloud.rotate(r);
+        aroundCenter.rotate(center, r);
+
+        // assert
+        for (int i = 0; i < original.size(); ++i) {
+            Vector3D expected = r.applyTo(original.get(i).asVector());
+            Assert.assertEquals(0.0, cloud.get(i).distance(Point3D.of(expected.getX(), expected.getY(), expected.getZ())), EPS);
+            Vector3D shifted = r.applyTo(original.get(i).subtract(center));
+            Assert.assertEquals(0.0, aroundCenter.get(i).distance(center.add(shifted)), EPS);
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        // arrange
+        PointCloud3D cloud = PointCloud3D.ofPacked(new double[] {
+            0, 0, 0,  4, 0, 1,  0, 2, -3,  1, 1, 1
+        });
+
+        // act/assert
+        Assert.assertEquals(0.0, cloud.getCentroid().distance(Point3D.of(1.25, 0.75, -0.25)), EPS);
+        Assert.assertEquals(Point3D.of(0, 0, -3), cloud.getMin());
+        Assert.assertEquals(Point3D.of(4, 2, 1), cloud.getMax());
+        Assert.assertEquals(3, cloud.nearest(Point3D.of(0.9, 0.9, 0.9)));
+        Assert.assertEquals(1, cloud.farthest(Point3D.of(-1, 0, 0)));
+
+        double[] distances = new double[cloud.size()];
+        cloud.distances(Point3D.of(0, 0, 1), distances);
+        Assert.assertArrayEquals(new double[] { 1, 4, Math.sqrt(20), Math.sqrt(2) }, distances, EPS);
+    }
+
+    @Test
+    public void testCheckPoints() {
+        // arrange
+        PolyhedronsSet box = new PolyhedronsSet(0, 1, 0, 1, 0, 1, 1.0e-10);
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x1e8a7fd5c46b09d2L);
+        PointCloud3D cloud = new PointCloud3D();
+        for (int i = 0; i < 200; ++i) {
+            cloud.add(3 * random.nextDouble() - 1, 3 * random.nextDouble() - 1, 3 * random.nextDouble() - 1);
+        }
+        cloud.add(0.5, 0.5, 1.0);
+        Location[] locations = new Location[cloud.size()];
+
+        // act
+        box.checkPoints(cloud, locations);
+
+        // assert
+        for (int i = 0; i < cloud.size(); ++i) {
+            Assert.assertEquals(box.checkPoint(cloud.get(i)), locations[i]);
+        }
+        Assert.assertEquals(Location.BOUNDARY, locations[cloud.size() - 1]);
+    }
+
+}
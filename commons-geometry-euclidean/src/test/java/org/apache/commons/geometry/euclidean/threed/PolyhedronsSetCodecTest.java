@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for PolyhedronsSetCodec.
+ */
+public class PolyhedronsSetCodecTest {
+
+    private static final double TOLERANCE = 1.0e-10;
+
+    private final PolyhedronsSetCodec codec = new PolyhedronsSetCodec();
+
+    @Test
+    public void testBufferRoundTrip() {
+        // arrange
+        final PolyhedronsSet region = buildRegion();
+
+        // act
+        final PolyhedronsSet decoded = codec.decode(codec.encode(region));
+
+        // assert
+        checkSameRegion(region, decoded);
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        // arrange
+        final PolyhedronsSet region = buildRegion();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // act
+        codec.write(region, Channels.newChannel(bytes));
+        final PolyhedronsSet decoded =
+                codec.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // assert
+        checkSameRegion(region, decoded);
+    }
+
+    private static PolyhedronsSet buildRegion() {
+        final RegionFactory<Point3D> factory = new RegionFactory<>();
+        final PolyhedronsSet box    = new PolyhedronsSet(0, 2, 0, 2, 0, 2, TOLERANCE);
+        final PolyhedronsSet tilted = (PolyhedronsSet) factory.buildConvex(
+                new Plane(Point3D.of(1, 1, 1), Vector3D.of(-1, -1, -1), TOLERANCE),
+                new Plane(Point3D.of(3, 1, 1), Vector3D.of(1, 0.2, 0.1), TOLERANCE),
+                new Plane(Point3D.of(1, 3, 1), Vector3D.of(0.2, 1, 0.1), TOLERANCE),
+                new Plane(Point3D.of(1, 1, 3), Vector3D.of(0.1, 0.2, 1), TOLERANCE));
+        final PolyhedronsSet hole   = new PolyhedronsSet(0.5, 1.5, 0.5, 1.5, -1, 3, TOLERANCE);
+        return (PolyhedronsSet) factory.difference(factory.union(box, tilted), hole);
+    }
+
+    private static void checkSameRegion(final PolyhedronsSet expected, final PolyhedronsSet actual) {
+        Assert.assertEquals(expected.getTolerance(), actual.getTolerance(), 0.0);
+        checkSameTree(expected.getTree(false), actual.getTree(false));
+        Assert.assertEquals(expected.getSize(), actual.getSize(), 0.0);
+        Assert.assertEquals(expected.getBoundarySize(), actual.getBoundarySize(), 0.0);
+        for (double x = -0.5; x <= 3.5; x += 0.25) {
+            for (double y = -0.5; y <= 3.5; y += 0.25) {
+                for (double z = -0.5; z <= 3.5; z += 0.25) {
+                    final Point3D p = Point3D.of(x, y, z);
+                    Assert.assertEquals(expected.checkPoint(p), actual.checkPoint(p));
+                }
+            }
+        }
+    }
+
+    private static void checkSameTree(final BSPTree<Point3D> expected, final BSPTree<Point3D> actual) {
+        if (expected.getCut() == null) {
+            Assert.assertNull(actual.getCut());
+            Assert.assertEquals(expected.getAttribute(), actual.getAttribute());
+        } else {
+            final Plane expectedPlane = (Plane) expected.getCut().getHyperplane();
+            final Plane actualPlane   = (Plane) actual.getCut().getHyperplane();
+            Assert.assertArrayEquals(expectedPlane.getOffsetCoefficients(), actualPlane.getOffsetCoefficients(),
+                                     0.0);
+            Assert.assertEquals(expectedPlane.getOrigin(), actualPlane.getOrigin());
+            Assert.assertEquals(expectedPlane.getU(), actualPlane.getU());
+            Assert.assertEquals(expectedPlane.getV(), actualPlane.getV());
+            Assert.assertEquals(expected.getCut().getSize(), actual.getCut().getSize(), 0.0);
+            checkSameTree(expected.getPlus(), actual.getPlus());
+            checkSameTree(expected.getMinus(), actual.getMinus());
+        }
+    }
+
+}
@@ -20,15 +20,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.partitioning.BSPTree;
 import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
 import org.apache.commons.geometry.core.partitioning.BoundaryAttribute;
 import org.apache.commons.geometry.core.partitioning.BoundaryProjection;
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
+import org.apache.commons.geometry.core.partitioning.MappedBSPTree;
 import org.apache.commons.geometry.core.partitioning.Region;
 import org.apache.commons.geometry.core.partitioning.RegionFactory;
 import org.apache.commons.geometry.core.partitioning.SubHyperplane;
@@ -820,6 +827,76 @@ public class PolyhedronsSetTest {
                    "");
     }
 
+    @Test
+    public void testCreateFromBRep_largeMesh() {
+        // arrange
+        int n = 200;
+        List<Point3D> vertices = new ArrayList<>();
+        List<int[]> facets = new ArrayList<>();
+        buildPrismMesh(n, vertices, facets);
+
+        // act
+        PolyhedronsSet polyhedron = new PolyhedronsSet(vertices, facets, TEST_TOLERANCE);
+
+        // assert
+        Assert.assertEquals(Region.Location.INSIDE, polyhedron.checkPoint(Point3D.of(0, 0, 0.5)));
+        Assert.assertEquals(Region.Location.OUTSIDE, polyhedron.checkPoint(Point3D.of(1.1, 0, 0.5)));
+        Assert.assertEquals(Region.Location.BOUNDARY, polyhedron.checkPoint(Point3D.of(0, 0, 1)));
+    }
+
+    @Test
+    public void testCreateFromBRep_largeMeshVerticesTooClose() {
+        // arrange
+        int n = 200;
+        List<Point3D> vertices = new ArrayList<>();
+        List<int[]> facets = new ArrayList<>();
+        buildPrismMesh(n, vertices, facets);
+        vertices.set(2 * n - 1, vertices.get(n).add(Vector3D.of(0, 0.5 * TEST_TOLERANCE, 0)));
+
+        // act/assert
+        checkError(vertices, facets, "Vertices are too close near point " + vertices.get(n));
+    }
+
+    @Test
+    public void testCreateFromBRep_largeMeshBadOrientation() {
+        // arrange
+        int n = 200;
+        List<Point3D> vertices = new ArrayList<>();
+        List<int[]> facets = new ArrayList<>();
+        buildPrismMesh(n, vertices, facets);
+        int[] side = facets.get(n / 2);
+        facets.set(n / 2, new int[] { side[3], side[2], side[1], side[0] });
+
+        // act/assert
+        checkError(vertices, facets, "Facet orientation mismatch");
+    }
+
+    /** Build a mesh for a prism based on a regular polygon inscribed in the unit circle.
+     * @param n number of vertices of the base polygon
+     * @param vertices list where vertices should be added
+     * @param facets list where facets should be added
+     */
+    private void buildPrismMesh(final int n, final List<Point3D> vertices, final List<int[]> facets) {
+        int[] bottom = new int[n];
+        int[] top    = new int[n];
+        for (int i = 0; i < n; ++i) {
+            double alpha = 2 * Math.PI * i / n;
+            vertices.add(Point3D.of(Math.cos(alpha), Math.sin(alpha), 0));
+            bottom[n - 1 - i] = i;
+            top[i]            = i + n;
+        }
+        for (int i = 0; i < n; ++i) {
+            double alpha = 2 * Math.PI * i / n;
+            vertices.add(Point3D.of(Math.cos(alpha), Math.sin(alpha), 1));
+        }
+        for (int i = 0; i < n; ++i) {
+            int j = (i + 1) % n;
+            facets.add(new int[] { i, j, j + n, i + n });
+        }
+        facets.add(bottom);
+        facets.add(top);
+    }
+
     private void checkError(final String resourceName, final String expected) {
         try (InputStream stream = getClass().getResourceAsStream(resourceName)) {
             PLYParser parser = new PLYParser(stream);
@@ -892,6 +969,90 @@ public class PolyhedronsSetTest {
 
     // Issue 1211
     // See https://issues.apache.org/jira/browse/MATH-1211
+    @Test
+    public void testFacetsHierarchy_firstIntersection() {
+        // arrange
+        List<SubHyperplane<Point3D>> boundaries = createBoxBoundaries(Point3D.ZERO, 2.0, TEST_TOLERANCE);
+        PolyhedronsSet polySet = new PolyhedronsSet(boundaries, TEST_TOLERANCE);
+        Line xPlus = new Line(Point3D.ZERO, Point3D.of(1, 0, 0), TEST_TOLERANCE);
+        Line zMinus = new Line(Point3D.ZERO, Point3D.of(0, 0, -1), TEST_TOLERANCE);
+
+        // act
+        FacetsHierarchy hierarchy = polySet.getFacetsHierarchy();
+
+        // assert
+        Assert.assertEquals(6, hierarchy.getFacetsCount());
+        Assert.assertSame(hierarchy, polySet.getFacetsHierarchy());
+
+        assertSubPlaneNormal(Vector3D.of(-1, 0, 0), hierarchy.firstIntersection(Point3D.of(-1.1, 0, 0), xPlus));
+        assertSubPlaneNormal(Vector3D.of(-1, 0, 0), hierarchy.firstIntersection(Point3D.of(-1, 0, 0), xPlus));
+        assertSubPlaneNormal(Vector3D.of(1, 0, 0), hierarchy.firstIntersection(Point3D.of(-0.9, 0, 0), xPlus));
+        Assert.assertNull(hierarchy.firstIntersection(Point3D.of(1.1, 0, 0), xPlus));
+        Assert.assertNull(hierarchy.firstIntersection(Point3D.of(-1.1, 1.1, 0), xPlus));
+
+        assertSubPlaneNormal(Vector3D.of(0, 0, 1), hierarchy.firstIntersection(Point3D.of(0, 0, 1.1), zMinus));
+        assertSubPlaneNormal(Vector3D.of(0, 0, 1), hierarchy.firstIntersection(Point3D.of(0, 0, 1), zMinus));
+        assertSubPlaneNormal(Vector3D.of(0, 0, -1), hierarchy.firstIntersection(Point3D.of(0, 0, 0.9), zMinus));
+        Assert.assertNull(hierarchy.firstIntersection(Point3D.of(0, 0, -1.1), zMinus));
+    }
+
+    @Test
+    public void testFirstIntersections() {
+        // arrange
+        double size = 1.0;
+        PolyhedronsSet box = new PolyhedronsSet(0, size, 0, size, 0, size, TEST_TOLERANCE);
+        PolyhedronsSet sphere = createSphere(Point3D.of(size * 0.5, size * 0.5, size), size * 0.5, 8, 16);
+        PolyhedronsSet xor = (PolyhedronsSet) new RegionFactory<Point3D>().xor(box, sphere);
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x7e1b6c39d05fa284l);
+        int n = 2000;
+        double[] origins = new double[3 * n];
+        double[] directions = new double[3 * n];
+        for (int i = 0; i < 3 * n; ++i) {
+            origins[i]    = 3 * random.nextDouble() - 1;
+            directions[i] = 2 * random.nextDouble() - 1;
+        }
+        SubPlane[] hits = new SubPlane[n];
+        double[] distances = new double[n];
+
+        // act
+        xor.firstIntersections(origins, directions, hits, distances);
+
+        // assert
+        int nbHits = 0;
+        for (int i = 0; i < n; ++i) {
+            Point3D origin = Point3D.of(origins[3 * i], origins[3 * i + 1], origins[3 * i + 2]);
+            Line line = new Line(origin,
+                                 origin.add(Vector3D.of(directions[3 * i], directions[3 * i + 1], directions[3 * i + 2])),
+                                 TEST_TOLERANCE);
+            SubHyperplane<Point3D> expected = xor.firstIntersection(origin, line);
+            if (expected == null) {
+                Assert.assertNull(hits[i]);
+                Assert.assertTrue(Double.isInfinite(distances[i]));
+            } else {
+                ++nbHits;
+                Point3D expectedHit = ((Plane) expected.getHyperplane()).intersection(line);
+                Point3D hit = ((Plane) hits[i].getHyperplane()).intersection(line);
+                Assert.assertEquals(origin.distance(expectedHit), distances[i], 1.0e-8);
+                Assert.assertEquals(0.0, hit.distance(expectedHit), 1.0e-8);
+            }
+        }
+        Assert.assertTrue(nbHits > n / 10);
+    }
+
+    @Test
+    public void testFirstIntersections_inconsistentSizes() {
+        // arrange
+        PolyhedronsSet box = new PolyhedronsSet(0, 1, 0, 1, 0, 1, TEST_TOLERANCE);
+
+        // act/assert
+        try {
+            box.firstIntersections(new double[6], new double[3], new SubPlane[2], new double[2]);
+            Assert.fail("an exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testFirstIntersection_onlyReturnsPointsInDirectionOfRay() throws IOException, ParseException {
         // arrange
@@ -1107,6 +1268,202 @@ public class PolyhedronsSetTest {
                 Point3D.of(1.4, 1.4, 1.4));
     }
 
+    @Test
+    public void testFreeze() {
+        // arrange
+        double size = 1.0;
+        PolyhedronsSet box1 = new PolyhedronsSet(0, size, 0, size, 0, size, TEST_TOLERANCE);
+        PolyhedronsSet box2 = new PolyhedronsSet(
+                0.5, size + 0.5,
+                0.5, size + 0.5,
+                0.5, size + 0.5, TEST_TOLERANCE);
+        PolyhedronsSet xor = (PolyhedronsSet) new RegionFactory<Point3D>().xor(box1, box2);
+        PolyhedronsSet sphere = createSphere(Point3D.of(size * 0.5, size * 0.5, size), size * 0.5, 8, 16);
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x4a3c0f6d91e2b857l);
+
+        // act
+        CompactBSPTree<Point3D> frozenXor = xor.freeze();
+        CompactBSPTree<Point3D> frozenSphere = sphere.freeze();
+
+        // assert
+        for (double x = -0.25; x <= 1.75; x += 0.25) {
+            for (double y = -0.25; y <= 1.75; y += 0.25) {
+                for (double z = -0.25; z <= 1.75; z += 0.25) {
+                    checkFrozenPoints(xor, frozenXor, Point3D.of(x, y, z));
+                    checkFrozenPoints(sphere, frozenSphere, Point3D.of(x, y, z));
+                }
+            }
+        }
+        for (int i = 0; i < 1000; ++i) {
+            Point3D p = Point3D.of(2 * random.nextDouble() - 0.25,
+                                   2 * random.nextDouble() - 0.25,
+                                   2 * random.nextDouble() - 0.25);
+            checkFrozenPoints(xor, frozenXor, p);
+            checkFrozenPoints(sphere, frozenSphere, p);
+        }
+    }
+
+    @Test
+    public void testMappedFrozenTreeFile() throws IOException {
+        // arrange
+        PolyhedronsSet sphere = createSphere(Point3D.of(1, 2, 3), 2.0, 8, 16);
+        CompactBSPTree<Point3D> frozen = sphere.freeze();
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x61f0b3c92e8d4a57l);
+        Path file = Files.createTempFile("frozen", ".bsp");
+        file.toFile().deleteOnExit();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            frozen.write(channel);
+        }
+
+        // act
+        MappedBSPTree<Point3D> mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapped = MappedBSPTree.map(channel);
+        }
+
+        // assert
+        Assert.assertEquals(frozen.getCutCount(), mapped.getCutCount());
+        for (int i = 0; i < 1000; ++i) {
+            double[] p = new double[] {
+                5 * random.nextDouble() - 1.5,
+                5 * random.nextDouble() - 0.5,
+                5 * random.nextDouble() + 0.5
+            };
+            Assert.assertEquals(frozen.checkPoint(p), mapped.checkPoint(p));
+        }
+    }
+
+    @Test
+    public void testCheckPoints() {
+        // arrange
+        PolyhedronsSet sphere = createSphere(Point3D.of(1, 2, 3), 2.0, 8, 16);
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x2d5e93f4a0c8b61bl);
+        int n = 10000;
+        double[] coordinates = new double[3 * n];
+        for (int i = 0; i < coordinates.length; ++i) {
+            coordinates[i] = 4 * random.nextDouble() - 1;
+        }
+        Region.Location[] sequential = new Region.Location[n];
+        Region.Location[] parallel   = new Region.Location[n];
+
+        // act
+        sphere.checkPoints(coordinates, sequential);
+        sphere.checkPoints(coordinates, parallel, ForkJoinPool.commonPool());
+
+        // assert
+        for (int i = 0; i < n; ++i) {
+            Point3D p = Point3D.of(coordinates[3 * i], coordinates[3 * i + 1], coordinates[3 * i + 2]);
+            Assert.assertEquals(sphere.checkPoint(p), sequential[i]);
+            Assert.assertEquals(sphere.checkPoint(p), parallel[i]);
+        }
+    }
+
+    @Test
+    public void testBoolean_parallel() {
+        // arrange
+        RegionFactory<Point3D> sequentialFactory = new RegionFactory<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        RegionFactory<Point3D> parallelFactory = new RegionFactory<>(pool, 8);
+        PolyhedronsSet box = new PolyhedronsSet(0, 1, 0, 1, 0, 1, TEST_TOLERANCE);
+        PolyhedronsSet sphere = createSphere(Point3D.of(0.5, 0.5, 1.0), 0.5, 8, 16);
+
+        try {
+            for (int op = 0; op < 4; ++op) {
+
+                // act
+                Region<Point3D> sequential = apply(sequentialFactory, op, box.copySelf(), sphere.copySelf());
+                Region<Point3D> parallel   = apply(parallelFactory, op, box.copySelf(), sphere.copySelf());
+
+                // assert
+                Assert.assertEquals(sequential.getSize(), parallel.getSize(), TEST_TOLERANCE);
+                Assert.assertEquals(sequential.getBoundarySize(), parallel.getBoundarySize(), TEST_TOLERANCE);
+                for (double x = -0.125; x <= 1.125; x += 0.125) {
+                    for (double y = -0.125; y <= 1.125; y += 0.125) {
+                        for (double z = -0.125; z <= 1.625; z += 0.125) {
+                            Point3D p = Point3D.of(x, y, z);
+                            Assert.assertEquals("Incorrect location for " + p,
+                                                sequential.checkPoint(p), parallel.checkPoint(p));
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testVisit_parallel() {
+        // arrange
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Region<Point3D>> cubes = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            for (int j = 0; j < 8; ++j) {
+                for (int k = 0; k < 4; ++k) {
+                    cubes.add(new PolyhedronsSet(i, i + 0.5, j, j + 0.5, k, k + 0.5, TEST_TOLERANCE));
+                }
+            }
+        }
+        PolyhedronsSet region = (PolyhedronsSet) new RegionFactory<Point3D>().unionAll(cubes);
+        BSPTree<Point3D> tree = region.getTree(true);
+
+        try {
+            for (BSPTreeVisitor.Order order : BSPTreeVisitor.Order.values()) {
+
+                // act
+                NodesRecorder sequential = new NodesRecorder(order);
+                tree.visit(sequential);
+                NodesRecorder parallel = tree.visit(() -> new NodesRecorder(order), NodesRecorder::append, pool, 8);
+
+                // assert
+                Assert.assertTrue(sequential.nodes.size() > 1024);
+                Assert.assertEquals(sequential.nodes.size(), parallel.nodes.size());
+                for (int i = 0; i < sequential.nodes.size(); ++i) {
+                    Assert.assertSame(sequential.nodes.get(i), parallel.nodes.get(i));
+                }
+            }
+
+            PolyhedronsSet copy = new PolyhedronsSet(tree.copySelf(), TEST_TOLERANCE);
+            Assert.assertEquals(384.0, copy.getBoundarySize(pool), 1.0e-10);
+            Assert.assertEquals(32.0, copy.getSize(pool), 1.0e-10);
+            EuclideanTestUtils.assertCoordinatesEqual(Point3D.of(3.75, 3.75, 1.75), copy.getBarycenter(pool), 1.0e-10);
+        } finally {
+            pool.shutdown();
+        }
+
+        double boundarySize = 0;
+        for (BSPTree<Point3D> node : new NodesRecorder(BSPTreeVisitor.Order.SUB_PLUS_MINUS).record(tree).nodes) {
+            if (node.getCut() != null) {
+                @SuppressWarnings("unchecked")
+                BoundaryAttribute<Point3D> attribute = (BoundaryAttribute<Point3D>) node.getAttribute();
+                if (attribute.getPlusOutside() != null) {
+                    boundarySize += attribute.getPlusOutside().getSize();
+                }
+                if (attribute.getPlusInside() != null) {
+                    boundarySize += attribute.getPlusInside().getSize();
+                }
+            }
+        }
+        Assert.assertEquals(384.0, boundarySize, 1.0e-10);
+        Assert.assertEquals(384.0, region.getBoundarySize(), 1.0e-10);
+        Assert.assertEquals(32.0, region.getSize(), 1.0e-10);
+        EuclideanTestUtils.assertCoordinatesEqual(Point3D.of(3.75, 3.75, 1.75), region.getBarycenter(), 1.0e-10);
+    }
+
+    private Region<Point3D> apply(RegionFactory<Point3D> factory, int op,
+                                  Region<Point3D> region1, Region<Point3D> region2) {
+        switch (op) {
+            case 0 :
+                return factory.union(region1, region2);
+            case 1 :
+                return factory.intersection(region1, region2);
+            case 2 :
+                return factory.difference(region1, region2);
+            default :
+                return factory.xor(region1, region2);
+        }
+    }
+
     @Test
     public void testBoolean_xor_cubeAndSphere() throws IOException {
         // arrange
@@ -1351,6 +1708,13 @@ public class PolyhedronsSetTest {
         }
     }
 
+    private void checkFrozenPoints(PolyhedronsSet poly, CompactBSPTree<Point3D> frozen, Point3D ... points) {
+        for (int i = 0; i < points.length; ++i) {
+            Assert.assertEquals("Incorrect location for " + points[i],
+                                poly.checkPoint(points[i]), frozen.checkPoint(points[i].toArray()));
+        }
+    }
+
     private List<SubHyperplane<Point3D>> createBoxBoundaries(Point3D center, double size, double tolerance) {
         List<SubHyperplane<Point3D>> boundaries = new ArrayList<>();
 
@@ -1491,4 +1855,40 @@ public class PolyhedronsSetTest {
     private double circleSurface(double radius) {
         return Math.PI * radius * radius;
     }
+
+    private static class NodesRecorder implements BSPTreeVisitor<Point3D> {
+
+        private final Order order;
+
+        private final List<BSPTree<Point3D>> nodes = new ArrayList<>();
+
+        NodesRecorder(Order order) {
+            this.order = order;
+        }
+
+        NodesRecorder record(BSPTree<Point3D> tree) {
+            tree.visit(this);
+            return this;
+        }
+
+        NodesRecorder append(NodesRecorder other) {
+            nodes.addAll(other.nodes);
+            return this;
+        }
+
+        @Override
+        public Order visitOrder(BSPTree<Point3D> node) {
+            return order;
+        }
+
+        @Override
+        public void visitInternalNode(BSPTree<Point3D> node) {
+            nodes.add(node);
+        }
+
+        @Override
+        public void visitLeafNode(BSPTree<Point3D> node) {
+            nodes.add(node);
+        }
+    }
 }
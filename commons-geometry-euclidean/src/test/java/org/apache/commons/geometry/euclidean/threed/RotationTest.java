@@ -683,6 +683,78 @@ public class RotationTest {
 
   }
 
+  @Test
+  public void testPackedArray() {
+
+      Rotation r = new Rotation(Vector3D.of(2, -3, 5), 1.7, RotationConvention.VECTOR_OPERATOR);
+      int n = 1000;
+      double[] in = new double[3 * n + 2];
+      for (int i = 0; i < in.length; ++i) {
+          in[i] = Math.sin(0.37 * i);
+      }
+
+      double[] out = new double[3 * n + 1];
+      r.applyTo(in, 2, out, 1, n);
+      double[] back = new double[3 * n];
+      r.applyInverseTo(out, 1, back, 0, n);
+      double[] inPlace = in.clone();
+      r.applyTo(inPlace, 2, inPlace, 2, n);
+
+      Assert.assertEquals(0.0, out[0], 0.0);
+      for (int i = 0; i < n; ++i) {
+          Vector3D u = Vector3D.of(in[3 * i + 2], in[3 * i + 3], in[3 * i + 4]);
+          Vector3D v = r.applyTo(u);
+          Assert.assertEquals(v.getX(), out[3 * i + 1], 1.0e-10);
+          Assert.assertEquals(v.getY(), out[3 * i + 2], 1.0e-10);
+          Assert.assertEquals(v.getZ(), out[3 * i + 3], 1.0e-10);
+          Assert.assertEquals(v.getX(), inPlace[3 * i + 2], 1.0e-10);
+          Assert.assertEquals(v.getY(), inPlace[3 * i + 3], 1.0e-10);
+          Assert.assertEquals(v.getZ(), inPlace[3 * i + 4], 1.0e-10);
+          Assert.assertEquals(u.getX(), back[3 * i], 1.0e-10);
+          Assert.assertEquals(u.getY(), back[3 * i + 1], 1.0e-10);
+          Assert.assertEquals(u.getZ(), back[3 * i + 2], 1.0e-10);
+      }
+
+  }
+
+  @Test
+  public void testSeparateArrays() {
+
+      Rotation r = new Rotation(Vector3D.of(-1, 4, 0.5), 0.4, RotationConvention.FRAME_TRANSFORM);
+      int n = 1000;
+      double[] x = new double[n];
+      double[] y = new double[n];
+      double[] z = new double[n];
+      for (int i = 0; i < n; ++i) {
+          x[i] = Math.sin(0.37 * i);
+          y[i] = Math.sin(0.51 * i);
+          z[i] = Math.sin(0.73 * i);
+      }
+      double[] x0 = x.clone();
+      double[] y0 = y.clone();
+      double[] z0 = z.clone();
+
+      r.applyTo(x, y, z, 10, n - 20);
+
+      for (int i = 0; i < n; ++i) {
+          Vector3D u = Vector3D.of(x0[i], y0[i], z0[i]);
+          Vector3D v = (i < 10 || i >= n - 10) ? u : r.applyTo(u);
+          Assert.assertEquals(v.getX(), x[i], 1.0e-10);
+          Assert.assertEquals(v.getY(), y[i], 1.0e-10);
+          Assert.assertEquals(v.getZ(), z[i], 1.0e-10);
+      }
+
+      r.applyInverseTo(x, y, z, 0, n);
+      for (int i = 0; i < n; ++i) {
+          Vector3D u = Vector3D.of(x0[i], y0[i], z0[i]);
+          Vector3D v = (i < 10 || i >= n - 10) ? r.applyInverseTo(u) : u;
+          Assert.assertEquals(v.getX(), x[i], 1.0e-10);
+          Assert.assertEquals(v.getY(), y[i], 1.0e-10);
+          Assert.assertEquals(v.getZ(), z[i], 1.0e-10);
+      }
+
+  }
+
   @Test
   public void testApplyInverseTo() {
 
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PointCloud2DTest {
+
+    private static final double EPS = 1.0e-12;
+
+    @Test
+    public void testEmpty() {
+        // act
+        PointCloud2D cloud = new PointCloud2D();
+
+        // assert
+        Assert.assertEquals(0, cloud.size());
+        Assert.assertTrue(cloud.isEmpty());
+        Assert.assertEquals(0, cloud.toPackedArray().length);
+        Assert.assertTrue(cloud.getCentroid().isNaN());
+        Assert.assertEquals(Point2D.POSITIVE_INFINITY, cloud.getMin());
+        Assert.assertEquals(Point2D.NEGATIVE_INFINITY, cloud.getMax());
+        Assert.assertEquals(-1, cloud.nearest(Point2D.ZERO));
+    }
+
+    @Test
+    public void testAddAndGet() {
+        // arrange
+        PointCloud2D cloud = new PointCloud2D(0);
+
+        // act
+        for (int i = 0; i < 100; ++i) {
+            cloud.add(i, -i);
+        }
+
+        // assert
+        Assert.assertEquals(100, cloud.size());
+        for (int i = 0; i < 100; ++i) {
+            Assert.assertEquals(i, cloud.getX(i), 0.0);
+            Assert.assertEquals(-i, cloud.getY(i), 0.0);
+            Assert.assertEquals(Point2D.of(i, -i), cloud.get(i));
+        }
+    }
+
+    @Test
+    public void testListView() {
+        // arrange
+        List<Point2D> points = Arrays.asList(Point2D.of(1, 2), Point2D.of(3, 4));
+
+        // act
+        PointCloud2D cloud = new PointCloud2D(points);
+        cloud.add(Point2D.of(5, 6));
+
+        // assert
+        Assert.assertEquals(Arrays.asList(Point2D.of(1, 2), Point2D.of(3, 4), Point2D.of(5, 6)),
+                            new ArrayList<>(cloud));
+        Assert.assertEquals(Point2D.of(3, 4), cloud.set(1, Point2D.of(0, 0)));
+        Assert.assertEquals(Point2D.of(0, 0), cloud.get(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        // act
+        new PointCloud2D().get(0);
+    }
+
+    @Test
+    public void testPacked() {
+        // arrange
+        double[] packed = { 1, 2, 3, 4, 5, 6 };
+
+        // act
+        PointCloud2D cloud = PointCloud2D.ofPacked(packed);
+
+        // assert
+        Assert.assertEquals(3, cloud.size());
+        Assert.assertEquals(Point2D.of(3, 4), cloud.get(1));
+        Assert.assertArrayEquals(packed, cloud.toPackedArray(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPackedWrongLength() {
+        // act
+        PointCloud2D.ofPacked(new double[3]);
+    }
+
+    @Test
+    public void testTranslateAndRotate() {
+        // arrange
+        PointCloud2D cloud = PointCloud2D.ofPacked(new double[] { 1, 0, 2, 1 });
+
+        // act
+        cloud.translate(Vector2D.of(1, 1));
+        cloud.rotate(Point2D.of(2, 1), 0.5 * Math.PI);
+
+        // assert
+        Assert.assertEquals(0.0, cloud.get(0).distance(Point2D.of(2, 1)), EPS);
+        Assert.assertEquals(0.0, cloud.get(1).distance(Point2D.of(1, 2)), EPS);
+    }
+
+    @Test
+    public void testStatistics() {
+        // arrange
+        PointCloud2D cloud = PointCloud2D.ofPacked(new double[] { 0, 0, 4, 0, 0, 2, 1, 1 });
+
+        // act/assert
+        Assert.assertEquals(0.0, cloud.getCentroid().distance(Point2D.of(1.25, 0.75)), EPS);
+        Assert.assertEquals(Point2D.of(0, 0), cloud.getMin());
+        Assert.assertEquals(Point2D.of(4, 2), cloud.getMax());
+        Assert.assertEquals(3, cloud.nearest(Point2D.of(0.9, 0.9)));
+        Assert.assertEquals(1, cloud.farthest(Point2D.of(-1, 0)));
+
+        double[] distances = new double[cloud.size()];
+        cloud.distances(Point2D.of(0, 1), distances);
+        Assert.assertArrayEquals(new double[] { 1, Math.sqrt(17), 1, 1 }, distances, EPS);
+    }
+
+    @Test
+    public void testCheckPoints() {
+        // arrange
+        PolygonsSet square = new PolygonsSet(0, 1, 0, 1, 1.0e-10);
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x3b94e1f06a2c57d8L);
+        PointCloud2D cloud = new PointCloud2D();
+        for (int i = 0; i < 200; ++i) {
+            cloud.add(3 * random.nextDouble() - 1, 3 * random.nextDouble() - 1);
+        }
+        cloud.add(1.0, 0.5);
+        Location[] locations = new Location[cloud.size()];
+
+        // act
+        square.checkPoints(cloud, locations);
+
+        // assert
+        for (int i = 0; i < cloud.size(); ++i) {
+            Assert.assertEquals(square.checkPoint(cloud.get(i)), locations[i]);
+        }
+        Assert.assertEquals(Location.BOUNDARY, locations[cloud.size() - 1]);
+    }
+
+}
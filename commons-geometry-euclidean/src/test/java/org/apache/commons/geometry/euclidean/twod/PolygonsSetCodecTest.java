@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.apache.commons.geometry.euclidean.oned.IntervalsSet;
+import org.apache.commons.geometry.euclidean.oned.IntervalsSetCodec;
+import org.apache.commons.geometry.euclidean.oned.OrientedPoint;
+import org.apache.commons.geometry.euclidean.oned.Point1D;
+import org.apache.commons.geometry.euclidean.oned.SubOrientedPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for PolygonsSetCodec.
+ */
+public class PolygonsSetCodecTest {
+
+    private static final double TOLERANCE = 1.0e-10;
+
+    private final PolygonsSetCodec codec = new PolygonsSetCodec();
+
+    @Test
+    public void testBufferRoundTrip() {
+        // arrange
+        final PolygonsSet region = buildRegionWithHole();
+
+        // act
+        final ByteBuffer buffer = codec.encode(region);
+        final PolygonsSet decoded = codec.decode(buffer);
+
+        // assert
+        Assert.assertFalse(buffer.hasRemaining());
+        checkSameRegion(region, decoded);
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        // arrange
+        final PolygonsSet region = buildRegionWithHole();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // act
+        codec.write(region, Channels.newChannel(bytes));
+        final PolygonsSet decoded = codec.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // assert
+        Assert.assertArrayEquals(codec.encode(region).array(), bytes.toByteArray());
+        checkSameRegion(region, decoded);
+    }
+
+    @Test
+    public void testBoundaryAttributesRebuiltLazily() {
+        // arrange
+        final PolygonsSet region = buildRegionWithHole();
+        region.getTree(true);
+
+        // act
+        final PolygonsSet decoded = codec.decode(codec.encode(region));
+
+        // assert
+        Assert.assertNull(decoded.getTree(false).getAttribute());
+        Assert.assertEquals(region.getBoundarySize(), decoded.getBoundarySize(), 0.0);
+        Assert.assertNotNull(decoded.getTree(false).getAttribute());
+    }
+
+    @Test
+    public void testEmptyAndFull() {
+        // act
+        final PolygonsSet full  = codec.decode(codec.encode(new PolygonsSet(TOLERANCE)));
+        final PolygonsSet empty = codec.decode(codec.encode(
+                (PolygonsSet) new RegionFactory<Point2D>().getComplement(new PolygonsSet(TOLERANCE))));
+
+        // assert
+        Assert.assertTrue(full.isFull());
+        Assert.assertTrue(empty.isEmpty());
+        Assert.assertEquals(TOLERANCE, full.getTolerance(), 0.0);
+    }
+
+    @Test
+    public void testTreeRoundTrip() {
+        // arrange
+        final BSPTree<Point2D> tree = new BSPTree<>();
+        tree.insertCut(new Line(Point2D.of(0, 0), 0.25, TOLERANCE));
+        tree.getPlus().insertCut(new Line(Point2D.of(1, 1), 1.5, TOLERANCE));
+        tree.getPlus().getPlus().setAttribute(Boolean.TRUE);
+        tree.getPlus().getMinus().setAttribute(Boolean.FALSE);
+
+        // act
+        final BSPTree<Point2D> decoded = codec.decodeTree(codec.encodeTree(tree));
+
+        // assert
+        checkSameTree(tree, decoded);
+        Assert.assertNull(decoded.getMinus().getAttribute());
+        Assert.assertEquals(Boolean.TRUE, decoded.getPlus().getPlus().getAttribute());
+        Assert.assertEquals(Boolean.FALSE, decoded.getPlus().getMinus().getAttribute());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedLeafAttribute() {
+        // arrange
+        final BSPTree<Point2D> tree = new BSPTree<>("not a boolean");
+
+        // act
+        codec.encodeTree(tree);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongSpace() {
+        // arrange
+        final ByteBuffer buffer = new IntervalsSetCodec().encode(new IntervalsSet(0, 1, TOLERANCE));
+
+        // act
+        codec.decode(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTreeDecodedAsRegion() {
+        // arrange
+        final ByteBuffer buffer = codec.encodeTree(buildRegionWithHole().getTree(false));
+
+        // act
+        codec.decode(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedVersion() {
+        // arrange
+        final ByteBuffer buffer = codec.encode(buildRegionWithHole());
+        buffer.put(4, (byte) (PolygonsSetCodec.VERSION + 1));
+
+        // act
+        codec.decode(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncated() {
+        // arrange
+        final ByteBuffer buffer = codec.encode(buildRegionWithHole());
+        final byte[] truncated = Arrays.copyOf(buffer.array(), buffer.limit() - 1);
+
+        // act
+        codec.decode(ByteBuffer.wrap(truncated));
+    }
+
+    private static PolygonsSet buildRegionWithHole() {
+        final PolygonsSet outer = new PolygonsSet(TOLERANCE,
+                                                  Point2D.of(0, 0), Point2D.of(4, 0), Point2D.of(5, 3),
+                                                  Point2D.of(2, 5), Point2D.of(-1, 3));
+        final PolygonsSet hole  = new PolygonsSet(TOLERANCE,
+                                                  Point2D.of(1, 1), Point2D.of(2, 3), Point2D.of(3, 1));
+        final Region<Point2D> shifted = new PolygonsSet(6, 8, 0, 1, TOLERANCE);
+        final RegionFactory<Point2D> factory = new RegionFactory<>();
+        return (PolygonsSet) factory.union(factory.difference(outer, hole), shifted);
+    }
+
+    private static void checkSameRegion(final PolygonsSet expected, final PolygonsSet actual) {
+        Assert.assertEquals(expected.getTolerance(), actual.getTolerance(), 0.0);
+        checkSameTree(expected.getTree(false), actual.getTree(false));
+        Assert.assertEquals(expected.getSize(), actual.getSize(), 0.0);
+        Assert.assertEquals(expected.getBoundarySize(), actual.getBoundarySize(), 0.0);
+        for (double x = -2; x <= 9; x += 0.125) {
+            for (double y = -1; y <= 6; y += 0.125) {
+                final Point2D p = Point2D.of(x, y);
+                Assert.assertEquals(expected.checkPoint(p), actual.checkPoint(p));
+            }
+        }
+    }
+
+    private static void checkSameTree(final BSPTree<Point2D> expected, final BSPTree<Point2D> actual) {
+        if (expected.getCut() == null) {
+            Assert.assertNull(actual.getCut());
+            Assert.assertEquals(expected.getAttribute(), actual.getAttribute());
+        } else {
+            final Line expectedLine = (Line) expected.getCut().getHyperplane();
+            final Line actualLine   = (Line) actual.getCut().getHyperplane();
+            Assert.assertArrayEquals(expectedLine.getOffsetCoefficients(), actualLine.getOffsetCoefficients(), 0.0);
+            Assert.assertEquals(expectedLine.getAngle(), actualLine.getAngle(), 0.0);
+            Assert.assertEquals(expectedLine.getTolerance(), actualLine.getTolerance(), 0.0);
+            checkSameSubTree(((SubLine) expected.getCut()).getRemainingRegion().getTree(false),
+                             ((SubLine) actual.getCut()).getRemainingRegion().getTree(false));
+            checkSameTree(expected.getPlus(), actual.getPlus());
+            checkSameTree(expected.getMinus(), actual.getMinus());
+        }
+    }
+
+    private static void checkSameSubTree(final BSPTree<Point1D> expected, final BSPTree<Point1D> actual) {
+        if (expected.getCut() == null) {
+            Assert.assertNull(actual.getCut());
+            Assert.assertEquals(expected.getAttribute(), actual.getAttribute());
+        } else {
+            Assert.assertTrue(actual.getCut() instanceof SubOrientedPoint);
+            final OrientedPoint expectedPoint = (OrientedPoint) expected.getCut().getHyperplane();
+            final OrientedPoint actualPoint   = (OrientedPoint) actual.getCut().getHyperplane();
+            Assert.assertEquals(expectedPoint.getLocation(), actualPoint.getLocation());
+            Assert.assertEquals(expectedPoint.isDirect(), actualPoint.isDirect());
+            checkSameSubTree(expected.getPlus(), actual.getPlus());
+            checkSameSubTree(expected.getMinus(), actual.getMinus());
+        }
+    }
+
+}
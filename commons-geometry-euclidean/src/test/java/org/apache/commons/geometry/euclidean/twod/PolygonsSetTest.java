@@ -16,18 +16,28 @@
  */
 package org.apache.commons.geometry.euclidean.twod;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.partitioning.BSPTree;
 import org.apache.commons.geometry.core.partitioning.BSPTreeVisitor;
 import org.apache.commons.geometry.core.partitioning.BoundaryProjection;
+import org.apache.commons.geometry.core.partitioning.CompactBSPTree;
+import org.apache.commons.geometry.core.partitioning.CutSelectors;
 import org.apache.commons.geometry.core.partitioning.Hyperplane;
+import org.apache.commons.geometry.core.partitioning.MappedBSPTree;
 import org.apache.commons.geometry.core.partitioning.Region;
 import org.apache.commons.geometry.core.partitioning.Region.Location;
 import org.apache.commons.geometry.core.partitioning.RegionFactory;
 import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.core.partitioning.TreeStatistics;
 import org.apache.commons.geometry.euclidean.EuclideanTestUtils;
 import org.apache.commons.geometry.euclidean.oned.Interval;
 import org.apache.commons.geometry.euclidean.oned.IntervalsSet;
@@ -594,6 +604,270 @@ public class PolygonsSetTest {
         }
     }
 
+    @Test
+    public void testFreeze() {
+        // arrange
+        PolygonsSet full = new PolygonsSet(TEST_TOLERANCE);
+        PolygonsSet hole = buildSet(new Point2D[][] {
+            new Point2D[] {
+                Point2D.of(0.0, 0.0),
+                Point2D.of(3.0, 0.0),
+                Point2D.of(3.0, 3.0),
+                Point2D.of(0.0, 3.0)
+            }, new Point2D[] {
+                Point2D.of(1.0, 2.0),
+                Point2D.of(2.0, 2.0),
+                Point2D.of(2.0, 1.0),
+                Point2D.of(1.0, 1.0)
+            }
+        });
+
+        // act
+        CompactBSPTree<Point2D> frozenFull = full.freeze();
+        CompactBSPTree<Point2D> frozenHole = hole.freeze();
+
+        // assert
+        Assert.assertEquals(0, frozenFull.getCutCount());
+        Assert.assertEquals(TEST_TOLERANCE, frozenHole.getTolerance(), 0.0);
+        for (double x = -0.5; x <= 3.5; x += 0.25) {
+            for (double y = -0.5; y <= 3.5; y += 0.25) {
+                checkFrozenPoints(full, frozenFull, Point2D.of(x, y));
+                checkFrozenPoints(hole, frozenHole, Point2D.of(x, y));
+            }
+        }
+        Assert.assertEquals(Region.Location.BOUNDARY, frozenHole.checkPoint(1.5, 2.0));
+        Assert.assertEquals(Region.Location.OUTSIDE, frozenHole.checkPoint(new double[] { 9.0, 1.5, 1.5 }, 1));
+    }
+
+    @Test
+    public void testMappedFrozenTree() throws IOException {
+        // arrange
+        PolygonsSet hole = buildSet(new Point2D[][] {
+            new Point2D[] {
+                Point2D.of(0.0, 0.0),
+                Point2D.of(3.0, 0.0),
+                Point2D.of(3.0, 3.0),
+                Point2D.of(0.0, 3.0)
+            }, new Point2D[] {
+                Point2D.of(1.0, 2.0),
+                Point2D.of(2.0, 2.0),
+                Point2D.of(2.0, 1.0),
+                Point2D.of(1.0, 1.0)
+            }
+        });
+        CompactBSPTree<Point2D> frozen = hole.freeze();
+        ByteArrayOutputStream big    = new ByteArrayOutputStream();
+        ByteArrayOutputStream little = new ByteArrayOutputStream();
+        ByteArrayOutputStream full   = new ByteArrayOutputStream();
+
+        // act
+        frozen.write(Channels.newChannel(big), ByteOrder.BIG_ENDIAN);
+        frozen.write(Channels.newChannel(little), ByteOrder.LITTLE_ENDIAN);
+        new PolygonsSet(TEST_TOLERANCE).freeze().write(Channels.newChannel(full));
+        MappedBSPTree<Point2D> mappedBig    = MappedBSPTree.wrap(ByteBuffer.wrap(big.toByteArray()));
+        MappedBSPTree<Point2D> mappedLittle = MappedBSPTree.wrap(ByteBuffer.wrap(little.toByteArray()));
+        MappedBSPTree<Point2D> mappedFull   = MappedBSPTree.wrap(ByteBuffer.wrap(full.toByteArray()));
+
+        // assert
+        Assert.assertEquals(frozen.getCutCount(), mappedBig.getCutCount());
+        Assert.assertEquals(TEST_TOLERANCE, mappedLittle.getTolerance(), 0.0);
+        Assert.assertEquals(0, mappedFull.getCutCount());
+        for (double x = -0.5; x <= 3.5; x += 0.25) {
+            for (double y = -0.5; y <= 3.5; y += 0.25) {
+                Location expected = frozen.checkPoint(x, y);
+                Assert.assertEquals(expected, mappedBig.checkPoint(x, y));
+                Assert.assertEquals(expected, mappedLittle.checkPoint(x, y));
+                Assert.assertEquals(Location.INSIDE, mappedFull.checkPoint(x, y));
+            }
+        }
+        Assert.assertEquals(Location.OUTSIDE, mappedBig.checkPoint(new double[] { 9.0, 1.5, 1.5 }, 1));
+    }
+
+    @Test
+    public void testMappedFrozenTreeCells() throws IOException {
+        // arrange
+        PolygonsSet square = new PolygonsSet(0, 1, 0, 1, TEST_TOLERANCE);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        square.freeze().write(Channels.newChannel(bytes));
+        MappedBSPTree<Point2D> mapped = MappedBSPTree.wrap(ByteBuffer.wrap(bytes.toByteArray()));
+
+        // act
+        int inside1  = mapped.getCell(new double[] { 0.25, 0.25 }, 0);
+        int inside2  = mapped.getCell(new double[] { 0.75, 0.5 }, 0);
+        int outside1 = mapped.getCell(new double[] { -1.0, 0.5 }, 0);
+        int outside2 = mapped.getCell(new double[] { 0.5, 2.0 }, 0);
+        int boundary = mapped.getCell(new double[] { 1.0, 0.5 }, 0);
+
+        // assert
+        Assert.assertEquals(inside1, inside2);
+        Assert.assertTrue(inside1 >= 0);
+        Assert.assertTrue(outside1 >= 0);
+        Assert.assertNotEquals(inside1, outside1);
+        Assert.assertNotEquals(outside1, outside2);
+        Assert.assertTrue(boundary < 0);
+        Assert.assertTrue(-(boundary + 1) < mapped.getCutCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMappedFrozenTreeTruncated() throws IOException {
+        // arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new PolygonsSet(0, 1, 0, 1, TEST_TOLERANCE).freeze().write(Channels.newChannel(bytes));
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 4);
+
+        // act
+        MappedBSPTree.wrap(ByteBuffer.wrap(truncated));
+    }
+
+    @Test
+    public void testMappedFrozenTreeInvalidChildren() throws IOException {
+        // arrange
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompactBSPTree<Point2D> frozen = new PolygonsSet(0, 1, 0, 1, TEST_TOLERANCE).freeze();
+        frozen.write(Channels.newChannel(bytes), ByteOrder.BIG_ENDIAN);
+        int childrenStart = 32 + frozen.getCutCount() * 3 * Double.BYTES;
+
+        for (int corrupted : new int[] { 0, 1, frozen.getCutCount(), -3 }) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            // the minus child of node 1 now refers to itself, its parent, a
+            // non-existent node or an invalid leaf
+            buffer.putInt(childrenStart + 3 * Integer.BYTES, corrupted);
+
+            // act
+            MappedBSPTree<Point2D> mapped = MappedBSPTree.wrap(buffer);
+            int failures = 0;
+            for (double x = -0.5; x <= 1.5; x += 0.25) {
+                for (double y = -0.5; y <= 1.5; y += 0.25) {
+                    try {
+                        mapped.checkPoint(x, y);
+                    } catch (IllegalStateException ise) {
+                        Assert.assertTrue(ise.getMessage().contains("Invalid child reference " + corrupted));
+                        ++failures;
+                    }
+                    try {
+                        mapped.getCell(new double[] { x, y }, 0);
+                    } catch (IllegalStateException ise) {
+                        Assert.assertTrue(ise.getMessage().contains("Invalid child reference " + corrupted));
+                        ++failures;
+                    }
+                }
+            }
+
+            // assert
+            Assert.assertTrue(failures > 0);
+        }
+    }
+
+    @Test
+    public void testCutSelectors() {
+        // arrange
+        int n = 32;
+        List<SubHyperplane<Point2D>> edges = buildComb(n);
+        PolygonsSet reference = new PolygonsSet(edges, TEST_TOLERANCE);
+
+        // act
+        PolygonsSet random      = new PolygonsSet(edges, CutSelectors.random(0x2f9be6a3c81d47e5L), TEST_TOLERANCE);
+        PolygonsSet leastSplits = new PolygonsSet(edges, CutSelectors.leastSplits(16), TEST_TOLERANCE);
+        PolygonsSet balanced    = new PolygonsSet(edges, CutSelectors.balanced(16, 2.0), TEST_TOLERANCE);
+
+        // assert
+        TreeStatistics referenceStats   = TreeStatistics.of(reference.getTree(false));
+        TreeStatistics randomStats      = TreeStatistics.of(random.getTree(false));
+        TreeStatistics leastSplitsStats = TreeStatistics.of(leastSplits.getTree(false));
+        TreeStatistics balancedStats    = TreeStatistics.of(balanced.getTree(false));
+        Assert.assertEquals(68, referenceStats.getFragmentCount());
+        Assert.assertEquals(68, referenceStats.getDepth());
+        Assert.assertTrue(randomStats.getDepth() < referenceStats.getDepth() / 2);
+        Assert.assertTrue(leastSplitsStats.getFragmentCount() <= referenceStats.getFragmentCount());
+        Assert.assertTrue(balancedStats.getDepth() < referenceStats.getDepth() / 4);
+        Assert.assertTrue(balancedStats.getMeanDepth() < referenceStats.getMeanDepth() / 4);
+
+        for (PolygonsSet set : Arrays.asList(random, leastSplits, balanced)) {
+            Assert.assertEquals(3.0 * n, set.getSize(), TEST_TOLERANCE);
+            Assert.assertEquals(6.0 * n + 2.0, set.getBoundarySize(), TEST_TOLERANCE);
+            for (double x = -0.25; x < 2 * n + 0.5; x += 0.25) {
+                for (double y = -0.25; y < 2.5; y += 0.25) {
+                    Point2D p = Point2D.of(x, y);
+                    Assert.assertEquals(reference.checkPoint(p), set.checkPoint(p));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTreeStatistics() {
+        // act
+        TreeStatistics stats = TreeStatistics.of(new PolygonsSet(0, 1, 0, 1, TEST_TOLERANCE).getTree(false));
+        TreeStatistics full  = TreeStatistics.of(new PolygonsSet(TEST_TOLERANCE).getTree(false));
+
+        // assert
+        Assert.assertEquals(4, stats.getFragmentCount());
+        Assert.assertEquals(5, stats.getLeafCount());
+        Assert.assertEquals(4, stats.getDepth());
+        Assert.assertEquals(2.8, stats.getMeanDepth(), TEST_TOLERANCE);
+        Assert.assertEquals(0, full.getFragmentCount());
+        Assert.assertEquals(1, full.getLeafCount());
+        Assert.assertEquals(0, full.getDepth());
+        Assert.assertEquals(0.0, full.getMeanDepth(), TEST_TOLERANCE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCutSelectors_noCandidates() {
+        // act
+        CutSelectors.<Point2D>leastSplits(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCutSelectors_negativeSplitWeight() {
+        // act
+        CutSelectors.<Point2D>balanced(8, -1.0);
+    }
+
+    @Test
+    public void testCheckPoints() {
+        // arrange
+        PolygonsSet hole = buildSet(new Point2D[][] {
+            new Point2D[] {
+                Point2D.of(0.0, 0.0),
+                Point2D.of(3.0, 0.0),
+                Point2D.of(3.0, 3.0),
+                Point2D.of(0.0, 3.0)
+            }, new Point2D[] {
+                Point2D.of(1.0, 2.0),
+                Point2D.of(2.0, 2.0),
+                Point2D.of(2.0, 1.0),
+                Point2D.of(1.0, 1.0)
+            }
+        });
+        int n = 201;
+        double[] coordinates = new double[2 * n * n];
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                coordinates[2 * (i * n + j)]     = -0.5 + 0.02 * i;
+                coordinates[2 * (i * n + j) + 1] = -0.5 + 0.02 * j;
+            }
+        }
+        Region.Location[] sequential = new Region.Location[n * n];
+        Region.Location[] parallel   = new Region.Location[n * n];
+
+        // act
+        hole.checkPoints(coordinates, sequential);
+        hole.checkPoints(coordinates, parallel, ForkJoinPool.commonPool());
+
+        // assert
+        for (int k = 0; k < n * n; ++k) {
+            Region.Location expected = hole.checkPoint(Point2D.of(coordinates[2 * k], coordinates[2 * k + 1]));
+            Assert.assertEquals(expected, sequential[k]);
+            Assert.assertEquals(expected, parallel[k]);
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testCheckPoints_inconsistentSizes() {
+        PolygonsSet box = new PolygonsSet(0, 1, 0, 1, TEST_TOLERANCE);
+        box.checkPoints(new double[5], new Region.Location[2]);
+    }
+
     @Test
     public void testDisjointPolygons() {
         // arrange
@@ -852,6 +1126,98 @@ public class PolygonsSetTest {
         });
     }
 
+    @Test
+    public void testUnionAll() {
+        // arrange
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<RegionFactory<Point2D>> factories =
+                Arrays.asList(new RegionFactory<Point2D>(), new RegionFactory<Point2D>(pool, 4));
+
+        try {
+            for (RegionFactory<Point2D> factory : factories) {
+                List<Region<Point2D>> squares = new ArrayList<>();
+                for (int i = 0; i < 10; ++i) {
+                    squares.add(new PolygonsSet(i, i + 2, i, i + 2, TEST_TOLERANCE));
+                }
+                squares.add(3, factory.getComplement(new PolygonsSet(TEST_TOLERANCE)));
+
+                // act
+                Region<Point2D> union = factory.unionAll(squares);
+
+                // assert
+                Assert.assertEquals(31.0, union.getSize(), TEST_TOLERANCE);
+                Assert.assertEquals(44.0, union.getBoundarySize(), TEST_TOLERANCE);
+                checkPoints(Region.Location.INSIDE, (PolygonsSet) union,
+                        Point2D.of(0.5, 0.5), Point2D.of(5.5, 6.5), Point2D.of(10.5, 10.5));
+                checkPoints(Region.Location.OUTSIDE, (PolygonsSet) union,
+                        Point2D.of(0.5, 2.5), Point2D.of(2.5, 0.5), Point2D.of(8.5, 5.5));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnionAll_trivialCases() {
+        // arrange
+        RegionFactory<Point2D> factory = new RegionFactory<>();
+        PolygonsSet full = new PolygonsSet(TEST_TOLERANCE);
+        PolygonsSet empty = (PolygonsSet) factory.getComplement(full);
+        PolygonsSet box = new PolygonsSet(0, 1, 0, 1, TEST_TOLERANCE);
+
+        // act/assert
+        Assert.assertNull(factory.unionAll(new ArrayList<Region<Point2D>>()));
+        Assert.assertSame(empty, factory.unionAll(Arrays.<Region<Point2D>>asList(empty, empty)));
+        Assert.assertSame(box, factory.unionAll(Arrays.<Region<Point2D>>asList(empty, box)));
+        Assert.assertSame(full, factory.unionAll(Arrays.<Region<Point2D>>asList(box, full, empty)));
+    }
+
+    @Test
+    public void testIntersectionAll() {
+        // arrange
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<RegionFactory<Point2D>> factories =
+                Arrays.asList(new RegionFactory<Point2D>(), new RegionFactory<Point2D>(pool, 4));
+
+        try {
+            for (RegionFactory<Point2D> factory : factories) {
+                List<Region<Point2D>> squares = new ArrayList<>();
+                for (int i = 0; i < 10; ++i) {
+                    squares.add(new PolygonsSet(0.1 * i, 0.1 * i + 2, 0.1 * i, 0.1 * i + 2, TEST_TOLERANCE));
+                }
+                squares.add(5, new PolygonsSet(TEST_TOLERANCE));
+
+                // act
+                Region<Point2D> intersection = factory.intersectionAll(squares);
+
+                // assert
+                Assert.assertEquals(1.21, intersection.getSize(), 1.0e-9);
+                checkPoints(Region.Location.INSIDE, (PolygonsSet) intersection, Point2D.of(1.5, 1.5));
+                checkPoints(Region.Location.BOUNDARY, (PolygonsSet) intersection, Point2D.of(0.9, 2.0));
+                checkPoints(Region.Location.OUTSIDE, (PolygonsSet) intersection,
+                        Point2D.of(0.5, 0.5), Point2D.of(2.5, 2.5));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIntersectionAll_disjoint() {
+        // arrange
+        RegionFactory<Point2D> factory = new RegionFactory<>();
+        List<Region<Point2D>> squares = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            squares.add(new PolygonsSet(i, i + 1.5, 0, 1, TEST_TOLERANCE));
+        }
+
+        // act
+        Region<Point2D> intersection = factory.intersectionAll(squares);
+
+        // assert
+        Assert.assertTrue(intersection.isEmpty());
+    }
+
     @Test
     public void testIntersection() {
         // arrange
@@ -1712,6 +2078,27 @@ public class PolygonsSetTest {
         return new PolygonsSet(edges, TEST_TOLERANCE);
     }
 
+    private List<SubHyperplane<Point2D>> buildComb(int n) {
+        // n teeth of height 2 and width 1, separated by gaps of height 1 and width 1
+        List<Point2D> vertices = new ArrayList<>();
+        vertices.add(Point2D.of(0, 0));
+        vertices.add(Point2D.of(2 * n, 0));
+        vertices.add(Point2D.of(2 * n, 1));
+        for (int k = n - 1; k >= 0; --k) {
+            vertices.add(Point2D.of(2 * k + 1, 1));
+            vertices.add(Point2D.of(2 * k + 1, 2));
+            vertices.add(Point2D.of(2 * k, 2));
+            if (k > 0) {
+                vertices.add(Point2D.of(2 * k, 1));
+            }
+        }
+        List<SubHyperplane<Point2D>> edges = new ArrayList<>();
+        for (int i = 0; i < vertices.size(); ++i) {
+            edges.add(buildSegment(vertices.get(i), vertices.get((i + 1) % vertices.size())));
+        }
+        return edges;
+    }
+
     private SubHyperplane<Point2D> buildLine(Point2D start, Point2D end) {
         return new Line(start, end, TEST_TOLERANCE).wholeHyperplane();
     }
@@ -1742,6 +2129,13 @@ public class PolygonsSetTest {
         }
     }
 
+    private void checkFrozenPoints(PolygonsSet poly, CompactBSPTree<Point2D> frozen, Point2D ... points) {
+        for (int i = 0; i < points.length; ++i) {
+            Assert.assertEquals("Incorrect location for " + points[i],
+                                poly.checkPoint(points[i]), frozen.checkPoint(points[i].toArray()));
+        }
+    }
+
     /** Asserts that the two arrays of vertex loops have equivalent content.
      * @param expectedLoops
      * @param actualLoops
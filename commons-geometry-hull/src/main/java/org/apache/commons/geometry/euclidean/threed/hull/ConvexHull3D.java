@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.hull;
+
+import java.io.Serializable;
+
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.apache.commons.geometry.euclidean.threed.Plane;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.geometry.hull.ConvexHull;
+
+/**
+ * This class represents a convex hull in an three-dimensional Euclidean space.
+ * <p>
+ * The hull boundary is given as a list of facets, each facet being an array
+ * of indices in the vertices array. The vertices of each facet are ordered
+ * counterclockwise when seen from outside of the hull, so the facet normal
+ * given by the right hand rule points outward.
+ */
+public class ConvexHull3D implements ConvexHull<Point3D>, Serializable {
+
+    /** Serializable UID. */
+    private static final long serialVersionUID = 20181016L;
+
+    /** Vertices of the hull. */
+    private final Point3D[] vertices;
+
+    /** Facets of the hull, as indices in the vertices array. */
+    private final int[][] facets;
+
+    /** Tolerance threshold used during creation of the hull vertices. */
+    private final double tolerance;
+
+    /**
+     * Simple constructor.
+     * @param vertices the vertices of the convex hull
+     * @param facets the facets of the convex hull, as indices in the vertices array,
+     * ordered counterclockwise when seen from outside of the hull
+     * @param tolerance tolerance below which points are considered identical
+     * @throws IllegalArgumentException if some facet has less than 3 vertices or
+     * refers to a non-existent vertex
+     */
+    public ConvexHull3D(final Point3D[] vertices, final int[][] facets, final double tolerance)
+        throws IllegalArgumentException {
+
+        for (final int[] facet : facets) {
+            if (facet.length < 3) {
+                throw new IllegalArgumentException("Facets must have at least 3 vertices but found only " +
+                                                   facet.length);
+            }
+            for (final int index : facet) {
+                if (index < 0 || index >= vertices.length) {
+                    throw new IllegalArgumentException("Facet vertex index " + index + " out of range [0, " +
+                                                       vertices.length + ")");
+                }
+            }
+        }
+
+        this.vertices  = vertices.clone();
+        this.facets    = new int[facets.length][];
+        for (int i = 0; i < facets.length; ++i) {
+            this.facets[i] = facets[i].clone();
+        }
+        this.tolerance = tolerance;
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Point3D[] getVertices() {
+        return vertices.clone();
+    }
+
+    /**
+     * Get the facets of the convex hull.
+     * @return facets of the convex hull, as indices in the {@link #getVertices() vertices}
+     * array, ordered counterclockwise when seen from outside of the hull
+     */
+    public int[][] getFacets() {
+        final int[][] copy = new int[facets.length][];
+        for (int i = 0; i < facets.length; ++i) {
+            copy[i] = facets[i].clone();
+        }
+        return copy;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The region is a {@link org.apache.commons.geometry.euclidean.threed.PolyhedronsSet
+     * PolyhedronsSet} built as the intersection of the half-spaces below the facets planes.
+     * </p>
+     */
+    @Override
+    public Region<Point3D> createRegion() {
+        if (facets.length < 4) {
+            throw new IllegalStateException("Region generation requires at least 4 facets but found only " +
+                                            facets.length);
+        }
+        final RegionFactory<Point3D> factory = new RegionFactory<>();
+        final Plane[] planes = new Plane[facets.length];
+        for (int i = 0; i < facets.length; i++) {
+            final int[] facet = facets[i];
+            planes[i] = new Plane(vertices[facet[0]], vertices[facet[1]], vertices[facet[2]], tolerance);
+        }
+        return factory.buildConvex(planes);
+    }
+
+}
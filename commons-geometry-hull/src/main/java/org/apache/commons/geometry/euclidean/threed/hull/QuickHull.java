@@ -0,0 +1,658 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.hull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+
+/**
+ * Implements the QuickHull algorithm to generate the convex hull of a finite
+ * set of points in the three-dimensional Euclidean space.
+ * <p>
+ * The algorithm starts from a tetrahedron built on extreme points and uses a
+ * conflict graph: each facet holds the list of points it sees, i.e. the points
+ * that are outside of the hull on its side. The farthest point of a facet
+ * conflict list is added to the hull by removing all the facets it sees and
+ * connecting it to the horizon, and the conflict lists of the removed facets are
+ * redistributed among the new facets. Points that are not seen by any facet
+ * are inside the hull and are discarded as soon as possible, so the expected
+ * cost is O(n log h), with n being the number of points and h the number of
+ * hull vertices.
+ * <p>
+ * Points are considered to be outside of a facet only if their distance to the
+ * facet plane is larger than the tolerance, so points lying on an already built
+ * part of the hull boundary are not added as hull vertices. Points lying on the
+ * boundary of the final hull may still appear as vertices if they are selected
+ * before the extreme points around them. The facets of the hull are always
+ * triangles.
+ * <p>
+ * The initial partitioning of the points among the facets of the tetrahedron
+ * involves all points. It can optionally be performed in parallel, in a
+ * {@link ForkJoinPool}, for large inputs.
+ *
+ * @see <a href="https://doi.org/10.1145/235815.235821">Barber, Dobkin and Huhdanpaa,
+ * The Quickhull Algorithm for Convex Hulls</a>
+ */
+public class QuickHull implements ConvexHullGenerator3D {
+
+    /** Default value for tolerance. */
+    private static final double DEFAULT_TOLERANCE = 1e-10;
+
+    /** Default number of points below which initial partitioning is not split anymore. */
+    private static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    /** Tolerance below which points are considered identical. */
+    private final double tolerance;
+
+    /** Pool in which to run the initial partitioning (may be null). */
+    private final ForkJoinPool pool;
+
+    /** Number of points below which initial partitioning is not split anymore. */
+    private final int threshold;
+
+    /**
+     * Create a new QuickHull instance with sequential initial partitioning.
+     * <p>
+     * The default tolerance (1e-10) will be used to determine identical points.
+     */
+    public QuickHull() {
+        this(DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Create a new QuickHull instance with sequential initial partitioning.
+     * @param tolerance tolerance below which points are considered identical
+     */
+    public QuickHull(final double tolerance) {
+        this(tolerance, null, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Create a new QuickHull instance.
+     * @param tolerance tolerance below which points are considered identical
+     * @param pool pool in which to run the initial partitioning (if null,
+     * initial partitioning is performed sequentially)
+     * @param threshold number of points below which initial partitioning is
+     * not split anymore
+     * @exception IllegalArgumentException if threshold is not strictly positive
+     */
+    public QuickHull(final double tolerance, final ForkJoinPool pool, final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be at least 1, got " + threshold);
+        }
+        this.tolerance = tolerance;
+        this.pool      = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get the tolerance below which points are considered identical.
+     * @return the tolerance below which points are considered identical
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Get the number of points below which initial partitioning is not split anymore.
+     * @return number of points below which initial partitioning is not split anymore
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /** {@inheritDoc}
+     * @throws IllegalStateException if the points are all coplanar, or if
+     * numerical problems prevent building the hull
+     */
+    @Override
+    public ConvexHull3D generate(final Collection<Point3D> points) throws IllegalStateException {
+        return new Builder(points.toArray(new Point3D[points.size()])).build();
+    }
+
+    /** Facet of the hull under construction. */
+    private static class Face {
+
+        /** Vertices indices, counterclockwise when seen from outside. */
+        private final int[] vertices;
+
+        /** Neighbors, neighbor i being across edge (vertices[i], vertices[i + 1]). */
+        private final Face[] neighbors;
+
+        /** Abscissa of the outward normal. */
+        private final double nx;
+
+        /** Ordinate of the outward normal. */
+        private final double ny;
+
+        /** Height of the outward normal. */
+        private final double nz;
+
+        /** Offset of the plane. */
+        private final double offset;
+
+        /** Indices of the points seeing the facet. */
+        private int[] outside;
+
+        /** Number of points seeing the facet. */
+        private int outsideSize;
+
+        /** Index of the farthest point seeing the facet. */
+        private int farthest;
+
+        /** Distance of the farthest point seeing the facet. */
+        private double farthestDistance;
+
+        /** Indicator for removed facets. */
+        private boolean deleted;
+
+        /** Stamp of the last visibility test. */
+        private int testStamp;
+
+        /** Result of the last visibility test. */
+        private boolean visible;
+
+        /** Simple constructor.
+         * @param a first vertex
+         * @param b second vertex
+         * @param c third vertex
+         * @param x abscissas of all points
+         * @param y ordinates of all points
+         * @param z heights of all points
+         */
+        Face(final int a, final int b, final int c,
+             final double[] x, final double[] y, final double[] z) {
+            this.vertices  = new int[] { a, b, c };
+            this.neighbors = new Face[3];
+            final double ux = x[b] - x[a];
+            final double uy = y[b] - y[a];
+            final double uz = z[b] - z[a];
+            final double vx = x[c] - x[a];
+            final double vy = y[c] - y[a];
+            final double vz = z[c] - z[a];
+            final double wx = uy * vz - uz * vy;
+            final double wy = uz * vx - ux * vz;
+            final double wz = ux * vy - uy * vx;
+            final double inv = 1.0 / Math.sqrt(wx * wx + wy * wy + wz * wz);
+            this.nx       = wx * inv;
+            this.ny       = wy * inv;
+            this.nz       = wz * inv;
+            this.offset   = (nx * (x[a] + x[b] + x[c]) +
+                             ny * (y[a] + y[b] + y[c]) +
+                             nz * (z[a] + z[b] + z[c])) / 3;
+            this.outside  = null;
+            this.farthest = -1;
+        }
+
+        /** Compute the signed distance of a point to the facet plane.
+         * @param i index of the point
+         * @param x abscissas of all points
+         * @param y ordinates of all points
+         * @param z heights of all points
+         * @return signed distance, positive outside of the hull
+         */
+        double distance(final int i, final double[] x, final double[] y, final double[] z) {
+            return nx * x[i] + ny * y[i] + nz * z[i] - offset;
+        }
+
+        /** Add a point seeing the facet.
+         * @param i index of the point
+         * @param distance distance of the point to the facet plane
+         */
+        void addOutside(final int i, final double distance) {
+            if (outside == null) {
+                outside = new int[4];
+            } else if (outsideSize == outside.length) {
+                outside = Arrays.copyOf(outside, 2 * outsideSize);
+            }
+            outside[outsideSize++] = i;
+            if (farthest < 0 || distance > farthestDistance) {
+                farthest         = i;
+                farthestDistance = distance;
+            }
+        }
+
+        /** Replace a neighbor.
+         * @param start start vertex of the shared edge in this facet
+         * @param neighbor new neighbor across the edge
+         */
+        void setNeighbor(final int start, final Face neighbor) {
+            for (int k = 0; k < 3; ++k) {
+                if (vertices[k] == start) {
+                    neighbors[k] = neighbor;
+                    return;
+                }
+            }
+        }
+
+    }
+
+    /** Builder for one hull. */
+    private class Builder {
+
+        /** Input points. */
+        private final Point3D[] points;
+
+        /** Abscissas of the points. */
+        private final double[] x;
+
+        /** Ordinates of the points. */
+        private final double[] y;
+
+        /** Heights of the points. */
+        private final double[] z;
+
+        /** New facets indexed by their first vertex, used only while connecting new facets. */
+        private final Face[] byStart;
+
+        /** Facets with non-empty conflict lists. */
+        private final Deque<Face> pending;
+
+        /** Facets seen by the point being added. */
+        private final List<Face> seen;
+
+        /** Facets created while adding a point. */
+        private final List<Face> created;
+
+        /** Current visibility stamp. */
+        private int stamp;
+
+        /** One live facet of the hull. */
+        private Face live;
+
+        /** Simple constructor.
+         * @param points input points
+         */
+        Builder(final Point3D[] points) {
+            this.points  = points;
+            this.x       = new double[points.length];
+            this.y       = new double[points.length];
+            this.z       = new double[points.length];
+            for (int i = 0; i < points.length; ++i) {
+                x[i] = points[i].getX();
+                y[i] = points[i].getY();
+                z[i] = points[i].getZ();
+            }
+            this.byStart = new Face[points.length];
+            this.pending = new ArrayDeque<>();
+            this.seen    = new ArrayList<>();
+            this.created = new ArrayList<>();
+        }
+
+        /** Build the hull.
+         * @return convex hull of the points
+         */
+        ConvexHull3D build() {
+
+            final Face[] tetrahedron = initialTetrahedron();
+            partition(tetrahedron);
+            for (final Face face : tetrahedron) {
+                if (face.outsideSize > 0) {
+                    pending.push(face);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                final Face face = pending.pop();
+                if (!face.deleted && face.outsideSize > 0) {
+                    addPoint(face);
+                }
+            }
+
+            return extractHull();
+
+        }
+
+        /** Build the initial tetrahedron from extreme points.
+         * @return facets of the tetrahedron
+         */
+        private Face[] initialTetrahedron() {
+
+            if (points.length < 4) {
+                throw new IllegalStateException("Convex hull generation requires at least 4 points but found only " +
+                                                points.length);
+            }
+
+            // select the two extreme points along the axis with largest spread
+            final double[][] coordinates = { x, y, z };
+            int i0 = 0;
+            int i1 = 0;
+            double spread = -1;
+            for (final double[] c : coordinates) {
+                int min = 0;
+                int max = 0;
+                for (int i = 1; i < c.length; ++i) {
+                    if (c[i] < c[min]) {
+                        min = i;
+                    } else if (c[i] > c[max]) {
+                        max = i;
+                    }
+                }
+                if (c[max] - c[min] > spread) {
+                    i0     = min;
+                    i1     = max;
+                    spread = c[max] - c[min];
+                }
+            }
+            if (spread <= tolerance) {
+                throw new IllegalStateException("Points are all identical");
+            }
+
+            // select the point farthest from the line (i0, i1)
+            final double dx = x[i1] - x[i0];
+            final double dy = y[i1] - y[i0];
+            final double dz = z[i1] - z[i0];
+            final double inv = 1.0 / Math.sqrt(dx * dx + dy * dy + dz * dz);
+            int i2 = -1;
+            double best = tolerance;
+            for (int i = 0; i < x.length; ++i) {
+                final double ux = x[i] - x[i0];
+                final double uy = y[i] - y[i0];
+                final double uz = z[i] - z[i0];
+                final double cx = uy * dz - uz * dy;
+                final double cy = uz * dx - ux * dz;
+                final double cz = ux * dy - uy * dx;
+                final double d  = Math.sqrt(cx * cx + cy * cy + cz * cz) * inv;
+                if (d > best) {
+                    i2   = i;
+                    best = d;
+                }
+            }
+            if (i2 < 0) {
+                throw new IllegalStateException("Points are all collinear");
+            }
+
+            // select the point farthest from the plane (i0, i1, i2)
+            final Face base = new Face(i0, i1, i2, x, y, z);
+            int i3 = -1;
+            best = tolerance;
+            for (int i = 0; i < x.length; ++i) {
+                final double d = Math.abs(base.distance(i, x, y, z));
+                if (d > best) {
+                    i3   = i;
+                    best = d;
+                }
+            }
+            if (i3 < 0) {
+                throw new IllegalStateException("Points are all coplanar");
+            }
+
+            // build the tetrahedron with outward normals
+            final int a = i0;
+            final int b = base.distance(i3, x, y, z) < 0 ? i1 : i2;
+            final int c = base.distance(i3, x, y, z) < 0 ? i2 : i1;
+            final Face[] faces = {
+                new Face(a, b, c, x, y, z),
+                new Face(b, a, i3, x, y, z),
+                new Face(c, b, i3, x, y, z),
+                new Face(a, c, i3, x, y, z)
+            };
+            for (final Face f : faces) {
+                for (int k = 0; k < 3; ++k) {
+                    final int start = f.vertices[k];
+                    final int end   = f.vertices[(k + 1) % 3];
+                    for (final Face g : faces) {
+                        for (int l = 0; l < 3; ++l) {
+                            if (g.vertices[l] == end && g.vertices[(l + 1) % 3] == start) {
+                                f.neighbors[k] = g;
+                            }
+                        }
+                    }
+                }
+            }
+            live = faces[0];
+            return faces;
+
+        }
+
+        /** Distribute all points among the facets of the initial tetrahedron.
+         * @param faces facets of the initial tetrahedron
+         */
+        private void partition(final Face[] faces) {
+
+            // find the owner of each point, possibly in parallel
+            final byte[] owner = new byte[x.length];
+            if (pool == null || x.length <= threshold) {
+                findOwners(faces, owner, 0, x.length);
+            } else {
+                pool.invoke(new Partition(faces, owner, 0, x.length));
+            }
+
+            // fill up the conflict lists
+            for (int i = 0; i < owner.length; ++i) {
+                if (owner[i] > 0) {
+                    final Face face = faces[owner[i] - 1];
+                    face.addOutside(i, face.distance(i, x, y, z));
+                }
+            }
+
+        }
+
+        /** Find the facets seen by a range of points.
+         * @param faces facets of the initial tetrahedron
+         * @param owner index of the facet seen by each point (1 to 4), or 0 for inside points
+         * @param from start of the range (inclusive)
+         * @param to end of the range (exclusive)
+         */
+        private void findOwners(final Face[] faces, final byte[] owner, final int from, final int to) {
+            for (int i = from; i < to; ++i) {
+                double best = tolerance;
+                for (int k = 0; k < faces.length; ++k) {
+                    final double d = faces[k].distance(i, x, y, z);
+                    if (d > best) {
+                        owner[i] = (byte) (k + 1);
+                        best     = d;
+                    }
+                }
+            }
+        }
+
+        /** Add the farthest point of a facet conflict list to the hull.
+         * @param face facet whose farthest point should be added
+         */
+        private void addPoint(final Face face) {
+
+            final int eye = face.farthest;
+            ++stamp;
+
+            // find all facets seen by the point
+            seen.clear();
+            face.testStamp = stamp;
+            face.visible   = true;
+            seen.add(face);
+            for (int k = 0; k < seen.size(); ++k) {
+                for (final Face neighbor : seen.get(k).neighbors) {
+                    if (neighbor.testStamp != stamp) {
+                        neighbor.testStamp = stamp;
+                        neighbor.visible   = neighbor.distance(eye, x, y, z) > tolerance;
+                        if (neighbor.visible) {
+                            seen.add(neighbor);
+                        }
+                    }
+                }
+            }
+
+            // connect the point to the horizon
+            created.clear();
+            for (final Face f : seen) {
+                for (int k = 0; k < 3; ++k) {
+                    final Face neighbor = f.neighbors[k];
+                    if (!neighbor.visible) {
+                        final int start = f.vertices[k];
+                        final int end   = f.vertices[(k + 1) % 3];
+                        if (byStart[start] != null) {
+                            // the horizon is not a simple loop
+                            throw numericalProblem();
+                        }
+                        final Face newFace = new Face(start, end, eye, x, y, z);
+                        newFace.neighbors[0] = neighbor;
+                        neighbor.setNeighbor(end, newFace);
+                        byStart[start] = newFace;
+                        created.add(newFace);
+                    }
+                }
+            }
+            for (final Face newFace : created) {
+                final Face next = byStart[newFace.vertices[1]];
+                if (next == null) {
+                    throw numericalProblem();
+                }
+                newFace.neighbors[1] = next;
+                next.neighbors[2]    = newFace;
+            }
+            int loop = 1;
+            for (Face f = created.get(0).neighbors[1]; f != created.get(0); f = f.neighbors[1]) {
+                ++loop;
+            }
+            for (final Face newFace : created) {
+                byStart[newFace.vertices[0]] = null;
+            }
+            if (loop != created.size()) {
+                // the horizon is made of several loops
+                throw numericalProblem();
+            }
+            live = created.get(0);
+
+            // redistribute the conflict lists of the removed facets
+            for (final Face f : seen) {
+                f.deleted = true;
+                for (int k = 0; k < f.outsideSize; ++k) {
+                    final int i = f.outside[k];
+                    if (i != eye) {
+                        for (final Face newFace : created) {
+                            final double d = newFace.distance(i, x, y, z);
+                            if (d > tolerance) {
+                                newFace.addOutside(i, d);
+                                break;
+                            }
+                        }
+                    }
+                }
+                f.outside = null;
+            }
+            for (final Face newFace : created) {
+                if (newFace.outsideSize > 0) {
+                    pending.push(newFace);
+                }
+            }
+
+        }
+
+        /** Extract the hull from the facets graph.
+         * @return convex hull
+         */
+        private ConvexHull3D extractHull() {
+
+            // collect all live facets
+            ++stamp;
+            final List<Face> faces = new ArrayList<>();
+            live.testStamp = stamp;
+            faces.add(live);
+            for (int k = 0; k < faces.size(); ++k) {
+                for (final Face neighbor : faces.get(k).neighbors) {
+                    if (neighbor.testStamp != stamp) {
+                        neighbor.testStamp = stamp;
+                        faces.add(neighbor);
+                    }
+                }
+            }
+
+            // renumber the vertices
+            final int[] index = new int[x.length];
+            Arrays.fill(index, -1);
+            final List<Point3D> vertices = new ArrayList<>();
+            final int[][] facets = new int[faces.size()][];
+            for (int k = 0; k < facets.length; ++k) {
+                final int[] facet = faces.get(k).vertices.clone();
+                for (int l = 0; l < facet.length; ++l) {
+                    if (index[facet[l]] < 0) {
+                        index[facet[l]] = vertices.size();
+                        vertices.add(points[facet[l]]);
+                    }
+                    facet[l] = index[facet[l]];
+                }
+                facets[k] = facet;
+            }
+
+            return new ConvexHull3D(vertices.toArray(new Point3D[vertices.size()]), facets, tolerance);
+
+        }
+
+        /** Create an exception for numerical problems.
+         * @return exception for numerical problems
+         */
+        private IllegalStateException numericalProblem() {
+            return new IllegalStateException("Convex hull algorithm failed to generate solution, " +
+                                             "tolerance " + tolerance + " may be too small");
+        }
+
+        /** Task finding the facets seen by a range of points. */
+        private class Partition extends RecursiveAction {
+
+            /** Serializable UID. */
+            private static final long serialVersionUID = 20181016L;
+
+            /** Facets of the initial tetrahedron. */
+            private final Face[] faces;
+
+            /** Index of the facet seen by each point (1 to 4), or 0 for inside points. */
+            private final byte[] owner;
+
+            /** Start of the range (inclusive). */
+            private final int from;
+
+            /** End of the range (exclusive). */
+            private final int to;
+
+            /** Simple constructor.
+             * @param faces facets of the initial tetrahedron
+             * @param owner index of the facet seen by each point
+             * @param from start of the range (inclusive)
+             * @param to end of the range (exclusive)
+             */
+            Partition(final Face[] faces, final byte[] owner, final int from, final int to) {
+                this.faces = faces;
+                this.owner = owner;
+                this.from  = from;
+                this.to    = to;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            protected void compute() {
+                if (to - from <= threshold) {
+                    findOwners(faces, owner, from, to);
+                } else {
+                    final int middle = (from + to) >>> 1;
+                    invokeAll(new Partition(faces, owner, from, middle),
+                              new Partition(faces, owner, middle, to));
+                }
+            }
+
+        }
+
+    }
+
+}
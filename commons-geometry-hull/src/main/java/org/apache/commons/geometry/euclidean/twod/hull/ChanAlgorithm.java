@@ -0,0 +1,569 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+
+/**
+ * Implements Chan's output-sensitive algorithm to generate the convex hull of a finite set
+ * of points in the two-dimensional Euclidean space.
+ * <p>
+ * The runtime complexity is O(n log h), with n being the number of input points and h the
+ * number of hull vertices. This is much faster than {@link MonotoneChain} when the hull has
+ * only a few vertices, which is the common case for large random-like point sets.
+ * <p>
+ * The points are split in groups of m points, the hull of each group is computed with a monotone
+ * chain, and then a gift wrapping of at most m steps is performed, finding at each step the tangent
+ * to each group hull. The group size is squared until the gift wrapping succeeds, so it stops when
+ * m reaches about h. All these steps work on primitive coordinates arrays. Their orientation tests
+ * are plain double precision cross products, not exact predicates, so points that are collinear or
+ * nearly collinear with a hull edge may be classified either way. The few candidate vertices found
+ * are finally passed to a {@link MonotoneChain} with the same settings, so this generator shares the
+ * {@code includeCollinearPoints} and {@code tolerance} semantics of the monotone chain.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Chan%27s_algorithm">Chan's algorithm (Wikipedia)</a>
+ */
+public class ChanAlgorithm extends AbstractConvexHullGenerator2D {
+
+    /** Size below which sub-arrays are sorted by insertion. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /** Generator used for the final candidates. */
+    private final MonotoneChain finisher;
+
+    /**
+     * Create a new ChanAlgorithm instance.
+     */
+    public ChanAlgorithm() {
+        this(false);
+    }
+
+    /**
+     * Create a new ChanAlgorithm instance.
+     * @param includeCollinearPoints whether collinear points shall be added as hull vertices
+     */
+    public ChanAlgorithm(final boolean includeCollinearPoints) {
+        this(new MonotoneChain(includeCollinearPoints));
+    }
+
+    /**
+     * Create a new ChanAlgorithm instance.
+     * @param includeCollinearPoints whether collinear points shall be added as hull vertices
+     * @param tolerance tolerance below which points are considered identical
+     */
+    public ChanAlgorithm(final boolean includeCollinearPoints, final double tolerance) {
+        this(new MonotoneChain(includeCollinearPoints, tolerance));
+    }
+
+    /**
+     * Create a new ChanAlgorithm instance.
+     * @param finisher generator used for the final candidates
+     */
+    private ChanAlgorithm(final MonotoneChain finisher) {
+        super(finisher.isIncludeCollinearPoints(), finisher.getTolerance());
+        this.finisher = finisher;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Point2D> findHullVertices(final Collection<Point2D> points) {
+
+        final int n = points.size();
+        final double[] x = new double[n];
+        final double[] y = new double[n];
+        int k = 0;
+        for (final Point2D p : points) {
+            x[k] = p.getX();
+            y[k] = p.getY();
+            ++k;
+        }
+
+        // group sizes are 4, 16, 256, 65536 ... until the wrapping succeeds
+        for (int t = 1;; ++t) {
+            final int m = (t < 5) ? (int) Math.min(n, 1L << (1 << t)) : n;
+            final int[] wrapped = wrap(x, y, m);
+            if (wrapped != null) {
+                return finisher.findHullVertices(selectCandidates(x, y, wrapped));
+            }
+            if (m == n) {
+                // this should not happen, but rounding errors on degenerate inputs may prevent
+                // the wrapping from closing; fall back to the plain monotone chain in this case
+                return finisher.findHullVertices(points);
+            }
+        }
+
+    }
+
+    /**
+     * Perform one round of the algorithm.
+     * <p>
+     * After each new vertex, the next tangent is checked for closure on the start
+     * point before the round is given up, so a hull with exactly m vertices is
+     * found in this round.
+     * </p>
+     * @param x abscissas of the points (will be reordered)
+     * @param y ordinates of the points (will be reordered)
+     * @param m size of the groups, which is also the maximum number of hull vertices
+     * @return indices of the hull vertices in CCW order (with respect to the reordered
+     * arrays), or null if the hull has more than m vertices
+     */
+    static int[] wrap(final double[] x, final double[] y, final int m) {
+
+        final GroupHulls groups = new GroupHulls(x, y, m);
+
+        // the lexicographically smallest point is a hull vertex
+        final int start = groups.getSmallest();
+
+        final int[] hull = new int[m];
+        int h = 0;
+        int current = start;
+        while (true) {
+            hull[h++] = current;
+
+            // find the next vertex among the tangents to all group hulls
+            int best = -1;
+            for (int g = 0; g < groups.getCount(); ++g) {
+                final int candidate = groups.tangent(g, current);
+                if (best < 0 || isBetter(x, y, current, best, candidate)) {
+                    best = candidate;
+                }
+            }
+
+            if (isSame(x, y, best, start) || isSame(x, y, best, current)) {
+                // we are back to the start point (or all points are identical)
+                return Arrays.copyOf(hull, h);
+            }
+
+            if (h == m) {
+                // the hull does not close after m vertices, it has more than m vertices
+                return null;
+            }
+            current = best;
+
+        }
+
+    }
+
+    /**
+     * Select the candidate vertices for the final monotone chain.
+     * @param x abscissas of the points
+     * @param y ordinates of the points
+     * @param wrapped indices of the strict hull vertices, in CCW order
+     * @return candidate vertices
+     */
+    private List<Point2D> selectCandidates(final double[] x, final double[] y, final int[] wrapped) {
+
+        final List<Point2D> candidates = new ArrayList<>();
+        if (!isIncludeCollinearPoints()) {
+            // the strict hull vertices are enough
+            for (final int vertex : wrapped) {
+                candidates.add(Point2D.of(x[vertex], y[vertex]));
+            }
+            return candidates;
+        } else if (wrapped.length < 3) {
+            // all points are aligned, they all belong to the boundary
+            for (int i = 0; i < x.length; ++i) {
+                candidates.add(Point2D.of(x[i], y[i]));
+            }
+            return candidates;
+        }
+
+        // keep all points close enough to the boundary of the strict hull
+        final int h = wrapped.length;
+        final double[] lengths = new double[h];
+        for (int j = 0; j < h; ++j) {
+            final int a = wrapped[j];
+            final int b = wrapped[(j + 1) % h];
+            lengths[j] = Math.hypot(x[b] - x[a], y[b] - y[a]);
+        }
+        final double tolerance = getTolerance();
+        for (int i = 0; i < x.length; ++i) {
+            if (isNearBoundary(x, y, wrapped, lengths, i, tolerance)) {
+                candidates.add(Point2D.of(x[i], y[i]));
+            }
+        }
+        return candidates;
+
+    }
+
+    /**
+     * Check if a point is close to the boundary of a convex polygon.
+     * <p>
+     * The fan of triangles around the first vertex is used to locate the point
+     * in O(log h), so only the edges around its triangle are checked.
+     * </p>
+     * @param x abscissas of the points
+     * @param y ordinates of the points
+     * @param polygon indices of the polygon vertices, in CCW order
+     * @param lengths lengths of the polygon edges
+     * @param p index of the point to check
+     * @param tolerance tolerance below which points are considered on the boundary
+     * @return true if the point is close to the boundary (or outside of the polygon)
+     */
+    private static boolean isNearBoundary(final double[] x, final double[] y,
+                                          final int[] polygon, final double[] lengths,
+                                          final int p, final double tolerance) {
+
+        final int h = polygon.length;
+
+        // find the last fan ray which has the point on its left side
+        int low  = 0;
+        int high = h - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (cross(x, y, polygon[0], polygon[mid], p) >= 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        final int[] edges = { low - 1, low, low + 1, 0, h - 1 };
+        for (final int edge : edges) {
+            final int j = (edge + h) % h;
+            final double offset = cross(x, y, polygon[j], polygon[(j + 1) % h], p) / lengths[j];
+            if (offset < tolerance) {
+                return true;
+            }
+        }
+        return false;
+
+    }
+
+    /**
+     * Check if a candidate is a better next hull vertex than the current best one.
+     * @param x abscissas of the points
+     * @param y ordinates of the points
+     * @param p index of the current hull vertex
+     * @param best index of the current best next vertex
+     * @param candidate index of the candidate next vertex
+     * @return true if the candidate is on the right side of the line from p to best,
+     * or if it is aligned with this line and farther away from p
+     */
+    private static boolean isBetter(final double[] x, final double[] y,
+                                    final int p, final int best, final int candidate) {
+        if (isSame(x, y, candidate, p)) {
+            return false;
+        } else if (isSame(x, y, best, p)) {
+            return true;
+        }
+        final double bx = x[best] - x[p];
+        final double by = y[best] - y[p];
+        final double cx = x[candidate] - x[p];
+        final double cy = y[candidate] - y[p];
+        final double c  = bx * cy - by * cx;
+        if (c != 0) {
+            return c < 0;
+        }
+        return (bx * cx + by * cy > 0) && (cx * cx + cy * cy > bx * bx + by * by);
+    }
+
+    /**
+     * Check if two points are identical.
+     * @param x abscissas of the points
+     * @param y ordinates of the points
+     * @param i index of the first point
+     * @param j index of the second point
+     * @return true if the points have exactly the same coordinates
+     */
+    private static boolean isSame(final double[] x, final double[] y, final int i, final int j) {
+        return x[i] == x[j] && y[i] == y[j];
+    }
+
+    /**
+     * Compute the orientation of three points.
+     * @param x abscissas of the points
+     * @param y ordinates of the points
+     * @param o index of the origin point
+     * @param a index of the first point
+     * @param b index of the second point
+     * @return cross product of (a - o) and (b - o), positive if b is on the left
+     * side of the line from o to a
+     */
+    private static double cross(final double[] x, final double[] y,
+                                final int o, final int a, final int b) {
+        return (x[a] - x[o]) * (y[b] - y[o]) - (y[a] - y[o]) * (x[b] - x[o]);
+    }
+
+    /** Strict convex hulls of consecutive groups of points. */
+    private static final class GroupHulls {
+
+        /** Abscissas of the points. */
+        private final double[] x;
+
+        /** Ordinates of the points. */
+        private final double[] y;
+
+        /** Number of groups. */
+        private final int count;
+
+        /** Indices of the hulls vertices, hull of group g starting at index g * m. */
+        private final int[] vertices;
+
+        /** Index of the first vertex of each hull. */
+        private final int[] start;
+
+        /** Number of vertices of each hull. */
+        private final int[] size;
+
+        /** Index (within its hull) of the last tangent point found for each group. */
+        private final int[] tangent;
+
+        /** Build the hulls.
+         * <p>
+         * The points of each group are sorted in place.
+         * </p>
+         * @param x abscissas of the points
+         * @param y ordinates of the points
+         * @param m size of the groups
+         */
+        GroupHulls(final double[] x, final double[] y, final int m) {
+            this.x        = x;
+            this.y        = y;
+            this.count    = (x.length + m - 1) / m;
+            this.vertices = new int[x.length];
+            this.start    = new int[count];
+            this.size     = new int[count];
+            this.tangent  = new int[count];
+
+            final int[] buffer = new int[2 * m + 1];
+            for (int g = 0; g < count; ++g) {
+                final int from = g * m;
+                final int to   = Math.min(from + m, x.length);
+                sort(from, to - 1);
+                start[g]   = from;
+                size[g]    = buildHull(from, to, buffer);
+                tangent[g] = -1;
+                System.arraycopy(buffer, 0, vertices, from, size[g]);
+            }
+        }
+
+        /** Get the number of groups.
+         * @return number of groups
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /** Get the lexicographically smallest point.
+         * @return index of the smallest point
+         */
+        public int getSmallest() {
+            int smallest = vertices[start[0]];
+            for (int g = 1; g < count; ++g) {
+                final int candidate = vertices[start[g]];
+                if (compare(candidate, smallest) < 0) {
+                    smallest = candidate;
+                }
+            }
+            return smallest;
+        }
+
+        /** Find the tangent from a point to a group hull.
+         * <p>
+         * As the wrapping progresses, tangent points move monotonically around
+         * each group hull, so the search starts from the previous tangent point
+         * and costs amortized constant time.
+         * </p>
+         * @param g index of the group
+         * @param p index of the point
+         * @return index of the point of the group hull such that all the group
+         * points are on the left side of the line joining p to it
+         */
+        public int tangent(final int g, final int p) {
+            final int base = start[g];
+            final int k    = size[g];
+            int i = tangent[g];
+            if (i < 0) {
+                i = scan(g, p);
+            } else {
+                for (int steps = 0;
+                     steps < k && isBetter(x, y, p, vertices[base + i], vertices[base + (i + 1) % k]);
+                     ++steps) {
+                    i = (i + 1) % k;
+                }
+                if (isBetter(x, y, p, vertices[base + i], vertices[base + (i + k - 1) % k])) {
+                    // not a tangent point, this may happen due to rounding errors
+                    i = scan(g, p);
+                }
+            }
+            tangent[g] = i;
+            return vertices[base + i];
+        }
+
+        /** Find the tangent from a point to a group hull by a linear scan.
+         * @param g index of the group
+         * @param p index of the point
+         * @return index of the tangent point within the group hull
+         */
+        private int scan(final int g, final int p) {
+            final int base = start[g];
+            int best = 0;
+            for (int i = 1; i < size[g]; ++i) {
+                if (isBetter(x, y, p, vertices[base + best], vertices[base + i])) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        /** Build the strict hull of a sorted group with a monotone chain.
+         * @param from index of the first point of the group
+         * @param to index after the last point of the group
+         * @param buffer buffer where to put the hull vertices, in CCW order
+         * @return number of hull vertices
+         */
+        private int buildHull(final int from, final int to, final int[] buffer) {
+
+            // lower hull
+            int s = 0;
+            for (int i = from; i < to; ++i) {
+                if (i > from && isSame(x, y, i, i - 1)) {
+                    continue;
+                }
+                while (s >= 2 && cross(x, y, buffer[s - 2], buffer[s - 1], i) <= 0) {
+                    --s;
+                }
+                buffer[s++] = i;
+            }
+
+            // upper hull
+            final int lower = s + 1;
+            for (int i = to - 2; i >= from; --i) {
+                if (isSame(x, y, i, i + 1)) {
+                    continue;
+                }
+                while (s >= lower && cross(x, y, buffer[s - 2], buffer[s - 1], i) <= 0) {
+                    --s;
+                }
+                buffer[s++] = i;
+            }
+
+            // the first point has been added again at the end
+            return s > 1 ? s - 1 : 1;
+
+        }
+
+        /** Sort a range of points lexicographically.
+         * @param low index of the first point to sort
+         * @param high index of the last point to sort
+         */
+        private void sort(final int low, final int high) {
+            int lo = low;
+            int hi = high;
+            while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+
+                // median of three pivot
+                final int mid = (lo + hi) >>> 1;
+                if (compare(mid, lo) < 0) {
+                    swap(mid, lo);
+                }
+                if (compare(hi, lo) < 0) {
+                    swap(hi, lo);
+                }
+                if (compare(hi, mid) < 0) {
+                    swap(hi, mid);
+                }
+                final double px = x[mid];
+                final double py = y[mid];
+
+                // Hoare partition
+                int i = lo;
+                int j = hi;
+                while (i <= j) {
+                    while (compare(x[i], y[i], px, py) < 0) {
+                        ++i;
+                    }
+                    while (compare(x[j], y[j], px, py) > 0) {
+                        --j;
+                    }
+                    if (i <= j) {
+                        swap(i, j);
+                        ++i;
+                        --j;
+                    }
+                }
+
+                // recurse on the smaller part, iterate on the larger one
+                if (j - lo < hi - i) {
+                    sort(lo, j);
+                    lo = i;
+                } else {
+                    sort(i, hi);
+                    hi = j;
+                }
+
+            }
+
+            // insertion sort for small ranges
+            for (int i = lo + 1; i <= hi; ++i) {
+                final double xi = x[i];
+                final double yi = y[i];
+                int j = i - 1;
+                while (j >= lo && compare(x[j], y[j], xi, yi) > 0) {
+                    x[j + 1] = x[j];
+                    y[j + 1] = y[j];
+                    --j;
+                }
+                x[j + 1] = xi;
+                y[j + 1] = yi;
+            }
+
+        }
+
+        /** Compare two points lexicographically.
+         * @param i index of the first point
+         * @param j index of the second point
+         * @return negative, zero or positive if first point is smaller, equal or larger
+         */
+        private int compare(final int i, final int j) {
+            return compare(x[i], y[i], x[j], y[j]);
+        }
+
+        /** Compare two points lexicographically.
+         * @param x1 abscissa of the first point
+         * @param y1 ordinate of the first point
+         * @param x2 abscissa of the second point
+         * @param y2 ordinate of the second point
+         * @return negative, zero or positive if first point is smaller, equal or larger
+         */
+        private static int compare(final double x1, final double y1, final double x2, final double y2) {
+            final int c = Double.compare(x1, x2);
+            return (c != 0) ? c : Double.compare(y1, y2);
+        }
+
+        /** Swap two points.
+         * @param i index of the first point
+         * @param j index of the second point
+         */
+        private void swap(final int i, final int j) {
+            final double tx = x[i];
+            final double ty = y[i];
+            x[i] = x[j];
+            y[i] = y[j];
+            x[j] = tx;
+            y[j] = ty;
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.geometry.euclidean.twod.hull;
 
 import java.io.Serializable;
+import java.util.Arrays;
 
 import org.apache.commons.geometry.core.partitioning.Region;
 import org.apache.commons.geometry.core.partitioning.RegionFactory;
@@ -48,6 +49,12 @@ public class ConvexHull2D implements ConvexHull<Point2D>, Serializable {
      */
     private transient Segment[] lineSegments;
 
+    /**
+     * Packed coordinates of the strictly convex vertices, in counterclockwise order.
+     * The array is not serialized and will be created from the vertices on first access.
+     */
+    private transient double[] packedVertices;
+
     /**
      * Simple constructor.
      * @param vertices the vertices of the convex hull, must be ordered
@@ -152,6 +159,304 @@ public class ConvexHull2D implements ConvexHull<Point2D>, Serializable {
         return lineSegments;
     }
 
+    /**
+     * Check if a point is inside the convex hull or on its boundary.
+     * <p>
+     * The check is a binary search in the ordered vertices, so it costs
+     * O(log n) for a hull with n vertices and does not need to
+     * {@link #createRegion() create a region}. Points closer to the
+     * boundary than the tolerance are considered to be contained.
+     * </p>
+     * @param point point to check
+     * @return true if the point is inside the convex hull or on its boundary
+     */
+    public boolean contains(final Point2D point) {
+        return contains(retrievePackedVertices(), point.getX(), point.getY());
+    }
+
+    /**
+     * Check if a batch of points are inside the convex hull or on its boundary.
+     * <p>The coordinates of all points are packed in a single array, point
+     * i having abscissa {@code xy[2 * i]} and ordinate {@code xy[2 * i + 1]}.</p>
+     * @param xy array containing the packed points coordinates
+     * @param out array where to store the results, its length
+     * defines the number of points to check
+     * @exception IllegalArgumentException if the number of coordinates does
+     * not match the number of points
+     * @see #contains(Point2D)
+     */
+    public void contains(final double[] xy, final boolean[] out) {
+        if (xy.length != 2 * out.length) {
+            throw new IllegalArgumentException("Expected " + 2 * out.length +
+                                               " coordinates for " + out.length +
+                                               " points, got " + xy.length);
+        }
+        final double[] packed = retrievePackedVertices();
+        for (int i = 0; i < out.length; ++i) {
+            out[i] = contains(packed, xy[2 * i], xy[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Get the diameter of the convex hull, i.e. its farthest pair of vertices.
+     * <p>
+     * The farthest pair is found using rotating calipers, in linear time.
+     * </p>
+     * @return the two farthest vertices of the hull (they are identical
+     * if the hull has only one vertex)
+     * @exception IllegalStateException if the hull has no vertices
+     */
+    public Point2D[] getDiameter() {
+        checkSize(1);
+        return RotatingCalipers.diameter(retrievePackedVertices());
+    }
+
+    /**
+     * Get the width of the convex hull, i.e. the minimum distance between
+     * two parallel lines enclosing it.
+     * <p>
+     * The width is computed using rotating calipers, in linear time.
+     * </p>
+     * @return the width of the hull
+     * @exception IllegalStateException if the hull has less than 3 vertices
+     */
+    public double getWidth() {
+        checkSize(3);
+        return RotatingCalipers.width(retrievePackedVertices());
+    }
+
+    /**
+     * Get the minimum area rectangle enclosing the convex hull.
+     * <p>
+     * The rectangle is computed using rotating calipers, in linear time.
+     * </p>
+     * @return the four corners of the rectangle, in counterclockwise order
+     * @exception IllegalStateException if the hull has less than 3 vertices
+     */
+    public Point2D[] getMinimumAreaRectangle() {
+        checkSize(3);
+        return RotatingCalipers.enclosingRectangle(retrievePackedVertices(), false);
+    }
+
+    /**
+     * Get the minimum perimeter rectangle enclosing the convex hull.
+     * <p>
+     * The rectangle is computed using rotating calipers, in linear time.
+     * </p>
+     * @return the four corners of the rectangle, in counterclockwise order
+     * @exception IllegalStateException if the hull has less than 3 vertices
+     */
+    public Point2D[] getMinimumPerimeterRectangle() {
+        checkSize(3);
+        return RotatingCalipers.enclosingRectangle(retrievePackedVertices(), true);
+    }
+
+    /**
+     * Compute the distance between this convex hull and another one.
+     * <p>
+     * The distance is computed in time linear in the total number of vertices.
+     * The tolerance is not used, so hulls that are only touching each other have
+     * a null distance.
+     * </p>
+     * @param other other convex hull
+     * @return distance between the hulls, 0 if they overlap
+     * @exception IllegalStateException if one of the hulls has no vertices
+     */
+    public double distance(final ConvexHull2D other) {
+        checkSize(1);
+        other.checkSize(1);
+        return RotatingCalipers.distance(retrievePackedVertices(), other.retrievePackedVertices());
+    }
+
+    /**
+     * Check the hull has enough vertices.
+     * @param min minimum number of vertices
+     * @exception IllegalStateException if the hull has less than the minimum number of vertices
+     */
+    private void checkSize(final int min) {
+        if (vertices.length < min) {
+            throw new IllegalStateException("Operation requires at least " + min +
+                                            " vertices but found only " + vertices.length);
+        }
+    }
+
+    /**
+     * Check if a point is inside the convex hull or on its boundary.
+     * @param packed packed coordinates of the vertices, in counterclockwise order
+     * @param x abscissa of the point
+     * @param y ordinate of the point
+     * @return true if the point is inside the convex hull or on its boundary
+     */
+    private boolean contains(final double[] packed, final double x, final double y) {
+
+        final int n = packed.length / 2;
+        if (n == 0) {
+            return false;
+        } else if (n == 1) {
+            final double dx = x - packed[0];
+            final double dy = y - packed[1];
+            return dx * dx + dy * dy <= tolerance * tolerance;
+        } else if (n == 2) {
+            // degenerate hull, the point must be close to the segment
+            final double ux = packed[2] - packed[0];
+            final double uy = packed[3] - packed[1];
+            final double dx = x - packed[0];
+            final double dy = y - packed[1];
+            final double squaredLength = ux * ux + uy * uy;
+            final double t = Math.max(0, Math.min(1, (dx * ux + dy * uy) / squaredLength));
+            final double ex = dx - t * ux;
+            final double ey = dy - t * uy;
+            return ex * ex + ey * ey <= tolerance * tolerance;
+        }
+
+        // the point must be on the inner side of the two edges adjacent to vertex 0
+        if (!onInnerSide(packed, 0, 1, x, y) || !onInnerSide(packed, n - 1, 0, x, y)) {
+            return false;
+        }
+
+        // find the wedge (0, lo, lo + 1) containing the point
+        int lo = 1;
+        int hi = n - 1;
+        while (hi - lo > 1) {
+            final int mid = (lo + hi) >>> 1;
+            if (cross(packed, 0, mid, x, y) >= 0) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return onInnerSide(packed, lo, hi, x, y);
+
+    }
+
+    /**
+     * Compute the cross product between vertices and a point.
+     * @param packed packed coordinates of the vertices
+     * @param i index of the first vertex
+     * @param j index of the second vertex
+     * @param x abscissa of the point
+     * @param y ordinate of the point
+     * @return cross product (v<sub>j</sub> - v<sub>i</sub>) &times; (p - v<sub>i</sub>)
+     */
+    private static double cross(final double[] packed, final int i, final int j,
+                                final double x, final double y) {
+        final double xi = packed[2 * i];
+        final double yi = packed[2 * i + 1];
+        return (packed[2 * j] - xi) * (y - yi) - (packed[2 * j + 1] - yi) * (x - xi);
+    }
+
+    /**
+     * Check if a point is on the inner side of an edge line, up to the tolerance.
+     * @param packed packed coordinates of the vertices, in counterclockwise order
+     * @param i index of the edge start vertex
+     * @param j index of the edge end vertex
+     * @param x abscissa of the point
+     * @param y ordinate of the point
+     * @return true if the point is on the inner side of the edge line
+     */
+    private boolean onInnerSide(final double[] packed, final int i, final int j,
+                                final double x, final double y) {
+        final double cross = cross(packed, i, j, x, y);
+        if (cross >= 0) {
+            return true;
+        }
+        final double ux = packed[2 * j] - packed[2 * i];
+        final double uy = packed[2 * j + 1] - packed[2 * i + 1];
+        return cross * cross <= tolerance * tolerance * (ux * ux + uy * uy);
+    }
+
+    /**
+     * Retrieve the packed vertices from the cached array or create them if needed.
+     * <p>
+     * Only the strictly convex vertices are packed: duplicated vertices and vertices
+     * collinear with their neighbors are dropped, so no three consecutive packed vertices
+     * are aligned. If all vertices are aligned, only the two ends of the segment they
+     * form are packed (or a single vertex if they are all identical).
+     * </p>
+     * @return the packed coordinates of the vertices, in counterclockwise order
+     */
+    private double[] retrievePackedVertices() {
+        if (packedVertices == null) {
+            final int n = vertices.length;
+
+            // the constructor accepts both windings, check the signed area
+            double area = 0;
+            for (int i = 0; i < n; ++i) {
+                final Point2D p1 = vertices[i];
+                final Point2D p2 = vertices[i == n - 1 ? 0 : i + 1];
+                area += p1.getX() * p2.getY() - p2.getX() * p1.getY();
+            }
+
+            final double[] all = new double[2 * n];
+            int lowest = 0;
+            for (int i = 0; i < n; ++i) {
+                final Point2D p = vertices[area < 0 ? n - 1 - i : i];
+                all[2 * i]     = p.getX();
+                all[2 * i + 1] = p.getY();
+                if (all[2 * i + 1] < all[2 * lowest + 1] ||
+                    (all[2 * i + 1] == all[2 * lowest + 1] && all[2 * i] < all[2 * lowest])) {
+                    lowest = i;
+                }
+            }
+
+            // walk around the hull from its lowest vertex, which is strictly convex,
+            // removing the vertices where the boundary does not turn left
+            final double[] packed = new double[Math.max(2 * n, 4)];
+            int m = 0;
+            for (int k = 0; k <= n; ++k) {
+                final int i = (lowest + k) % Math.max(n, 1);
+                while (m >= 2 && turn(packed, m, all, i) <= 0) {
+                    --m;
+                }
+                if (k < n) {
+                    packed[2 * m]     = all[2 * i];
+                    packed[2 * m + 1] = all[2 * i + 1];
+                    ++m;
+                }
+            }
+
+            if (m < 3 && n > 0) {
+                // all vertices are aligned, keep the lowest one and the farthest one from it
+                int farthest = lowest;
+                double d2Max = 0;
+                for (int i = 0; i < n; ++i) {
+                    final double dx = all[2 * i]     - all[2 * lowest];
+                    final double dy = all[2 * i + 1] - all[2 * lowest + 1];
+                    if (dx * dx + dy * dy > d2Max) {
+                        farthest = i;
+                        d2Max    = dx * dx + dy * dy;
+                    }
+                }
+                packed[0] = all[2 * lowest];
+                packed[1] = all[2 * lowest + 1];
+                packed[2] = all[2 * farthest];
+                packed[3] = all[2 * farthest + 1];
+                m = (farthest == lowest) ? 1 : 2;
+            }
+
+            packedVertices = Arrays.copyOf(packed, 2 * m);
+        }
+        return packedVertices;
+    }
+
+    /**
+     * Compute the turn between the last two packed vertices and a candidate vertex.
+     * @param packed packed coordinates of the vertices retained so far
+     * @param m number of vertices retained so far (at least 2)
+     * @param all packed coordinates of all vertices
+     * @param i index of the candidate vertex
+     * @return cross product of the last packed edge and the edge to the candidate,
+     * positive if the boundary turns left
+     */
+    private static double turn(final double[] packed, final int m, final double[] all, final int i) {
+        final double xa = packed[2 * m - 4];
+        final double ya = packed[2 * m - 3];
+        final double xb = packed[2 * m - 2];
+        final double yb = packed[2 * m - 1];
+        return (xb - xa) * (all[2 * i + 1] - yb) - (yb - ya) * (all[2 * i] - xb);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Region<Point2D> createRegion() {
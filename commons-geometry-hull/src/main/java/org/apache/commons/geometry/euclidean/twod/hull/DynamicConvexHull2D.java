@@ -0,0 +1,589 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+
+/**
+ * Convex hull of a set of points in the two-dimensional Euclidean space supporting
+ * insertion and deletion of points.
+ * <p>
+ * This is a variant of the Overmars and van Leeuwen structure. The upper and lower hulls
+ * are each maintained by a balanced binary tree having the points as leaves, sorted by
+ * abscissa. Each internal node stores only the bridge between the upper hulls of its two
+ * subtrees, so the hull of any subtree is known implicitly and bridges can be found by a
+ * simultaneous descent in both subtrees. Adding or removing a point only requires
+ * recomputing the bridges along one path of the tree, so the cost of an update is
+ * O(log<sup>2</sup> n), with n being the number of points. Taking a {@link #snapshot() snapshot} of the hull costs
+ * O(h log n), with h being the number of hull vertices.
+ * <p>
+ * The set of points is a multiset: a point added twice must be removed twice. Collinear
+ * points on the hull are not added as hull vertices.
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * @see <a href="https://doi.org/10.1016/0022-0000(81)90012-X">Overmars and van Leeuwen,
+ * Maintenance of configurations in the plane</a>
+ */
+public class DynamicConvexHull2D {
+
+    /** Default value for tolerance. */
+    private static final double DEFAULT_TOLERANCE = 1e-10;
+
+    /** Tolerance below which points are considered identical. */
+    private final double tolerance;
+
+    /** Tree for the upper hull. */
+    private final UpperHullTree upper;
+
+    /** Tree for the lower hull (upper hull of the points rotated by a half turn). */
+    private final UpperHullTree lower;
+
+    /** Number of points, counting multiplicity. */
+    private int size;
+
+    /**
+     * Create an empty hull.
+     * <p>
+     * The default tolerance (1e-10) will be used to determine identical points.
+     */
+    public DynamicConvexHull2D() {
+        this(DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Create an empty hull.
+     * @param tolerance tolerance below which points are considered identical
+     */
+    public DynamicConvexHull2D(final double tolerance) {
+        this.tolerance = tolerance;
+        this.upper     = new UpperHullTree();
+        this.lower     = new UpperHullTree();
+        this.size      = 0;
+    }
+
+    /**
+     * Get the tolerance below which points are considered identical.
+     * @return the tolerance below which points are considered identical
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Get the number of points in the set, counting multiplicity.
+     * @return number of points in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the set is empty.
+     * @return true if the set contains no points
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add a point to the set.
+     * @param point point to add
+     */
+    public void add(final Point2D point) {
+        upper.add(point.getX(), point.getY());
+        lower.add(-point.getX(), -point.getY());
+        ++size;
+    }
+
+    /**
+     * Remove a point from the set.
+     * <p>
+     * Points are matched by exact coordinates, not by tolerance.
+     * </p>
+     * @param point point to remove
+     * @return true if the point was in the set
+     */
+    public boolean remove(final Point2D point) {
+        if (!upper.remove(point.getX(), point.getY())) {
+            return false;
+        }
+        lower.remove(-point.getX(), -point.getY());
+        --size;
+        return true;
+    }
+
+    /**
+     * Get an immutable snapshot of the current hull.
+     * @return current convex hull, with vertices in CCW winding
+     * @throws IllegalStateException if the hull vertices cannot be normalized
+     * (see {@link AbstractConvexHullGenerator2D#generate(java.util.Collection)})
+     */
+    public ConvexHull2D snapshot() {
+        final List<Point2D> candidates = new ArrayList<>();
+        for (final Leaf leaf : upper.getHull()) {
+            candidates.add(Point2D.of(leaf.x, leaf.y));
+        }
+        for (final Leaf leaf : lower.getHull()) {
+            candidates.add(Point2D.of(-leaf.x, -leaf.y));
+        }
+        // the few candidates are sorted and filtered with the same tolerance
+        // semantics as the other generators
+        return new MonotoneChain(false, tolerance).generate(candidates);
+    }
+
+    /** Node of the hull trees. */
+    private abstract static class Node {
+
+        /** Get the rightmost leaf of the subtree.
+         * @return rightmost leaf of the subtree
+         */
+        abstract Leaf getMax();
+
+    }
+
+    /** Leaf node, holding one point. */
+    private static final class Leaf extends Node {
+
+        /** Abscissa of the point. */
+        private final double x;
+
+        /** Ordinate of the point. */
+        private final double y;
+
+        /** Multiplicity of the point. */
+        private int count;
+
+        /** Simple constructor.
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         */
+        Leaf(final double x, final double y) {
+            this.x     = x;
+            this.y     = y;
+            this.count = 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        Leaf getMax() {
+            return this;
+        }
+
+    }
+
+    /** Internal node, holding the bridge between the upper hulls of its subtrees. */
+    private static final class Internal extends Node {
+
+        /** Priority of the node in the treap. */
+        private final int priority;
+
+        /** Left subtree. */
+        private Node left;
+
+        /** Right subtree. */
+        private Node right;
+
+        /** Rightmost leaf of the subtree. */
+        private Leaf max;
+
+        /** Left end of the bridge (in the left subtree). */
+        private Leaf bridgeLeft;
+
+        /** Right end of the bridge (in the right subtree). */
+        private Leaf bridgeRight;
+
+        /** Simple constructor.
+         * @param priority priority of the node in the treap
+         * @param left left subtree
+         * @param right right subtree
+         */
+        Internal(final int priority, final Node left, final Node right) {
+            this.priority = priority;
+            this.left     = left;
+            this.right    = right;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        Leaf getMax() {
+            return max;
+        }
+
+    }
+
+    /** Leaf-oriented treap maintaining the upper hull of its points. */
+    private static final class UpperHullTree {
+
+        /** Root of the tree. */
+        private Node root;
+
+        /** State of the priorities generator. */
+        private long seed;
+
+        /** Simple constructor.
+         */
+        UpperHullTree() {
+            this.root = null;
+            this.seed = 0x5a17e3c9b1d20f46L;
+        }
+
+        /** Add a point.
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         */
+        public void add(final double x, final double y) {
+            final Leaf existing = find(x, y);
+            if (existing != null) {
+                ++existing.count;
+            } else {
+                root = insert(root, x, y);
+            }
+        }
+
+        /** Remove a point.
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         * @return true if the point was in the tree
+         */
+        public boolean remove(final double x, final double y) {
+            final Leaf existing = find(x, y);
+            if (existing == null) {
+                return false;
+            }
+            if (--existing.count == 0) {
+                root = delete(root, x, y);
+            }
+            return true;
+        }
+
+        /** Get the upper hull vertices.
+         * @return upper hull vertices, from left to right
+         */
+        public List<Leaf> getHull() {
+            final List<Leaf> hull = new ArrayList<>();
+            if (root != null) {
+                collect(root, null, null, hull);
+            }
+            return hull;
+        }
+
+        /** Find the leaf holding a point.
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         * @return leaf holding the point, or null if the point is not in the tree
+         */
+        private Leaf find(final double x, final double y) {
+            Node node = root;
+            while (node instanceof Internal) {
+                final Internal internal = (Internal) node;
+                node = compare(x, y, internal.left.getMax()) <= 0 ? internal.left : internal.right;
+            }
+            if (node != null && compare(x, y, (Leaf) node) == 0) {
+                return (Leaf) node;
+            }
+            return null;
+        }
+
+        /** Insert a point which is not already in a subtree.
+         * @param node root of the subtree
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         * @return new root of the subtree
+         */
+        private Node insert(final Node node, final double x, final double y) {
+
+            if (node == null) {
+                return new Leaf(x, y);
+            }
+
+            if (node instanceof Leaf) {
+                final Leaf leaf = new Leaf(x, y);
+                final Internal internal = compare(x, y, (Leaf) node) < 0 ?
+                                          new Internal(nextPriority(), leaf, node) :
+                                          new Internal(nextPriority(), node, leaf);
+                update(internal);
+                return internal;
+            }
+
+            final Internal internal = (Internal) node;
+            if (compare(x, y, internal.left.getMax()) <= 0) {
+                internal.left = insert(internal.left, x, y);
+                if (internal.left instanceof Internal &&
+                    ((Internal) internal.left).priority > internal.priority) {
+                    return rotateRight(internal);
+                }
+            } else {
+                internal.right = insert(internal.right, x, y);
+                if (internal.right instanceof Internal &&
+                    ((Internal) internal.right).priority > internal.priority) {
+                    return rotateLeft(internal);
+                }
+            }
+            update(internal);
+            return internal;
+
+        }
+
+        /** Delete a point which is in a subtree.
+         * @param node root of the subtree
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         * @return new root of the subtree
+         */
+        private Node delete(final Node node, final double x, final double y) {
+
+            if (node instanceof Leaf) {
+                return null;
+            }
+
+            final Internal internal = (Internal) node;
+            if (compare(x, y, internal.left.getMax()) <= 0) {
+                internal.left = delete(internal.left, x, y);
+                if (internal.left == null) {
+                    return internal.right;
+                }
+            } else {
+                internal.right = delete(internal.right, x, y);
+                if (internal.right == null) {
+                    return internal.left;
+                }
+            }
+            update(internal);
+            return internal;
+
+        }
+
+        /** Rotate a subtree to the right.
+         * @param node root of the subtree
+         * @return new root of the subtree
+         */
+        private Internal rotateRight(final Internal node) {
+            final Internal pivot = (Internal) node.left;
+            node.left   = pivot.right;
+            pivot.right = node;
+            update(node);
+            update(pivot);
+            return pivot;
+        }
+
+        /** Rotate a subtree to the left.
+         * @param node root of the subtree
+         * @return new root of the subtree
+         */
+        private Internal rotateLeft(final Internal node) {
+            final Internal pivot = (Internal) node.right;
+            node.right = pivot.left;
+            pivot.left = node;
+            update(node);
+            update(pivot);
+            return pivot;
+        }
+
+        /** Update the cached data of a node whose children are up to date.
+         * <p>
+         * The bridge is found by descending simultaneously in both subtrees,
+         * using the case analysis from Overmars and van Leeuwen: at each step,
+         * the bridges of the current nodes are compared and at least one
+         * side goes down one level, so the cost is O(log n).
+         * </p>
+         * @param node node to update
+         */
+        private void update(final Internal node) {
+
+            node.max = node.right.getMax();
+
+            // vertical line separating the two subtrees
+            final double separator = node.left.getMax().x;
+
+            Node left  = node.left;
+            Node right = node.right;
+            while (left instanceof Internal && right instanceof Internal) {
+                final Internal u = (Internal) left;
+                final Internal w = (Internal) right;
+                final Leaf p = u.bridgeLeft;
+                final Leaf q = u.bridgeRight;
+                final Leaf r = w.bridgeLeft;
+                final Leaf s = w.bridgeRight;
+                final boolean beforeP = cross(q, r, p) >= 0;
+                final boolean afterS  = cross(q, r, s) >= 0;
+                if (beforeP || afterS) {
+                    // the line (q, r) is crossed by the edge (p, q) or by the edge (r, s)
+                    if (beforeP) {
+                        left = u.left;
+                    }
+                    if (afterS) {
+                        right = w.right;
+                    }
+                } else if (isIntersectionBefore(p, q, r, s, separator)) {
+                    // the bridge left end is after p
+                    left = u.right;
+                } else {
+                    // the bridge right end is before s
+                    right = w.left;
+                }
+            }
+
+            if (left instanceof Leaf) {
+                node.bridgeLeft  = (Leaf) left;
+                node.bridgeRight = tangent(right, node.bridgeLeft);
+            } else {
+                node.bridgeRight = (Leaf) right;
+                node.bridgeLeft  = tangentFromRight(left, node.bridgeRight);
+            }
+
+        }
+
+        /** Check if the intersection of the lines supporting two edges is before a separator.
+         * @param p start of the left edge
+         * @param q end of the left edge
+         * @param r start of the right edge
+         * @param s end of the right edge
+         * @param separator abscissa of the vertical line separating the edges
+         * @return true if the lines (p, q) and (r, s) intersect strictly
+         * on the left side of the separator
+         */
+        private static boolean isIntersectionBefore(final Leaf p, final Leaf q, final Leaf r, final Leaf s,
+                                                    final double separator) {
+            final double dx1 = q.x - p.x;
+            if (dx1 == 0) {
+                // vertical left edge
+                return q.x < separator;
+            }
+            final double dx2 = s.x - r.x;
+            if (dx2 == 0) {
+                // vertical right edge
+                return false;
+            }
+            // the left line is the steepest, it is above the right line after the intersection
+            final double yLeft  = q.y + (q.y - p.y) * (separator - q.x) / dx1;
+            final double yRight = r.y + (s.y - r.y) * (separator - r.x) / dx2;
+            return yLeft > yRight;
+        }
+
+        /** Collect the upper hull vertices of a subtree within a range.
+         * @param node root of the subtree
+         * @param low lowest leaf to collect (null if unbounded)
+         * @param high highest leaf to collect (null if unbounded)
+         * @param hull list where to put the vertices
+         */
+        private void collect(final Node node, final Leaf low, final Leaf high, final List<Leaf> hull) {
+            if (node instanceof Leaf) {
+                final Leaf leaf = (Leaf) node;
+                if ((low == null || compare(leaf, low) >= 0) && (high == null || compare(leaf, high) <= 0)) {
+                    hull.add(leaf);
+                }
+            } else {
+                final Internal internal = (Internal) node;
+                final Leaf leftHigh = (high == null || compare(internal.bridgeLeft, high) <= 0) ?
+                                      internal.bridgeLeft : high;
+                final Leaf rightLow = (low == null || compare(internal.bridgeRight, low) >= 0) ?
+                                      internal.bridgeRight : low;
+                if (low == null || compare(low, leftHigh) <= 0) {
+                    collect(internal.left, low, leftHigh, hull);
+                }
+                if (high == null || compare(rightLow, high) <= 0) {
+                    collect(internal.right, rightLow, high, hull);
+                }
+            }
+        }
+
+        /** Generate a priority for a new internal node.
+         * @return priority
+         */
+        private int nextPriority() {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            return (int) (seed >>> 33);
+        }
+
+        /** Find the tangent from a point to the upper hull of a subtree.
+         * @param node root of the subtree
+         * @param point point on the right of all points of the subtree
+         * @return the leftmost vertex of the upper hull such that all
+         * points of the subtree are below or on the line joining it to point
+         */
+        private static Leaf tangentFromRight(final Node node, final Leaf point) {
+            Node current = node;
+            while (current instanceof Internal) {
+                final Internal internal = (Internal) current;
+                if (cross(internal.bridgeLeft, internal.bridgeRight, point) >= 0) {
+                    // the point is above or on the bridge line, the tangent is on its left
+                    current = internal.left;
+                } else {
+                    current = internal.right;
+                }
+            }
+            return (Leaf) current;
+        }
+
+        /** Find the tangent from a point to the upper hull of a subtree.
+         * @param node root of the subtree
+         * @param point point on the left of all points of the subtree
+         * @return the farthest vertex of the upper hull such that all
+         * points of the subtree are below or on the line joining point to it
+         */
+        private static Leaf tangent(final Node node, final Leaf point) {
+            Node current = node;
+            while (current instanceof Internal) {
+                final Internal internal = (Internal) current;
+                if (cross(internal.bridgeLeft, internal.bridgeRight, point) < 0) {
+                    // the point is strictly below the bridge line, the tangent is on its left
+                    current = internal.left;
+                } else {
+                    current = internal.right;
+                }
+            }
+            return (Leaf) current;
+        }
+
+        /** Compute the orientation of three points.
+         * @param o origin point
+         * @param a first point
+         * @param b second point
+         * @return cross product of (a - o) and (b - o), positive if b is on the left
+         * side of the line from o to a
+         */
+        private static double cross(final Leaf o, final Leaf a, final Leaf b) {
+            return (a.x - o.x) * (b.y - o.y) - (a.y - o.y) * (b.x - o.x);
+        }
+
+        /** Compare two leaves lexicographically.
+         * @param a first leaf
+         * @param b second leaf
+         * @return negative, zero or positive if first leaf is smaller, equal or larger
+         */
+        private static int compare(final Leaf a, final Leaf b) {
+            return compare(a.x, a.y, b);
+        }
+
+        /** Compare a point with a leaf lexicographically.
+         * @param x abscissa of the point
+         * @param y ordinate of the point
+         * @param leaf leaf to compare to
+         * @return negative, zero or positive if point is smaller, equal or larger
+         */
+        private static int compare(final double x, final double y, final Leaf leaf) {
+            final int c = Double.compare(x, leaf.x);
+            return (c != 0) ? c : Double.compare(y, leaf.y);
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+
+/**
+ * Parallel version of Andrew's monotone chain method to generate the convex hull of a
+ * finite set of points in the two-dimensional Euclidean space.
+ * <p>
+ * The input points are recursively split in halves, following their iteration order, down to
+ * parts of at most {@code threshold} points. The hull of each part is computed with a sequential
+ * {@link MonotoneChain}, and sibling hulls are merged by computing the hull of their vertices.
+ * As the hull of a set of points is also the hull of the hulls of any partition of this set,
+ * the result is the same as the sequential algorithm, but no global sort is needed and all parts
+ * are processed as independent tasks in a {@link ForkJoinPool}. Partial hulls are usually much
+ * smaller than the parts they come from, so the merges are cheap and the speedup is close to
+ * the number of cores for large inputs.
+ * <p>
+ * Inputs smaller than the threshold are handled directly by the sequential algorithm.
+ *
+ * @see MonotoneChain
+ */
+public class ParallelMonotoneChain extends AbstractConvexHullGenerator2D {
+
+    /** Default number of points below which parts are not split anymore. */
+    private static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    /** Sequential generator for parts and merges. */
+    private final MonotoneChain sequential;
+
+    /** Pool in which to run the tasks. */
+    private final ForkJoinPool pool;
+
+    /** Number of points below which parts are not split anymore. */
+    private final int threshold;
+
+    /**
+     * Create a new ParallelMonotoneChain instance running in the common pool.
+     */
+    public ParallelMonotoneChain() {
+        this(false);
+    }
+
+    /**
+     * Create a new ParallelMonotoneChain instance running in the common pool.
+     * @param includeCollinearPoints whether collinear points shall be added as hull vertices
+     */
+    public ParallelMonotoneChain(final boolean includeCollinearPoints) {
+        this(new MonotoneChain(includeCollinearPoints), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Create a new ParallelMonotoneChain instance running in the common pool.
+     * @param includeCollinearPoints whether collinear points shall be added as hull vertices
+     * @param tolerance tolerance below which points are considered identical
+     */
+    public ParallelMonotoneChain(final boolean includeCollinearPoints, final double tolerance) {
+        this(includeCollinearPoints, tolerance, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Create a new ParallelMonotoneChain instance.
+     * @param includeCollinearPoints whether collinear points shall be added as hull vertices
+     * @param tolerance tolerance below which points are considered identical
+     * @param pool pool in which to run the tasks
+     * @param threshold number of points below which parts are not split anymore
+     * @exception IllegalArgumentException if threshold is less than 2
+     */
+    public ParallelMonotoneChain(final boolean includeCollinearPoints, final double tolerance,
+                                 final ForkJoinPool pool, final int threshold) {
+        this(new MonotoneChain(includeCollinearPoints, tolerance), pool, threshold);
+    }
+
+    /**
+     * Create a new ParallelMonotoneChain instance.
+     * @param sequential sequential generator for parts and merges
+     * @param pool pool in which to run the tasks
+     * @param threshold number of points below which parts are not split anymore
+     * @exception IllegalArgumentException if threshold is less than 2
+     */
+    private ParallelMonotoneChain(final MonotoneChain sequential,
+                                  final ForkJoinPool pool, final int threshold) {
+        super(sequential.isIncludeCollinearPoints(), sequential.getTolerance());
+        if (threshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2, got " + threshold);
+        }
+        this.sequential = sequential;
+        this.pool       = pool;
+        this.threshold  = threshold;
+    }
+
+    /**
+     * Get the number of points below which parts are not split anymore.
+     * @return number of points below which parts are not split anymore
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<Point2D> findHullVertices(final Collection<Point2D> points) {
+        if (points.size() <= threshold) {
+            return sequential.findHullVertices(points);
+        }
+        final List<Point2D> all = Arrays.asList(points.toArray(new Point2D[points.size()]));
+        return pool.invoke(new PartialHull(all));
+    }
+
+    /** Task computing the hull of a part of the input points. */
+    private class PartialHull extends RecursiveTask<Collection<Point2D>> {
+
+        /** Serializable UID. */
+        private static final long serialVersionUID = 20181016L;
+
+        /** Points of the part. */
+        private final List<Point2D> part;
+
+        /** Simple constructor.
+         * @param part points of the part
+         */
+        PartialHull(final List<Point2D> part) {
+            this.part = part;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected Collection<Point2D> compute() {
+            if (part.size() <= threshold) {
+                return sequential.findHullVertices(part);
+            }
+
+            final int middle = part.size() / 2;
+            final PartialHull left  = new PartialHull(part.subList(0, middle));
+            final PartialHull right = new PartialHull(part.subList(middle, part.size()));
+            left.fork();
+            final Collection<Point2D> rightHull = right.compute();
+            final Collection<Point2D> leftHull  = left.join();
+
+            final List<Point2D> merged = new ArrayList<>(leftHull.size() + rightHull.size());
+            merged.addAll(leftHull);
+            merged.addAll(rightHull);
+            return sequential.findHullVertices(merged);
+        }
+
+    }
+
+}
@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+
+/**
+ * Rotating calipers algorithms on convex polygons.
+ * <p>
+ * All methods work on packed vertices coordinates, vertex i having abscissa
+ * {@code packed[2 * i]} and ordinate {@code packed[2 * i + 1]}, with vertices
+ * ordered counterclockwise. They all run in time linear in the number of vertices.
+ * </p>
+ * <p>
+ * The polygons must be strictly convex: they must not contain duplicated vertices
+ * nor vertices aligned with their neighbors. Degenerate polygons reduced to a single
+ * vertex or to the two ends of a segment are supported.
+ * </p>
+ * @see <a href="https://doi.org/10.1109/MELCON.1983.7111069">Toussaint,
+ * Solving Geometric Problems with the Rotating Calipers</a>
+ */
+final class RotatingCalipers {
+
+    /** Private constructor for a utility class. */
+    private RotatingCalipers() {
+    }
+
+    /** Find the farthest pair of vertices.
+     * @param packed packed coordinates of the vertices, in counterclockwise order
+     * @return the two farthest vertices
+     */
+    static Point2D[] diameter(final double[] packed) {
+
+        final int n = packed.length / 2;
+        if (n < 3) {
+            return new Point2D[] { vertex(packed, 0), vertex(packed, n - 1) };
+        }
+
+        int best0 = 0;
+        int best1 = 0;
+        double bestD2 = -1;
+        int j = 1;
+        for (int i = 0; i < n; ++i) {
+            final int i1 = next(i, n);
+
+            // advance to the vertex farthest from edge (i, i1)
+            double area = area(packed, i, i1, j);
+            double nextArea = area(packed, i, i1, next(j, n));
+            while (nextArea > area) {
+                j        = next(j, n);
+                area     = nextArea;
+                nextArea = area(packed, i, i1, next(j, n));
+            }
+
+            // check antipodal pairs, including the second end of an edge parallel to (i, i1)
+            final int last = nextArea == area ? next(j, n) : j;
+            for (int k = j; ; k = next(k, n)) {
+                final double d2i = squaredDistance(packed, i, k);
+                if (d2i > bestD2) {
+                    best0  = i;
+                    best1  = k;
+                    bestD2 = d2i;
+                }
+                final double d2i1 = squaredDistance(packed, i1, k);
+                if (d2i1 > bestD2) {
+                    best0  = i1;
+                    best1  = k;
+                    bestD2 = d2i1;
+                }
+                if (k == last) {
+                    break;
+                }
+            }
+
+        }
+
+        return new Point2D[] { vertex(packed, best0), vertex(packed, best1) };
+
+    }
+
+    /** Compute the width, i.e. the minimum distance between two parallel supporting lines.
+     * @param packed packed coordinates of the vertices, in counterclockwise order
+     * @return the width of the polygon
+     */
+    static double width(final double[] packed) {
+        final int n = packed.length / 2;
+        if (n < 3) {
+            return 0;
+        }
+        double width = Double.POSITIVE_INFINITY;
+        int j = 1;
+        for (int i = 0; i < n; ++i) {
+            final int i1 = next(i, n);
+            while (area(packed, i, i1, next(j, n)) > area(packed, i, i1, j)) {
+                j = next(j, n);
+            }
+            width = Math.min(width, area(packed, i, i1, j) / Math.sqrt(squaredDistance(packed, i, i1)));
+        }
+        return width;
+    }
+
+    /** Find the minimum area or minimum perimeter enclosing rectangle.
+     * <p>
+     * The optimal rectangle has one side collinear with an edge of the polygon,
+     * so all edges are checked, maintaining the vertices extreme along the edge
+     * direction, its normal and its opposite direction.
+     * </p>
+     * @param packed packed coordinates of the vertices, in counterclockwise order (at least 1)
+     * @param minimizePerimeter if true, the perimeter is minimized, otherwise the area is minimized
+     * @return the four corners of the rectangle, in counterclockwise order
+     */
+    static Point2D[] enclosingRectangle(final double[] packed, final boolean minimizePerimeter) {
+
+        final int n = packed.length / 2;
+        if (n == 1) {
+            final Point2D p = vertex(packed, 0);
+            return new Point2D[] { p, p, p, p };
+        }
+        double bestCost = Double.POSITIVE_INFINITY;
+        final double[] best = new double[8];
+
+        // extreme vertices as unwrapped indices, right along the edge, top along
+        // the inward normal and left along the opposite of the edge direction
+        int right = 1;
+        int top   = 1;
+        int left  = 1;
+        for (int i = 0; i < n; ++i) {
+
+            final int i1 = next(i, n);
+            final double ox = packed[2 * i];
+            final double oy = packed[2 * i + 1];
+            final double dx = packed[2 * i1]     - ox;
+            final double dy = packed[2 * i1 + 1] - oy;
+            final double norm = Math.sqrt(dx * dx + dy * dy);
+            final double ux = dx / norm;
+            final double uy = dy / norm;
+
+            right = Math.max(right, i + 1);
+            while (right < i + n && project(packed, right + 1, ox, oy, ux, uy) >
+                                    project(packed, right, ox, oy, ux, uy)) {
+                ++right;
+            }
+            top = Math.max(top, right);
+            while (top < i + n && project(packed, top + 1, ox, oy, -uy, ux) >
+                                  project(packed, top, ox, oy, -uy, ux)) {
+                ++top;
+            }
+            left = Math.max(left, top);
+            while (left < i + n && project(packed, left + 1, ox, oy, ux, uy) <
+                                   project(packed, left, ox, oy, ux, uy)) {
+                ++left;
+            }
+
+            final double maxU = project(packed, right, ox, oy, ux, uy);
+            final double maxV = project(packed, top,   ox, oy, -uy, ux);
+            final double minU = project(packed, left,  ox, oy, ux, uy);
+            final double cost = minimizePerimeter ?
+                                2 * ((maxU - minU) + maxV) :
+                                (maxU - minU) * maxV;
+            if (cost < bestCost) {
+                bestCost = cost;
+                best[0] = ox + minU * ux;
+                best[1] = oy + minU * uy;
+                best[2] = ox + maxU * ux;
+                best[3] = oy + maxU * uy;
+                best[4] = best[2] - maxV * uy;
+                best[5] = best[3] + maxV * ux;
+                best[6] = best[0] - maxV * uy;
+                best[7] = best[1] + maxV * ux;
+            }
+
+        }
+
+        return new Point2D[] {
+            Point2D.of(best[0], best[1]), Point2D.of(best[2], best[3]),
+            Point2D.of(best[4], best[5]), Point2D.of(best[6], best[7])
+        };
+
+    }
+
+    /** Compute the distance between two convex polygons.
+     * <p>
+     * The distance is computed as the distance from the origin to the
+     * Minkowski difference of the polygons, which is itself built by
+     * merging the edges of both polygons sorted by polar angle. A single
+     * vertex has no edges and a segment has two opposite edges.
+     * </p>
+     * @param packed1 packed coordinates of the first polygon vertices, in counterclockwise order
+     * @param packed2 packed coordinates of the second polygon vertices, in counterclockwise order
+     * @return distance between the polygons, 0 if they overlap
+     */
+    static double distance(final double[] packed1, final double[] packed2) {
+
+        final int n1 = packed1.length / 2;
+        final int n2 = packed2.length / 2;
+        final int edges1 = n1 == 1 ? 0 : n1;
+        final int edges2 = n2 == 1 ? 0 : n2;
+
+        // start from the bottom vertex of polygon 1 and the top vertex of polygon 2,
+        // as polygon 2 is reflected through the origin, so the edges of both polygons
+        // have increasing polar angles in [0, 2pi)
+        final int s1 = lowest(packed1, 1);
+        final int s2 = lowest(packed2, -1);
+
+        // merge the edges of polygon 1 and of the reflected polygon 2,
+        // computing each vertex of the difference directly from the polygons
+        // vertices so rounding errors do not accumulate along the boundary
+        final double[] difference = new double[2 * Math.max(1, edges1 + edges2)];
+        int k1 = 0;
+        int k2 = 0;
+        int m  = 0;
+        do {
+            final int i1 = (s1 + k1) % n1;
+            final int i2 = (s2 + k2) % n2;
+            difference[2 * m]     = packed1[2 * i1]     - packed2[2 * i2];
+            difference[2 * m + 1] = packed1[2 * i1 + 1] - packed2[2 * i2 + 1];
+            ++m;
+            if (k2 >= edges2 ||
+                (k1 < edges1 && precedes(edgeX(packed1, s1 + k1, n1), edgeY(packed1, s1 + k1, n1),
+                                     -edgeX(packed2, s2 + k2, n2), -edgeY(packed2, s2 + k2, n2)))) {
+                ++k1;
+            } else {
+                ++k2;
+            }
+        } while (k1 < edges1 || k2 < edges2);
+
+        // check if the origin is inside the difference
+        boolean inside = true;
+        double area = 0;
+        double d2 = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < m; ++i) {
+            final int j = next(i, m);
+            final double ax = difference[2 * i];
+            final double ay = difference[2 * i + 1];
+            final double ex = difference[2 * j]     - ax;
+            final double ey = difference[2 * j + 1] - ay;
+            if (ex * ay - ey * ax > 0) {
+                // the origin is on the right side of the edge
+                inside = false;
+            }
+            area += ax * difference[2 * j + 1] - ay * difference[2 * j];
+
+            // squared distance from the origin to the edge
+            final double e2 = ex * ex + ey * ey;
+            final double t  = e2 == 0 ? 0 : Math.max(0, Math.min(1, -(ax * ex + ay * ey) / e2));
+            final double px = ax + t * ex;
+            final double py = ay + t * ey;
+            d2 = Math.min(d2, px * px + py * py);
+        }
+
+        // if rounding errors misclassify an origin lying very close to the boundary,
+        // the distance to the closest edge is returned, which is also very small
+        return (inside && area > 0) ? 0 : Math.sqrt(d2);
+
+    }
+
+    /** Check if an edge vector precedes another one in polar angle order.
+     * <p>
+     * Angles are considered in [0, 2pi), so the half-plane of each vector
+     * is compared before the cross product, which cannot sort vectors
+     * that are more than pi apart, like the two opposite edges of a segment.
+     * </p>
+     * @param ax abscissa of the first vector
+     * @param ay ordinate of the first vector
+     * @param bx abscissa of the second vector
+     * @param by ordinate of the second vector
+     * @return true if the polar angle of the first vector is smaller than
+     * or equal to the polar angle of the second vector
+     */
+    private static boolean precedes(final double ax, final double ay, final double bx, final double by) {
+        final boolean upperA = ay > 0 || (ay == 0 && ax > 0);
+        final boolean upperB = by > 0 || (by == 0 && bx > 0);
+        if (upperA != upperB) {
+            return upperA;
+        }
+        return ax * by - ay * bx >= 0;
+    }
+
+    /** Find the lowest vertex of a polygon, breaking ties by abscissa.
+     * @param packed packed coordinates of the vertices
+     * @param sign 1 for the lowest-leftmost vertex, -1 for the highest-rightmost vertex
+     * @return index of the lowest vertex
+     */
+    private static int lowest(final double[] packed, final int sign) {
+        int lowest = 0;
+        for (int i = 1; i < packed.length / 2; ++i) {
+            final double dy = sign * (packed[2 * i + 1] - packed[2 * lowest + 1]);
+            if (dy < 0 || (dy == 0 && sign * (packed[2 * i] - packed[2 * lowest]) < 0)) {
+                lowest = i;
+            }
+        }
+        return lowest;
+    }
+
+    /** Get the abscissa of an edge vector.
+     * @param packed packed coordinates of the vertices
+     * @param i unwrapped index of the edge start vertex
+     * @param n number of vertices
+     * @return abscissa of the edge vector
+     */
+    private static double edgeX(final double[] packed, final int i, final int n) {
+        return packed[2 * ((i + 1) % n)] - packed[2 * (i % n)];
+    }
+
+    /** Get the ordinate of an edge vector.
+     * @param packed packed coordinates of the vertices
+     * @param i unwrapped index of the edge start vertex
+     * @param n number of vertices
+     * @return ordinate of the edge vector
+     */
+    private static double edgeY(final double[] packed, final int i, final int n) {
+        return packed[2 * ((i + 1) % n) + 1] - packed[2 * (i % n) + 1];
+    }
+
+    /** Project a vertex on a direction.
+     * @param packed packed coordinates of the vertices
+     * @param i unwrapped index of the vertex
+     * @param ox abscissa of the projection origin
+     * @param oy ordinate of the projection origin
+     * @param ux abscissa of the direction
+     * @param uy ordinate of the direction
+     * @return projection of the vertex
+     */
+    private static double project(final double[] packed, final int i,
+                                  final double ox, final double oy,
+                                  final double ux, final double uy) {
+        final int k = i % (packed.length / 2);
+        return (packed[2 * k] - ox) * ux + (packed[2 * k + 1] - oy) * uy;
+    }
+
+    /** Compute twice the signed area of a triangle of vertices.
+     * @param packed packed coordinates of the vertices
+     * @param i index of the first vertex
+     * @param j index of the second vertex
+     * @param k index of the third vertex
+     * @return twice the signed area of the triangle
+     */
+    private static double area(final double[] packed, final int i, final int j, final int k) {
+        final double xi = packed[2 * i];
+        final double yi = packed[2 * i + 1];
+        return (packed[2 * j] - xi) * (packed[2 * k + 1] - yi) - (packed[2 * j + 1] - yi) * (packed[2 * k] - xi);
+    }
+
+    /** Compute the squared distance between two vertices.
+     * @param packed packed coordinates of the vertices
+     * @param i index of the first vertex
+     * @param j index of the second vertex
+     * @return squared distance between the vertices
+     */
+    private static double squaredDistance(final double[] packed, final int i, final int j) {
+        final double dx = packed[2 * j]     - packed[2 * i];
+        final double dy = packed[2 * j + 1] - packed[2 * i + 1];
+        return dx * dx + dy * dy;
+    }
+
+    /** Get a vertex.
+     * @param packed packed coordinates of the vertices
+     * @param i index of the vertex
+     * @return vertex
+     */
+    private static Point2D vertex(final double[] packed, final int i) {
+        return Point2D.of(packed[2 * i], packed[2 * i + 1]);
+    }
+
+    /** Get the index of the next vertex.
+     * @param i index of a vertex
+     * @param n number of vertices
+     * @return index of the next vertex
+     */
+    private static int next(final int i, final int n) {
+        return i == n - 1 ? 0 : i + 1;
+    }
+
+}
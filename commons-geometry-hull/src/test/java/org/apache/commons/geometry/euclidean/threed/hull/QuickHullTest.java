@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.threed.hull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.geometry.euclidean.threed.Point3D;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for QuickHull.
+ */
+public class QuickHullTest {
+
+    private static final double TOLERANCE = 1e-10;
+
+    private UniformRandomProvider random;
+
+    @Before
+    public void setUp() {
+        random = RandomSource.create(RandomSource.MT, 10);
+    }
+
+    // ------------------------------------------------------------------------------
+
+    @Test(expected = IllegalStateException.class)
+    public void testTooFewPoints() {
+        new QuickHull().generate(Arrays.asList(Point3D.of(0, 0, 0), Point3D.of(1, 0, 0), Point3D.of(0, 1, 0)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAllIdentical() {
+        new QuickHull().generate(Collections.nCopies(10, Point3D.of(1, 2, 3)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCollinear() {
+        final List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            points.add(Point3D.of(i, 2 * i, 3 * i));
+        }
+        new QuickHull().generate(points);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCoplanar() {
+        final List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            points.add(Point3D.of(random.nextDouble(), random.nextDouble(), 1.0));
+        }
+        new QuickHull().generate(points);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new QuickHull(TOLERANCE, null, 0);
+    }
+
+    @Test
+    public void testTetrahedron() {
+        // arrange
+        final List<Point3D> points = Arrays.asList(Point3D.of(0, 0, 0), Point3D.of(1, 0, 0),
+                                                   Point3D.of(0, 1, 0), Point3D.of(0, 0, 1),
+                                                   Point3D.of(0.1, 0.1, 0.1));
+
+        // act
+        final ConvexHull3D hull = new QuickHull().generate(points);
+
+        // assert
+        Assert.assertEquals(4, hull.getVertices().length);
+        Assert.assertEquals(4, hull.getFacets().length);
+        checkConvexHull(points, hull);
+        Assert.assertEquals(1.0 / 6.0, hull.createRegion().getSize(), 1.0e-12);
+    }
+
+    @Test
+    public void testCubeWithCoplanarPoints() {
+        // arrange
+        final List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i <= 4; ++i) {
+            for (int j = 0; j <= 4; ++j) {
+                for (int k = 0; k <= 4; ++k) {
+                    points.add(Point3D.of(i, j, k));
+                }
+            }
+        }
+
+        // act
+        final ConvexHull3D hull = new QuickHull().generate(points);
+
+        // assert
+        for (final Point3D vertex : hull.getVertices()) {
+            Assert.assertTrue(vertex.getX() == 0 || vertex.getX() == 4 ||
+                              vertex.getY() == 0 || vertex.getY() == 4 ||
+                              vertex.getZ() == 0 || vertex.getZ() == 4);
+        }
+        checkConvexHull(points, hull);
+        final Region<Point3D> region = hull.createRegion();
+        Assert.assertEquals(64.0, region.getSize(), 1.0e-10);
+        Assert.assertEquals(Location.BOUNDARY, region.checkPoint(Point3D.of(2, 2, 4)));
+        Assert.assertEquals(Location.INSIDE, region.checkPoint(Point3D.of(2, 2, 2)));
+        Assert.assertEquals(Location.OUTSIDE, region.checkPoint(Point3D.of(2, 2, 5)));
+    }
+
+    @Test
+    public void testUniformBall() {
+        // arrange
+        final List<Point3D> points = new ArrayList<>();
+        while (points.size() < 20000) {
+            final double x = 2 * random.nextDouble() - 1;
+            final double y = 2 * random.nextDouble() - 1;
+            final double z = 2 * random.nextDouble() - 1;
+            if (x * x + y * y + z * z <= 1) {
+                points.add(Point3D.of(x, y, z));
+            }
+        }
+
+        // act
+        final ConvexHull3D hull = new QuickHull().generate(points);
+
+        // assert
+        checkConvexHull(points, hull);
+    }
+
+    @Test
+    public void testOnSphere() {
+        // arrange
+        final List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i < 2000; ++i) {
+            final double z     = 2 * random.nextDouble() - 1;
+            final double r     = Math.sqrt(1 - z * z);
+            final double theta = 2 * Math.PI * random.nextDouble();
+            points.add(Point3D.of(r * Math.cos(theta), r * Math.sin(theta), z));
+        }
+
+        // act
+        final ConvexHull3D hull = new QuickHull().generate(points);
+
+        // assert
+        Assert.assertEquals(points.size(), hull.getVertices().length);
+        Assert.assertEquals(2 * points.size() - 4, hull.getFacets().length);
+        checkConvexHull(points, hull);
+    }
+
+    @Test
+    public void testParallelSameAsSequential() {
+        // arrange
+        final List<Point3D> points = new ArrayList<>();
+        for (int i = 0; i < 50000; ++i) {
+            points.add(Point3D.of(random.nextDouble(), random.nextDouble(), random.nextDouble()));
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // act
+            final ConvexHull3D expected = new QuickHull().generate(points);
+            final ConvexHull3D actual   = new QuickHull(TOLERANCE, pool, 1000).generate(points);
+
+            // assert
+            Assert.assertArrayEquals(expected.getVertices(), actual.getVertices());
+            Assert.assertArrayEquals(expected.getFacets(), actual.getFacets());
+            checkConvexHull(points, actual);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // ------------------------------------------------------------------------------
+
+    private static void checkConvexHull(final List<Point3D> points, final ConvexHull3D hull) {
+        final Point3D[] vertices = hull.getVertices();
+        final int[][] facets     = hull.getFacets();
+
+        // Euler characteristic of a closed triangulated convex polyhedron
+        Assert.assertEquals(2 * vertices.length - 4, facets.length);
+
+        // each edge must be shared by exactly two facets, with opposite orientations
+        final List<Long> edges = new ArrayList<>();
+        for (final int[] facet : facets) {
+            for (int k = 0; k < facet.length; ++k) {
+                edges.add(((long) facet[k] << 32) | facet[(k + 1) % facet.length]);
+            }
+        }
+        Collections.sort(edges);
+        for (int i = 1; i < edges.size(); ++i) {
+            Assert.assertNotEquals(edges.get(i - 1), edges.get(i));
+        }
+        for (final long edge : edges) {
+            final long reversed = (edge << 32) | (edge >>> 32);
+            Assert.assertTrue(Collections.binarySearch(edges, reversed) >= 0);
+        }
+
+        // all points must be below all facets planes
+        for (final int[] facet : facets) {
+            final Point3D a = vertices[facet[0]];
+            final Point3D b = vertices[facet[1]];
+            final Point3D c = vertices[facet[2]];
+            final double ux = b.getX() - a.getX();
+            final double uy = b.getY() - a.getY();
+            final double uz = b.getZ() - a.getZ();
+            final double vx = c.getX() - a.getX();
+            final double vy = c.getY() - a.getY();
+            final double vz = c.getZ() - a.getZ();
+            final double nx = uy * vz - uz * vy;
+            final double ny = uz * vx - ux * vz;
+            final double nz = ux * vy - uy * vx;
+            final double n  = Math.sqrt(nx * nx + ny * ny + nz * nz);
+            for (final Point3D p : points) {
+                final double d = (nx * (p.getX() - a.getX()) +
+                                  ny * (p.getY() - a.getY()) +
+                                  nz * (p.getZ() - a.getZ())) / n;
+                Assert.assertTrue(d <= 1.0e-8);
+            }
+        }
+    }
+
+}
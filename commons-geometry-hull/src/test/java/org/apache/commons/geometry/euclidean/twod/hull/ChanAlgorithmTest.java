@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for ChanAlgorithm.
+ */
+public class ChanAlgorithmTest extends ConvexHullGenerator2DAbstractTest {
+
+    @Override
+    protected ConvexHullGenerator2D createConvexHullGenerator(boolean includeCollinearPoints) {
+        return new ChanAlgorithm(includeCollinearPoints);
+    }
+
+    // ------------------------------------------------------------------------------
+
+    @Test
+    public void testUniformDisk() {
+        // arrange
+        final List<Point2D> points = new ArrayList<>();
+        while (points.size() < 100000) {
+            final double x = 2 * random.nextDouble() - 1;
+            final double y = 2 * random.nextDouble() - 1;
+            if (x * x + y * y <= 1) {
+                points.add(Point2D.of(x, y));
+            }
+        }
+
+        // act/assert
+        checkSameAsMonotoneChain(points, false);
+        checkSameAsMonotoneChain(points, true);
+    }
+
+    @Test
+    public void testOnCircle() {
+        // arrange
+        final List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            final double theta = 2 * Math.PI * random.nextDouble();
+            points.add(Point2D.of(Math.cos(theta), Math.sin(theta)));
+        }
+
+        // act
+        final ConvexHull2D expected = new MonotoneChain(false).generate(points);
+        final ConvexHull2D actual   = new ChanAlgorithm(false).generate(points);
+
+        // assert
+        // consecutive vertices are too close to each other for checkConvexHull
+        Assert.assertTrue(actual.getVertices().length > 4000);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(expected.getVertices())),
+                            new HashSet<>(Arrays.asList(actual.getVertices())));
+    }
+
+    @Test
+    public void testGridWithCollinearPoints() {
+        // arrange
+        final List<Point2D> points = new ArrayList<>();
+        for (int i = 0; i < 40; ++i) {
+            for (int j = 0; j < 30; ++j) {
+                points.add(Point2D.of(i, j));
+            }
+        }
+
+        // act
+        final ConvexHull2D strict    = new ChanAlgorithm(false).generate(points);
+        final ConvexHull2D collinear = new ChanAlgorithm(true).generate(points);
+
+        // assert
+        Assert.assertEquals(4, strict.getVertices().length);
+        Assert.assertEquals(2 * 39 + 2 * 29, collinear.getVertices().length);
+        checkConvexHull(points, collinear, true);
+    }
+
+    @Test
+    public void testWrapExactGroupSize() {
+        // arrange
+        final double[] x = new double[100];
+        final double[] y = new double[100];
+        x[1] = 1;
+        x[2] = 1;
+        y[2] = 1;
+        y[3] = 1;
+        for (int i = 4; i < x.length; ++i) {
+            x[i] = 0.1 + 0.8 * random.nextDouble();
+            y[i] = 0.1 + 0.8 * random.nextDouble();
+        }
+
+        // act/assert
+        // hulls with exactly m vertices are wrapped in the round with group size m
+        Assert.assertEquals(4, ChanAlgorithm.wrap(new double[] { 0, 1, 1, 0 }, new double[] { 0, 0, 1, 1 }, 4).length);
+        Assert.assertEquals(4, ChanAlgorithm.wrap(x.clone(), y.clone(), 4).length);
+        x[4] = 0.5;
+        y[4] = -1;
+        Assert.assertNull(ChanAlgorithm.wrap(x.clone(), y.clone(), 4));
+        Assert.assertEquals(5, ChanAlgorithm.wrap(x.clone(), y.clone(), 16).length);
+    }
+
+    private void checkSameAsMonotoneChain(final List<Point2D> points, final boolean includeCollinearPoints) {
+        final ConvexHull2D expected = new MonotoneChain(includeCollinearPoints).generate(points);
+        final ConvexHull2D actual   = new ChanAlgorithm(includeCollinearPoints).generate(points);
+        checkConvexHull(points, actual, includeCollinearPoints);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(expected.getVertices())),
+                            new HashSet<>(Arrays.asList(actual.getVertices())));
+    }
+
+}
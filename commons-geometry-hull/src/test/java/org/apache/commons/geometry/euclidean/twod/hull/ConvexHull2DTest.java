@@ -0,0 +1,512 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.Region.Location;
+import org.apache.commons.geometry.euclidean.twod.Line;
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for ConvexHull2D.
+ */
+public class ConvexHull2DTest {
+
+    private static final double TOLERANCE = 1e-10;
+
+    private UniformRandomProvider random;
+
+    @Before
+    public void setUp() {
+        random = RandomSource.create(RandomSource.MT, 10);
+    }
+
+    @Test
+    public void testContainsEmpty() {
+        // arrange
+        final ConvexHull2D hull = new ConvexHull2D(new Point2D[0], TOLERANCE);
+
+        // act/assert
+        Assert.assertFalse(hull.contains(Point2D.of(0, 0)));
+    }
+
+    @Test
+    public void testContainsDegenerate() {
+        // arrange
+        final ConvexHull2D point   = new ConvexHull2D(new Point2D[] { Point2D.of(1, 1) }, TOLERANCE);
+        final ConvexHull2D segment = new ConvexHull2D(new Point2D[] { Point2D.of(0, 0), Point2D.of(2, 2) },
+                                                      TOLERANCE);
+
+        // act/assert
+        Assert.assertTrue(point.contains(Point2D.of(1, 1)));
+        Assert.assertFalse(point.contains(Point2D.of(1, 1.001)));
+        Assert.assertTrue(segment.contains(Point2D.of(1, 1)));
+        Assert.assertTrue(segment.contains(Point2D.of(2, 2)));
+        Assert.assertFalse(segment.contains(Point2D.of(1, 1.001)));
+        Assert.assertFalse(segment.contains(Point2D.of(3, 3)));
+    }
+
+    @Test
+    public void testContainsSquare() {
+        // arrange
+        final Point2D[] vertices = {
+            Point2D.of(0, 0), Point2D.of(1, 0), Point2D.of(1, 1), Point2D.of(0, 1)
+        };
+        final ConvexHull2D hull = new ConvexHull2D(vertices, TOLERANCE);
+
+        // act/assert
+        Assert.assertTrue(hull.contains(Point2D.of(0.5, 0.5)));
+        Assert.assertTrue(hull.contains(Point2D.of(0, 0)));
+        Assert.assertTrue(hull.contains(Point2D.of(1, 0.5)));
+        Assert.assertTrue(hull.contains(Point2D.of(0.5, 1 + 0.5 * TOLERANCE)));
+        Assert.assertFalse(hull.contains(Point2D.of(0.5, 1 + 2 * TOLERANCE)));
+        Assert.assertFalse(hull.contains(Point2D.of(-0.5, 0.5)));
+        Assert.assertFalse(hull.contains(Point2D.of(2, 2)));
+        Assert.assertFalse(hull.contains(Point2D.of(1.5, -0.5)));
+    }
+
+    @Test
+    public void testContainsClockwise() {
+        // arrange
+        final Point2D[] vertices = {
+            Point2D.of(0, 0), Point2D.of(0, 1), Point2D.of(1, 1), Point2D.of(1, 0)
+        };
+        final ConvexHull2D hull = new ConvexHull2D(vertices, TOLERANCE);
+
+        // act/assert
+        Assert.assertTrue(hull.contains(Point2D.of(0.5, 0.5)));
+        Assert.assertTrue(hull.contains(Point2D.of(1, 1)));
+        Assert.assertFalse(hull.contains(Point2D.of(1.5, 0.5)));
+    }
+
+    @Test
+    public void testContainsSameAsRegion() {
+        // arrange
+        final List<Point2D> cloud = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            cloud.add(Point2D.of(2 * random.nextDouble() - 1, 2 * random.nextDouble() - 1));
+        }
+        final ConvexHull2D hull     = new MonotoneChain().generate(cloud);
+        final Region<Point2D> region = hull.createRegion();
+        final int n = 10000;
+        final double[] xy = new double[2 * n];
+        for (int i = 0; i < xy.length; ++i) {
+            xy[i] = 2.4 * random.nextDouble() - 1.2;
+        }
+
+        // act
+        final boolean[] out = new boolean[n];
+        hull.contains(xy, out);
+
+        // assert
+        for (int i = 0; i < n; ++i) {
+            final Point2D p = Point2D.of(xy[2 * i], xy[2 * i + 1]);
+            Assert.assertEquals(region.checkPoint(p) != Location.OUTSIDE, out[i]);
+            Assert.assertEquals(out[i], hull.contains(p));
+        }
+        for (final Point2D vertex : hull.getVertices()) {
+            Assert.assertTrue(hull.contains(vertex));
+        }
+    }
+
+    @Test
+    public void testContainsCollinearVertices() {
+        // arrange
+        final ConvexHull2D hull = new ConvexHull2D(new Point2D[] {
+            Point2D.of(-11, 2), Point2D.of(-9, -1), Point2D.of(-9, 2), Point2D.of(-10, 2)
+        }, TOLERANCE);
+        final ConvexHull2D square = new ConvexHull2D(new Point2D[] {
+            Point2D.of(0, 0), Point2D.of(1, 0), Point2D.of(2, 0), Point2D.of(2, 2), Point2D.of(1, 2), Point2D.of(0, 2)
+        }, TOLERANCE);
+        final Region<Point2D> region = hull.createRegion();
+
+        // act/assert
+        for (final Point2D p : new Point2D[] {
+            Point2D.of(-7, 2), Point2D.of(-8, 2), Point2D.of(-12, 2), Point2D.of(-9.5, 2), Point2D.of(-10, 1)
+        }) {
+            Assert.assertEquals(region.checkPoint(p) != Location.OUTSIDE, hull.contains(p));
+        }
+        Assert.assertFalse(square.contains(Point2D.of(3, 0)));
+        Assert.assertFalse(square.contains(Point2D.of(-1, 0)));
+        Assert.assertFalse(square.contains(Point2D.of(3, 2)));
+        Assert.assertFalse(square.contains(Point2D.of(-1, 2)));
+        Assert.assertTrue(square.contains(Point2D.of(1.5, 2)));
+        Assert.assertTrue(square.contains(Point2D.of(1, 1)));
+    }
+
+    @Test
+    public void testContainsCollinearHulls() {
+        for (int k = 0; k < 100; ++k) {
+            // arrange
+            final List<Point2D> cloud = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                cloud.add(Point2D.of(random.nextInt(7) - 3, random.nextInt(7) - 3));
+            }
+            final ConvexHull2D hull = new MonotoneChain(true).generate(cloud);
+            final Region<Point2D> region = hull.createRegion();
+
+            // act/assert
+            for (int x = -4; x <= 4; ++x) {
+                for (int y = -4; y <= 4; ++y) {
+                    final Point2D p = Point2D.of(x, y);
+                    Assert.assertEquals(region.checkPoint(p) != Location.OUTSIDE, hull.contains(p));
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContainsBatchSizeMismatch() {
+        // arrange
+        final ConvexHull2D hull = new ConvexHull2D(new Point2D[] { Point2D.of(1, 1) }, TOLERANCE);
+
+        // act
+        hull.contains(new double[5], new boolean[2]);
+    }
+
+    @Test
+    public void testDiameter() {
+        for (int k = 0; k < 100; ++k) {
+            // arrange
+            final ConvexHull2D hull = randomHull(3 + random.nextInt(200));
+            final Point2D[] vertices = hull.getVertices();
+            double expected = 0;
+            for (final Point2D p1 : vertices) {
+                for (final Point2D p2 : vertices) {
+                    expected = Math.max(expected, p1.distance(p2));
+                }
+            }
+
+            // act
+            final Point2D[] diameter = hull.getDiameter();
+
+            // assert
+            Assert.assertEquals(expected, diameter[0].distance(diameter[1]), 1.0e-15);
+        }
+    }
+
+    @Test
+    public void testDiameterDegenerate() {
+        // arrange
+        final ConvexHull2D point   = new ConvexHull2D(new Point2D[] { Point2D.of(1, 1) }, TOLERANCE);
+        final ConvexHull2D segment = new ConvexHull2D(new Point2D[] { Point2D.of(0, 0), Point2D.of(3, 4) },
+                                                      TOLERANCE);
+
+        // act/assert
+        Assert.assertEquals(0.0, point.getDiameter()[0].distance(point.getDiameter()[1]), 0.0);
+        Assert.assertEquals(5.0, segment.getDiameter()[0].distance(segment.getDiameter()[1]), 0.0);
+    }
+
+    @Test
+    public void testDiameterCollinearVertices() {
+        // arrange
+        final Point2D[] vertices = {
+            Point2D.of(2, 3), Point2D.of(3, 4), Point2D.of(4, 5), Point2D.of(2, 7), Point2D.of(2, 5)
+        };
+
+        // act
+        final Point2D[] diameter = new ConvexHull2D(vertices, TOLERANCE).getDiameter();
+
+        // assert
+        Assert.assertEquals(4.0, diameter[0].distance(diameter[1]), 1.0e-15);
+    }
+
+    @Test
+    public void testDiameterCollinearHulls() {
+        for (int k = 0; k < 1000; ++k) {
+            // arrange
+            final ConvexHull2D hull = randomGridHull();
+            final Point2D[] vertices = hull.getVertices();
+            double expected = 0;
+            for (final Point2D p1 : vertices) {
+                for (final Point2D p2 : vertices) {
+                    expected = Math.max(expected, p1.distance(p2));
+                }
+            }
+
+            // act
+            final Point2D[] diameter = hull.getDiameter();
+
+            // assert
+            Assert.assertEquals(expected, diameter[0].distance(diameter[1]), 1.0e-14);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDiameterEmpty() {
+        new ConvexHull2D(new Point2D[0], TOLERANCE).getDiameter();
+    }
+
+    @Test
+    public void testWidth() {
+        for (int k = 0; k < 100; ++k) {
+            // arrange
+            final ConvexHull2D hull = randomHull(3 + random.nextInt(200));
+            final Point2D[] vertices = hull.getVertices();
+            double expected = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < vertices.length; ++i) {
+                final Point2D p1 = vertices[i];
+                final Point2D p2 = vertices[(i + 1) % vertices.length];
+                final Line line = new Line(p1, p2, TOLERANCE);
+                double max = 0;
+                for (final Point2D p : vertices) {
+                    max = Math.max(max, Math.abs(line.getOffset(p)));
+                }
+                expected = Math.min(expected, max);
+            }
+
+            // act/assert
+            Assert.assertEquals(expected, hull.getWidth(), 1.0e-14);
+        }
+    }
+
+    @Test
+    public void testWidthSquare() {
+        // arrange
+        final Point2D[] vertices = {
+            Point2D.of(0, 0), Point2D.of(2, 0), Point2D.of(2, 2), Point2D.of(0, 2)
+        };
+
+        // act/assert
+        Assert.assertEquals(2.0, new ConvexHull2D(vertices, TOLERANCE).getWidth(), 1.0e-15);
+    }
+
+    @Test
+    public void testWidthCollinearVertices() {
+        // arrange
+        final Point2D[] vertices = {
+            Point2D.of(0, 0), Point2D.of(1, 0), Point2D.of(2, 0), Point2D.of(2, 2), Point2D.of(0, 2)
+        };
+
+        // act/assert
+        Assert.assertEquals(2.0, new ConvexHull2D(vertices, TOLERANCE).getWidth(), 1.0e-15);
+    }
+
+    @Test
+    public void testWidthAlignedVertices() {
+        // arrange
+        final Point2D[] vertices = {
+            Point2D.of(0, 0), Point2D.of(1, 1), Point2D.of(2, 2)
+        };
+
+        // act/assert
+        Assert.assertEquals(0.0, new ConvexHull2D(vertices, TOLERANCE).getWidth(), 0.0);
+    }
+
+    @Test
+    public void testMinimumRectangles() {
+        for (int k = 0; k < 100; ++k) {
+            // arrange
+            final ConvexHull2D hull = randomHull(3 + random.nextInt(200));
+            final Point2D[] vertices = hull.getVertices();
+            double expectedArea      = Double.POSITIVE_INFINITY;
+            double expectedPerimeter = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < vertices.length; ++i) {
+                final Point2D p1 = vertices[i];
+                final Point2D p2 = vertices[(i + 1) % vertices.length];
+                final double ux = (p2.getX() - p1.getX()) / p1.distance(p2);
+                final double uy = (p2.getY() - p1.getY()) / p1.distance(p2);
+                double minU = Double.POSITIVE_INFINITY;
+                double maxU = Double.NEGATIVE_INFINITY;
+                double maxV = 0;
+                for (final Point2D p : vertices) {
+                    final double u = (p.getX() - p1.getX()) * ux + (p.getY() - p1.getY()) * uy;
+                    final double v = (p.getY() - p1.getY()) * ux - (p.getX() - p1.getX()) * uy;
+                    minU = Math.min(minU, u);
+                    maxU = Math.max(maxU, u);
+                    maxV = Math.max(maxV, Math.abs(v));
+                }
+                expectedArea      = Math.min(expectedArea, (maxU - minU) * maxV);
+                expectedPerimeter = Math.min(expectedPerimeter, 2 * ((maxU - minU) + maxV));
+            }
+
+            // act
+            final Point2D[] areaRectangle      = hull.getMinimumAreaRectangle();
+            final Point2D[] perimeterRectangle = hull.getMinimumPerimeterRectangle();
+
+            // assert
+            checkRectangle(areaRectangle, vertices);
+            checkRectangle(perimeterRectangle, vertices);
+            Assert.assertEquals(expectedArea,
+                                areaRectangle[0].distance(areaRectangle[1]) *
+                                areaRectangle[1].distance(areaRectangle[2]),
+                                1.0e-13);
+            Assert.assertEquals(expectedPerimeter,
+                                2 * (perimeterRectangle[0].distance(perimeterRectangle[1]) +
+                                     perimeterRectangle[1].distance(perimeterRectangle[2])),
+                                1.0e-13);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMinimumAreaRectangleDegenerate() {
+        new ConvexHull2D(new Point2D[] { Point2D.of(0, 0), Point2D.of(3, 4) }, TOLERANCE).getMinimumAreaRectangle();
+    }
+
+    @Test
+    public void testDistance() {
+        for (int k = 0; k < 100; ++k) {
+            // arrange
+            final ConvexHull2D hull1 = randomHull(1 + random.nextInt(50));
+            final ConvexHull2D hull2 = randomHull(1 + random.nextInt(50),
+                                                  4 * random.nextDouble() - 2, 4 * random.nextDouble() - 2);
+            final double expected = bruteForceDistance(hull1, hull2);
+
+            // act/assert
+            Assert.assertEquals(expected, hull1.distance(hull2), 1.0e-14);
+            Assert.assertEquals(expected, hull2.distance(hull1), 1.0e-14);
+        }
+    }
+
+    @Test
+    public void testDistanceDegenerate() {
+        // arrange
+        final ConvexHull2D point   = new ConvexHull2D(new Point2D[] { Point2D.of(1, 1) }, TOLERANCE);
+        final ConvexHull2D segment = new ConvexHull2D(new Point2D[] { Point2D.of(0, 3), Point2D.of(3, 0) },
+                                                      TOLERANCE);
+        final ConvexHull2D other   = new ConvexHull2D(new Point2D[] { Point2D.of(4, 5) }, TOLERANCE);
+
+        // act/assert
+        Assert.assertEquals(Math.sqrt(0.5), point.distance(segment), 1.0e-15);
+        Assert.assertEquals(5.0, point.distance(other), 1.0e-15);
+        Assert.assertEquals(0.0, segment.distance(segment), 1.0e-15);
+    }
+
+    @Test
+    public void testDistanceDegenerateSymmetry() {
+        // arrange
+        final ConvexHull2D segment = new ConvexHull2D(new Point2D[] { Point2D.of(5, 6), Point2D.of(9, 6) },
+                                                      TOLERANCE);
+        final ConvexHull2D polygon = new ConvexHull2D(new Point2D[] {
+            Point2D.of(6, 7), Point2D.of(7, 5), Point2D.of(9, 6), Point2D.of(9, 7), Point2D.of(8, 7)
+        }, TOLERANCE);
+        final Point2D[] heptagonVertices = new Point2D[7];
+        for (int i = 0; i < heptagonVertices.length; ++i) {
+            final double theta = 2 * Math.PI * i / heptagonVertices.length;
+            heptagonVertices[i] = Point2D.of(3 + Math.cos(theta), -2 + Math.sin(theta));
+        }
+        final ConvexHull2D heptagon = new ConvexHull2D(heptagonVertices, TOLERANCE);
+        final ConvexHull2D point    = new ConvexHull2D(new Point2D[] { Point2D.of(3.1, -1.8) }, TOLERANCE);
+
+        // act/assert
+        Assert.assertEquals(0.0, segment.distance(polygon), 0.0);
+        Assert.assertEquals(0.0, polygon.distance(segment), 0.0);
+        Assert.assertEquals(0.0, point.distance(heptagon), 0.0);
+        Assert.assertEquals(0.0, heptagon.distance(point), 0.0);
+    }
+
+    @Test
+    public void testDistanceCollinearHulls() {
+        for (int k = 0; k < 20000; ++k) {
+            // arrange
+            final ConvexHull2D hull1 = randomGridHull();
+            final ConvexHull2D hull2 = randomGridHull();
+            final double expected = bruteForceDistance(hull1, hull2);
+
+            // act/assert
+            Assert.assertEquals(expected, hull1.distance(hull2), 1.0e-14);
+            Assert.assertEquals(expected, hull2.distance(hull1), 1.0e-14);
+        }
+    }
+
+    // ------------------------------------------------------------------------------
+
+    private ConvexHull2D randomGridHull() {
+        final List<Point2D> cloud = new ArrayList<>();
+        final int size = 1 + random.nextInt(6);
+        for (int i = 0; i < size; ++i) {
+            cloud.add(Point2D.of(random.nextInt(9) - 4, random.nextInt(9) - 4));
+        }
+        return new MonotoneChain(true).generate(cloud);
+    }
+
+    private ConvexHull2D randomHull(final int size) {
+        return randomHull(size, 0, 0);
+    }
+
+    private ConvexHull2D randomHull(final int size, final double cx, final double cy) {
+        final List<Point2D> cloud = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            cloud.add(Point2D.of(cx + 2 * random.nextDouble() - 1, cy + 2 * random.nextDouble() - 1));
+        }
+        return new MonotoneChain().generate(cloud);
+    }
+
+    private static void checkRectangle(final Point2D[] rectangle, final Point2D[] vertices) {
+        final ConvexHull2D enlarged = new ConvexHull2D(rectangle, 1.0e-12);
+        for (final Point2D vertex : vertices) {
+            Assert.assertTrue(enlarged.contains(vertex));
+        }
+    }
+
+    private static double bruteForceDistance(final ConvexHull2D hull1, final ConvexHull2D hull2) {
+        final Point2D[] v1 = hull1.getVertices();
+        final Point2D[] v2 = hull2.getVertices();
+        for (final Point2D p : v1) {
+            if (v2.length > 2 && hull2.contains(p)) {
+                return 0;
+            }
+        }
+        for (final Point2D p : v2) {
+            if (v1.length > 2 && hull1.contains(p)) {
+                return 0;
+            }
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < v1.length; ++i) {
+            final Point2D a = v1[i];
+            final Point2D b = v1[(i + 1) % v1.length];
+            for (int j = 0; j < v2.length; ++j) {
+                final Point2D c = v2[j];
+                final Point2D d = v2[(j + 1) % v2.length];
+                if (segmentsIntersect(a, b, c, d)) {
+                    return 0;
+                }
+                min = Math.min(min, Math.min(Math.min(pointSegment(a, c, d), pointSegment(b, c, d)),
+                                             Math.min(pointSegment(c, a, b), pointSegment(d, a, b))));
+            }
+        }
+        return min;
+    }
+
+    private static boolean segmentsIntersect(final Point2D a, final Point2D b, final Point2D c, final Point2D d) {
+        return orientation(a, b, c) * orientation(a, b, d) < 0 && orientation(c, d, a) * orientation(c, d, b) < 0;
+    }
+
+    private static double orientation(final Point2D a, final Point2D b, final Point2D c) {
+        return Math.signum((b.getX() - a.getX()) * (c.getY() - a.getY()) -
+                           (b.getY() - a.getY()) * (c.getX() - a.getX()));
+    }
+
+    private static double pointSegment(final Point2D p, final Point2D a, final Point2D b) {
+        final double ex = b.getX() - a.getX();
+        final double ey = b.getY() - a.getY();
+        final double e2 = ex * ex + ey * ey;
+        final double t  = e2 == 0 ? 0 :
+                          Math.max(0, Math.min(1, ((p.getX() - a.getX()) * ex + (p.getY() - a.getY()) * ey) / e2));
+        return Point2D.of(a.getX() + t * ex, a.getY() + t * ey).distance(p);
+    }
+
+}
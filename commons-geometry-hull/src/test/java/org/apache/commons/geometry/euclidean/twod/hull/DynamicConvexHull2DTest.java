@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for DynamicConvexHull2D.
+ */
+public class DynamicConvexHull2DTest {
+
+    @Test
+    public void testEmpty() {
+        // act
+        DynamicConvexHull2D hull = new DynamicConvexHull2D();
+
+        // assert
+        Assert.assertTrue(hull.isEmpty());
+        Assert.assertEquals(0, hull.snapshot().getVertices().length);
+        Assert.assertFalse(hull.remove(Point2D.of(1, 2)));
+    }
+
+    @Test
+    public void testSquareWithInteriorPoints() {
+        // arrange
+        DynamicConvexHull2D hull = new DynamicConvexHull2D();
+        hull.add(Point2D.of(0.5, 0.5));
+        hull.add(Point2D.of(0, 0));
+        hull.add(Point2D.of(1, 0));
+        hull.add(Point2D.of(0.5, 0));
+        hull.add(Point2D.of(1, 1));
+        hull.add(Point2D.of(0, 1));
+        hull.add(Point2D.of(0.25, 0.75));
+
+        // act/assert
+        Assert.assertEquals(7, hull.size());
+        checkVertices(hull, Point2D.of(0, 0), Point2D.of(1, 0), Point2D.of(1, 1), Point2D.of(0, 1));
+
+        // remaining points on the diagonal are collinear, they are not hull vertices
+        Assert.assertTrue(hull.remove(Point2D.of(1, 1)));
+        checkVertices(hull, Point2D.of(0, 0), Point2D.of(1, 0), Point2D.of(0, 1));
+
+        Assert.assertTrue(hull.remove(Point2D.of(0, 0)));
+        checkVertices(hull, Point2D.of(0.5, 0), Point2D.of(1, 0), Point2D.of(0, 1));
+
+        Assert.assertTrue(hull.remove(Point2D.of(0, 1)));
+        checkVertices(hull, Point2D.of(0.5, 0), Point2D.of(1, 0), Point2D.of(0.25, 0.75));
+    }
+
+    @Test
+    public void testDuplicatePoints() {
+        // arrange
+        DynamicConvexHull2D hull = new DynamicConvexHull2D();
+        hull.add(Point2D.of(0, 0));
+        hull.add(Point2D.of(2, 0));
+        hull.add(Point2D.of(2, 0));
+        hull.add(Point2D.of(1, 1));
+
+        // act/assert
+        Assert.assertTrue(hull.remove(Point2D.of(2, 0)));
+        checkVertices(hull, Point2D.of(0, 0), Point2D.of(2, 0), Point2D.of(1, 1));
+        Assert.assertTrue(hull.remove(Point2D.of(2, 0)));
+        checkVertices(hull, Point2D.of(0, 0), Point2D.of(1, 1));
+        Assert.assertFalse(hull.remove(Point2D.of(2, 0)));
+        Assert.assertEquals(2, hull.size());
+    }
+
+    @Test
+    public void testRandomUpdates() {
+        // arrange
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x6a04c3e9f12b7d58L);
+        DynamicConvexHull2D hull = new DynamicConvexHull2D();
+        List<Point2D> points = new ArrayList<>();
+
+        // act/assert
+        for (int i = 0; i < 2000; ++i) {
+            if (points.isEmpty() || random.nextDouble() < 0.6) {
+                // use a coarse grid to get duplicates and collinear points
+                Point2D p = Point2D.of(random.nextInt(40), random.nextInt(40));
+                points.add(p);
+                hull.add(p);
+            } else {
+                Point2D p = points.remove(random.nextInt(points.size()));
+                Assert.assertTrue(hull.remove(p));
+            }
+            Assert.assertEquals(points.size(), hull.size());
+            if (i % 10 == 0) {
+                checkSameAsMonotoneChain(hull, points);
+            }
+        }
+
+        while (!points.isEmpty()) {
+            Assert.assertTrue(hull.remove(points.remove(points.size() - 1)));
+            checkSameAsMonotoneChain(hull, points);
+        }
+        Assert.assertTrue(hull.isEmpty());
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        // arrange
+        UniformRandomProvider random = RandomSource.create(RandomSource.WELL_1024_A, 0x1f3b95c07ad2e864L);
+        DynamicConvexHull2D hull = new DynamicConvexHull2D();
+        List<Point2D> window = new ArrayList<>();
+
+        // act/assert
+        for (int i = 0; i < 3000; ++i) {
+            Point2D p = Point2D.of(random.nextDouble() + 0.001 * i, random.nextDouble());
+            window.add(p);
+            hull.add(p);
+            if (window.size() > 500) {
+                Assert.assertTrue(hull.remove(window.remove(0)));
+            }
+            if (i % 100 == 0) {
+                checkSameAsMonotoneChain(hull, window);
+            }
+        }
+    }
+
+    private void checkSameAsMonotoneChain(DynamicConvexHull2D hull, List<Point2D> points) {
+        Point2D[] expected = new MonotoneChain(false).generate(points).getVertices();
+        checkVertices(hull, expected);
+    }
+
+    private void checkVertices(DynamicConvexHull2D hull, Point2D ... expected) {
+        Point2D[] actual = hull.snapshot().getVertices();
+        Set<Point2D> expectedSet = new HashSet<>(Arrays.asList(expected));
+        Set<Point2D> actualSet = new HashSet<>(Arrays.asList(actual));
+        Assert.assertEquals(expectedSet, actualSet);
+        Assert.assertEquals(expected.length, actual.length);
+    }
+
+}
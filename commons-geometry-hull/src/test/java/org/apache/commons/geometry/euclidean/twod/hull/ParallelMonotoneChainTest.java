@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.euclidean.twod.hull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.geometry.euclidean.twod.Point2D;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for ParallelMonotoneChain.
+ */
+public class ParallelMonotoneChainTest extends ConvexHullGenerator2DAbstractTest {
+
+    @Override
+    protected ConvexHullGenerator2D createConvexHullGenerator(boolean includeCollinearPoints) {
+        // use a tiny threshold so even small tests go through the parallel split and merge
+        return new ParallelMonotoneChain(includeCollinearPoints, 1e-10, ForkJoinPool.commonPool(), 3);
+    }
+
+    // ------------------------------------------------------------------------------
+
+    @Test
+    public void testSameAsSequential() {
+        // arrange
+        final List<Point2D> points = createRandomPoints(100000);
+        final ConvexHullGenerator2D parallel = new ParallelMonotoneChain(false, 1e-10, new ForkJoinPool(4), 1000);
+
+        // act
+        final ConvexHull2D expected = new MonotoneChain(false).generate(points);
+        final ConvexHull2D actual   = parallel.generate(points);
+
+        // assert
+        checkConvexHull(points, actual);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(expected.getVertices())),
+                            new HashSet<>(Arrays.asList(actual.getVertices())));
+    }
+
+    @Test
+    public void testDefaultThreshold() {
+        // act
+        final ParallelMonotoneChain generator = new ParallelMonotoneChain();
+
+        // assert
+        Assert.assertEquals(16384, generator.getThreshold());
+        Assert.assertFalse(generator.isIncludeCollinearPoints());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        // act
+        new ParallelMonotoneChain(false, 1e-10, ForkJoinPool.commonPool(), 1);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.spherical.oned;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.Hyperplane;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionCodec;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+
+/** Binary codec for {@link ArcsSet arcs sets}.
+ * <p>Each {@link LimitAngle limit angle} is encoded as its azimuth,
+ * its orientation and its tolerance.</p>
+ * @see RegionCodec
+ */
+public class ArcsSetCodec extends RegionCodec<S1Point, S1Point, ArcsSet> {
+
+    /** Identifier of the space. */
+    private static final int SPACE = 4;
+
+    /** Simple constructor.
+     */
+    public ArcsSetCodec() {
+        super(SPACE, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeHyperplane(final Hyperplane<S1Point> hyperplane, final DataOutput out)
+        throws IOException {
+        final LimitAngle limit = (LimitAngle) hyperplane;
+        out.writeDouble(limit.getLocation().getAzimuth());
+        out.writeBoolean(limit.isDirect());
+        out.writeDouble(limit.getTolerance());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected LimitAngle readHyperplane(final DataInput in) throws IOException {
+        final double azimuth   = in.readDouble();
+        final boolean direct   = in.readBoolean();
+        final double tolerance = in.readDouble();
+        return new LimitAngle(S1Point.of(azimuth), direct, tolerance);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected SubHyperplane<S1Point> buildSubHyperplane(final Hyperplane<S1Point> hyperplane,
+                                                        final Region<S1Point> remainingRegion) {
+        return new SubLimitAngle(hyperplane, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected ArcsSet buildRegion(final BSPTree<S1Point> tree, final double tolerance) {
+        return new ArcsSet(tree, tolerance);
+    }
+
+}
@@ -79,8 +79,8 @@ public class Circle implements Hyperplane<S2Point>, Embedding<S2Point, S1Point>
      * @param y second axis in the equator plane
      * @param tolerance tolerance below which close sub-arcs are merged together
      */
-    private Circle(final Vector3D pole, final Vector3D x, final Vector3D y,
-                   final double tolerance) {
+    Circle(final Vector3D pole, final Vector3D x, final Vector3D y,
+           final double tolerance) {
         this.pole      = pole;
         this.x         = x;
         this.y         = y;
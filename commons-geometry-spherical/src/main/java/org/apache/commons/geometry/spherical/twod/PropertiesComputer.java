@@ -95,6 +95,17 @@ class PropertiesComputer implements BSPTreeVisitor<S2Point> {
         }
     }
 
+    /** Combine with the properties computed by another visitor.
+     * @param other visitor that computed the properties of other cells
+     * @return the instance, updated
+     */
+    public PropertiesComputer combine(final PropertiesComputer other) {
+        summedArea      += other.summedArea;
+        summedBarycenter = Vector3D.linearCombination(1, summedBarycenter, 1, other.summedBarycenter);
+        convexCellsInsidePoints.addAll(other.convexCellsInsidePoints);
+        return this;
+    }
+
     /** Compute convex cell area.
      * @param start start vertex of the convex cell boundary
      * @return area
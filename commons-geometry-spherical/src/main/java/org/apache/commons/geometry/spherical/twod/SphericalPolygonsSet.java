@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.Geometry;
 import org.apache.commons.geometry.core.partitioning.AbstractRegion;
@@ -315,6 +316,17 @@ public class SphericalPolygonsSet extends AbstractRegion<S2Point, S1Point> {
      */
     @Override
     protected void computeGeometricalProperties() {
+        computeGeometricalProperties(null);
+    }
+
+    /** {@inheritDoc}
+     * <p>The inside cells are visited in parallel for trees with more than
+     * {@link #PARALLEL_VISIT_THRESHOLD} nodes.</p>
+     * @exception IllegalStateException if the tolerance setting does not allow to build
+     * a clean non-ambiguous boundary
+     */
+    @Override
+    protected void computeGeometricalProperties(final ForkJoinPool pool) {
 
         final BSPTree<S2Point> tree = getTree(true);
 
@@ -334,8 +346,7 @@ public class SphericalPolygonsSet extends AbstractRegion<S2Point, S1Point> {
         } else {
 
             // the instance has a boundary
-            final PropertiesComputer pc = new PropertiesComputer(getTolerance());
-            tree.visit(pc);
+            final PropertiesComputer pc = computeProperties(tree, pool);
             setSize(pc.getArea());
             setBarycenter(pc.getBarycenter());
 
@@ -545,9 +556,7 @@ public class SphericalPolygonsSet extends AbstractRegion<S2Point, S1Point> {
      * @return list of points known to be strictly in all inside convex cells
      */
     private List<Point3D> getInsidePoints() {
-        final PropertiesComputer pc = new PropertiesComputer(getTolerance());
-        getTree(true).visit(pc);
-        return pc.getConvexCellsInsidePoints();
+        return computeProperties(getTree(true), null).getConvexCellsInsidePoints();
     }
 
     /** Gather some outside points.
@@ -556,9 +565,22 @@ public class SphericalPolygonsSet extends AbstractRegion<S2Point, S1Point> {
     private List<Point3D> getOutsidePoints() {
         final SphericalPolygonsSet complement =
                 (SphericalPolygonsSet) new RegionFactory<S2Point>().getComplement(this);
-        final PropertiesComputer pc = new PropertiesComputer(getTolerance());
-        complement.getTree(true).visit(pc);
-        return pc.getConvexCellsInsidePoints();
+        return computeProperties(complement.getTree(true), null).getConvexCellsInsidePoints();
+    }
+
+    /** Compute the properties of the inside cells of a tree.
+     * @param tree tree to visit
+     * @param pool pool in which to run the visiting tasks (null for a sequential visit)
+     * @return properties computer that visited the whole tree
+     */
+    private PropertiesComputer computeProperties(final BSPTree<S2Point> tree, final ForkJoinPool pool) {
+        if (pool == null) {
+            final PropertiesComputer pc = new PropertiesComputer(getTolerance());
+            tree.visit(pc);
+            return pc;
+        }
+        return tree.visit(() -> new PropertiesComputer(getTolerance()), PropertiesComputer::combine,
+                          pool, PARALLEL_VISIT_THRESHOLD);
     }
 
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.spherical.twod;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.Hyperplane;
+import org.apache.commons.geometry.core.partitioning.Region;
+import org.apache.commons.geometry.core.partitioning.RegionCodec;
+import org.apache.commons.geometry.core.partitioning.SubHyperplane;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.spherical.oned.ArcsSetCodec;
+import org.apache.commons.geometry.spherical.oned.S1Point;
+
+/** Binary codec for {@link SphericalPolygonsSet spherical polygons sets}.
+ * <p>Each {@link Circle circle} is encoded as its pole, its two equator
+ * axes and its tolerance, so decoded circles are identical to the original
+ * ones.</p>
+ * @see RegionCodec
+ */
+public class SphericalPolygonsSetCodec extends RegionCodec<S2Point, S1Point, SphericalPolygonsSet> {
+
+    /** Identifier of the space. */
+    private static final int SPACE = 5;
+
+    /** Simple constructor.
+     */
+    public SphericalPolygonsSetCodec() {
+        super(SPACE, new ArcsSetCodec());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeHyperplane(final Hyperplane<S2Point> hyperplane, final DataOutput out)
+        throws IOException {
+        final Circle circle = (Circle) hyperplane;
+        writeVector(circle.getPole(), out);
+        writeVector(circle.getXAxis(), out);
+        writeVector(circle.getYAxis(), out);
+        out.writeDouble(circle.getTolerance());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Circle readHyperplane(final DataInput in) throws IOException {
+        final Vector3D pole    = readVector(in);
+        final Vector3D x       = readVector(in);
+        final Vector3D y       = readVector(in);
+        final double tolerance = in.readDouble();
+        return new Circle(pole, x, y, tolerance);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected SubHyperplane<S2Point> buildSubHyperplane(final Hyperplane<S2Point> hyperplane,
+                                                        final Region<S1Point> remainingRegion) {
+        return new SubCircle(hyperplane, remainingRegion);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected SphericalPolygonsSet buildRegion(final BSPTree<S2Point> tree, final double tolerance) {
+        return new SphericalPolygonsSet(tree, tolerance);
+    }
+
+    /** Write a vector.
+     * @param vector vector to write
+     * @param out output to write to
+     * @exception IOException if the output cannot be written
+     */
+    private static void writeVector(final Vector3D vector, final DataOutput out) throws IOException {
+        out.writeDouble(vector.getX());
+        out.writeDouble(vector.getY());
+        out.writeDouble(vector.getZ());
+    }
+
+    /** Read a vector.
+     * @param in input to read from
+     * @return decoded vector
+     * @exception IOException if the input cannot be read
+     */
+    private static Vector3D readVector(final DataInput in) throws IOException {
+        final double x = in.readDouble();
+        final double y = in.readDouble();
+        final double z = in.readDouble();
+        return Vector3D.of(x, y, z);
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.spherical.oned;
+
+import java.util.List;
+
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for ArcsSetCodec.
+ */
+public class ArcsSetCodecTest {
+
+    private static final double TOLERANCE = 1.0e-10;
+
+    @Test
+    public void testRoundTrip() {
+        // arrange
+        final ArcsSetCodec codec = new ArcsSetCodec();
+        final ArcsSet region = (ArcsSet) new RegionFactory<S1Point>().union(new ArcsSet(0.5, 1.5, TOLERANCE),
+                                                                           new ArcsSet(5.0, 7.0, TOLERANCE));
+
+        // act
+        final ArcsSet decoded = codec.decode(codec.encode(region));
+
+        // assert
+        Assert.assertEquals(TOLERANCE, decoded.getTolerance(), 0.0);
+        Assert.assertEquals(region.getSize(), decoded.getSize(), 0.0);
+        final List<Arc> expected = region.asList();
+        final List<Arc> actual   = decoded.asList();
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            Assert.assertEquals(expected.get(i).getInf(), actual.get(i).getInf(), 0.0);
+            Assert.assertEquals(expected.get(i).getSup(), actual.get(i).getSup(), 0.0);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.geometry.spherical.twod;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.apache.commons.geometry.core.partitioning.BSPTree;
+import org.apache.commons.geometry.core.partitioning.RegionFactory;
+import org.apache.commons.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.geometry.spherical.oned.LimitAngle;
+import org.apache.commons.geometry.spherical.oned.S1Point;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for SphericalPolygonsSetCodec.
+ */
+public class SphericalPolygonsSetCodecTest {
+
+    private static final double TOLERANCE = 1.0e-10;
+
+    private final SphericalPolygonsSetCodec codec = new SphericalPolygonsSetCodec();
+
+    @Test
+    public void testBufferRoundTrip() {
+        // arrange
+        final SphericalPolygonsSet region = buildRegion();
+
+        // act
+        final SphericalPolygonsSet decoded = codec.decode(codec.encode(region));
+
+        // assert
+        checkSameRegion(region, decoded);
+    }
+
+    @Test
+    public void testChannelRoundTrip() throws IOException {
+        // arrange
+        final SphericalPolygonsSet region = buildRegion();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // act
+        codec.write(region, Channels.newChannel(bytes));
+        final SphericalPolygonsSet decoded =
+                codec.read(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // assert
+        checkSameRegion(region, decoded);
+    }
+
+    private static SphericalPolygonsSet buildRegion() {
+        final SphericalPolygonsSet triangle =
+                new SphericalPolygonsSet(TOLERANCE,
+                                         S2Point.of(0.1, 1.2), S2Point.of(1.3, 1.1), S2Point.of(0.8, 0.3));
+        final SphericalPolygonsSet cap =
+                new SphericalPolygonsSet(Vector3D.of(-1, 0.5, -0.5), Vector3D.of(0.5, 1, 0), 0.6, 7, TOLERANCE);
+        return (SphericalPolygonsSet) new RegionFactory<S2Point>().union(triangle, cap);
+    }
+
+    private static void checkSameRegion(final SphericalPolygonsSet expected, final SphericalPolygonsSet actual) {
+        Assert.assertEquals(expected.getTolerance(), actual.getTolerance(), 0.0);
+        checkSameTree(expected.getTree(false), actual.getTree(false));
+        Assert.assertEquals(expected.getSize(), actual.getSize(), 1.0e-12);
+        Assert.assertEquals(expected.getBoundarySize(), actual.getBoundarySize(), 1.0e-12);
+        for (double theta = 0; theta < 2 * Math.PI; theta += 0.05) {
+            for (double phi = 0.025; phi < Math.PI; phi += 0.05) {
+                final S2Point p = S2Point.of(theta, phi);
+                Assert.assertEquals(expected.checkPoint(p), actual.checkPoint(p));
+            }
+        }
+    }
+
+    private static void checkSameTree(final BSPTree<S2Point> expected, final BSPTree<S2Point> actual) {
+        if (expected.getCut() == null) {
+            Assert.assertNull(actual.getCut());
+            Assert.assertEquals(expected.getAttribute(), actual.getAttribute());
+        } else {
+            final Circle expectedCircle = (Circle) expected.getCut().getHyperplane();
+            final Circle actualCircle   = (Circle) actual.getCut().getHyperplane();
+            Assert.assertEquals(expectedCircle.getPole(), actualCircle.getPole());
+            Assert.assertEquals(expectedCircle.getXAxis(), actualCircle.getXAxis());
+            Assert.assertEquals(expectedCircle.getYAxis(), actualCircle.getYAxis());
+            checkSameArcs(((SubCircle) expected.getCut()).getRemainingRegion().getTree(false),
+                          ((SubCircle) actual.getCut()).getRemainingRegion().getTree(false));
+            checkSameTree(expected.getPlus(), actual.getPlus());
+            checkSameTree(expected.getMinus(), actual.getMinus());
+        }
+    }
+
+    private static void checkSameArcs(final BSPTree<S1Point> expected, final BSPTree<S1Point> actual) {
+        if (expected.getCut() == null) {
+            Assert.assertNull(actual.getCut());
+            Assert.assertEquals(expected.getAttribute(), actual.getAttribute());
+        } else {
+            final LimitAngle expectedLimit = (LimitAngle) expected.getCut().getHyperplane();
+            final LimitAngle actualLimit   = (LimitAngle) actual.getCut().getHyperplane();
+            Assert.assertEquals(expectedLimit.getLocation().getAzimuth(), actualLimit.getLocation().getAzimuth(), 0.0);
+            Assert.assertEquals(expectedLimit.isDirect(), actualLimit.isDirect());
+            checkSameArcs(expected.getPlus(), actual.getPlus());
+            checkSameArcs(expected.getMinus(), actual.getMinus());
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ package org.apache.commons.geometry.spherical.twod;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.geometry.core.Geometry;
 import org.apache.commons.geometry.core.partitioning.Region.Location;
@@ -70,6 +71,11 @@ public class SphericalPolygonsSetTest {
         Assert.assertTrue(Double.isInfinite(empty.getEnclosingCap().getRadius()));
     }
 
+    @Test(expected=IllegalArgumentException.class)
+    public void testFreeze_circlesAreNotAffine() {
+        new SphericalPolygonsSet(Vector3D.MINUS_Z, 1.0e-10).freeze();
+    }
+
     @Test
     public void testSouthHemisphere() {
         double tol = 0.01;
@@ -362,6 +368,45 @@ public class SphericalPolygonsSetTest {
 
     }
 
+    @Test
+    public void testManyParts() {
+        double tol = 1.0e-10;
+        List<SphericalPolygonsSet> parts = new ArrayList<>();
+        double size = 0;
+        double boundarySize = 0;
+        for (int i = 0; i < 24; ++i) {
+            for (int j = 0; j < 12; ++j) {
+                double theta = i * Math.PI / 12;
+                double phi   = 0.2 + j * 0.23;
+                SphericalPolygonsSet quad = new SphericalPolygonsSet(tol,
+                                                                     S2Point.of(theta,       phi),
+                                                                     S2Point.of(theta,       phi + 0.1),
+                                                                     S2Point.of(theta + 0.1, phi + 0.1),
+                                                                     S2Point.of(theta + 0.1, phi));
+                parts.add(quad);
+                size         += quad.getSize();
+                boundarySize += quad.getBoundarySize();
+            }
+        }
+
+        SphericalPolygonsSet polygon = (SphericalPolygonsSet) new RegionFactory<S2Point>().unionAll(parts);
+
+        Assert.assertEquals(size, polygon.getSize(), 1.0e-10);
+        Assert.assertEquals(boundarySize, polygon.getBoundarySize(), 1.0e-10);
+        Assert.assertEquals(parts.size(), polygon.getBoundaryLoops().size());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SphericalPolygonsSet copy = new SphericalPolygonsSet(polygon.getTree(false).copySelf(), tol);
+            Assert.assertEquals(size, copy.getSize(pool), 1.0e-10);
+            Assert.assertEquals(boundarySize, copy.getBoundarySize(pool), 1.0e-10);
+            Assert.assertEquals(0.0, polygon.getBarycenter().distance(copy.getBarycenter(pool)), 1.0e-10);
+        } finally {
+            pool.shutdown();
+        }
+
+    }
+
     @Test
     public void testPartWithHole() {
         double tol = 0.01;